@@ -21,13 +21,14 @@ package org.neo4j.gds.beta.closeness;
 
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.config.PipelinedNodePropertyWriteConfig;
 import org.neo4j.gds.config.WritePropertyConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface ClosenessCentralityWriteConfig extends ClosenessCentralityConfig, WritePropertyConfig {
+public interface ClosenessCentralityWriteConfig extends ClosenessCentralityConfig, WritePropertyConfig, PipelinedNodePropertyWriteConfig {
 
     static ClosenessCentralityWriteConfig of(CypherMapWrapper config) {
         return new ClosenessCentralityWriteConfigImpl(config);
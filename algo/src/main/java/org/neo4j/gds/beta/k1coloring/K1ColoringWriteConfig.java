@@ -21,13 +21,14 @@ package org.neo4j.gds.beta.k1coloring;
 
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.config.PipelinedNodePropertyWriteConfig;
 import org.neo4j.gds.config.WritePropertyConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
 @Configuration
 @ValueClass
 @SuppressWarnings("immutables:subtype")
-public interface K1ColoringWriteConfig extends K1ColoringConfig, WritePropertyConfig {
+public interface K1ColoringWriteConfig extends K1ColoringConfig, WritePropertyConfig, PipelinedNodePropertyWriteConfig {
 
     static K1ColoringWriteConfig of(CypherMapWrapper config) {
         return new K1ColoringWriteConfigImpl(config);
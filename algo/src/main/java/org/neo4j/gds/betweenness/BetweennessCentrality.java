@@ -49,6 +49,7 @@ public class BetweennessCentrality extends Algorithm<HugeAtomicDoubleArray> {
 
     private final ExecutorService executorService;
     private final int concurrency;
+    private final int sourceBatchSize;
 
 
     public BetweennessCentrality(
@@ -58,6 +59,23 @@ public class BetweennessCentrality extends Algorithm<HugeAtomicDoubleArray> {
         ExecutorService executorService,
         int concurrency,
         ProgressTracker progressTracker
+    ) {
+        this(graph, selectionStrategy, traverserFactory, executorService, concurrency, 0, progressTracker);
+    }
+
+    /**
+     * @param sourceBatchSize if positive, traverse from that many sources at once using {@link MultiSourceBrandes},
+     *                        otherwise run one single-source traversal per thread.
+     *                        The batched traversal only supports unweighted graphs and ignores the traverser factory.
+     */
+    public BetweennessCentrality(
+        Graph graph,
+        SelectionStrategy selectionStrategy,
+        ForwardTraverser.Factory traverserFactory,
+        ExecutorService executorService,
+        int concurrency,
+        int sourceBatchSize,
+        ProgressTracker progressTracker
     ) {
         super(progressTracker);
         this.graph = graph;
@@ -69,14 +87,28 @@ public class BetweennessCentrality extends Algorithm<HugeAtomicDoubleArray> {
         this.selectionStrategy.init(graph, executorService, concurrency);
         this.divisor = graph.schema().isUndirected() ? 2.0 : 1.0;
         this.traverserFactory = traverserFactory;
-
+        this.sourceBatchSize = sourceBatchSize;
     }
 
     @Override
     public HugeAtomicDoubleArray compute() {
         progressTracker.beginSubTask();
-        nodeQueue.set(0);
-        ParallelUtil.run(ParallelUtil.tasks(concurrency, BCTask::new), executorService);
+        if (sourceBatchSize > 0) {
+            new MultiSourceBrandes(
+                graph,
+                selectionStrategy,
+                centrality,
+                divisor,
+                sourceBatchSize,
+                concurrency,
+                executorService,
+                progressTracker,
+                terminationFlag
+            ).compute();
+        } else {
+            nodeQueue.set(0);
+            ParallelUtil.run(ParallelUtil.tasks(concurrency, BCTask::new), executorService);
+        }
         progressTracker.endSubTask();
         return centrality;
     }
@@ -20,6 +20,7 @@
 package org.neo4j.gds.betweenness;
 
 import org.immutables.value.Value;
+import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.config.AlgoBaseConfig;
 import org.neo4j.gds.config.RelationshipWeightConfig;
 
@@ -32,6 +33,16 @@ public interface BetweennessCentralityBaseConfig extends AlgoBaseConfig, Relatio
 
     Optional<Long> samplingSeed();
 
+    /**
+     * Number of source nodes traversed together by one bit-parallel breadth-first search.
+     * The default of 0 runs a separate single-source traversal per thread.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 0, max = 64)
+    default int sourceBatchSize() {
+        return 0;
+    }
+
     @Value.Check
     default void validate() {
         samplingSize().ifPresent(samplingSize -> {
@@ -43,5 +54,11 @@ public interface BetweennessCentralityBaseConfig extends AlgoBaseConfig, Relatio
                 ));
             }
         });
+
+        if (sourceBatchSize() > 0 && hasRelationshipWeightProperty()) {
+            throw new IllegalArgumentException(
+                "Configuration parameter 'sourceBatchSize' is only supported for unweighted graphs."
+            );
+        }
     }
 }
@@ -68,6 +68,7 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
             traverserFactory,
             Pools.DEFAULT,
             configuration.concurrency(),
+            configuration.sourceBatchSize(),
             progressTracker
         );
     }
@@ -75,10 +76,16 @@ public class BetweennessCentralityFactory<CONFIG extends BetweennessCentralityBa
     @Override
     public MemoryEstimation memoryEstimation(CONFIG configuration) {
         var builder = MemoryEstimations.builder(BetweennessCentrality.class)
-            .perNode("centrality scores", HugeAtomicDoubleArray::memoryEstimation)
-            .perThread("compute task",
+            .perNode("centrality scores", HugeAtomicDoubleArray::memoryEstimation);
+
+        if (configuration.sourceBatchSize() > 0) {
+            builder.add("batched traversal", MultiSourceBrandes.memoryEstimation(configuration.sourceBatchSize()));
+        } else {
+            builder.perThread("compute task",
                 bcTaskMemoryEstimationBuilder(configuration.hasRelationshipWeightProperty()).build()
             );
+        }
+
         return builder
             .build();
     }
@@ -21,13 +21,14 @@ package org.neo4j.gds.betweenness;
 
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.config.PipelinedNodePropertyWriteConfig;
 import org.neo4j.gds.config.WritePropertyConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface BetweennessCentralityWriteConfig extends BetweennessCentralityBaseConfig, WritePropertyConfig {
+public interface BetweennessCentralityWriteConfig extends BetweennessCentralityBaseConfig, WritePropertyConfig, PipelinedNodePropertyWriteConfig {
 
     static BetweennessCentralityWriteConfig of(CypherMapWrapper config) {
         return new BetweennessCentralityWriteConfigImpl(config);
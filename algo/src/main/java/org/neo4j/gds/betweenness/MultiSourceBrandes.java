@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.betweenness;
+
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.partition.DegreePartition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Brandes' algorithm for unweighted graphs, traversing from up to 64 source nodes at once.
+ *
+ * The sources of a batch share one bit-parallel breadth-first search: every node stores
+ * which sources have reached it as a bitmask and each adjacency list is scanned once per level
+ * for all sources of the batch. Instead of predecessor lists, the backward pass derives the
+ * shortest-path DAG from the BFS distances by looking at the successors one level deeper.
+ *
+ * All threads work on the same batch, partitioned by nodes, so the memory is bound by
+ * the batch size and not by the concurrency.
+ */
+final class MultiSourceBrandes {
+
+    static final int MAX_BATCH_SIZE = Long.SIZE;
+
+    private final Graph graph;
+    private final SelectionStrategy selectionStrategy;
+    private final HugeAtomicDoubleArray centrality;
+    private final double divisor;
+    private final int batchSize;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final ProgressTracker progressTracker;
+    private final TerminationFlag terminationFlag;
+
+    // bitmask of the sources that reached a node
+    private final HugeLongArray seen;
+    // bitmask of the sources for which a node is on the current level
+    private final HugeLongArray frontier;
+    // bitmask of the sources for which a node is on the next level
+    private final HugeAtomicLongArray next;
+    // per node and source, indexed by nodeId * batchSize + sourceIndex
+    private final HugeAtomicDoubleArray sigma;
+    private final HugeDoubleArray delta;
+    private final HugeIntArray distance;
+
+    private final long[] sources;
+    private int sourceCount;
+    private int level;
+
+    static MemoryEstimation memoryEstimation(int batchSize) {
+        return MemoryEstimations.builder(MultiSourceBrandes.class)
+            .perNode("seen", HugeLongArray::memoryEstimation)
+            .perNode("frontier", HugeLongArray::memoryEstimation)
+            .perNode("next", HugeAtomicLongArray::memoryEstimation)
+            .perNode("sigmas", nodeCount -> HugeAtomicDoubleArray.memoryEstimation(nodeCount * batchSize))
+            .perNode("deltas", nodeCount -> HugeDoubleArray.memoryEstimation(nodeCount * batchSize))
+            .perNode("distances", nodeCount -> HugeIntArray.memoryEstimation(nodeCount * batchSize))
+            .build();
+    }
+
+    MultiSourceBrandes(
+        Graph graph,
+        SelectionStrategy selectionStrategy,
+        HugeAtomicDoubleArray centrality,
+        double divisor,
+        int batchSize,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        if (batchSize < 1 || batchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("The batch size must be between 1 and " + MAX_BATCH_SIZE + ".");
+        }
+        this.graph = graph;
+        this.selectionStrategy = selectionStrategy;
+        this.centrality = centrality;
+        this.divisor = divisor;
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.progressTracker = progressTracker;
+        this.terminationFlag = terminationFlag;
+
+        var nodeCount = graph.nodeCount();
+        this.seen = HugeLongArray.newArray(nodeCount);
+        this.frontier = HugeLongArray.newArray(nodeCount);
+        this.next = HugeAtomicLongArray.newArray(nodeCount);
+        this.sigma = HugeAtomicDoubleArray.newArray(nodeCount * batchSize);
+        this.delta = HugeDoubleArray.newArray(nodeCount * batchSize);
+        this.distance = HugeIntArray.newArray(nodeCount * batchSize);
+        this.sources = new long[batchSize];
+    }
+
+    void compute() {
+        var tasks = PartitionUtils.degreePartition(
+            graph,
+            concurrency,
+            partition -> new LevelTask(graph.concurrentCopy(), partition),
+            Optional.empty()
+        );
+
+        var nodeCount = graph.nodeCount();
+        long nextSource = 0;
+
+        while (nextSource < nodeCount && terminationFlag.running()) {
+            sourceCount = 0;
+            while (nextSource < nodeCount && sourceCount < batchSize) {
+                if (selectionStrategy.select(nextSource)) {
+                    sources[sourceCount++] = nextSource;
+                }
+                nextSource++;
+            }
+
+            if (sourceCount == 0) {
+                break;
+            }
+
+            runPhase(tasks, Phase.RESET);
+            initSources();
+
+            level = 0;
+            do {
+                runPhase(tasks, Phase.EXPAND);
+                runPhase(tasks, Phase.ADVANCE);
+                level++;
+            } while (tasks.stream().anyMatch(task -> task.advanced));
+
+            // the deepest level has no successors, so the backward pass starts one level above it
+            for (level = level - 2; level >= 0; level--) {
+                runPhase(tasks, Phase.ACCUMULATE);
+            }
+
+            runPhase(tasks, Phase.COLLECT);
+
+            progressTracker.logProgress(sourceCount);
+        }
+    }
+
+    private void initSources() {
+        for (int sourceIndex = 0; sourceIndex < sourceCount; sourceIndex++) {
+            var source = sources[sourceIndex];
+            var bit = 1L << sourceIndex;
+            seen.or(source, bit);
+            frontier.or(source, bit);
+            sigma.set(source * batchSize + sourceIndex, 1.0D);
+            distance.set(source * batchSize + sourceIndex, 0);
+        }
+    }
+
+    private void runPhase(List<LevelTask> tasks, Phase phase) {
+        tasks.forEach(task -> task.phase = phase);
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(executorService)
+            .terminationFlag(terminationFlag)
+            .run();
+    }
+
+    private enum Phase {
+        RESET,
+        EXPAND,
+        ADVANCE,
+        ACCUMULATE,
+        COLLECT
+    }
+
+    private final class LevelTask implements Runnable {
+
+        private final Graph graph;
+        private final DegreePartition partition;
+
+        private Phase phase;
+        private boolean advanced;
+
+        LevelTask(Graph graph, DegreePartition partition) {
+            this.graph = graph;
+            this.partition = partition;
+        }
+
+        @Override
+        public void run() {
+            switch (phase) {
+                case RESET:
+                    partition.consume(this::reset);
+                    break;
+                case EXPAND:
+                    partition.consume(this::expand);
+                    break;
+                case ADVANCE:
+                    advanced = false;
+                    partition.consume(this::advance);
+                    break;
+                case ACCUMULATE:
+                    partition.consume(this::accumulate);
+                    break;
+                case COLLECT:
+                    partition.consume(this::collect);
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected phase " + phase);
+            }
+        }
+
+        private void reset(long nodeId) {
+            seen.set(nodeId, 0L);
+            frontier.set(nodeId, 0L);
+            next.set(nodeId, 0L);
+            var offset = nodeId * batchSize;
+            for (int sourceIndex = 0; sourceIndex < sourceCount; sourceIndex++) {
+                sigma.set(offset + sourceIndex, 0.0D);
+                delta.set(offset + sourceIndex, 0.0D);
+            }
+        }
+
+        private void expand(long nodeId) {
+            var nodeFrontier = frontier.get(nodeId);
+            if (nodeFrontier == 0L) {
+                return;
+            }
+
+            graph.forEachRelationship(nodeId, (source, target) -> {
+                // `seen` is only updated between levels, so these are exactly the sources
+                // for which the target is one level deeper than the source
+                var discovered = nodeFrontier & ~seen.get(target);
+                if (discovered == 0L) {
+                    return true;
+                }
+
+                orNext(target, discovered);
+
+                var sourceOffset = source * batchSize;
+                var targetOffset = target * batchSize;
+                var bits = discovered;
+                while (bits != 0L) {
+                    var sourceIndex = Long.numberOfTrailingZeros(bits);
+                    sigma.getAndAdd(targetOffset + sourceIndex, sigma.get(sourceOffset + sourceIndex));
+                    distance.set(targetOffset + sourceIndex, level + 1);
+                    bits &= bits - 1;
+                }
+                return true;
+            });
+        }
+
+        private void orNext(long nodeId, long bits) {
+            var current = next.get(nodeId);
+            while ((current | bits) != current) {
+                var witness = next.compareAndExchange(nodeId, current, current | bits);
+                if (witness == current) {
+                    return;
+                }
+                current = witness;
+            }
+        }
+
+        private void advance(long nodeId) {
+            var nodeNext = next.get(nodeId);
+            frontier.set(nodeId, nodeNext);
+            if (nodeNext != 0L) {
+                next.set(nodeId, 0L);
+                seen.or(nodeId, nodeNext);
+                advanced = true;
+            }
+        }
+
+        private void accumulate(long nodeId) {
+            var offset = nodeId * batchSize;
+            var onLevel = 0L;
+            var bits = seen.get(nodeId);
+            while (bits != 0L) {
+                var sourceIndex = Long.numberOfTrailingZeros(bits);
+                if (distance.get(offset + sourceIndex) == level) {
+                    onLevel |= 1L << sourceIndex;
+                }
+                bits &= bits - 1;
+            }
+
+            if (onLevel == 0L) {
+                return;
+            }
+
+            var nodeOnLevel = onLevel;
+            graph.forEachRelationship(nodeId, (source, target) -> {
+                var targetOffset = target * batchSize;
+                var candidates = nodeOnLevel & seen.get(target);
+                while (candidates != 0L) {
+                    var sourceIndex = Long.numberOfTrailingZeros(candidates);
+                    if (distance.get(targetOffset + sourceIndex) == level + 1) {
+                        var dependency = sigma.get(offset + sourceIndex) / sigma.get(targetOffset + sourceIndex)
+                                         * (1.0D + delta.get(targetOffset + sourceIndex));
+                        delta.addTo(offset + sourceIndex, dependency);
+                    }
+                    candidates &= candidates - 1;
+                }
+                return true;
+            });
+        }
+
+        private void collect(long nodeId) {
+            var offset = nodeId * batchSize;
+            var dependency = 0.0D;
+            var bits = seen.get(nodeId);
+            while (bits != 0L) {
+                var sourceIndex = Long.numberOfTrailingZeros(bits);
+                if (sources[sourceIndex] != nodeId) {
+                    dependency += delta.get(offset + sourceIndex);
+                }
+                bits &= bits - 1;
+            }
+
+            if (dependency != 0.0D) {
+                centrality.getAndAdd(nodeId, dependency / divisor);
+            }
+        }
+    }
+}
@@ -21,13 +21,14 @@ package org.neo4j.gds.degree;
 
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.config.PipelinedNodePropertyWriteConfig;
 import org.neo4j.gds.config.WritePropertyConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface DegreeCentralityWriteConfig extends DegreeCentralityConfig, WritePropertyConfig {
+public interface DegreeCentralityWriteConfig extends DegreeCentralityConfig, WritePropertyConfig, PipelinedNodePropertyWriteConfig {
 
     static DegreeCentralityWriteConfig of(CypherMapWrapper config) {
         return new DegreeCentralityWriteConfigImpl(config);
@@ -21,13 +21,14 @@ package org.neo4j.gds.embeddings.fastrp;
 
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.config.PipelinedNodePropertyWriteConfig;
 import org.neo4j.gds.config.WritePropertyConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface FastRPWriteConfig extends FastRPBaseConfig, WritePropertyConfig {
+public interface FastRPWriteConfig extends FastRPBaseConfig, WritePropertyConfig, PipelinedNodePropertyWriteConfig {
 
     static FastRPWriteConfig of(CypherMapWrapper userInput) {
         return new FastRPWriteConfigImpl(userInput);
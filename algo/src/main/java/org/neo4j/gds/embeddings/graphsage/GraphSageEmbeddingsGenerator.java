@@ -21,12 +21,15 @@ package org.neo4j.gds.embeddings.graphsage;
 
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.ml.core.ComputationContext;
 import org.neo4j.gds.ml.core.Variable;
+import org.neo4j.gds.ml.core.functions.Constant;
+import org.neo4j.gds.ml.core.functions.NormalizeRows;
 import org.neo4j.gds.ml.core.subgraph.SubGraph;
 import org.neo4j.gds.ml.core.tensor.Matrix;
 
@@ -43,6 +46,7 @@ public class GraphSageEmbeddingsGenerator {
     private final long randomSeed;
     private final ExecutorService executor;
     private final ProgressTracker progressTracker;
+    private final boolean layerWise;
 
     public GraphSageEmbeddingsGenerator(
         Layer[] layers,
@@ -52,6 +56,23 @@ public class GraphSageEmbeddingsGenerator {
         Optional<Long> randomSeed,
         ExecutorService executor,
         ProgressTracker progressTracker
+    ) {
+        this(layers, batchSize, concurrency, featureFunction, randomSeed, executor, progressTracker, false);
+    }
+
+    /**
+     * @param layerWise whether to compute the embeddings of one layer for all nodes before moving on to the next layer,
+     *     instead of computing all layers of the sampled multi-hop neighborhood per batch
+     */
+    public GraphSageEmbeddingsGenerator(
+        Layer[] layers,
+        int batchSize,
+        int concurrency,
+        FeatureFunction featureFunction,
+        Optional<Long> randomSeed,
+        ExecutorService executor,
+        ProgressTracker progressTracker,
+        boolean layerWise
     ) {
         this.layers = layers;
         this.batchSize = batchSize;
@@ -60,6 +81,7 @@ public class GraphSageEmbeddingsGenerator {
         this.randomSeed = randomSeed.orElseGet(() -> ThreadLocalRandom.current().nextLong());
         this.executor = executor;
         this.progressTracker = progressTracker;
+        this.layerWise = layerWise;
     }
 
     public HugeObjectArray<double[]> makeEmbeddings(
@@ -73,23 +95,145 @@ public class GraphSageEmbeddingsGenerator {
 
         progressTracker.beginSubTask();
 
-        var tasks = PartitionUtils.rangePartitionWithBatchSize(
-            graph.nodeCount(),
-            batchSize,
-            partition -> createEmbeddings(graph.concurrentCopy(), partition, features, result)
-        );
+        if (layerWise) {
+            makeLayerWiseEmbeddings(graph, features, result);
+        } else {
+            var tasks = PartitionUtils.rangePartitionWithBatchSize(
+                graph.nodeCount(),
+                batchSize,
+                partition -> createEmbeddings(graph.concurrentCopy(), partition, features, result)
+            );
 
-        RunWithConcurrency.builder()
-            .concurrency(concurrency)
-            .tasks(tasks)
-            .executor(executor)
-            .run();
+            RunWithConcurrency.builder()
+                .concurrency(concurrency)
+                .tasks(tasks)
+                .executor(executor)
+                .run();
+        }
 
         progressTracker.endSubTask();
 
         return result;
     }
 
+    /**
+     * Computes the embeddings of each layer for all nodes and reuses them as input of the next layer.
+     * Each node is aggregated once per layer, instead of once per batch it is sampled into.
+     * The intermediate embeddings are stored row-wise in a single strided array per layer.
+     */
+    private void makeLayerWiseEmbeddings(
+        Graph graph,
+        HugeObjectArray<double[]> features,
+        HugeObjectArray<double[]> result
+    ) {
+        HugeDoubleArray previousLayerEmbeddings = null;
+        int previousLayerDimension = 0;
+
+        for (int layerIdx = 0; layerIdx < layers.length; layerIdx++) {
+            boolean isLastLayer = layerIdx == layers.length - 1;
+            int layerDimension = outputDimension(layers[layerIdx]);
+            var layerEmbeddings = isLastLayer ? null : HugeDoubleArray.newArray(graph.nodeCount() * layerDimension);
+
+            var layer = layerIdx;
+            var previousEmbeddings = previousLayerEmbeddings;
+            var previousDimension = previousLayerDimension;
+            var tasks = PartitionUtils.rangePartitionWithBatchSize(
+                graph.nodeCount(),
+                batchSize,
+                partition -> createLayerEmbeddings(
+                    graph.concurrentCopy(),
+                    partition,
+                    layer,
+                    features,
+                    previousEmbeddings,
+                    previousDimension,
+                    layerEmbeddings,
+                    result
+                )
+            );
+
+            RunWithConcurrency.builder()
+                .concurrency(concurrency)
+                .tasks(tasks)
+                .executor(executor)
+                .run();
+
+            previousLayerEmbeddings = layerEmbeddings;
+            previousLayerDimension = layerDimension;
+        }
+    }
+
+    private Runnable createLayerEmbeddings(
+        Graph graph,
+        Partition partition,
+        int layerIdx,
+        HugeObjectArray<double[]> features,
+        HugeDoubleArray previousLayerEmbeddings,
+        int previousLayerDimension,
+        HugeDoubleArray layerEmbeddings,
+        HugeObjectArray<double[]> result
+    ) {
+        return () -> {
+            // using the same neighborhood samples as the batch-wise computation
+            var neighborhoodFunction = GraphSageHelper.neighborhoodFunctions(graph, layers, randomSeed).get(layerIdx);
+            var subGraph = SubGraph.buildSubGraph(
+                partition.stream().toArray(),
+                neighborhoodFunction,
+                SubGraph.relationshipWeightFunction(graph)
+            );
+
+            Variable<Matrix> previousLayerRepresentations = layerIdx == 0
+                ? featureFunction.apply(graph, subGraph.originalNodeIds(), features)
+                : new Constant<>(rows(previousLayerEmbeddings, previousLayerDimension, subGraph.originalNodeIds()));
+
+            Variable<Matrix> embeddingVariable = layers[layerIdx].aggregator().aggregate(
+                previousLayerRepresentations,
+                subGraph
+            );
+
+            boolean isLastLayer = layerEmbeddings == null;
+            if (isLastLayer) {
+                embeddingVariable = new NormalizeRows(embeddingVariable);
+            }
+
+            Matrix embeddings = new ComputationContext().forward(embeddingVariable);
+
+            var partitionStartNodeId = partition.startNode();
+            var partitionNodeCount = partition.nodeCount();
+            var dimension = embeddings.cols();
+            for (int partitionIdx = 0; partitionIdx < partitionNodeCount; partitionIdx++) {
+                long nodeId = partitionStartNodeId + partitionIdx;
+                if (isLastLayer) {
+                    result.set(nodeId, embeddings.getRow(partitionIdx));
+                } else {
+                    long offset = nodeId * dimension;
+                    for (int col = 0; col < dimension; col++) {
+                        layerEmbeddings.set(offset + col, embeddings.dataAt(partitionIdx, col));
+                    }
+                }
+            }
+
+            progressTracker.logProgress(partitionNodeCount);
+        };
+    }
+
+    private static Matrix rows(HugeDoubleArray embeddings, int dimension, long[] nodeIds) {
+        var matrix = new Matrix(nodeIds.length, dimension);
+        for (int row = 0; row < nodeIds.length; row++) {
+            long offset = nodeIds[row] * dimension;
+            for (int col = 0; col < dimension; col++) {
+                matrix.setDataAt(row, col, embeddings.get(offset + col));
+            }
+        }
+        return matrix;
+    }
+
+    // the last weights of an aggregator map onto the output dimension
+    private static int outputDimension(Layer layer) {
+        var weights = layer.aggregator().weightsWithoutBias();
+        return weights.get(weights.size() - 1).data().dimension(0);
+    }
+
     private Runnable createEmbeddings(
         Graph graph,
         Partition partition,
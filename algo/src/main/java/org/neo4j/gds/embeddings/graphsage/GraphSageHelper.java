@@ -84,19 +84,25 @@ public final class GraphSageHelper {
 
     // expecting a thread-local graph here
     static List<SubGraph> subGraphsPerLayer(Graph graph, long[] nodeIds, Layer[] layers, long randomSeed) {
+        List<NeighborhoodFunction> samplers = neighborhoodFunctions(graph, layers, randomSeed);
+
+        Collections.reverse(samplers);
+
+        return SubGraph.buildSubGraphs(nodeIds, samplers, SubGraph.relationshipWeightFunction(graph));
+    }
+
+    // one neighborhood function per layer, in layer order
+    // the samples only depend on the seed and the node, not on the batch the node is part of
+    static List<NeighborhoodFunction> neighborhoodFunctions(Graph graph, Layer[] layers, long randomSeed) {
         var random = new Random(randomSeed);
 
-        List<NeighborhoodFunction> samplers = Arrays
+        return Arrays
             .stream(layers)
             .map(layer -> {
                 var neighborhoodSampler = new NeighborhoodSampler(random.nextLong());
                 return (NeighborhoodFunction) (nodeId) -> neighborhoodSampler.sample(graph, nodeId, layer.sampleSize());
             })
             .collect(Collectors.toList());
-
-        Collections.reverse(samplers);
-
-        return SubGraph.buildSubGraphs(nodeIds, samplers, SubGraph.relationshipWeightFunction(graph));
     }
 
     public static MemoryEstimation embeddingsEstimation(
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.graphsage;
+
+import org.neo4j.annotations.service.ServiceProvider;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.core.model.ModelDataInput;
+import org.neo4j.gds.core.model.ModelDataOutput;
+import org.neo4j.gds.core.model.ModelDataSerializer;
+import org.neo4j.gds.ml.core.functions.Weights;
+import org.neo4j.gds.ml.core.tensor.Matrix;
+import org.neo4j.gds.ml.core.tensor.Vector;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Serializes the layers and the feature function of a GraphSAGE model.
+ * Each layer is written as its aggregator type and activation function followed by the raw weights of the aggregator.
+ */
+@ServiceProvider
+public final class GraphSageModelDataSerializer implements ModelDataSerializer {
+
+    private static final int SINGLE_LABEL_FEATURE_FUNCTION = 0;
+    private static final int MULTI_LABEL_FEATURE_FUNCTION = 1;
+
+    @Override
+    public String id() {
+        return "gds.graphsage";
+    }
+
+    @Override
+    public boolean canSerialize(Object modelData) {
+        return modelData instanceof ModelData;
+    }
+
+    @Override
+    public void serialize(Object modelData, ModelDataOutput output) throws IOException {
+        var data = (ModelData) modelData;
+
+        output.writeInt(data.layers().length);
+        for (Layer layer : data.layers()) {
+            writeLayer(layer, output);
+        }
+
+        var featureFunction = data.featureFunction();
+        if (featureFunction instanceof SingleLabelFeatureFunction) {
+            output.writeInt(SINGLE_LABEL_FEATURE_FUNCTION);
+        } else if (featureFunction instanceof MultiLabelFeatureFunction) {
+            var multiLabelFeatureFunction = (MultiLabelFeatureFunction) featureFunction;
+            output.writeInt(MULTI_LABEL_FEATURE_FUNCTION);
+            output.writeInt(multiLabelFeatureFunction.projectedFeatureDimension());
+            output.writeInt(multiLabelFeatureFunction.weightsByLabel().size());
+            for (var entry : multiLabelFeatureFunction.weightsByLabel().entrySet()) {
+                output.writeString(entry.getKey().name);
+                writeMatrix(entry.getValue().data(), output);
+            }
+        } else {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Cannot serialize the feature function `%s`.",
+                featureFunction.getClass().getSimpleName()
+            ));
+        }
+    }
+
+    @Override
+    public Object deserialize(ModelDataInput input) {
+        var layers = new Layer[input.readInt()];
+        for (int i = 0; i < layers.length; i++) {
+            layers[i] = readLayer(input);
+        }
+
+        FeatureFunction featureFunction;
+        int featureFunctionType = input.readInt();
+        if (featureFunctionType == SINGLE_LABEL_FEATURE_FUNCTION) {
+            featureFunction = new SingleLabelFeatureFunction();
+        } else {
+            int projectedFeatureDimension = input.readInt();
+            int labelCount = input.readInt();
+            var weightsByLabel = new LinkedHashMap<NodeLabel, Weights<Matrix>>();
+            for (int i = 0; i < labelCount; i++) {
+                var label = NodeLabel.of(input.readString());
+                weightsByLabel.put(label, new Weights<>(readMatrix(input)));
+            }
+            featureFunction = new MultiLabelFeatureFunction(weightsByLabel, projectedFeatureDimension);
+        }
+
+        return ModelData.of(layers, featureFunction);
+    }
+
+    private static void writeLayer(Layer layer, ModelDataOutput output) throws IOException {
+        var aggregator = layer.aggregator();
+        output.writeString(aggregator.type().name());
+        output.writeString(aggregator.activationFunction().name());
+        output.writeInt(layer.sampleSize());
+
+        switch (aggregator.type()) {
+            case MEAN:
+                writeMatrix(((MeanAggregator) aggregator).weightsData(), output);
+                break;
+            case POOL:
+                var poolingAggregator = (MaxPoolingAggregator) aggregator;
+                writeMatrix(poolingAggregator.poolWeights(), output);
+                writeMatrix(poolingAggregator.selfWeights(), output);
+                writeMatrix(poolingAggregator.neighborsWeights(), output);
+                output.writeDoubles(poolingAggregator.bias().data());
+                break;
+            default:
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Cannot serialize the aggregator `%s`.",
+                    aggregator.type()
+                ));
+        }
+    }
+
+    private static Layer readLayer(ModelDataInput input) {
+        var aggregatorType = Aggregator.AggregatorType.valueOf(input.readString());
+        var activationFunction = ActivationFunction.valueOf(input.readString());
+        int sampleSize = input.readInt();
+
+        switch (aggregatorType) {
+            case MEAN:
+                return new MeanAggregatingLayer(new Weights<>(readMatrix(input)), sampleSize, activationFunction);
+            case POOL:
+                var poolWeights = new Weights<>(readMatrix(input));
+                var selfWeights = new Weights<>(readMatrix(input));
+                var neighborsWeights = new Weights<>(readMatrix(input));
+                var bias = new Weights<>(new Vector(input.readDoubles()));
+                return new MaxPoolAggregatingLayer(
+                    sampleSize,
+                    poolWeights,
+                    selfWeights,
+                    neighborsWeights,
+                    bias,
+                    activationFunction
+                );
+            default:
+                throw new IllegalStateException(formatWithLocale("Unknown aggregator `%s`.", aggregatorType));
+        }
+    }
+
+    private static void writeMatrix(Matrix matrix, ModelDataOutput output) throws IOException {
+        output.writeInt(matrix.rows());
+        output.writeInt(matrix.cols());
+        output.writeDoubles(matrix.data());
+    }
+
+    private static Matrix readMatrix(ModelDataInput input) {
+        var rows = input.readInt();
+        var cols = input.readInt();
+        return new Matrix(input.readDoubles(), rows, cols);
+    }
+}
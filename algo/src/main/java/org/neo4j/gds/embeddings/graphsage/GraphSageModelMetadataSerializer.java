@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.graphsage;
+
+import org.neo4j.annotations.service.ServiceProvider;
+import org.neo4j.gds.config.ToMapConvertible;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.model.ModelMetadataSerializer;
+import org.neo4j.gds.embeddings.graphsage.algo.GraphSage;
+import org.neo4j.gds.embeddings.graphsage.algo.GraphSageTrainConfig;
+import org.neo4j.gds.model.ModelConfig;
+
+import java.util.List;
+import java.util.Map;
+
+@ServiceProvider
+public final class GraphSageModelMetadataSerializer implements ModelMetadataSerializer {
+
+    private static final String ITERATION_LOSS_PER_EPOCH_KEY = "iterationLossPerEpoch";
+    private static final String DID_CONVERGE_KEY = "didConverge";
+
+    @Override
+    public String algoType() {
+        return GraphSage.MODEL_TYPE;
+    }
+
+    @Override
+    public ModelConfig trainConfig(String username, Map<String, Object> trainConfigMap) {
+        return GraphSageTrainConfig.of(username, CypherMapWrapper.create(trainConfigMap));
+    }
+
+    @Override
+    public Map<String, Object> customInfoToMap(ToMapConvertible customInfo) {
+        var metrics = (GraphSageModelTrainer.GraphSageTrainMetrics) customInfo;
+        return Map.of(
+            ITERATION_LOSS_PER_EPOCH_KEY, metrics.iterationLossPerEpoch(),
+            DID_CONVERGE_KEY, metrics.didConverge()
+        );
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ToMapConvertible customInfo(Map<String, Object> customInfoMap) {
+        return ImmutableGraphSageTrainMetrics.of(
+            (List<List<Double>>) customInfoMap.get(ITERATION_LOSS_PER_EPOCH_KEY),
+            (Boolean) customInfoMap.get(DID_CONVERGE_KEY)
+        );
+    }
+}
@@ -303,6 +303,8 @@ public class GraphSageModelTrainer {
         private final List<Weights<? extends Tensor<?>>> weightVariables;
         private List<? extends Tensor<?>> weightGradients;
         private final ProgressTracker progressTracker;
+        // tasks can run once per iteration, reusing the context recycles the buffers of the previous run
+        private final ComputationContext localCtx;
         private double loss;
 
         BatchTask(
@@ -313,11 +315,13 @@ public class GraphSageModelTrainer {
             this.lossFunction = lossFunction;
             this.weightVariables = weightVariables;
             this.progressTracker = progressTracker;
+            this.localCtx = new ComputationContext();
         }
 
+        // batches are sampled with replacement, so the same task can be scheduled twice within an iteration
         @Override
-        public void run() {
-            var localCtx = new ComputationContext();
+        public synchronized void run() {
+            localCtx.reset();
             loss = localCtx.forward(lossFunction).value();
 
             localCtx.backward(lossFunction);
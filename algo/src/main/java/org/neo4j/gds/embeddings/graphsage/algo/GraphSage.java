@@ -70,7 +70,8 @@ public class GraphSage extends Algorithm<GraphSage.GraphSageResult> {
             model.data().featureFunction(),
             model.trainConfig().randomSeed(),
             executor,
-            progressTracker
+            progressTracker,
+            config.layerWiseInference()
         );
 
         GraphSageTrainConfig trainConfig = model.trainConfig();
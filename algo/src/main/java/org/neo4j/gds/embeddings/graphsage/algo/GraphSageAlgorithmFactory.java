@@ -26,6 +26,7 @@ import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.model.ModelCatalog;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
@@ -89,17 +90,29 @@ public class GraphSageAlgorithmFactory<CONFIG extends GraphSageBaseConfig> exten
             graphDimensions -> withNodeCount(
                 model.trainConfig(),
                 graphDimensions.nodeCount(),
-                config instanceof MutateConfig
+                config instanceof MutateConfig,
+                config.layerWiseInference()
             )
         );
     }
 
     @Override
     public Task progressTask(GraphStore graphStore, CONFIG config) {
-        return Tasks.leaf(taskName(), graphStore.getGraph(config.nodeLabelIdentifiers(graphStore)).nodeCount());
+        var nodeCount = graphStore.getGraph(config.nodeLabelIdentifiers(graphStore)).nodeCount();
+        if (config.layerWiseInference()) {
+            // every layer is a pass over all nodes
+            var model = resolveModel(modelCatalog, config.modelUser(), config.modelName());
+            return Tasks.leaf(taskName(), nodeCount * model.trainConfig().sampleSizes().size());
+        }
+        return Tasks.leaf(taskName(), nodeCount);
     }
 
-    private MemoryEstimation withNodeCount(GraphSageTrainConfig config, long nodeCount, boolean mutate) {
+    private MemoryEstimation withNodeCount(
+        GraphSageTrainConfig config,
+        long nodeCount,
+        boolean mutate,
+        boolean layerWise
+    ) {
         var gsBuilder = MemoryEstimations.builder("GraphSage");
 
         if (mutate) {
@@ -123,6 +136,14 @@ public class GraphSageAlgorithmFactory<CONFIG extends GraphSageBaseConfig> exten
                     GraphSageHelper.embeddingsEstimation(config, config.batchSize(), nodeCount, 0, false)
                 ).build()
             );
+        if (layerWise) {
+            // the embeddings of the previous and the current layer, the last layer is written to the result directly
+            var intermediateLayers = Math.min(2, config.sampleSizes().size() - 1);
+            builder = builder.fixed(
+                "layerEmbeddings",
+                intermediateLayers * HugeDoubleArray.memoryEstimation(nodeCount * config.embeddingDimension())
+            );
+        }
         if (!mutate) {
             builder = builder.add(
                 "resultFeatures",
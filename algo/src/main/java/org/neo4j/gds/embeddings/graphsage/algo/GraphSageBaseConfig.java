@@ -25,4 +25,12 @@ import org.neo4j.gds.model.ModelConfig;
 
 public interface GraphSageBaseConfig extends AlgoBaseConfig, BatchSizeConfig, ModelConfig {
     long serialVersionUID = 0x42L;
+
+    /**
+     * Whether the embeddings are computed one layer at a time for all nodes,
+     * reusing the embeddings of the previous layer instead of recomputing them per batch.
+     */
+    default boolean layerWiseInference() {
+        return false;
+    }
 }
@@ -21,13 +21,14 @@ package org.neo4j.gds.embeddings.graphsage.algo;
 
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.config.PipelinedNodePropertyWriteConfig;
 import org.neo4j.gds.config.WritePropertyConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface GraphSageWriteConfig extends GraphSageBaseConfig, WritePropertyConfig {
+public interface GraphSageWriteConfig extends GraphSageBaseConfig, WritePropertyConfig, PipelinedNodePropertyWriteConfig {
 
     long serialVersionUID = 0x42L;
 
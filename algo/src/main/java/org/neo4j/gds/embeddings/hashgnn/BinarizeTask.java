@@ -23,7 +23,6 @@ import com.carrotsearch.hppc.BitSet;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.utils.TerminationFlag;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.ml.core.features.FeatureConsumer;
@@ -42,7 +41,7 @@ import static org.neo4j.gds.embeddings.hashgnn.HashGNNCompanion.hashArgMin;
 class BinarizeTask implements Runnable {
     private final Partition partition;
     private final HashGNNConfig config;
-    private final HugeObjectArray<BitSet> truncatedFeatures;
+    private final HugeBitMatrix truncatedFeatures;
     private final List<FeatureExtractor> featureExtractors;
     private final int[][] propertyEmbeddings;
     private final List<int[]> hashesList;
@@ -53,7 +52,7 @@ class BinarizeTask implements Runnable {
     BinarizeTask(
         Partition partition,
         HashGNNConfig config,
-        HugeObjectArray<BitSet> truncatedFeatures,
+        HugeBitMatrix truncatedFeatures,
         List<FeatureExtractor> featureExtractors,
         int[][] propertyEmbeddings,
         List<int[]> hashesList,
@@ -70,7 +69,7 @@ class BinarizeTask implements Runnable {
         this.progressTracker = progressTracker;
     }
 
-    static HugeObjectArray<BitSet> compute(
+    static HugeBitMatrix compute(
         Graph graph,
         List<Partition> partition,
         HashGNNConfig config,
@@ -96,7 +95,7 @@ class BinarizeTask implements Runnable {
         var inputDimension = FeatureExtraction.featureCount(featureExtractors);
         var propertyEmbeddings = embedProperties(config, rng, inputDimension);
 
-        var truncatedFeatures = HugeObjectArray.newArray(BitSet.class, graph.nodeCount());
+        var truncatedFeatures = HugeBitMatrix.of(graph.nodeCount(), config.binarizeFeatures().get().dimension());
 
         var tasks = partition.stream()
             .map(p -> new BinarizeTask(
@@ -144,8 +143,10 @@ class BinarizeTask implements Runnable {
 
     @Override
     public void run() {
+        var featureVector = new float[binarizationConfig.dimension()];
+        var roundedFeatures = new BitSet(binarizationConfig.dimension());
         partition.consume(nodeId -> {
-            var featureVector = new float[binarizationConfig.dimension()];
+            Arrays.fill(featureVector, 0.0f);
             FeatureExtraction.extract(nodeId, -1, featureExtractors, new FeatureConsumer() {
                 @Override
                 public void acceptScalar(long nodeOffset, int offset, double value) {
@@ -176,27 +177,25 @@ class BinarizeTask implements Runnable {
                 }
             });
 
-            truncatedFeatures.set(nodeId, roundAndSample(featureVector));
+            roundAndSample(nodeId, featureVector, roundedFeatures);
         });
 
         progressTracker.logProgress(partition.nodeCount());
     }
 
-    private BitSet roundAndSample(float[] floatVector) {
-        var bitset = new BitSet(floatVector.length);
+    private void roundAndSample(long nodeId, float[] floatVector, BitSet roundedFeatures) {
+        roundedFeatures.clear();
         for (int feature = 0; feature < floatVector.length; feature++) {
             if (floatVector[feature] > 0) {
-                bitset.set(feature);
+                roundedFeatures.set(feature);
             }
         }
-        var sampledBitset = new BitSet(binarizationConfig.dimension());
         for (int i = 0; i < config.embeddingDensity(); i++) {
-            hashArgMin(bitset, hashesList.get(i), minAndArgMin);
+            hashArgMin(roundedFeatures, hashesList.get(i), minAndArgMin);
             if (minAndArgMin.argMin != -1) {
-                sampledBitset.set(minAndArgMin.argMin);
+                truncatedFeatures.set(nodeId, minAndArgMin.argMin);
             }
         }
-        return sampledBitset;
     }
 
 }
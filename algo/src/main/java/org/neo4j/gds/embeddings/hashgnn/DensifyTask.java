@@ -19,8 +19,6 @@
  */
 package org.neo4j.gds.embeddings.hashgnn;
 
-import com.carrotsearch.hppc.BitSet;
-import com.carrotsearch.hppc.BitSetIterator;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.utils.TerminationFlag;
@@ -38,7 +36,7 @@ class DensifyTask implements Runnable {
     private final Partition partition;
     private final HashGNNConfig config;
     private final HugeObjectArray<double[]> denseFeatures;
-    private final HugeObjectArray<BitSet> binaryFeatures;
+    private final HugeBitMatrix binaryFeatures;
     private final float[][] projectionMatrix;
     private final ProgressTracker progressTracker;
 
@@ -46,7 +44,7 @@ class DensifyTask implements Runnable {
         Partition partition,
         HashGNNConfig config,
         HugeObjectArray<double[]> denseFeatures,
-        HugeObjectArray<BitSet> binaryFeatures,
+        HugeBitMatrix binaryFeatures,
         float[][] projectionMatrix,
         ProgressTracker progressTracker
     ) {
@@ -63,7 +61,7 @@ class DensifyTask implements Runnable {
         List<Partition> partition,
         HashGNNConfig config,
         SplittableRandom rng,
-        HugeObjectArray<BitSet> binaryFeatures,
+        HugeBitMatrix binaryFeatures,
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag
     ) {
@@ -74,7 +72,7 @@ class DensifyTask implements Runnable {
         var projectionMatrix = projectionMatrix(
             rng,
             config.outputDimension().orElseThrow(),
-            (int) binaryFeatures.get(0).capacity()
+            binaryFeatures.capacity()
         );
 
         var tasks = partition.stream()
@@ -128,17 +126,13 @@ class DensifyTask implements Runnable {
         int denseLength = projectionMatrix[0].length;
 
         partition.consume(nodeId -> {
-            var binaryVector = binaryFeatures.get(nodeId);
             var denseVector = new double[config.outputDimension().orElseThrow()];
 
-            var iterator = binaryVector.iterator();
-            var bit = iterator.nextSetBit();
-            while (bit != BitSetIterator.NO_MORE) {
+            for (int bit = binaryFeatures.nextSetBit(nodeId, 0); bit != -1; bit = binaryFeatures.nextSetBit(nodeId, bit + 1)) {
                 final float[] row = projectionMatrix[bit];
                 for (int i = 0; i < denseLength; i++) {
                     denseVector[i] += row[i];
                 }
-                bit = iterator.nextSetBit();
             }
 
             denseFeatures.set(nodeId, denseVector);
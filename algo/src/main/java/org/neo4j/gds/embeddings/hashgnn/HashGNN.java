@@ -19,10 +19,11 @@
  */
 package org.neo4j.gds.embeddings.hashgnn;
 
-import com.carrotsearch.hppc.BitSet;
-import com.carrotsearch.hppc.BitSetIterator;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.properties.nodes.DoubleArrayNodePropertyValues;
+import org.neo4j.gds.api.properties.nodes.LongArrayNodePropertyValues;
 import org.neo4j.gds.api.schema.GraphSchema;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
@@ -91,8 +92,7 @@ public class HashGNN extends Algorithm<HashGNN.HashGNNResult> {
             return FeatureExtraction.featureCount(featureExtractors);
         });
 
-        var embeddingsA = HugeObjectArray.newArray(BitSet.class, graph.nodeCount());
-        embeddingsA.setAll(unused -> new BitSet(embeddingDimension));
+        var embeddingsA = HugeBitMatrix.of(graph.nodeCount(), embeddingDimension);
 
         double avgDegree = (graph.relationshipCount() / (double) graph.nodeCount());
         int upperBoundBits = Math.min(embeddingDimension, config.embeddingDensity());
@@ -116,9 +116,7 @@ public class HashGNN extends Algorithm<HashGNN.HashGNNResult> {
 
             var currentEmbeddings = iteration % 2 == 0 ? embeddingsA : embeddingsB;
             var previousEmbeddings = iteration % 2 == 0 ? embeddingsB : embeddingsA;
-            for (long i = 0; i < currentEmbeddings.size(); i++) {
-                currentEmbeddings.get(i).clear();
-            }
+            currentEmbeddings.clearAll();
 
             MinHashTask.compute(
                 degreePartition,
@@ -138,9 +136,9 @@ public class HashGNN extends Algorithm<HashGNN.HashGNNResult> {
 
         var binaryOutputVectors = (config.iterations() - 1) % 2 == 0 ? embeddingsA : embeddingsB;
 
-        HugeObjectArray<double[]> outputVectors;
+        HashGNNResult result;
         if (config.outputDimension().isPresent()) {
-            outputVectors = DensifyTask.compute(
+            result = HashGNNResult.dense(DensifyTask.compute(
                 graph,
                 rangePartition,
                 config,
@@ -148,26 +146,14 @@ public class HashGNN extends Algorithm<HashGNN.HashGNNResult> {
                 binaryOutputVectors,
                 progressTracker,
                 terminationFlag
-            );
+            ));
         } else {
-            outputVectors = HugeObjectArray.newArray(double[].class, graph.nodeCount());
-            outputVectors.setAll(nodeId -> bitSetToArray(binaryOutputVectors.get(nodeId), embeddingDimension));
+            result = HashGNNResult.binary(binaryOutputVectors);
         }
 
         progressTracker.endSubTask("HashGNN");
 
-        return new HashGNNResult(outputVectors);
-    }
-
-    private double[] bitSetToArray(BitSet bitSet, int dimension) {
-        var array = new double[dimension];
-        var iterator = bitSet.iterator();
-        var bit = iterator.nextSetBit();
-        while (bit != BitSetIterator.NO_MORE) {
-            array[bit] = 1.0;
-            bit = iterator.nextSetBit();
-        }
-        return array;
+        return result;
     }
 
     static final class MinAndArgmin {
@@ -185,15 +171,80 @@ public class HashGNN extends Algorithm<HashGNN.HashGNNResult> {
 
     }
 
-    public static class HashGNNResult {
-        private final HugeObjectArray<double[]> embeddings;
+    public static final class HashGNNResult {
+        private final @Nullable HugeObjectArray<double[]> denseEmbeddings;
+        private final @Nullable HugeBitMatrix binaryEmbeddings;
+
+        private HashGNNResult(
+            @Nullable HugeObjectArray<double[]> denseEmbeddings,
+            @Nullable HugeBitMatrix binaryEmbeddings
+        ) {
+            this.denseEmbeddings = denseEmbeddings;
+            this.binaryEmbeddings = binaryEmbeddings;
+        }
 
-        public HashGNNResult(HugeObjectArray<double[]> embeddings) {
-            this.embeddings = embeddings;
+        static HashGNNResult dense(HugeObjectArray<double[]> embeddings) {
+            return new HashGNNResult(embeddings, null);
         }
 
-        public HugeObjectArray<double[]> embeddings() {
-            return embeddings;
+        static HashGNNResult binary(HugeBitMatrix embeddings) {
+            return new HashGNNResult(null, embeddings);
+        }
+
+        /**
+         * The embeddings as arrays of doubles. Binary embeddings are unpacked into arrays of 0 and 1 on access.
+         */
+        public DoubleArrayNodePropertyValues embeddings() {
+            if (denseEmbeddings != null) {
+                var embeddings = denseEmbeddings;
+                return new DoubleArrayNodePropertyValues() {
+                    @Override
+                    public double[] doubleArrayValue(long nodeId) {
+                        return embeddings.get(nodeId);
+                    }
+
+                    @Override
+                    public long size() {
+                        return embeddings.size();
+                    }
+                };
+            }
+
+            var embeddings = binaryEmbeddings;
+            return new DoubleArrayNodePropertyValues() {
+                @Override
+                public double[] doubleArrayValue(long nodeId) {
+                    return embeddings.toDoubleArray(nodeId);
+                }
+
+                @Override
+                public long size() {
+                    return embeddings.rows();
+                }
+            };
+        }
+
+        /**
+         * The binary embeddings with 64 dimensions packed into each long, or empty if the embeddings were densified.
+         * Dimension {@code i} is stored in bit {@code i % 64} of the long at index {@code i / 64}.
+         */
+        public Optional<LongArrayNodePropertyValues> packedEmbeddings() {
+            if (binaryEmbeddings == null) {
+                return Optional.empty();
+            }
+
+            var embeddings = binaryEmbeddings;
+            return Optional.of(new LongArrayNodePropertyValues() {
+                @Override
+                public long[] longArrayValue(long nodeId) {
+                    return embeddings.packedRow(nodeId);
+                }
+
+                @Override
+                public long size() {
+                    return embeddings.rows();
+                }
+            });
         }
     }
 
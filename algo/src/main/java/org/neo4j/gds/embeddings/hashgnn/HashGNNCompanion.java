@@ -50,6 +50,22 @@ public class HashGNNCompanion {
        result.argMin = argMin;
    }
 
+   static void hashArgMin(HugeBitMatrix bits, long row, int[] hashes, HashGNN.MinAndArgmin result) {
+       int argMin = -1;
+       int minHash = Integer.MAX_VALUE;
+       for (int bit = bits.nextSetBit(row, 0); bit != -1; bit = bits.nextSetBit(row, bit + 1)) {
+           int hash = hashes[bit];
+
+           if (hash < minHash) {
+               minHash = hash;
+               argMin = bit;
+           }
+       }
+
+       result.min = minHash;
+       result.argMin = argMin;
+   }
+
     @ValueClass
    interface HashTriple {
         /*
@@ -96,11 +96,11 @@ public class HashGNNFactory<CONFIG extends HashGNNConfig> extends GraphAlgorithm
 
         builder.perNode(
             "Embeddings cache 1",
-            n -> HugeObjectArray.memoryEstimation(n, MemoryUsage.sizeOfBitset(FUDGED_BINARY_DIMENSION))
+            n -> HugeBitMatrix.memoryEstimation(n, FUDGED_BINARY_DIMENSION)
         );
         builder.perNode(
             "Embeddings cache 2",
-            n -> HugeObjectArray.memoryEstimation(n, MemoryUsage.sizeOfBitset(FUDGED_BINARY_DIMENSION))
+            n -> HugeBitMatrix.memoryEstimation(n, FUDGED_BINARY_DIMENSION)
         );
 
         builder.perGraphDimension("Hashes cache", (dims, concurrency) -> MemoryRange.of(
@@ -109,11 +109,11 @@ public class HashGNNFactory<CONFIG extends HashGNNConfig> extends GraphAlgorithm
                 config.heterogeneous() ? dims.relationshipCounts().size() : 1
             )));
 
-        int outputDimension = config.outputDimension().orElse(FUDGED_BINARY_DIMENSION);
-        builder.perNode(
+        // binary embeddings are unpacked from the embeddings cache on access
+        config.outputDimension().ifPresent(outputDimension -> builder.perNode(
             "Embeddings output",
             n -> HugeObjectArray.memoryEstimation(n, MemoryUsage.sizeOfDoubleArray(outputDimension))
-        );
+        ));
 
         return builder.build();
     }
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.embeddings.hashgnn;
 
+import org.immutables.value.Value;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.config.MutatePropertyConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
@@ -26,6 +27,23 @@ import org.neo4j.gds.core.CypherMapWrapper;
 @Configuration
 public interface HashGNNMutateConfig extends HashGNNConfig, MutatePropertyConfig {
 
+    /**
+     * Store binary embeddings as long arrays with 64 embedding dimensions packed into each long,
+     * instead of as double arrays with one 0 or 1 value per dimension.
+     */
+    default boolean packBinaryEmbeddings() {
+        return false;
+    }
+
+    @Value.Check
+    default void validatePackBinaryEmbeddings() {
+        if (packBinaryEmbeddings() && outputDimension().isPresent()) {
+            throw new IllegalArgumentException(
+                "The parameter `packBinaryEmbeddings` can not be combined with `outputDimension`, as densified embeddings are not binary."
+            );
+        }
+    }
+
     static HashGNNMutateConfig of(CypherMapWrapper config) {
         return new HashGNNMutateConfigImpl(config);
     }
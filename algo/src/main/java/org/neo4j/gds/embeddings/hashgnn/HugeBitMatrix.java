@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.hashgnn;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+
+import java.util.Arrays;
+
+/**
+ * A matrix of bits with one row per node, packed into the words of a single {@link HugeLongArray}.
+ * Every row occupies the same number of words and rows never share a word,
+ * so different rows can be written concurrently without synchronization.
+ */
+final class HugeBitMatrix {
+    private final HugeLongArray words;
+    private final long rows;
+    private final int dimension;
+    private final int wordsPerRow;
+
+    static HugeBitMatrix of(long rows, int dimension) {
+        int wordsPerRow = BitSet.bits2words(dimension);
+        return new HugeBitMatrix(HugeLongArray.newArray(rows * wordsPerRow), rows, dimension, wordsPerRow);
+    }
+
+    static long memoryEstimation(long rows, int dimension) {
+        return HugeLongArray.memoryEstimation(rows * BitSet.bits2words(dimension));
+    }
+
+    private HugeBitMatrix(HugeLongArray words, long rows, int dimension, int wordsPerRow) {
+        this.words = words;
+        this.rows = rows;
+        this.dimension = dimension;
+        this.wordsPerRow = wordsPerRow;
+    }
+
+    long rows() {
+        return rows;
+    }
+
+    int dimension() {
+        return dimension;
+    }
+
+    /**
+     * The number of bits a row can hold, which is the dimension rounded up to whole words.
+     */
+    int capacity() {
+        return wordsPerRow * Long.SIZE;
+    }
+
+    boolean get(long row, int bit) {
+        return (words.get(wordOffset(row, bit)) & (1L << bit)) != 0;
+    }
+
+    void set(long row, int bit) {
+        words.or(wordOffset(row, bit), 1L << bit);
+    }
+
+    void clearAll() {
+        words.fill(0L);
+    }
+
+    /**
+     * @return the index of the first set bit of the row at or after {@code fromBit}, or {@code -1} if there is none
+     */
+    int nextSetBit(long row, int fromBit) {
+        if (fromBit >= dimension) {
+            return -1;
+        }
+        long offset = row * wordsPerRow;
+        int wordIndex = fromBit >>> 6;
+        long word = words.get(offset + wordIndex) & (-1L << fromBit);
+        while (true) {
+            if (word != 0) {
+                return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+            }
+            if (++wordIndex == wordsPerRow) {
+                return -1;
+            }
+            word = words.get(offset + wordIndex);
+        }
+    }
+
+    /**
+     * Copies the words of the row, bit {@code i} is stored in word {@code i / 64} at position {@code i % 64}.
+     */
+    long[] packedRow(long row) {
+        var packed = new long[wordsPerRow];
+        long offset = row * wordsPerRow;
+        Arrays.setAll(packed, word -> words.get(offset + word));
+        return packed;
+    }
+
+    double[] toDoubleArray(long row) {
+        var array = new double[dimension];
+        for (int bit = nextSetBit(row, 0); bit != -1; bit = nextSetBit(row, bit + 1)) {
+            array[bit] = 1.0;
+        }
+        return array;
+    }
+
+    private long wordOffset(long row, int bit) {
+        return row * wordsPerRow + (bit >>> 6);
+    }
+}
@@ -24,7 +24,6 @@ import com.carrotsearch.hppc.BitSet;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.utils.TerminationFlag;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.partition.DegreePartition;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -40,8 +39,8 @@ class MinHashTask implements Runnable {
     private final HashGNNConfig config;
     private final int embeddingDimension;
     private final List<Graph> concurrentGraphs;
-    private final HugeObjectArray<BitSet> currentEmbeddings;
-    private final HugeObjectArray<BitSet> previousEmbeddings;
+    private final HugeBitMatrix currentEmbeddings;
+    private final HugeBitMatrix previousEmbeddings;
     private final int iteration;
     private final TerminationFlag terminationFlag;
     private final ProgressTracker progressTracker;
@@ -51,8 +50,8 @@ class MinHashTask implements Runnable {
         List<Graph> graphs,
         HashGNNConfig config,
         int embeddingDimension,
-        HugeObjectArray<BitSet> currentEmbeddings,
-        HugeObjectArray<BitSet> previousEmbeddings,
+        HugeBitMatrix currentEmbeddings,
+        HugeBitMatrix previousEmbeddings,
         int iteration,
         List<HashTask.Hashes> hashes,
         TerminationFlag terminationFlag,
@@ -75,8 +74,8 @@ class MinHashTask implements Runnable {
         List<Graph> graphs,
         HashGNNConfig config,
         int embeddingDimension,
-        HugeObjectArray<BitSet> currentEmbeddings,
-        HugeObjectArray<BitSet> previousEmbeddings,
+        HugeBitMatrix currentEmbeddings,
+        HugeBitMatrix previousEmbeddings,
         int iteration,
         List<HashTask.Hashes> hashes,
         ProgressTracker progressTracker,
@@ -118,7 +117,7 @@ class MinHashTask implements Runnable {
         // letting each task handle all k's and a partition of nodes gives generallly a decent size chunk of work
         // which leads to low overhead and high cpu utilisation.
         // initially, a task used a single k which had much less utilisation.
-        // also, using a single k but all nodes leads to concurrent writes to BitSet which is not threadsafe.
+        // also, using a single k but all nodes leads to concurrent writes to the same row which is not threadsafe.
         for (int k = 0; k < config.embeddingDensity(); k++) {
             terminationFlag.assertRunning();
 
@@ -128,8 +127,7 @@ class MinHashTask implements Runnable {
             var preAggregationHashes = hashesForK.preAggregationHashes();
 
             partition.consume(nodeId -> {
-                var currentEmbedding = currentEmbeddings.get(nodeId);
-                hashArgMin(previousEmbeddings.get(nodeId), selfAggregationHashes, selfMinAndArgMin);
+                hashArgMin(previousEmbeddings, nodeId, selfAggregationHashes, selfMinAndArgMin);
 
                 neighborsVector.clear();
 
@@ -137,8 +135,7 @@ class MinHashTask implements Runnable {
                     var preAggregationHashesForRel = preAggregationHashes.get(i);
                     var currentGraph = concurrentGraphs.get(i);
                     currentGraph.forEachRelationship(nodeId, (src, trg) -> {
-                        var prevTargetEmbedding = previousEmbeddings.get(trg);
-                        hashArgMin(prevTargetEmbedding, preAggregationHashesForRel, neighborsMinAndArgMin);
+                        hashArgMin(previousEmbeddings, trg, preAggregationHashesForRel, neighborsMinAndArgMin);
 
                         int argMin = neighborsMinAndArgMin.argMin;
                         if (argMin != -1) {
@@ -152,7 +149,7 @@ class MinHashTask implements Runnable {
                 hashArgMin(neighborsVector, neighborsAggregationHashes, neighborsMinAndArgMin);
                 int argMin = (neighborsMinAndArgMin.min < selfMinAndArgMin.min) ? neighborsMinAndArgMin.argMin : selfMinAndArgMin.argMin;
                 if (argMin != -1) {
-                    currentEmbedding.set(argMin);
+                    currentEmbeddings.set(nodeId, argMin);
                 }
             });
         }
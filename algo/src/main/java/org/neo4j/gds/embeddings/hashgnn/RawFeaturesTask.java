@@ -23,7 +23,6 @@ import com.carrotsearch.hppc.BitSet;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.utils.TerminationFlag;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.embeddings.hashgnn.HashGNN.MinAndArgmin;
@@ -44,7 +43,7 @@ class RawFeaturesTask implements Runnable {
     private final HashGNNConfig config;
     private final List<FeatureExtractor> featureExtractors;
     private final int inputDimension;
-    private final HugeObjectArray<BitSet> features;
+    private final HugeBitMatrix features;
     private final List<int[]> hashesList;
     private final MinAndArgmin minAndArgMin;
     private final ProgressTracker progressTracker;
@@ -54,7 +53,7 @@ class RawFeaturesTask implements Runnable {
         HashGNNConfig config,
         List<FeatureExtractor> featureExtractors,
         int inputDimension,
-        HugeObjectArray<BitSet> features,
+        HugeBitMatrix features,
         List<int[]> hashesList,
         ProgressTracker progressTracker
     ) {
@@ -68,7 +67,7 @@ class RawFeaturesTask implements Runnable {
         this.progressTracker = progressTracker;
     }
 
-    static HugeObjectArray<BitSet> compute(
+    static HugeBitMatrix compute(
         HashGNNConfig config,
         SplittableRandom rng,
         ProgressTracker progressTracker,
@@ -89,7 +88,7 @@ class RawFeaturesTask implements Runnable {
             hashesList.add(computeHashesFromTriple(inputDimension, HashGNNCompanion.HashTriple.generate(rng)));
         }
 
-        var features = HugeObjectArray.newArray(BitSet.class, graph.nodeCount());
+        var features = HugeBitMatrix.of(graph.nodeCount(), inputDimension);
 
         var tasks = partitions.stream()
             .map(p -> new RawFeaturesTask(
@@ -115,8 +114,9 @@ class RawFeaturesTask implements Runnable {
 
     @Override
     public void run() {
+        var nodeFeatures = new BitSet(inputDimension);
         partition.consume(nodeId -> {
-            var nodeFeatures = new BitSet(inputDimension);
+            nodeFeatures.clear();
             FeatureExtraction.extract(nodeId, -1, featureExtractors, new FeatureConsumer() {
                 @Override
                 public void acceptScalar(long nodeOffset, int offset, double value) {
@@ -135,17 +135,14 @@ class RawFeaturesTask implements Runnable {
                 }
             });
             if (nodeFeatures.isEmpty()) {
-                features.set(nodeId, nodeFeatures);
                 return;
             }
-            var sampledBitset = new BitSet(inputDimension);
             for (int i = 0; i < config.embeddingDensity(); i++) {
                 hashArgMin(nodeFeatures, hashesList.get(i), minAndArgMin);
                 if (minAndArgMin.argMin != -1) {
-                    sampledBitset.set(minAndArgMin.argMin);
+                    features.set(nodeId, minAndArgMin.argMin);
                 }
             }
-            features.set(nodeId, sampledBitset);
         });
 
         progressTracker.logProgress(partition.nodeCount());
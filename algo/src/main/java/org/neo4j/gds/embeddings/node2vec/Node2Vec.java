@@ -27,6 +27,7 @@ import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.ml.core.samplers.NeighbourIndex;
 import org.neo4j.gds.traversal.RandomWalk;
 
 public class Node2Vec extends Algorithm<Node2VecModel.Result> {
@@ -35,15 +36,23 @@ public class Node2Vec extends Algorithm<Node2VecModel.Result> {
     private final Node2VecBaseConfig config;
 
     public static MemoryEstimation memoryEstimation(Node2VecBaseConfig config) {
-        return MemoryEstimations.builder(Node2Vec.class.getSimpleName())
+        var builder = MemoryEstimations.builder(Node2Vec.class.getSimpleName())
             .perNode("random walks", (nodeCount) -> {
                 var numberOfRandomWalks = nodeCount * config.walksPerNode();
                 var randomWalkMemoryUsage = MemoryUsage.sizeOfLongArray(config.walkLength());
                 return HugeObjectArray.memoryEstimation(numberOfRandomWalks, randomWalkMemoryUsage);
             })
             .add("probability cache", RandomWalkProbabilities.memoryEstimation())
-            .add("model", Node2VecModel.memoryEstimation(config))
-            .build();
+            .add("model", Node2VecModel.memoryEstimation(config));
+
+        if (config.useNeighbourIndex()) {
+            builder.add(
+                "neighbour index",
+                NeighbourIndex.memoryEstimation(config.relationshipWeightProperty().isPresent())
+            );
+        }
+
+        return builder.build();
     }
 
     public Node2Vec(Graph graph, Node2VecBaseConfig config, ProgressTracker progressTracker) {
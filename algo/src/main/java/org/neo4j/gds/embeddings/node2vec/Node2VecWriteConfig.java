@@ -21,13 +21,14 @@ package org.neo4j.gds.embeddings.node2vec;
 
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.config.PipelinedNodePropertyWriteConfig;
 import org.neo4j.gds.config.WritePropertyConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface Node2VecWriteConfig extends Node2VecBaseConfig, WritePropertyConfig {
+public interface Node2VecWriteConfig extends Node2VecBaseConfig, WritePropertyConfig, PipelinedNodePropertyWriteConfig {
 
     static Node2VecWriteConfig of(CypherMapWrapper userInput) {
         return new Node2VecWriteConfigImpl(userInput);
@@ -44,7 +44,9 @@ public class CELF extends Algorithm<LongDoubleScatterMap> {
     private final Graph graph;
     private final long initialRandomSeed;
     private final int batchSize;
-    private final LongDoubleScatterMap seedSetNodes;
+    private final SpreadEstimation spreadEstimation;
+    private final double epsilon;
+    private LongDoubleScatterMap seedSetNodes;
 
     private final HugeLongPriorityQueue spreads;
     private final ExecutorService executorService;
@@ -66,11 +68,45 @@ public class CELF extends Algorithm<LongDoubleScatterMap> {
         long initialRandomSeed,
         int batchSize,
         ProgressTracker progressTracker
+    ) {
+        this(
+            graph,
+            seedSetCount,
+            propagationProbability,
+            monteCarloSimulations,
+            executorService,
+            concurrency,
+            initialRandomSeed,
+            batchSize,
+            SpreadEstimation.MONTE_CARLO,
+            0,
+            progressTracker
+        );
+    }
+
+    /*
+     * spreadEstimation:        Monte-Carlo simulations or reverse influence sampling
+     * epsilon:                 Approximation error of reverse influence sampling
+     */
+    public CELF(
+        Graph graph,
+        int seedSetCount,
+        double propagationProbability,
+        int monteCarloSimulations,
+        ExecutorService executorService,
+        int concurrency,
+        long initialRandomSeed,
+        int batchSize,
+        SpreadEstimation spreadEstimation,
+        double epsilon,
+        ProgressTracker progressTracker
     ) {
         super(progressTracker);
         this.graph = graph;
         this.initialRandomSeed = initialRandomSeed;
         this.batchSize = batchSize;
+        this.spreadEstimation = spreadEstimation;
+        this.epsilon = epsilon;
         long nodeCount = graph.nodeCount();
 
         this.seedSetCount = (seedSetCount <= nodeCount) ? seedSetCount : nodeCount; // k <= nodeCount
@@ -93,6 +129,24 @@ public class CELF extends Algorithm<LongDoubleScatterMap> {
 
     @Override
     public LongDoubleScatterMap compute() {
+        if (spreadEstimation == SpreadEstimation.REVERSE_INFLUENCE_SAMPLING) {
+            progressTracker.beginSubTask();
+            seedSetNodes = new ReverseInfluenceSampling(
+                graph,
+                (int) seedSetCount,
+                propagationProbability,
+                epsilon,
+                initialRandomSeed,
+                concurrency,
+                executorService,
+                progressTracker,
+                terminationFlag
+            ).compute();
+            progressTracker.endSubTask();
+
+            return seedSetNodes;
+        }
+
         //Find the first node with greedy algorithm
         progressTracker.beginSubTask();
         greedyPart();
@@ -57,12 +57,21 @@ public class CELFAlgorithmFactory<CONFIG extends InfluenceMaximizationBaseConfig
             configuration.concurrency(),
             configuration.randomSeed().orElse(0L),
             DEFAULT_BATCH_SIZE,
+            configuration.spreadEstimation(),
+            configuration.epsilon(),
             progressTracker
         );
     }
 
     @Override
     public Task progressTask(Graph graph, CONFIG config) {
+        if (config.spreadEstimation() == SpreadEstimation.REVERSE_INFLUENCE_SAMPLING) {
+            return Tasks.task(
+                "CELF",
+                Tasks.leaf("Sampling"),
+                Tasks.leaf("MaximumCoverage", config.seedSetSize())
+            );
+        }
         return Tasks.task(
             "CELF",
             Tasks.leaf("Greedy", graph.nodeCount()),
@@ -74,6 +83,13 @@ public class CELFAlgorithmFactory<CONFIG extends InfluenceMaximizationBaseConfig
     public MemoryEstimation memoryEstimation(CONFIG configuration) {
         MemoryEstimations.Builder builder = MemoryEstimations.builder(CELF.class);
 
+        if (configuration.spreadEstimation() == SpreadEstimation.REVERSE_INFLUENCE_SAMPLING) {
+            return builder
+                .fixed("seedSet", MemoryUsage.sizeOfLongDoubleScatterMap(configuration.seedSetSize()))
+                .add("reverse influence sampling", ReverseInfluenceSampling.memoryEstimation(configuration.seedSetSize()))
+                .build();
+        }
+
         //CELF class
         builder.fixed(
                 "seedSet",
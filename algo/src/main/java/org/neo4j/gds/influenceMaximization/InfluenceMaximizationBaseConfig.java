@@ -41,4 +41,20 @@ public interface InfluenceMaximizationBaseConfig extends AlgoBaseConfig, RandomS
         return 100;
     }
 
+    @Value.Default
+    @Configuration.ConvertWith(method = "org.neo4j.gds.influenceMaximization.SpreadEstimation#parse")
+    @Configuration.ToMapValue("org.neo4j.gds.influenceMaximization.SpreadEstimation#toString")
+    default SpreadEstimation spreadEstimation() {
+        return SpreadEstimation.MONTE_CARLO;
+    }
+
+    /**
+     * Only used by reverse influence sampling, which guarantees a (1 - 1/e - epsilon)-approximation.
+     */
+    @Value.Default
+    @Configuration.DoubleRange(min = 0.01, max = 1)
+    default double epsilon() {
+        return 0.5;
+    }
+
 }
@@ -20,11 +20,12 @@
 package org.neo4j.gds.influenceMaximization;
 
 import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.config.PipelinedNodePropertyWriteConfig;
 import org.neo4j.gds.config.WritePropertyConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
 @Configuration
-public interface InfluenceMaximizationWriteConfig extends InfluenceMaximizationBaseConfig, WritePropertyConfig {
+public interface InfluenceMaximizationWriteConfig extends InfluenceMaximizationBaseConfig, WritePropertyConfig, PipelinedNodePropertyWriteConfig {
 
     static InfluenceMaximizationWriteConfig of(CypherMapWrapper userInput) {
         return new InfluenceMaximizationWriteConfigImpl(userInput);
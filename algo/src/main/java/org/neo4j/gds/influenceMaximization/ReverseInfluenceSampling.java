@@ -0,0 +1,521 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.influenceMaximization;
+
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.LongDoubleScatterMap;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipConsumer;
+import org.neo4j.gds.collections.HugeSparseLongList;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeAtomicLongArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.core.utils.queue.HugeLongPriorityQueue;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Influence maximization under the Independent Cascade model using reverse influence sampling,
+ * following the IMM algorithm by Tang, Shi and Xiao (SIGMOD 2015).
+ *
+ * A reverse reachable (RR) set is sampled by picking a random root and collecting every node that
+ * reaches the root over relationships that are live with the propagation probability.
+ * The fraction of RR sets intersected by a seed set is an unbiased estimate of its spread divided by
+ * the node count, so selecting the seed set becomes a greedy maximum coverage problem over the samples.
+ * The number of samples is chosen such that the result is a (1 - 1/e - epsilon)-approximation
+ * with probability of at least 1 - 1/n.
+ * Unlike the original algorithm, the seeds are selected from fresh samples instead of reusing the samples
+ * of the estimation phase, as the reuse introduces a dependency that the analysis of IMM does not account for
+ * (Chen, "An Issue in the Martingale Analysis of the Influence Maximization Algorithm IMM", 2018).
+ */
+final class ReverseInfluenceSampling {
+
+    private final Graph graph;
+    private final long nodeCount;
+    private final int seedSetCount;
+    private final double propagationProbability;
+    private final double epsilon;
+    private final long initialRandomSeed;
+    private final int concurrency;
+    private final ExecutorService executorService;
+    private final ProgressTracker progressTracker;
+    private final TerminationFlag terminationFlag;
+
+    private final List<Sampler> samplers;
+    private long sampleCount;
+    // the index of the first sample of the current phase, so that every phase draws different sets
+    private long sampleIndexOffset;
+
+    // incoming relationships of a directed graph, `null` if the graph is undirected
+    private @Nullable HugeLongArray inverseOffsets;
+    private @Nullable HugeLongArray inverseSources;
+
+    static MemoryEstimation memoryEstimation(int seedSetSize) {
+        return MemoryEstimations.builder(ReverseInfluenceSampling.class)
+            .perNode("inverse offsets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount + 1))
+            .perGraphDimension("inverse sources", (dimensions, concurrency) ->
+                MemoryRange.of(HugeLongArray.memoryEstimation(dimensions.relCountUpperBound()))
+            )
+            .perNode("coverage", HugeLongArray::memoryEstimation)
+            .perNode("sample offsets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount + 1))
+            .perNode("sample cursors", HugeAtomicLongArray::memoryEstimation)
+            .add("coverage priority queue", HugeLongPriorityQueue.memoryEstimation())
+            .fixed("seeds", MemoryUsage.sizeOfLongArray(seedSetSize))
+            .fixed("gains", MemoryUsage.sizeOfLongArray(seedSetSize))
+            // the reverse reachable sets themselves depend on the graph structure and are not estimated
+            .perThread("visited", MemoryEstimations.builder(Sampler.class)
+                .perNode("visited", MemoryUsage::sizeOfBitset)
+                .build())
+            .build();
+    }
+
+    ReverseInfluenceSampling(
+        Graph graph,
+        int seedSetCount,
+        double propagationProbability,
+        double epsilon,
+        long initialRandomSeed,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        this.graph = graph;
+        this.nodeCount = graph.nodeCount();
+        this.seedSetCount = seedSetCount;
+        this.propagationProbability = propagationProbability;
+        this.epsilon = epsilon;
+        this.initialRandomSeed = initialRandomSeed;
+        this.concurrency = concurrency;
+        this.executorService = executorService;
+        this.progressTracker = progressTracker;
+        this.terminationFlag = terminationFlag;
+        this.samplers = new ArrayList<>(concurrency);
+    }
+
+    LongDoubleScatterMap compute() {
+        var seedSetNodes = new LongDoubleScatterMap(seedSetCount);
+        if (nodeCount == 0) {
+            return seedSetNodes;
+        }
+
+        progressTracker.beginSubTask();
+        if (!graph.schema().isUndirected()) {
+            buildInverseIndex();
+        }
+        for (int i = 0; i < concurrency; i++) {
+            samplers.add(new Sampler());
+        }
+        var requiredSampleCount = sampleCount();
+        clearSamples();
+        sample(requiredSampleCount);
+        progressTracker.endSubTask();
+
+        progressTracker.beginSubTask(seedSetCount);
+        var coverage = maximumCoverage(true);
+        for (int i = 0; i < seedSetCount; i++) {
+            seedSetNodes.put(coverage.seeds[i], (double) coverage.gains[i] * nodeCount / sampleCount);
+        }
+        progressTracker.endSubTask();
+
+        return seedSetNodes;
+    }
+
+    /**
+     * Estimates a lower bound of the optimal spread by statistical testing with a growing number of samples and
+     * derives the number of samples required for the approximation guarantee (Algorithm 2 of the IMM paper).
+     */
+    private long sampleCount() {
+        // the bounds are undefined for single node graphs
+        double n = Math.max(nodeCount, 2);
+        double logN = Math.log(n);
+        double log2N = logN / Math.log(2);
+        double logBinomial = logBinomial(nodeCount, seedSetCount);
+        // raises the success probability from 1 - 1/n^l to 1 - 1/n after the union bound over both phases
+        double l = 1 + Math.log(2) / logN;
+
+        double epsilonPrime = Math.sqrt(2) * epsilon;
+        double lambdaPrime = (2 + 2 * epsilonPrime / 3)
+                             * (logBinomial + l * logN + Math.log(log2N))
+                             * n / (epsilonPrime * epsilonPrime);
+
+        double lowerBound = 1;
+        for (int i = 1; i < log2N; i++) {
+            terminationFlag.assertRunning();
+
+            double x = n / Math.pow(2, i);
+            sample((long) Math.ceil(lambdaPrime / x));
+
+            double estimatedSpread = n * maximumCoverage(false).coveredSamples / sampleCount;
+            if (estimatedSpread >= (1 + epsilonPrime) * x) {
+                lowerBound = estimatedSpread / (1 + epsilonPrime);
+                break;
+            }
+        }
+
+        double alpha = Math.sqrt(l * logN + Math.log(2));
+        double beta = Math.sqrt((1 - 1 / Math.E) * (logBinomial + l * logN + Math.log(2)));
+        double lambdaStar = 2 * n * Math.pow((1 - 1 / Math.E) * alpha + beta, 2) / (epsilon * epsilon);
+
+        return (long) Math.ceil(lambdaStar / lowerBound);
+    }
+
+    /**
+     * Discards the current samples. Samples generated afterwards continue the sequence of sample indices.
+     */
+    private void clearSamples() {
+        sampleIndexOffset += sampleCount;
+        sampleCount = 0;
+        samplers.forEach(Sampler::clear);
+    }
+
+    /**
+     * Generates reverse reachable sets until there are {@code targetCount} many.
+     * The set with index {@code i} only depends on {@code i} and the random seed,
+     * so the samples do not depend on the concurrency.
+     */
+    private void sample(long targetCount) {
+        if (targetCount <= sampleCount) {
+            return;
+        }
+
+        var newSamples = targetCount - sampleCount;
+        var batchSize = (newSamples + concurrency - 1) / concurrency;
+        var tasks = new ArrayList<Runnable>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            var start = sampleCount + i * batchSize;
+            var end = Math.min(targetCount, start + batchSize);
+            if (start >= end) {
+                break;
+            }
+            var sampler = samplers.get(i);
+            tasks.add(() -> sampler.sample(start, end));
+        }
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(executorService)
+            .terminationFlag(terminationFlag)
+            .run();
+
+        sampleCount = targetCount;
+    }
+
+    /**
+     * Greedily selects the nodes that cover the most not yet covered samples.
+     * As coverage only ever decreases, stale priorities are refreshed lazily when they reach the top of the queue.
+     */
+    private Coverage maximumCoverage(boolean logProgress) {
+        var samplerOffsets = new long[samplers.size() + 1];
+        for (int i = 0; i < samplers.size(); i++) {
+            samplerOffsets[i + 1] = samplerOffsets[i] + samplers.get(i).setCount;
+        }
+
+        // inverted index from node to the samples containing it
+        var cursors = HugeAtomicLongArray.newArray(nodeCount);
+        runPerSampler((samplerId, sampler) -> {
+            for (long i = 0; i < sampler.memberCount; i++) {
+                cursors.getAndAdd(sampler.members.get(i), 1);
+            }
+        });
+
+        var coverage = HugeLongArray.newArray(nodeCount);
+        var sampleOffsets = HugeLongArray.newArray(nodeCount + 1);
+        long offset = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            var count = cursors.get(nodeId);
+            coverage.set(nodeId, count);
+            sampleOffsets.set(nodeId, offset);
+            cursors.set(nodeId, offset);
+            offset += count;
+        }
+        sampleOffsets.set(nodeCount, offset);
+
+        var sampleIds = HugeLongArray.newArray(offset);
+        runPerSampler((samplerId, sampler) -> {
+            long memberIndex = 0;
+            for (long localId = 0; localId < sampler.setCount; localId++) {
+                var sampleId = samplerOffsets[samplerId] + localId;
+                var end = sampler.ends.get(localId);
+                for (; memberIndex < end; memberIndex++) {
+                    sampleIds.set(cursors.getAndAdd(sampler.members.get(memberIndex), 1), sampleId);
+                }
+            }
+        });
+
+        var queue = new HugeLongPriorityQueue(nodeCount) {
+            @Override
+            protected boolean lessThan(long a, long b) {
+                return (Double.compare(costValues.get(a), costValues.get(b)) == 0) // when equal costs
+                    ? a < b                                                        // the smaller node ID is less
+                    : costValues.get(a) > costValues.get(b);                       // otherwise compare the costs
+            }
+        };
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            queue.add(nodeId, coverage.get(nodeId));
+        }
+
+        var result = new Coverage(seedSetCount);
+        var covered = new BitSet(sampleCount);
+        for (int i = 0; i < seedSetCount; i++) {
+            var nodeId = queue.top();
+            while (queue.cost(nodeId) != coverage.get(nodeId)) {
+                queue.set(nodeId, coverage.get(nodeId));
+                nodeId = queue.top();
+            }
+            queue.pop();
+
+            result.seeds[i] = nodeId;
+            result.gains[i] = coverage.get(nodeId);
+            result.coveredSamples += coverage.get(nodeId);
+
+            for (long j = sampleOffsets.get(nodeId); j < sampleOffsets.get(nodeId + 1); j++) {
+                var sampleId = sampleIds.get(j);
+                if (!covered.get(sampleId)) {
+                    covered.set(sampleId);
+                    decrementCoverage(samplerOffsets, sampleId, coverage);
+                }
+            }
+
+            if (logProgress) {
+                progressTracker.logProgress();
+            }
+        }
+
+        queue.release();
+        return result;
+    }
+
+    private void decrementCoverage(long[] samplerOffsets, long sampleId, HugeLongArray coverage) {
+        var samplerId = Arrays.binarySearch(samplerOffsets, sampleId);
+        if (samplerId < 0) {
+            samplerId = -samplerId - 2;
+        }
+        // skip samplers without samples, they share their offset with the next one
+        while (samplerOffsets[samplerId + 1] <= sampleId) {
+            samplerId++;
+        }
+
+        var sampler = samplers.get(samplerId);
+        var localId = sampleId - samplerOffsets[samplerId];
+        var start = localId == 0 ? 0 : sampler.ends.get(localId - 1);
+        var end = sampler.ends.get(localId);
+        for (long i = start; i < end; i++) {
+            coverage.addTo(sampler.members.get(i), -1);
+        }
+    }
+
+    private void runPerSampler(SamplerConsumer consumer) {
+        var tasks = new ArrayList<Runnable>(samplers.size());
+        for (int i = 0; i < samplers.size(); i++) {
+            var samplerId = i;
+            tasks.add(() -> consumer.accept(samplerId, samplers.get(samplerId)));
+        }
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(executorService)
+            .run();
+    }
+
+    /**
+     * Builds the incoming adjacency of a directed graph, with the sources of every node sorted
+     * so that the sampled sets do not depend on the order in which the lists were filled.
+     */
+    private void buildInverseIndex() {
+        var cursors = HugeAtomicLongArray.newArray(nodeCount);
+        runPerPartition((localGraph, nodeId) -> localGraph.forEachRelationship(nodeId, (source, target) -> {
+            cursors.getAndAdd(target, 1);
+            return true;
+        }));
+
+        var offsets = HugeLongArray.newArray(nodeCount + 1);
+        long offset = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            var inDegree = cursors.get(nodeId);
+            offsets.set(nodeId, offset);
+            cursors.set(nodeId, offset);
+            offset += inDegree;
+        }
+        offsets.set(nodeCount, offset);
+
+        var sources = HugeLongArray.newArray(offset);
+        runPerPartition((localGraph, nodeId) -> localGraph.forEachRelationship(nodeId, (source, target) -> {
+            sources.set(cursors.getAndAdd(target, 1), source);
+            return true;
+        }));
+
+        runPerPartition((localGraph, nodeId) -> {
+            var start = offsets.get(nodeId);
+            var inDegree = Math.toIntExact(offsets.get(nodeId + 1) - start);
+            if (inDegree > 1) {
+                var localSources = new long[inDegree];
+                for (int i = 0; i < inDegree; i++) {
+                    localSources[i] = sources.get(start + i);
+                }
+                Arrays.sort(localSources);
+                for (int i = 0; i < inDegree; i++) {
+                    sources.set(start + i, localSources[i]);
+                }
+            }
+        });
+
+        this.inverseOffsets = offsets;
+        this.inverseSources = sources;
+    }
+
+    private void runPerPartition(NodeConsumer consumer) {
+        var tasks = PartitionUtils.degreePartition(
+            graph,
+            concurrency,
+            partition -> {
+                var localGraph = graph.concurrentCopy();
+                return (Runnable) () -> partition.consume(nodeId -> consumer.accept(localGraph, nodeId));
+            },
+            Optional.empty()
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(executorService)
+            .terminationFlag(terminationFlag)
+            .run();
+    }
+
+    /**
+     * log(n choose k), summed up term by term as k is small compared to n.
+     */
+    static double logBinomial(long n, long k) {
+        double result = 0;
+        for (long i = 1; i <= k; i++) {
+            result += Math.log(n - k + i) - Math.log(i);
+        }
+        return result;
+    }
+
+    /**
+     * Generates reverse reachable sets into paged lists, one sampler per thread.
+     * The members of all sets are concatenated and {@code ends} holds the exclusive end of every set.
+     */
+    private final class Sampler implements RelationshipConsumer {
+
+        private final Graph localGraph;
+        private final BitSet visited;
+        private HugeSparseLongList members;
+        private HugeSparseLongList ends;
+        private long memberCount;
+        private long setCount;
+        private SplittableRandom random;
+
+        Sampler() {
+            this.localGraph = graph.concurrentCopy();
+            this.visited = new BitSet(nodeCount);
+            clear();
+        }
+
+        void clear() {
+            this.members = HugeSparseLongList.of(0);
+            this.ends = HugeSparseLongList.of(0);
+            this.memberCount = 0;
+            this.setCount = 0;
+        }
+
+        void sample(long startIndex, long endIndex) {
+            for (long index = startIndex; index < endIndex; index++) {
+                random = new SplittableRandom(initialRandomSeed + sampleIndexOffset + index);
+
+                var setStart = memberCount;
+                var root = random.nextLong(nodeCount);
+                visited.set(root);
+                members.set(memberCount++, root);
+
+                // the members of the set double as the queue of the reverse breadth first search
+                for (long head = setStart; head < memberCount; head++) {
+                    var nodeId = members.get(head);
+                    if (inverseOffsets == null) {
+                        localGraph.forEachRelationship(nodeId, this);
+                    } else {
+                        var end = inverseOffsets.get(nodeId + 1);
+                        for (long i = inverseOffsets.get(nodeId); i < end; i++) {
+                            visit(inverseSources.get(i));
+                        }
+                    }
+                }
+
+                for (long i = setStart; i < memberCount; i++) {
+                    visited.clear(members.get(i));
+                }
+                ends.set(setCount++, memberCount);
+            }
+
+            progressTracker.logProgress(endIndex - startIndex);
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId) {
+            visit(targetNodeId);
+            return true;
+        }
+
+        private void visit(long nodeId) {
+            if (!visited.get(nodeId) && random.nextDouble() < propagationProbability) {
+                visited.set(nodeId);
+                members.set(memberCount++, nodeId);
+            }
+        }
+    }
+
+    private static final class Coverage {
+        private final long[] seeds;
+        private final long[] gains;
+        private long coveredSamples;
+
+        Coverage(int seedSetCount) {
+            this.seeds = new long[seedSetCount];
+            this.gains = new long[seedSetCount];
+        }
+    }
+
+    @FunctionalInterface
+    private interface SamplerConsumer {
+        void accept(int samplerId, Sampler sampler);
+    }
+
+    @FunctionalInterface
+    private interface NodeConsumer {
+        void accept(Graph localGraph, long nodeId);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.influenceMaximization;
+
+import org.neo4j.gds.utils.StringFormatting;
+
+import java.util.Arrays;
+
+public enum SpreadEstimation {
+    /**
+     * Evaluates the marginal gain of every candidate with Monte-Carlo simulations of the Independent Cascade model.
+     */
+    MONTE_CARLO,
+    /**
+     * Samples reverse reachable sets and selects the seed set by greedy maximum coverage (IMM).
+     */
+    REVERSE_INFLUENCE_SAMPLING;
+
+    public static SpreadEstimation parse(Object input) {
+        if (input instanceof SpreadEstimation) {
+            return (SpreadEstimation) input;
+        }
+        if (input instanceof String) {
+            var inputString = StringFormatting.toUpperCaseWithLocale((String) input);
+            for (var value : values()) {
+                if (value.name().equals(inputString)) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException(StringFormatting.formatWithLocale(
+                "Spread estimation `%s` is not supported. Must be one of: %s.",
+                input,
+                Arrays.toString(values())
+            ));
+        }
+
+        throw new IllegalArgumentException(StringFormatting.formatWithLocale(
+            "Expected SpreadEstimation or String. Got %s.",
+            input.getClass().getSimpleName()
+        ));
+    }
+
+    public static String toString(SpreadEstimation spreadEstimation) {
+        return spreadEstimation.name();
+    }
+}
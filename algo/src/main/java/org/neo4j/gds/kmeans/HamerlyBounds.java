@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.kmeans;
+
+import org.neo4j.gds.core.utils.Intersections;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.Arrays;
+
+/**
+ * Per-node distance bounds for Hamerly's variant of Lloyd's algorithm.
+ *
+ * Every node keeps an upper bound on the distance to its own centroid and a lower bound on the
+ * distance to every other centroid. After the centroids moved, the bounds are loosened by the
+ * centroid shifts. A node keeps its community without computing any distance if the upper bound
+ * is smaller than the lower bound or than half the distance from its centroid to the closest other
+ * centroid; otherwise the upper bound is tightened and, only if that does not suffice, the node is
+ * compared against all centroids.
+ *
+ * The checks are strict and padded by a small relative tolerance, so a node is only skipped if its
+ * centroid is closer than all others and the assignment is the same as without bounds.
+ */
+final class HamerlyBounds {
+
+    // absorbs rounding errors of the (float) distance computations when comparing bounds
+    private static final double TOLERANCE = 1E-6;
+
+    private final int k;
+    private final int dimensions;
+    private final HugeDoubleArray upperBounds;
+    private final HugeDoubleArray lowerBounds;
+
+    private final double[][] previousCentroids;
+    private final double[] centroidShifts;
+    // half the distance from a centroid to its closest other centroid
+    private final double[] halfDistanceToClosestCentroid;
+
+    private int maxShiftCentroid;
+    private double maxShift;
+    private double secondMaxShift;
+
+    static MemoryEstimation memoryEstimation(int k, int fakeDimensions) {
+        return MemoryEstimations.builder(HamerlyBounds.class)
+            .perNode("upperBounds", HugeDoubleArray::memoryEstimation)
+            .perNode("lowerBounds", HugeDoubleArray::memoryEstimation)
+            .fixed("previousCentroids", MemoryUsage.sizeOfArray(k, MemoryUsage.sizeOfDoubleArray(fakeDimensions)))
+            .fixed("centroidShifts", MemoryUsage.sizeOfDoubleArray(k))
+            .fixed("halfDistanceToClosestCentroid", MemoryUsage.sizeOfDoubleArray(k))
+            .build();
+    }
+
+    HamerlyBounds(long nodeCount, int k, int dimensions) {
+        this.k = k;
+        this.dimensions = dimensions;
+        this.upperBounds = HugeDoubleArray.newArray(nodeCount);
+        this.lowerBounds = HugeDoubleArray.newArray(nodeCount);
+        this.previousCentroids = new double[k][dimensions];
+        this.centroidShifts = new double[k];
+        this.halfDistanceToClosestCentroid = new double[k];
+    }
+
+    /**
+     * Invalidates the bounds of all nodes, e.g. before a restart.
+     */
+    void reset() {
+        upperBounds.fill(Double.POSITIVE_INFINITY);
+        lowerBounds.fill(0D);
+        Arrays.fill(centroidShifts, 0D);
+        Arrays.fill(halfDistanceToClosestCentroid, 0D);
+        maxShiftCentroid = -1;
+        maxShift = 0D;
+        secondMaxShift = 0D;
+    }
+
+    /**
+     * Remembers the current centroids. Must be called before the centroids are recomputed.
+     */
+    void rememberCentroids(ClusterManager clusterManager) {
+        var centroids = clusterManager.getCentroids();
+        for (int centroid = 0; centroid < k; centroid++) {
+            System.arraycopy(centroids[centroid], 0, previousCentroids[centroid], 0, dimensions);
+        }
+    }
+
+    /**
+     * Computes how far every centroid moved since {@link #rememberCentroids(ClusterManager)}
+     * and how far the centroids are apart from each other.
+     */
+    void updateCentroids(ClusterManager clusterManager) {
+        var centroids = clusterManager.getCentroids();
+
+        maxShiftCentroid = -1;
+        maxShift = 0D;
+        secondMaxShift = 0D;
+        for (int centroid = 0; centroid < k; centroid++) {
+            var shift = distance(previousCentroids[centroid], centroids[centroid]);
+            centroidShifts[centroid] = shift;
+            if (shift > maxShift) {
+                secondMaxShift = maxShift;
+                maxShift = shift;
+                maxShiftCentroid = centroid;
+            } else if (shift > secondMaxShift) {
+                secondMaxShift = shift;
+            }
+        }
+
+        Arrays.fill(halfDistanceToClosestCentroid, Double.POSITIVE_INFINITY);
+        for (int centroid = 0; centroid < k; centroid++) {
+            for (int other = centroid + 1; other < k; other++) {
+                var halfDistance = distance(centroids[centroid], centroids[other]) / 2;
+                halfDistanceToClosestCentroid[centroid] = Math.min(halfDistanceToClosestCentroid[centroid], halfDistance);
+                halfDistanceToClosestCentroid[other] = Math.min(halfDistanceToClosestCentroid[other], halfDistance);
+            }
+        }
+    }
+
+    /**
+     * Finds the closest centroid of the given node, skipping distance computations where the bounds allow.
+     *
+     * @param community the community of the node after the previous assignment or a negative value if there is none
+     */
+    int findClosestCentroid(ClusterManager clusterManager, long nodeId, int community) {
+        if (community >= 0) {
+            var upper = upperBounds.get(nodeId) + centroidShifts[community];
+            var lower = lowerBounds.get(nodeId) - (community == maxShiftCentroid ? secondMaxShift : maxShift);
+            var bound = Math.max(halfDistanceToClosestCentroid[community], lower);
+
+            if (isBelow(upper, bound)) {
+                upperBounds.set(nodeId, upper);
+                lowerBounds.set(nodeId, lower);
+                return community;
+            }
+
+            upper = clusterManager.euclidean(nodeId, community);
+            if (isBelow(upper, bound)) {
+                upperBounds.set(nodeId, upper);
+                lowerBounds.set(nodeId, lower);
+                return community;
+            }
+        }
+
+        // same tie-breaking as ClusterManager#findClosestCentroid
+        int closestCommunity = 0;
+        double smallestDistance = Double.MAX_VALUE;
+        double secondSmallestDistance = Double.MAX_VALUE;
+        for (int centroidId = 0; centroidId < k; ++centroidId) {
+            double distance = clusterManager.euclidean(nodeId, centroidId);
+            if (Double.compare(distance, smallestDistance) < 0) {
+                secondSmallestDistance = smallestDistance;
+                smallestDistance = distance;
+                closestCommunity = centroidId;
+            } else if (distance < secondSmallestDistance) {
+                secondSmallestDistance = distance;
+            }
+        }
+
+        upperBounds.set(nodeId, smallestDistance);
+        lowerBounds.set(nodeId, secondSmallestDistance);
+        return closestCommunity;
+    }
+
+    private static boolean isBelow(double upper, double bound) {
+        return upper < bound * (1 - TOLERANCE);
+    }
+
+    private static double distance(double[] left, double[] right) {
+        return Math.sqrt(Intersections.sumSquareDelta(left, right, left.length));
+    }
+}
@@ -20,6 +20,7 @@
 package org.neo4j.gds.kmeans;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.nodeproperties.ValueType;
@@ -69,6 +70,11 @@ public class Kmeans extends Algorithm<KmeansResult> {
 
     private final List<List<Double>> seededCentroids;
 
+    private final @Nullable HamerlyBounds bounds;
+
+    private final Optional<Long> silhouetteSampleSize;
+
+    private final boolean simplifiedSilhouette;
 
     public static Kmeans createKmeans(Graph graph, KmeansBaseConfig config, KmeansContext context) {
         String nodeWeightProperty = config.nodeProperty();
@@ -84,8 +90,11 @@ public class Kmeans extends Algorithm<KmeansResult> {
             config.deltaThreshold(),
             nodeProperties,
             config.computeSilhouette(),
+            config.silhouetteSampleSize(),
+            config.simplifiedSilhouette(),
             config.initialSampler(),
             config.seedCentroids(),
+            config.boundedAssignment(),
             getSplittableRandom(config.randomSeed())
         );
     }
@@ -102,8 +111,11 @@ public class Kmeans extends Algorithm<KmeansResult> {
         double deltaThreshold,
         NodePropertyValues nodePropertyValues,
         boolean computeSilhouette,
+        Optional<Long> silhouetteSampleSize,
+        boolean simplifiedSilhouette,
         KmeansSampler.SamplerType initialSampler,
         List<List<Double>> seededCentroids,
+        boolean boundedAssignment,
         SplittableRandom random
     ) {
         super(progressTracker);
@@ -123,9 +135,12 @@ public class Kmeans extends Algorithm<KmeansResult> {
         this.maximumNumberOfRestarts = maximumNumberOfRestarts;
         this.distanceFromCentroid = HugeDoubleArray.newArray(graph.nodeCount());
         this.computeSilhouette = computeSilhouette;
+        this.silhouetteSampleSize = silhouetteSampleSize;
+        this.simplifiedSilhouette = simplifiedSilhouette;
         this.samplerType = initialSampler;
         this.seededCentroids = seededCentroids;
         this.nodesInCluster = new long[k];
+        this.bounds = boundedAssignment ? new HamerlyBounds(graph.nodeCount(), k, dimensions) : null;
     }
 
     @Override
@@ -193,6 +208,9 @@ public class Kmeans extends Algorithm<KmeansResult> {
         ClusterManager clusterManager = ClusterManager.createClusterManager(nodePropertyValues, dimensions, k);
 
         currentCommunities.setAll(v -> UNASSIGNED);
+        if (bounds != null) {
+            bounds.reset();
+        }
 
         var tasks = PartitionUtils.rangePartition(
             concurrency,
@@ -205,7 +223,8 @@ public class Kmeans extends Algorithm<KmeansResult> {
                 currentDistanceFromCentroid,
                 k,
                 dimensions,
-                partition
+                partition,
+                bounds
             ),
             Optional.of((int) nodeCount / concurrency)
         );
@@ -280,12 +299,20 @@ public class Kmeans extends Algorithm<KmeansResult> {
     }
 
     private void recomputeCentroids(ClusterManager clusterManager, List<KmeansTask> tasks) {
+        if (bounds != null) {
+            bounds.rememberCentroids(clusterManager);
+        }
+
         clusterManager.reset();
 
         for (KmeansTask task : tasks) {
             clusterManager.updateFromTask(task);
         }
         clusterManager.normalizeClusters();
+
+        if (bounds != null) {
+            bounds.updateCentroids(clusterManager);
+        }
     }
 
     @Override
@@ -349,6 +376,11 @@ public class Kmeans extends Algorithm<KmeansResult> {
         var nodeCount = graph.nodeCount();
         progressTracker.beginSubTask();
         this.silhouette = HugeDoubleArray.newArray(nodeCount);
+        var centroids = simplifiedSilhouette ? bestCentroids : null;
+        var referenceNodes = silhouetteSampleSize
+            .filter(sampleSize -> sampleSize < nodeCount)
+            .map(this::sampleSilhouetteReferenceNodes)
+            .orElse(null);
         var tasks = PartitionUtils.rangePartition(
             concurrency,
             nodeCount,
@@ -360,7 +392,9 @@ public class Kmeans extends Algorithm<KmeansResult> {
                 dimensions,
                 nodesInCluster,
                 partition,
-                progressTracker
+                progressTracker,
+                referenceNodes,
+                centroids
             ),
             Optional.of((int) nodeCount / concurrency)
         );
@@ -377,6 +411,38 @@ public class Kmeans extends Algorithm<KmeansResult> {
 
     }
 
+    /**
+     * Samples nodes of every cluster proportionally to the cluster size, using reservoir sampling.
+     * Every cluster with at least two nodes gets at least two samples, so every node has a sample to compare to
+     * in its own cluster.
+     */
+    private long[][] sampleSilhouetteReferenceNodes(long sampleSize) {
+        var nodeCount = graph.nodeCount();
+        var referenceNodes = new long[k][];
+        for (int cluster = 0; cluster < k; cluster++) {
+            var proportionalSampleSize = Math.round((double) sampleSize * nodesInCluster[cluster] / nodeCount);
+            var clusterSampleSize = Math.min(nodesInCluster[cluster], Math.max(2, proportionalSampleSize));
+            referenceNodes[cluster] = new long[(int) clusterSampleSize];
+        }
+
+        var seenPerCluster = new long[k];
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            var cluster = bestCommunities.get(nodeId);
+            var samples = referenceNodes[cluster];
+            var seen = seenPerCluster[cluster]++;
+            if (seen < samples.length) {
+                samples[(int) seen] = nodeId;
+            } else {
+                var replacement = random.nextLong(seen + 1);
+                if (replacement < samples.length) {
+                    samples[(int) replacement] = nodeId;
+                }
+            }
+        }
+
+        return referenceNodes;
+    }
+
     private double calculatedistancePhase(List<KmeansTask> tasks) {
         for (KmeansTask task : tasks) {
             task.switchToPhase(TaskPhase.DISTANCE);
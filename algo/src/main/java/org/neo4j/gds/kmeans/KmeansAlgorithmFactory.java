@@ -116,6 +116,16 @@ public final class KmeansAlgorithmFactory<CONFIG extends KmeansBaseConfig> exten
 
         if(configuration.computeSilhouette()) {
             builder.perNode("silhouette", HugeDoubleArray::memoryEstimation);
+            configuration.silhouetteSampleSize().ifPresent(sampleSize -> builder.fixed(
+                "silhouetteReferenceNodes",
+                // every cluster gets at least two reference nodes
+                MemoryUsage.sizeOfLongArray(sampleSize + 2L * configuration.k())
+                + MemoryUsage.sizeOfObjectArray(configuration.k())
+            ));
+        }
+
+        if (configuration.boundedAssignment()) {
+            builder.add(HamerlyBounds.memoryEstimation(configuration.k(), fakeLength));
         }
 
         if(configuration.isSeeded()) {
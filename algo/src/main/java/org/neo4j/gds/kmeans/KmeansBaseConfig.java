@@ -33,6 +33,7 @@ import org.neo4j.gds.utils.StringFormatting;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface KmeansBaseConfig extends AlgoBaseConfig, IterationsConfig, RandomSeedConfig {
 
@@ -66,6 +67,52 @@ public interface KmeansBaseConfig extends AlgoBaseConfig, IterationsConfig, Rand
         return false;
     }
 
+    /**
+     * Number of nodes to compare every node against when computing the silhouette.
+     * The nodes are sampled from every cluster proportionally to its size.
+     * If absent, every node is compared against all other nodes.
+     */
+    Optional<Long> silhouetteSampleSize();
+
+    /**
+     * Compute the silhouette from the distances to the centroids instead of the distances to the other nodes.
+     */
+    @Value.Default
+    default boolean simplifiedSilhouette() {
+        return false;
+    }
+
+    @Value.Check
+    default void validateSilhouette() {
+        silhouetteSampleSize().ifPresent(sampleSize -> {
+            if (sampleSize < 1) {
+                throw new IllegalArgumentException(StringFormatting.formatWithLocale(
+                    "Configuration parameter 'silhouetteSampleSize' must be a positive number, got %d.",
+                    sampleSize
+                ));
+            }
+            if (simplifiedSilhouette()) {
+                throw new IllegalArgumentException(
+                    "Configuration parameters 'silhouetteSampleSize' and 'simplifiedSilhouette' cannot be combined."
+                );
+            }
+        });
+        if (!computeSilhouette() && (silhouetteSampleSize().isPresent() || simplifiedSilhouette())) {
+            throw new IllegalArgumentException(
+                "Configuration parameters 'silhouetteSampleSize' and 'simplifiedSilhouette' require 'computeSilhouette' to be true."
+            );
+        }
+    }
+
+    /**
+     * Keep distance bounds per node to skip most of the node-to-centroid distance computations.
+     * Produces the same clusters at the cost of two additional doubles per node.
+     */
+    @Value.Default
+    default boolean boundedAssignment() {
+        return false;
+    }
+
     String nodeProperty();
 
     @Configuration.GraphStoreValidationCheck
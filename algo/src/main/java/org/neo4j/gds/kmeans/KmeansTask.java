@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.kmeans;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
@@ -35,6 +36,7 @@ public abstract class KmeansTask implements Runnable {
     final NodePropertyValues nodePropertyValues;
 
     private final HugeDoubleArray distanceFromCentroid;
+    private final @Nullable HamerlyBounds bounds;
 
     final HugeIntArray communities;
     final long[] communitySizes;
@@ -79,9 +81,11 @@ public abstract class KmeansTask implements Runnable {
         HugeDoubleArray distanceFromCentroid,
         int k,
         int dimensions,
-        Partition partition
+        Partition partition,
+        @Nullable HamerlyBounds bounds
     ) {
         this.clusterManager = clusterManager;
+        this.bounds = bounds;
         this.nodePropertyValues = nodePropertyValues;
         this.communities = communities;
         this.distanceFromCentroid = distanceFromCentroid;
@@ -106,6 +110,30 @@ public abstract class KmeansTask implements Runnable {
         int k,
         int dimensions,
         Partition partition
+    ) {
+        return createTask(
+            samplerType,
+            clusterManager,
+            nodePropertyValues,
+            communities,
+            distanceFromCentroid,
+            k,
+            dimensions,
+            partition,
+            null
+        );
+    }
+
+    static KmeansTask createTask(
+        KmeansSampler.SamplerType samplerType,
+        ClusterManager clusterManager,
+        NodePropertyValues nodePropertyValues,
+        HugeIntArray communities,
+        HugeDoubleArray distanceFromCentroid,
+        int k,
+        int dimensions,
+        Partition partition,
+        @Nullable HamerlyBounds bounds
     ) {
         if (clusterManager instanceof DoubleClusterManager) {
             return new DoubleKmeansTask(
@@ -116,7 +144,8 @@ public abstract class KmeansTask implements Runnable {
                 distanceFromCentroid,
                 k,
                 dimensions,
-                partition
+                partition,
+                bounds
             );
         }
         return new FloatKmeansTask(
@@ -127,7 +156,8 @@ public abstract class KmeansTask implements Runnable {
             distanceFromCentroid,
             k,
             dimensions,
-            partition
+            partition,
+            bounds
         );
     }
 
@@ -141,9 +171,11 @@ public abstract class KmeansTask implements Runnable {
         reset();
 
         for (long nodeId = startNode; nodeId < endNode; nodeId++) {
-            int closestCommunity = clusterManager.findClosestCentroid(nodeId);
-            communitySizes[closestCommunity]++;
             int previousCommunity = communities.get(nodeId);
+            int closestCommunity = bounds == null
+                ? clusterManager.findClosestCentroid(nodeId)
+                : bounds.findClosestCentroid(clusterManager, nodeId, previousCommunity);
+            communitySizes[closestCommunity]++;
             if (closestCommunity != previousCommunity) {
                 swaps++;
             }
@@ -21,13 +21,14 @@ package org.neo4j.gds.kmeans;
 
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.config.PipelinedNodePropertyWriteConfig;
 import org.neo4j.gds.config.WritePropertyConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface KmeansWriteConfig extends KmeansBaseConfig, WritePropertyConfig {
+public interface KmeansWriteConfig extends KmeansBaseConfig, WritePropertyConfig, PipelinedNodePropertyWriteConfig {
 
     static KmeansWriteConfig of(CypherMapWrapper userInput) {
         return new KmeansWriteConfigImpl(userInput);
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.kmeans;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.core.utils.Intersections;
@@ -44,8 +45,15 @@ public abstract class SilhouetteTask implements Runnable {
     double averageSilhouette;
     final NodePropertyValues nodePropertyValues;
 
+    // sampled nodes of every cluster to compare against, or null to compare against all nodes
+    private final @Nullable long[][] referenceNodes;
+    // centroids to compare against for the simplified silhouette, or null
+    private final @Nullable double[][] centroids;
+
     abstract double distance(long nodeA, long nodeB);
 
+    abstract double distance(long nodeId, double[] centroid);
+
 
     SilhouetteTask(
         NodePropertyValues nodePropertyValues,
@@ -55,9 +63,13 @@ public abstract class SilhouetteTask implements Runnable {
         int dimensions,
         long[] nodesInCluster,
         Partition partition,
-        ProgressTracker progressTracker
+        ProgressTracker progressTracker,
+        @Nullable long[][] referenceNodes,
+        @Nullable double[][] centroids
     ) {
         this.nodePropertyValues = nodePropertyValues;
+        this.referenceNodes = referenceNodes;
+        this.centroids = centroids;
         this.communities = communities;
         this.k = k;
         this.dimensions = dimensions;
@@ -72,7 +84,6 @@ public abstract class SilhouetteTask implements Runnable {
 
     @Override
     public void run() {
-        long nodeCount = communities.size();
         var startNode = partition.startNode();
         var endNode = startNode + partition.nodeCount();
         for (long nodeId = startNode; nodeId < endNode; ++nodeId) {
@@ -80,27 +91,14 @@ public abstract class SilhouetteTask implements Runnable {
             if (nodesInCluster[clusterId] == 1) {
                 silhouette.set(nodeId, 0);
             } else {
-                for (int cluster = 0; cluster < k; ++cluster) {
-                    clusterDistance[cluster] = 0;
+                double nodeSilhouette;
+                if (centroids != null) {
+                    nodeSilhouette = simplifiedSilhouette(nodeId, clusterId);
+                } else if (referenceNodes != null) {
+                    nodeSilhouette = sampledSilhouette(nodeId, clusterId);
+                } else {
+                    nodeSilhouette = exactSilhouette(nodeId, clusterId);
                 }
-                for (long oNodeId = 0; oNodeId < nodeCount; ++oNodeId) {
-                    if (oNodeId == nodeId) {
-                        continue;
-                    }
-                    double euclidean = distance(nodeId, oNodeId);
-                    int oClusterId = communities.get(oNodeId);
-                    clusterDistance[oClusterId] += euclidean;
-                }
-                double bi = Double.MAX_VALUE;
-                for (int cluster = 0; cluster < k; ++cluster) {
-                    if (clusterId == cluster) continue;
-                    bi = Math.min(
-                        bi,
-                        clusterDistance[cluster] / ((double) nodesInCluster[cluster])
-                    );
-                }
-                double ai = clusterDistance[clusterId] / ((double) (nodesInCluster[clusterId] - 1));
-                double nodeSilhouette = (bi - ai) / Math.max(ai, bi);
                 silhouette.set(nodeId, nodeSilhouette);
                 averageSilhouette += nodeSilhouette;
                 progressTracker.logProgress();
@@ -108,6 +106,81 @@ public abstract class SilhouetteTask implements Runnable {
         }
     }
 
+    private double exactSilhouette(long nodeId, int clusterId) {
+        long nodeCount = communities.size();
+        for (int cluster = 0; cluster < k; ++cluster) {
+            clusterDistance[cluster] = 0;
+        }
+        for (long oNodeId = 0; oNodeId < nodeCount; ++oNodeId) {
+            if (oNodeId == nodeId) {
+                continue;
+            }
+            double euclidean = distance(nodeId, oNodeId);
+            int oClusterId = communities.get(oNodeId);
+            clusterDistance[oClusterId] += euclidean;
+        }
+        double bi = Double.MAX_VALUE;
+        for (int cluster = 0; cluster < k; ++cluster) {
+            if (clusterId == cluster) continue;
+            bi = Math.min(
+                bi,
+                clusterDistance[cluster] / ((double) nodesInCluster[cluster])
+            );
+        }
+        double ai = clusterDistance[clusterId] / ((double) (nodesInCluster[clusterId] - 1));
+        return (bi - ai) / Math.max(ai, bi);
+    }
+
+    /**
+     * Like the exact silhouette, but the average distances to the clusters are estimated from a sample of each cluster.
+     */
+    private double sampledSilhouette(long nodeId, int clusterId) {
+        double bi = Double.MAX_VALUE;
+        double ai = 0;
+        for (int cluster = 0; cluster < k; ++cluster) {
+            var samples = referenceNodes[cluster];
+            double distanceSum = 0;
+            int sampleCount = 0;
+            for (long oNodeId : samples) {
+                if (oNodeId == nodeId) {
+                    continue;
+                }
+                distanceSum += distance(nodeId, oNodeId);
+                sampleCount++;
+            }
+            if (sampleCount == 0) {
+                continue;
+            }
+            if (cluster == clusterId) {
+                ai = distanceSum / sampleCount;
+            } else {
+                bi = Math.min(bi, distanceSum / sampleCount);
+            }
+        }
+        return (bi - ai) / Math.max(ai, bi);
+    }
+
+    /**
+     * Replaces the average distances to the clusters by the distances to their centroids.
+     */
+    private double simplifiedSilhouette(long nodeId, int clusterId) {
+        double bi = Double.MAX_VALUE;
+        double ai = 0;
+        for (int cluster = 0; cluster < k; ++cluster) {
+            if (nodesInCluster[cluster] == 0) {
+                continue;
+            }
+            var centroidDistance = distance(nodeId, centroids[cluster]);
+            if (cluster == clusterId) {
+                ai = centroidDistance;
+            } else {
+                bi = Math.min(bi, centroidDistance);
+            }
+        }
+        var maxDistance = Math.max(ai, bi);
+        return maxDistance == 0 ? 0 : (bi - ai) / maxDistance;
+    }
+
     public double getAverageSilhouette() {return averageSilhouette / (double) (communities.size());}
 
     public static SilhouetteTask createTask(
@@ -119,6 +192,36 @@ public abstract class SilhouetteTask implements Runnable {
         long[] nodesInCluster,
         Partition partition,
         ProgressTracker progressTracker
+    ) {
+        return createTask(
+            nodePropertyValues,
+            communities,
+            silhouette,
+            k,
+            dimensions,
+            nodesInCluster,
+            partition,
+            progressTracker,
+            null,
+            null
+        );
+    }
+
+    /**
+     * @param referenceNodes if not null, estimate the average distance to each cluster from these sampled nodes
+     * @param centroids      if not null, compute the simplified silhouette based on the distances to these centroids
+     */
+    public static SilhouetteTask createTask(
+        NodePropertyValues nodePropertyValues,
+        HugeIntArray communities,
+        HugeDoubleArray silhouette,
+        int k,
+        int dimensions,
+        long[] nodesInCluster,
+        Partition partition,
+        ProgressTracker progressTracker,
+        @Nullable long[][] referenceNodes,
+        @Nullable double[][] centroids
     ) {
         if (nodePropertyValues.valueType() == ValueType.FLOAT_ARRAY) {
             return new FloatSilhouetteTask(
@@ -129,7 +232,9 @@ public abstract class SilhouetteTask implements Runnable {
                 dimensions,
                 nodesInCluster,
                 partition,
-                progressTracker
+                progressTracker,
+                referenceNodes,
+                centroids
             );
         }
         return new DoubleSilhouetteTask(
@@ -140,7 +245,9 @@ public abstract class SilhouetteTask implements Runnable {
             dimensions,
             nodesInCluster,
             partition,
-            progressTracker
+            progressTracker,
+            referenceNodes,
+            centroids
         );
 
     }
@@ -156,7 +263,9 @@ class DoubleSilhouetteTask extends SilhouetteTask {
         int dimensions,
         long[] nodesInCluster,
         Partition partition,
-        ProgressTracker progressTracker
+        ProgressTracker progressTracker,
+        @Nullable long[][] referenceNodes,
+        @Nullable double[][] centroids
     ) {
         super(
             nodePropertyValues,
@@ -166,7 +275,9 @@ class DoubleSilhouetteTask extends SilhouetteTask {
             dimensions,
             nodesInCluster,
             partition,
-            progressTracker
+            progressTracker,
+            referenceNodes,
+            centroids
         );
     }
 
@@ -177,6 +288,12 @@ class DoubleSilhouetteTask extends SilhouetteTask {
         double[] right = nodePropertyValues.doubleArrayValue(nodeB);
         return Math.sqrt(Intersections.sumSquareDelta(left, right, right.length));
     }
+
+    @Override
+    double distance(long nodeId, double[] centroid) {
+        double[] left = nodePropertyValues.doubleArrayValue(nodeId);
+        return Math.sqrt(Intersections.sumSquareDelta(left, centroid, centroid.length));
+    }
 }
 
 class FloatSilhouetteTask extends SilhouetteTask {
@@ -189,7 +306,9 @@ class FloatSilhouetteTask extends SilhouetteTask {
         int dimensions,
         long[] nodesInCluster,
         Partition partition,
-        ProgressTracker progressTracker
+        ProgressTracker progressTracker,
+        @Nullable long[][] referenceNodes,
+        @Nullable double[][] centroids
     ) {
         super(
             nodePropertyValues,
@@ -199,7 +318,9 @@ class FloatSilhouetteTask extends SilhouetteTask {
             dimensions,
             nodesInCluster,
             partition,
-            progressTracker
+            progressTracker,
+            referenceNodes,
+            centroids
         );
     }
 
@@ -210,6 +331,17 @@ class FloatSilhouetteTask extends SilhouetteTask {
         return Math.sqrt(Intersections.sumSquareDelta(left, right, right.length));
 
     }
+
+    @Override
+    double distance(long nodeId, double[] centroid) {
+        float[] left = nodePropertyValues.floatArrayValue(nodeId);
+        double sum = 0;
+        for (int dimension = 0; dimension < centroid.length; dimension++) {
+            double delta = left[dimension] - centroid[dimension];
+            sum += delta * delta;
+        }
+        return Math.sqrt(sum);
+    }
 }
 
 
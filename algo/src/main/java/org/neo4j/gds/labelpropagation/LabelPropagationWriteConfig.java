@@ -22,13 +22,14 @@ package org.neo4j.gds.labelpropagation;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.config.CommunitySizeConfig;
+import org.neo4j.gds.config.PipelinedNodePropertyWriteConfig;
 import org.neo4j.gds.config.WritePropertyConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface LabelPropagationWriteConfig extends LabelPropagationBaseConfig, WritePropertyConfig, CommunitySizeConfig {
+public interface LabelPropagationWriteConfig extends LabelPropagationBaseConfig, WritePropertyConfig, PipelinedNodePropertyWriteConfig, CommunitySizeConfig {
 
     static LabelPropagationWriteConfig of(CypherMapWrapper userInput) {
         return new LabelPropagationWriteConfigImpl(userInput);
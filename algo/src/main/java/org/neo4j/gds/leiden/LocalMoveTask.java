@@ -27,6 +27,7 @@ import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArrayQueue;
+import org.neo4j.gds.core.utils.paged.SparseDoubleAccumulator;
 
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -43,8 +44,7 @@ public class LocalMoveTask implements Runnable {
     private static final long LOCAL_QUEUE_BOUND = 1000;
     private final Graph graph;
     private final AtomicLong globalQueueIndex;
-    private final HugeLongArray encounteredCommunities;
-    private final HugeDoubleArray encounteredCommunitiesWeights;
+    private final SparseDoubleAccumulator communityRelationshipWeights;
     private final HugeDoubleArray nodeVolumes;
 
     private final HugeLongArray globalQueue;
@@ -53,7 +53,6 @@ public class LocalMoveTask implements Runnable {
     private final HugeLongArrayQueue localQueue;
     private final HugeLongArray currentCommunities;
     private final HugeAtomicDoubleArray communityVolumes;
-    private long encounteredCommunityCounter = 0;
 
     private LocalMoveTaskPhase phase;
 
@@ -76,9 +75,7 @@ public class LocalMoveTask implements Runnable {
         this.globalQueue = globalQueue;
         this.globalQueueIndex = globalQueueIndex;
         this.globalQueueSize = globalQueueSize;
-        this.encounteredCommunities = HugeLongArray.newArray(graph.nodeCount());
-        this.encounteredCommunitiesWeights = HugeDoubleArray.newArray(graph.nodeCount());
-        encounteredCommunitiesWeights.setAll(c -> -1L);
+        this.communityRelationshipWeights = SparseDoubleAccumulator.newAccumulator();
 
         this.nodeVolumes = nodeVolumes;
         this.communityVolumes = communityVolumes;
@@ -136,17 +133,8 @@ public class LocalMoveTask implements Runnable {
     }
 
     private void findCommunityRelationshipWeights(long nodeId) {
-        encounteredCommunityCounter = 0;
         graph.forEachRelationship(nodeId, 1.0, (s, t, relationshipWeight) -> {
-            long tCommunity = currentCommunities.get(t);
-            if (encounteredCommunitiesWeights.get(tCommunity) < 0) {
-                encounteredCommunities.set(encounteredCommunityCounter, tCommunity);
-                encounteredCommunityCounter++;
-                encounteredCommunitiesWeights.set(tCommunity, relationshipWeight);
-            } else {
-                encounteredCommunitiesWeights.addTo(tCommunity, relationshipWeight);
-            }
-
+            communityRelationshipWeights.add(currentCommunities.get(t), relationshipWeight);
             return true;
         });
     }
@@ -194,11 +182,10 @@ public class LocalMoveTask implements Runnable {
         long communityId
     ) {
 
-        for (long i = 0; i < encounteredCommunityCounter; ++i) {
-            long candidateCommunityId = encounteredCommunities.get(i);
+        for (long i = 0; i < communityRelationshipWeights.size(); ++i) {
+            long candidateCommunityId = communityRelationshipWeights.keyAt(i);
 
-            double candidateCommunityRelationshipsWeight = encounteredCommunitiesWeights.get(candidateCommunityId);
-            encounteredCommunitiesWeights.set(candidateCommunityId, -1);
+            double candidateCommunityRelationshipsWeight = communityRelationshipWeights.valueAt(i);
             if (candidateCommunityId == communityId) {
                 continue;
             }
@@ -220,6 +207,7 @@ public class LocalMoveTask implements Runnable {
                 currentBestGain = modularityGain;
             }
         }
+        communityRelationshipWeights.clear();
         return bestCommunityId;
     }
 
@@ -236,7 +224,7 @@ public class LocalMoveTask implements Runnable {
 
         // Compute the "modularity" for the current node and current community
         double currentBestGain =
-            Math.max(0, encounteredCommunitiesWeights.get(currentNodeCommunityId)) -
+            Math.max(0, communityRelationshipWeights.get(currentNodeCommunityId)) -
             currentNodeVolume * modifiedCommunityVolume * gamma;
 
         long bestCommunityId = findBestCommunity(
@@ -22,13 +22,14 @@ package org.neo4j.gds.louvain;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.config.CommunitySizeConfig;
+import org.neo4j.gds.config.PipelinedNodePropertyWriteConfig;
 import org.neo4j.gds.config.WritePropertyConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface LouvainWriteConfig extends LouvainBaseConfig, WritePropertyConfig, CommunitySizeConfig {
+public interface LouvainWriteConfig extends LouvainBaseConfig, WritePropertyConfig, PipelinedNodePropertyWriteConfig, CommunitySizeConfig {
 
     static LouvainWriteConfig of(CypherMapWrapper userInput) {
         return new LouvainWriteConfigImpl(userInput);
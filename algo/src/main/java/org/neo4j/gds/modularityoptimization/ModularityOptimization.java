@@ -38,12 +38,15 @@ import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.HugeLongLongMap;
+import org.neo4j.gds.core.utils.paged.SparseDoubleAccumulator;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
 import java.util.Collection;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.stream.LongStream;
 
@@ -81,6 +84,7 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
     private HugeLongArray reverseSeedCommunityMapping;
     private HugeDoubleArray cumulativeNodeWeights;
     private HugeAtomicDoubleArray communityWeightUpdates;
+    private BlockingQueue<SparseDoubleAccumulator> communityInfluencesPool;
 
     private ModularityColorArray modularityColorArray;
 
@@ -216,6 +220,11 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
         this.cumulativeNodeWeights = HugeDoubleArray.newArray(nodeCount);
 
         this.communityWeightUpdates = HugeAtomicDoubleArray.newArray(nodeCount);
+        // there are more tasks than threads, each running task borrows one accumulator
+        this.communityInfluencesPool = new ArrayBlockingQueue<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            communityInfluencesPool.add(SparseDoubleAccumulator.newAccumulator());
+        }
 
         var initTasks = PartitionUtils.rangePartition(concurrency, nodeCount, (partition) ->
                 new InitTask(
@@ -323,18 +332,16 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
                 currentCommunities.set(nodeId, nextCommunities.get(nodeId));
             })
         );
-        // apply communityWeight updates to communityWeights
+        // apply communityWeight updates to communityWeights and reset them for the next color
         ParallelUtil.parallelStreamConsume(
             LongStream.range(0, nodeCount),
             concurrency,
             stream -> stream.forEach(nodeId -> {
-                final double update = communityWeightUpdates.get(nodeId);
+                final double update = communityWeightUpdates.getAndReplace(nodeId, 0.0D);
                 modularityManager.communityWeightUpdate(nodeId, update);
             })
         );
 
-        // reset communityWeightUpdates
-        communityWeightUpdates = HugeAtomicDoubleArray.newArray(nodeCount);
         return nextStartingCoordinate;
     }
 
@@ -357,6 +364,7 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
                 communityWeightUpdates,
                 modularityManager,
                 modularityColorArray,
+                communityInfluencesPool,
                 progressTracker
             ),
             Optional.of((int) minBatchSize)
@@ -384,6 +392,7 @@ public final class ModularityOptimization extends Algorithm<ModularityOptimizati
     public void release() {
         this.nextCommunities.release();
         this.communityWeightUpdates.release();
+        this.communityInfluencesPool.forEach(SparseDoubleAccumulator::release);
         this.cumulativeNodeWeights.release();
         modularityColorArray.release();
 
@@ -19,19 +19,19 @@
  */
 package org.neo4j.gds.modularityoptimization;
 
-import com.carrotsearch.hppc.LongDoubleHashMap;
-import com.carrotsearch.hppc.LongDoubleMap;
-import com.carrotsearch.hppc.cursors.LongDoubleCursor;
-import org.apache.commons.lang3.mutable.MutableDouble;
 import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
 import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
 import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.SparseDoubleAccumulator;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
-final class ModularityOptimizationTask implements Runnable {
+import java.util.concurrent.BlockingQueue;
+
+final class ModularityOptimizationTask implements Runnable, RelationshipWithPropertyConsumer {
 
     private final Graph localGraph;
     private final Partition partition;
@@ -45,6 +45,10 @@ final class ModularityOptimizationTask implements Runnable {
     private final HugeAtomicDoubleArray communityWeightUpdates;
 
     private final ModularityColorArray modularityColorArray;
+    private final BlockingQueue<SparseDoubleAccumulator> communityInfluencesPool;
+
+    private SparseDoubleAccumulator communityInfluences;
+    private double selfWeight;
 
     ModularityOptimizationTask(
         Graph graph,
@@ -57,6 +61,7 @@ final class ModularityOptimizationTask implements Runnable {
         HugeAtomicDoubleArray communityWeightUpdates,
         ModularityManager modularityManager,
         ModularityColorArray modularityColorArray,
+        BlockingQueue<SparseDoubleAccumulator> communityInfluencesPool,
         ProgressTracker progressTracker
     ) {
         this.modularityColorArray = modularityColorArray;
@@ -69,12 +74,29 @@ final class ModularityOptimizationTask implements Runnable {
         this.communityWeightUpdates = communityWeightUpdates;
         this.totalNodeWeight = totalNodeWeight;
         this.cumulativeNodeWeights = cumulativeNodeWeights;
+        this.communityInfluencesPool = communityInfluencesPool;
         this.progressTracker = progressTracker;
     }
 
     @Override
     public void run() {
-        LongDoubleMap reuseCommunityInfluences = new LongDoubleHashMap(50);
+        try {
+            communityInfluences = communityInfluencesPool.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+
+        try {
+            optimize();
+        } finally {
+            communityInfluences.clear();
+            communityInfluencesPool.add(communityInfluences);
+            communityInfluences = null;
+        }
+    }
+
+    private void optimize() {
         var relationshipsProcessed = new MutableLong();
 
         partition.consume(indexId -> {
@@ -83,41 +105,28 @@ final class ModularityOptimizationTask implements Runnable {
             long currentCommunity = currentCommunities.get(nodeId);
             final int degree = localGraph.degree(nodeId);
 
-            LongDoubleMap communityInfluences;
-            if (degree < 50) {
-                reuseCommunityInfluences.clear();
-                communityInfluences = reuseCommunityInfluences;
-            } else {
-                communityInfluences = new LongDoubleHashMap(degree);
-            }
-            MutableDouble selfWeight = new MutableDouble(0.0D);
+            communityInfluences.clear();
+            selfWeight = 0.0D;
 
             // calculate influence of this node w.r.t its neighbours communities
-            localGraph.forEachRelationship(nodeId, 1.0D, (s, t, w) -> {
-                if (s == t) {
-                    selfWeight.add(w);
-                }
-                long targetCommunity = currentCommunities.get(t);
-                communityInfluences.addTo(targetCommunity, w);
-                return true;
-            });
+            localGraph.forEachRelationship(nodeId, 1.0D, this);
 
             long nextCommunity = currentCommunity;
             double currentGain;
             double maxGain = 0.0;
-            double eix = communityInfluences.get(currentCommunity) - selfWeight.doubleValue();
+            double eix = communityInfluences.get(currentCommunity) - selfWeight;
             double cumulativeNodeWeight = cumulativeNodeWeights.get(nodeId);
             double ax = modularityManager.getCommunityWeight(currentCommunity) - cumulativeNodeWeight;
             double eiy;
             double ay;
 
             long communityCandidate;
-            for (LongDoubleCursor cursor : communityInfluences) {
-                communityCandidate = cursor.key;
+            for (long i = 0; i < communityInfluences.size(); i++) {
+                communityCandidate = communityInfluences.keyAt(i);
 
                 if (currentCommunity != communityCandidate) {
                     ay = modularityManager.getCommunityWeight(communityCandidate);
-                    eiy = cursor.value;
+                    eiy = communityInfluences.valueAt(i);
                     currentGain =
                         (eiy - eix) / (totalNodeWeight / 2.0)
                         + (2 * cumulativeNodeWeight * ax - 2 * cumulativeNodeWeight * ay) / Math.pow(
@@ -134,12 +143,21 @@ final class ModularityOptimizationTask implements Runnable {
 
 
             nextCommunities.set(nodeId, nextCommunity);
-            communityWeightUpdates.update(currentCommunity, agg -> agg - cumulativeNodeWeight);
-            communityWeightUpdates.update(nextCommunity, agg -> agg + cumulativeNodeWeight);
+            communityWeightUpdates.getAndAdd(currentCommunity, -cumulativeNodeWeight);
+            communityWeightUpdates.getAndAdd(nextCommunity, cumulativeNodeWeight);
 
             relationshipsProcessed.add(degree);
         });
 
         progressTracker.logProgress(relationshipsProcessed.longValue());
     }
+
+    @Override
+    public boolean accept(long sourceNodeId, long targetNodeId, double property) {
+        if (sourceNodeId == targetNodeId) {
+            selfWeight += property;
+        }
+        communityInfluences.add(currentCommunities.get(targetNodeId), property);
+        return true;
+    }
 }
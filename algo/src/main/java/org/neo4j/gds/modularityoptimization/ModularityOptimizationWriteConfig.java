@@ -21,13 +21,14 @@ package org.neo4j.gds.modularityoptimization;
 
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.config.PipelinedNodePropertyWriteConfig;
 import org.neo4j.gds.config.WritePropertyConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
 @Configuration
 @ValueClass
 @SuppressWarnings("immutables:subtype")
-public interface ModularityOptimizationWriteConfig extends ModularityOptimizationConfig, WritePropertyConfig {
+public interface ModularityOptimizationWriteConfig extends ModularityOptimizationConfig, WritePropertyConfig, PipelinedNodePropertyWriteConfig {
 
     static ModularityOptimizationWriteConfig of(CypherMapWrapper config) {
         return new ModularityOptimizationWriteConfigImpl(config);
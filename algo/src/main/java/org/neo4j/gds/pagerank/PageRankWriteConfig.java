@@ -21,13 +21,14 @@ package org.neo4j.gds.pagerank;
 
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.config.PipelinedNodePropertyWriteConfig;
 import org.neo4j.gds.config.WritePropertyConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface PageRankWriteConfig extends PageRankConfig, WritePropertyConfig {
+public interface PageRankWriteConfig extends PageRankConfig, WritePropertyConfig, PipelinedNodePropertyWriteConfig {
 
     static PageRankWriteConfig of(CypherMapWrapper userInput) {
         return new PageRankWriteConfigImpl(userInput);
@@ -31,6 +31,8 @@ import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.similarity.SimilarityGraphBuilder;
+import org.neo4j.gds.similarity.nodesim.InvertedNeighborIndex;
+import org.neo4j.gds.similarity.nodesim.MinHashLsh;
 import org.neo4j.gds.similarity.nodesim.NodeSimilarity;
 import org.neo4j.gds.similarity.nodesim.TopKMap;
 import org.neo4j.gds.similarity.nodesim.TopNList;
@@ -92,6 +94,12 @@ public class FilteredNodeSimilarityFactory<CONFIG extends FilteredNodeSimilarity
                         .rangePerNode("array", nodeCount -> MemoryRange.of(0, nodeCount * averageVectorSize))
                         .build();
                 }));
+        if (config.useInvertedIndex()) {
+            builder.add("inverted index", InvertedNeighborIndex.memoryEstimation());
+        }
+        if (config.useMinHashLsh()) {
+            builder.add("minhash lsh", MinHashLsh.memoryEstimation(config.minHashBands()));
+        }
         if (config.computeToGraph() && !config.hasTopK()) {
             builder.add(
                 "similarity graph",
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import com.carrotsearch.hppc.BitSet;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Generates the target nodes a source node needs to be compared against,
+ * instead of comparing it against all target nodes.
+ */
+interface CandidateGenerator {
+
+    /**
+     * Collects the candidate targets {@code >= minTarget} of the source node, excluding the source node itself, sorted by id.
+     *
+     * @return {@code false} if the candidates are incomplete and the source node needs to be compared against all targets
+     */
+    boolean collectCandidates(long sourceNode, long minTarget, Candidates candidates);
+
+    /**
+     * A description of how many of the relevant pairs the generated candidates are expected to contain,
+     * if the candidates are approximate.
+     */
+    default Optional<String> recallEstimate() {
+        return Optional.empty();
+    }
+
+    /**
+     * Per-thread buffer for the candidates of a single source node.
+     */
+    final class Candidates {
+        private final BitSet seen;
+        private long[] buffer;
+        private int size;
+
+        Candidates(long nodeCount) {
+            this.seen = new BitSet(nodeCount);
+            this.buffer = new long[64];
+            this.size = 0;
+        }
+
+        int size() {
+            return size;
+        }
+
+        long get(int index) {
+            return buffer[index];
+        }
+
+        boolean contains(long node) {
+            return seen.get(node);
+        }
+
+        void add(long node) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            buffer[size++] = node;
+            seen.set(node);
+        }
+
+        void sort() {
+            Arrays.sort(buffer, 0, size);
+        }
+
+        void clear() {
+            for (int i = 0; i < size; i++) {
+                seen.clear(buffer[i]);
+            }
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.core.utils.SetBitsIterable;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+
+import java.util.function.IntUnaryOperator;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+
+/**
+ * Maps every neighbor to the target nodes that have it in the prefix of their (sorted) neighbor vector.
+ * Two nodes can only have a non-zero similarity if they share a neighbor, so probing the index
+ * with the neighbors of a source node yields all targets worth comparing against.
+ * <p>
+ * Only the first {@code prefixLength(|vector|)} neighbors of every vector are indexed and probed.
+ * For a metric requiring at least {@code k} common neighbors, the prefix of length {@code |vector| - k + 1}
+ * is enough to find every pair reaching the cutoff (the prefix filtering principle).
+ * <p>
+ * Neighbors shared by more than {@code degreeCap} targets are not indexed.
+ * Probing such a hub neighbor fails and the caller has to fall back to comparing against all targets.
+ */
+public final class InvertedNeighborIndex implements CandidateGenerator {
+
+    private final HugeObjectArray<long[]> vectors;
+    private final HugeObjectArray<long[]> postings;
+    private final BitSet hubs;
+    private final IntUnaryOperator prefixLength;
+    private final SizeFilter sizeFilter;
+
+    public static MemoryEstimation memoryEstimation() {
+        return MemoryEstimations.setup("inverted index", (dimensions, concurrency) -> {
+            int averageDegree = dimensions.nodeCount() == 0
+                ? 0
+                : Math.toIntExact(dimensions.relCountUpperBound() / dimensions.nodeCount());
+            long averagePostingsSize = sizeOfLongArray(averageDegree);
+            return MemoryEstimations.builder(InvertedNeighborIndex.class)
+                .perNode("postings", nodeCount -> nodeCount * averagePostingsSize)
+                .perNode("hubs", nodeCount -> sizeOfLongArray(BitSet.bits2words(nodeCount)))
+                .perThread("candidate buffer", sizeOfLongArray(BitSet.bits2words(dimensions.nodeCount())) + averagePostingsSize)
+                .build();
+        });
+    }
+
+    static InvertedNeighborIndex build(
+        HugeObjectArray<long[]> vectors,
+        BitSet targetNodes,
+        IntUnaryOperator prefixLength,
+        SizeFilter sizeFilter,
+        int degreeCap
+    ) {
+        long nodeCount = vectors.size();
+        var postingSizes = HugeIntArray.newArray(nodeCount);
+        var hubs = new BitSet(nodeCount);
+
+        new SetBitsIterable(targetNodes).stream().forEach(targetNode -> {
+            long[] vector = vectors.get(targetNode);
+            int indexedNeighbors = prefixLength.applyAsInt(vector.length);
+            for (int i = 0; i < indexedNeighbors; i++) {
+                long neighbor = vector[i];
+                if (hubs.get(neighbor)) {
+                    continue;
+                }
+                if (postingSizes.get(neighbor) == degreeCap) {
+                    hubs.set(neighbor);
+                } else {
+                    postingSizes.addTo(neighbor, 1);
+                }
+            }
+        });
+
+        var postings = HugeObjectArray.newArray(long[].class, nodeCount);
+        postings.setAll(neighbor -> {
+            int size = postingSizes.get(neighbor);
+            return size == 0 || hubs.get(neighbor) ? null : new long[size];
+        });
+
+        // re-use the sizes as insert offsets, targets are inserted in ascending order
+        postingSizes.fill(0);
+        new SetBitsIterable(targetNodes).stream().forEach(targetNode -> {
+            long[] vector = vectors.get(targetNode);
+            int indexedNeighbors = prefixLength.applyAsInt(vector.length);
+            for (int i = 0; i < indexedNeighbors; i++) {
+                long neighbor = vector[i];
+                if (!hubs.get(neighbor)) {
+                    postings.get(neighbor)[postingSizes.getAndAdd(neighbor, 1)] = targetNode;
+                }
+            }
+        });
+
+        return new InvertedNeighborIndex(vectors, postings, hubs, prefixLength, sizeFilter);
+    }
+
+    private InvertedNeighborIndex(
+        HugeObjectArray<long[]> vectors,
+        HugeObjectArray<long[]> postings,
+        BitSet hubs,
+        IntUnaryOperator prefixLength,
+        SizeFilter sizeFilter
+    ) {
+        this.vectors = vectors;
+        this.postings = postings;
+        this.hubs = hubs;
+        this.prefixLength = prefixLength;
+        this.sizeFilter = sizeFilter;
+    }
+
+    /**
+     * Collects all indexed targets {@code >= minTarget}, other than the source node itself,
+     * that share a neighbor with the probe prefix of the source node and pass the size filter.
+     *
+     * @return {@code false} if the probe prefix contains a hub neighbor and the candidates are incomplete
+     */
+    @Override
+    public boolean collectCandidates(long sourceNode, long minTarget, Candidates candidates) {
+        candidates.clear();
+        long[] vector = vectors.get(sourceNode);
+        int sourceSize = vector.length;
+        int probedNeighbors = prefixLength.applyAsInt(sourceSize);
+
+        for (int i = 0; i < probedNeighbors; i++) {
+            long neighbor = vector[i];
+            if (hubs.get(neighbor)) {
+                return false;
+            }
+            long[] targets = postings.get(neighbor);
+            if (targets == null) {
+                continue;
+            }
+            for (long target : targets) {
+                if (target < minTarget || target == sourceNode || candidates.contains(target)) {
+                    continue;
+                }
+                if (sizeFilter.test(sourceSize, vectors.get(target).length)) {
+                    candidates.add(target);
+                }
+            }
+        }
+
+        candidates.sort();
+        return true;
+    }
+
+    @FunctionalInterface
+    interface SizeFilter {
+        SizeFilter ALL = (sourceSize, targetSize) -> true;
+
+        boolean test(int sourceSize, int targetSize);
+    }
+}
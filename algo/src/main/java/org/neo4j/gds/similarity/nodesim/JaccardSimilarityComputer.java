@@ -36,6 +36,20 @@ public class JaccardSimilarityComputer implements MetricSimilarityComputer {
         return similarity >= similarityCutoff ? similarity : Double.NaN;
     }
 
+    @Override
+    public int minimumIntersection(int vectorSize) {
+        // jaccard(a, b) >= cutoff implies |a & b| >= cutoff * |a|, shrink the bound slightly to be safe against rounding
+        return (int) Math.max(1, Math.ceil(similarityCutoff * vectorSize * (1 - 1e-12)));
+    }
+
+    @Override
+    public boolean canReachCutoff(int vectorSize1, int vectorSize2) {
+        // the similarity is bounded by min(|a|, |b|) / max(|a|, |b|)
+        int min = Math.min(vectorSize1, vectorSize2);
+        int max = Math.max(vectorSize1, vectorSize2);
+        return max == 0 || min / (double) max >= similarityCutoff;
+    }
+
     @Override
     public double computeWeightedSimilarity(long[] vector1, long[] vector2, double[] weights1, double[] weights2) {
         assert vector1.length == weights1.length;
@@ -28,6 +28,21 @@ public interface MetricSimilarityComputer {
 
     double computeWeightedSimilarity(long[] vector1, long[] vector2, double[] weights1, double[] weights2);
 
+    /**
+     * Lower bound on the number of common neighbors an unweighted vector of the given size needs
+     * with any other vector to reach the similarity cutoff.
+     */
+    default int minimumIntersection(int vectorSize) {
+        return 1;
+    }
+
+    /**
+     * Whether two unweighted vectors of the given sizes can reach the similarity cutoff at all.
+     */
+    default boolean canReachCutoff(int vectorSize1, int vectorSize2) {
+        return true;
+    }
+
     static MetricSimilarityComputerBuilder parse(Object userInput) {
         if (userInput instanceof MetricSimilarityComputerBuilder) {
             return (MetricSimilarityComputerBuilder) userInput;
@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.similarity.nodesim;
+
+import com.carrotsearch.hppc.BitMixer;
+import com.carrotsearch.hppc.BitSet;
+import com.carrotsearch.hppc.IntArrayList;
+import com.carrotsearch.hppc.LongIntHashMap;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.mem.BitUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfIntArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfLongArray;
+import static org.neo4j.gds.mem.MemoryUsage.sizeOfOpenHashContainer;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Locality sensitive hashing of the neighbor vectors with MinHash signatures.
+ * <p>
+ * Every node gets a signature of {@code signatureLength} minimum hash values over its neighbors.
+ * The probability of two nodes having the same minimum for a hash function equals their Jaccard similarity.
+ * The signature is split into {@code bands} bands of {@code signatureLength / bands} rows and every band is hashed into a bucket.
+ * Nodes sharing a bucket in at least one band become candidates, which is the case for a pair with similarity {@code s}
+ * with probability {@code 1 - (1 - s^rows)^bands}.
+ * <p>
+ * Candidates are approximate: pairs with a non-zero similarity can be missed and candidates can have a similarity of zero.
+ * <p>
+ * Buckets larger than {@code maxBucketSize} are split into chunks of consecutive members,
+ * so that a single popular band key does not make every node a candidate of every other node.
+ */
+public final class MinHashLsh implements CandidateGenerator {
+
+    private static final double[] REPORTED_SIMILARITIES = {0.2, 0.5, 0.8};
+
+    private final HugeObjectArray<long[]> vectors;
+    private final HugeLongArray bandKeys;
+    private final Band[] bandTables;
+    private final int rowsPerBand;
+    private final int maxBucketSize;
+
+    public static MemoryEstimation memoryEstimation(int bands) {
+        return MemoryEstimations.builder(MinHashLsh.class)
+            .perNode("band keys", nodeCount -> HugeLongArray.memoryEstimation(nodeCount * bands))
+            .perNode("band tables", nodeCount -> bands * (
+                sizeOfLongArray(nodeCount)
+                + sizeOfIntArray(nodeCount + 1)
+                + sizeOfOpenHashContainer(nodeCount)
+                + sizeOfOpenHashContainer(nodeCount) / 2
+            ))
+            .perGraphDimension("candidate buffers", (dimensions, concurrency) -> MemoryRange.of(
+                sizeOfLongArray(BitSet.bits2words(dimensions.nodeCount()))
+            ).times(concurrency))
+            .build();
+    }
+
+    static MinHashLsh build(
+        HugeObjectArray<long[]> vectors,
+        BitSet sourceNodes,
+        BitSet targetNodes,
+        int signatureLength,
+        int bands,
+        int maxBucketSize,
+        long randomSeed,
+        int concurrency,
+        ExecutorService executorService,
+        TerminationFlag terminationFlag
+    ) {
+        long targetCount = targetNodes.cardinality();
+        if (targetCount > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "MinHash LSH supports at most %d target nodes, got %d.",
+                Integer.MAX_VALUE - 8,
+                targetCount
+            ));
+        }
+
+        var random = new SplittableRandom(randomSeed);
+        var hashSeeds = new long[signatureLength];
+        Arrays.setAll(hashSeeds, i -> random.nextLong());
+
+        int rowsPerBand = signatureLength / bands;
+        long nodeCount = vectors.size();
+        var bandKeys = HugeLongArray.newArray(nodeCount * bands);
+
+        var signatureTasks = PartitionUtils.rangePartition(
+            concurrency,
+            nodeCount,
+            partition -> (Runnable) () -> {
+                var signature = new long[signatureLength];
+                partition.consume(node -> {
+                    if ((sourceNodes.get(node) || targetNodes.get(node)) && hasNeighbors(vectors, node)) {
+                        computeSignature(vectors.get(node), hashSeeds, signature);
+                        for (int band = 0; band < bands; band++) {
+                            bandKeys.set(node * bands + band, bandKey(signature, band, rowsPerBand));
+                        }
+                    }
+                });
+            },
+            Optional.empty()
+        );
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(signatureTasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+
+        var bandTables = new Band[bands];
+        var bandTasks = new ArrayList<Runnable>(bands);
+        for (int band = 0; band < bands; band++) {
+            int bandIndex = band;
+            bandTasks.add(() -> bandTables[bandIndex] = Band.build(
+                vectors,
+                targetNodes,
+                bandKeys,
+                bands,
+                bandIndex
+            ));
+        }
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(bandTasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+
+        return new MinHashLsh(vectors, bandKeys, bandTables, rowsPerBand, maxBucketSize);
+    }
+
+    private MinHashLsh(
+        HugeObjectArray<long[]> vectors,
+        HugeLongArray bandKeys,
+        Band[] bandTables,
+        int rowsPerBand,
+        int maxBucketSize
+    ) {
+        this.vectors = vectors;
+        this.bandKeys = bandKeys;
+        this.bandTables = bandTables;
+        this.rowsPerBand = rowsPerBand;
+        this.maxBucketSize = maxBucketSize;
+    }
+
+    @Override
+    public boolean collectCandidates(long sourceNode, long minTarget, Candidates candidates) {
+        candidates.clear();
+        // a node without neighbors has a similarity of 0 to all nodes
+        if (!hasNeighbors(vectors, sourceNode)) {
+            return true;
+        }
+
+        int bands = bandTables.length;
+        for (int band = 0; band < bands; band++) {
+            var table = bandTables[band];
+            int bucket = table.bucketOfKey.getOrDefault(bandKeys.get(sourceNode * bands + band), -1);
+            if (bucket == -1) {
+                continue;
+            }
+            int from = table.bucketOffsets[bucket];
+            int to = table.bucketOffsets[bucket + 1];
+            if (to - from > maxBucketSize) {
+                int chunk = chunkOf(table.members, from, to, sourceNode);
+                from += chunk * maxBucketSize;
+                to = Math.min(to, from + maxBucketSize);
+            }
+            for (int i = from; i < to; i++) {
+                long target = table.members[i];
+                if (target >= minTarget && target != sourceNode && !candidates.contains(target)) {
+                    candidates.add(target);
+                }
+            }
+        }
+
+        candidates.sort();
+        return true;
+    }
+
+    @Override
+    public Optional<String> recallEstimate() {
+        var estimates = new ArrayList<String>();
+        for (double similarity : REPORTED_SIMILARITIES) {
+            estimates.add(formatWithLocale("%.2f: %.4f", similarity, collisionProbability(similarity)));
+        }
+        return Optional.of("expected recall by similarity " + String.join(", ", estimates));
+    }
+
+    /**
+     * The chunk of an oversized bucket the source node is compared with.
+     * Members use their own chunk, so that two members are candidates of each other only if they share a chunk.
+     * Other source nodes are assigned to a chunk by hash.
+     */
+    private int chunkOf(long[] members, int from, int to, long sourceNode) {
+        int position = Arrays.binarySearch(members, from, to, sourceNode);
+        if (position >= 0) {
+            return (position - from) / maxBucketSize;
+        }
+        int chunkCount = (int) BitUtil.ceilDiv(to - from, maxBucketSize);
+        return (int) Long.remainderUnsigned(BitMixer.mix64(sourceNode), chunkCount);
+    }
+
+    /**
+     * The probability of a pair with the given Jaccard similarity to share a bucket in at least one band.
+     */
+    double collisionProbability(double similarity) {
+        return 1 - Math.pow(1 - Math.pow(similarity, rowsPerBand), bandTables.length);
+    }
+
+    private static boolean hasNeighbors(HugeObjectArray<long[]> vectors, long node) {
+        long[] vector = vectors.get(node);
+        return vector != null && vector.length > 0;
+    }
+
+    private static void computeSignature(long[] vector, long[] hashSeeds, long[] signature) {
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (long neighbor : vector) {
+            for (int i = 0; i < hashSeeds.length; i++) {
+                long hash = BitMixer.mix64(neighbor ^ hashSeeds[i]);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+    }
+
+    private static long bandKey(long[] signature, int band, int rowsPerBand) {
+        long key = band;
+        int offset = band * rowsPerBand;
+        for (int row = 0; row < rowsPerBand; row++) {
+            key = BitMixer.mix64(key ^ signature[offset + row]);
+        }
+        return key;
+    }
+
+    /**
+     * The buckets of a single band, stored as a map from band key to bucket
+     * and the target nodes of all buckets in ascending order, grouped by bucket.
+     */
+    private static final class Band {
+        private final LongIntHashMap bucketOfKey;
+        private final int[] bucketOffsets;
+        private final long[] members;
+
+        private Band(LongIntHashMap bucketOfKey, int[] bucketOffsets, long[] members) {
+            this.bucketOfKey = bucketOfKey;
+            this.bucketOffsets = bucketOffsets;
+            this.members = members;
+        }
+
+        static Band build(
+            HugeObjectArray<long[]> vectors,
+            BitSet targetNodes,
+            HugeLongArray bandKeys,
+            int bands,
+            int band
+        ) {
+            var bucketOfKey = new LongIntHashMap();
+            var bucketSizes = new IntArrayList();
+            for (long target = targetNodes.nextSetBit(0); target != -1; target = targetNodes.nextSetBit(target + 1)) {
+                if (!hasNeighbors(vectors, target)) {
+                    continue;
+                }
+                long key = bandKeys.get(target * bands + band);
+                int bucket = bucketOfKey.getOrDefault(key, -1);
+                if (bucket == -1) {
+                    bucketOfKey.put(key, bucketSizes.size());
+                    bucketSizes.add(1);
+                } else {
+                    bucketSizes.buffer[bucket]++;
+                }
+            }
+
+            int bucketCount = bucketSizes.size();
+            var bucketOffsets = new int[bucketCount + 1];
+            for (int bucket = 0; bucket < bucketCount; bucket++) {
+                bucketOffsets[bucket + 1] = bucketOffsets[bucket] + bucketSizes.get(bucket);
+            }
+
+            var members = new long[bucketOffsets[bucketCount]];
+            // re-use the sizes as insert positions, targets are inserted in ascending order
+            var insertPositions = bucketSizes.buffer;
+            System.arraycopy(bucketOffsets, 0, insertPositions, 0, bucketCount);
+            for (long target = targetNodes.nextSetBit(0); target != -1; target = targetNodes.nextSetBit(target + 1)) {
+                if (hasNeighbors(vectors, target)) {
+                    int bucket = bucketOfKey.get(bandKeys.get(target * bands + band));
+                    members[insertPositions[bucket]++] = target;
+                }
+            }
+
+            return new Band(bucketOfKey, bucketOffsets, members);
+        }
+    }
+}
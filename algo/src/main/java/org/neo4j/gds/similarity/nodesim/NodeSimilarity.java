@@ -24,6 +24,7 @@ import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.RelationshipConsumer;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.utils.BatchingProgressLogger;
 import org.neo4j.gds.core.utils.SetBitsIterable;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
@@ -37,12 +38,22 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.SplittableRandom;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongConsumer;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
 public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
 
+    // number of consecutive node ids a thread claims at once when comparing only candidate pairs
+    private static final long CANDIDATE_BATCH_SIZE = 64;
+
     private final Graph graph;
     private final boolean sortVectors;
     private final NodeSimilarityBaseConfig config;
@@ -58,8 +69,11 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
     private HugeObjectArray<long[]> vectors;
     private HugeObjectArray<double[]> weights;
     private long nodesToCompare;
+    private CandidateGenerator candidateGenerator;
+    private final LongAdder comparedCandidatePairs;
 
     private final boolean weighted;
+    private final boolean useCandidateGenerator;
 
     public static NodeSimilarity create(
         Graph graph,
@@ -120,6 +134,10 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         this.sourceNodes = new BitSet(graph.nodeCount());
         this.targetNodes = new BitSet(graph.nodeCount());
         this.weighted = config.hasRelationshipWeightProperty();
+        // with a cutoff of 0, pairs without common neighbors are part of the result and need to be compared as well.
+        // MinHash LSH is approximate anyway and misses such pairs regardless of the cutoff.
+        this.useCandidateGenerator = config.useMinHashLsh() || (config.useInvertedIndex() && config.similarityCutoff() > 0);
+        this.comparedCandidatePairs = new LongAdder();
     }
 
     @Override
@@ -231,6 +249,36 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
             return null;
         });
         nodesToCompare = sourceNodes.cardinality();
+
+        if (config.useMinHashLsh()) {
+            candidateGenerator = MinHashLsh.build(
+                vectors,
+                sourceNodes,
+                targetNodes,
+                config.minHashSignatureLength(),
+                config.minHashBands(),
+                config.minHashMaxBucketSize(),
+                config.randomSeed().orElseGet(() -> new SplittableRandom().nextLong()),
+                concurrency,
+                executorService,
+                terminationFlag
+            );
+        } else if (useCandidateGenerator) {
+            // weighted similarities do not allow to bound the number of common neighbors
+            IntUnaryOperator prefixLength = weighted
+                ? IntUnaryOperator.identity()
+                : vectorSize -> vectorSize - similarityComputer.minimumIntersection(vectorSize) + 1;
+            InvertedNeighborIndex.SizeFilter sizeFilter = weighted
+                ? InvertedNeighborIndex.SizeFilter.ALL
+                : similarityComputer::canReachCutoff;
+            candidateGenerator = InvertedNeighborIndex.build(
+                vectors,
+                targetNodes,
+                prefixLength,
+                sizeFilter,
+                config.invertedIndexDegreeCap()
+            );
+        }
         progressTracker.endSubTask();
     }
 
@@ -269,6 +317,9 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
     }
 
     private TopKMap computeTopKMap() {
+        if (useCandidateGenerator) {
+            return computeTopKMapWithCandidates();
+        }
         progressTracker.beginSubTask(calculateWorkload());
 
         Comparator<SimilarityResult> comparator = config.normalizedK() > 0 ? SimilarityResult.DESCENDING : SimilarityResult.ASCENDING;
@@ -311,6 +362,9 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
     }
 
     private TopKMap computeTopKMapParallel() {
+        if (useCandidateGenerator) {
+            return computeTopKMapWithCandidates();
+        }
         progressTracker.beginSubTask(calculateWorkload());
 
         Comparator<SimilarityResult> comparator = config.normalizedK() > 0 ? SimilarityResult.DESCENDING : SimilarityResult.ASCENDING;
@@ -347,7 +401,126 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         return topKMap;
     }
 
+    private TopKMap computeTopKMapWithCandidates() {
+        progressTracker.beginSubTask(nodesToCompare);
+
+        Comparator<SimilarityResult> comparator = config.normalizedK() > 0 ? SimilarityResult.DESCENDING : SimilarityResult.ASCENDING;
+        TopKMap topKMap = new TopKMap(vectors.size(), sourceNodes, Math.abs(config.normalizedK()), comparator);
+
+        // As in computeTopKMapParallel, every source node is processed by exactly one thread
+        // which compares it against all its candidates, so the TopKMap queues are not shared.
+        // Candidates are visited in ascending order which results in the same queues as comparing all pairs.
+        var nextBatchStart = new AtomicLong();
+        var tasks = ParallelUtil.tasks(concurrency, () -> topKTask(topKMap, nextBatchStart));
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .terminationFlag(terminationFlag)
+            .executor(executorService)
+            .run();
+
+        logComparedCandidatePairs();
+        progressTracker.endSubTask();
+        return topKMap;
+    }
+
+    private Runnable topKTask(TopKMap topKMap, AtomicLong nextBatchStart) {
+        return () -> {
+            var candidates = new CandidateGenerator.Candidates(vectors.size());
+            long nodeCount = vectors.size();
+            long batchStart;
+            while ((batchStart = nextBatchStart.getAndAdd(CANDIDATE_BATCH_SIZE)) < nodeCount) {
+                terminationFlag.assertRunning();
+                long batchEnd = Math.min(batchStart + CANDIDATE_BATCH_SIZE, nodeCount);
+                long processedSourceNodes = 0;
+                for (long node1 = sourceNodes.nextSetBit(batchStart);
+                     node1 != -1 && node1 < batchEnd;
+                     node1 = sourceNodes.nextSetBit(node1 + 1)) {
+                    long source = node1;
+                    long[] vector1 = vectors.get(source);
+                    forEachCandidate(source, 0, candidates, node2 -> {
+                        double similarity = computeSimilarity(source, vector1, node2);
+                        if (!Double.isNaN(similarity)) {
+                            topKMap.put(source, node2, similarity);
+                        }
+                    });
+                    processedSourceNodes++;
+                }
+                progressTracker.logProgress(processedSourceNodes);
+            }
+        };
+    }
+
+    private Stream<SimilarityResult> computeTopNWithCandidates() {
+        progressTracker.beginSubTask(nodesToCompare);
+
+        TopNList topNList = new TopNList(config.normalizedN());
+        var candidates = new CandidateGenerator.Candidates(vectors.size());
+        boolean symmetric = sourceNodeFilter.equals(NodeFilter.noOp);
+        loggableAndTerminatableSourceNodeStream()
+            .forEach(node1 -> {
+                long[] vector1 = vectors.get(node1);
+                forEachCandidate(node1, symmetric ? node1 + 1 : 0, candidates, node2 -> {
+                    double similarity = computeSimilarity(node1, vector1, node2);
+                    if (!Double.isNaN(similarity)) {
+                        topNList.add(node1, node2, similarity);
+                    }
+                });
+                progressTracker.logProgress();
+            });
+
+        logComparedCandidatePairs();
+        progressTracker.endSubTask();
+        return topNList.stream();
+    }
+
+    /**
+     * Visits the candidate targets {@code >= minTarget} of the source node in ascending order.
+     * Falls back to all targets if the candidate generator can not provide complete candidates for the source node.
+     */
+    private void forEachCandidate(
+        long node1,
+        long minTarget,
+        CandidateGenerator.Candidates candidates,
+        LongConsumer consumer
+    ) {
+        long comparedPairs = 0;
+        if (candidateGenerator.collectCandidates(node1, minTarget, candidates)) {
+            for (int i = 0; i < candidates.size(); i++) {
+                consumer.accept(candidates.get(i));
+            }
+            comparedPairs = candidates.size();
+        } else {
+            for (long node2 = targetNodes.nextSetBit(minTarget); node2 != -1; node2 = targetNodes.nextSetBit(node2 + 1)) {
+                if (node2 != node1) {
+                    consumer.accept(node2);
+                    comparedPairs++;
+                }
+            }
+        }
+        comparedCandidatePairs.add(comparedPairs);
+    }
+
+    private void logComparedCandidatePairs() {
+        long comparedPairs = comparedCandidatePairs.sum();
+        long allPairs = nodesToCompare * targetNodes.cardinality();
+        var message = formatWithLocale(
+            "Compared %d candidate pairs out of %d node pairs (%.2f%%)",
+            comparedPairs,
+            allPairs,
+            allPairs == 0 ? 0D : 100D * comparedPairs / allPairs
+        );
+        progressTracker.logInfo(candidateGenerator
+            .recallEstimate()
+            .map(recallEstimate -> message + ", " + recallEstimate)
+            .orElse(message));
+    }
+
     private Stream<SimilarityResult> computeTopN() {
+        if (useCandidateGenerator) {
+            return computeTopNWithCandidates();
+        }
         progressTracker.beginSubTask(calculateWorkload());
 
         TopNList topNList = new TopNList(config.normalizedN());
@@ -416,6 +589,16 @@ public class NodeSimilarity extends Algorithm<NodeSimilarityResult> {
         return targetNodesStream(0);
     }
 
+    /**
+     * Used when comparing candidates only. The number of compared pairs is not known upfront,
+     * hence progress is logged per source node instead of per pair.
+     */
+    private double computeSimilarity(long node1, long[] vector1, long node2) {
+        return weighted
+            ? similarityComputer.computeWeightedSimilarity(vector1, vectors.get(node2), weights.get(node1), weights.get(node2))
+            : similarityComputer.computeSimilarity(vector1, vectors.get(node2));
+    }
+
     private double computeWeightedSimilarity(long[] vector1, long[] vector2, double[] weights1, double[] weights2) {
         double similarity = similarityComputer.computeWeightedSimilarity(vector1, vector2, weights1, weights2);
         progressTracker.logProgress();
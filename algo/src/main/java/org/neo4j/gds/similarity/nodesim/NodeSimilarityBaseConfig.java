@@ -22,11 +22,12 @@ package org.neo4j.gds.similarity.nodesim;
 import org.immutables.value.Value;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.RandomSeedConfig;
 import org.neo4j.gds.config.RelationshipWeightConfig;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
-public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWeightConfig {
+public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWeightConfig, RandomSeedConfig {
 
     String TOP_K_KEY = "topK";
     int TOP_K_DEFAULT = 10;
@@ -59,6 +60,59 @@ public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWe
         return 1;
     }
 
+    /**
+     * Only compare nodes which share at least one neighbor, found through an inverted index over the neighbors.
+     * The results are the same as when comparing all pairs of nodes, as long as the similarity cutoff is positive.
+     */
+    @Value.Default
+    default boolean useInvertedIndex() {
+        return false;
+    }
+
+    /**
+     * Neighbors shared by more nodes than this are not indexed.
+     * Nodes with such a neighbor are compared against all other nodes instead.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int invertedIndexDegreeCap() {
+        return 10_000;
+    }
+
+    /**
+     * Only compare nodes whose MinHash signatures collide in at least one band.
+     * This is approximate: similar pairs are found with high probability, but are not guaranteed to be found.
+     */
+    @Value.Default
+    default boolean useMinHashLsh() {
+        return false;
+    }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int minHashSignatureLength() {
+        return 128;
+    }
+
+    /**
+     * Number of bands the signature is split into. More bands find more similar pairs, but produce more candidates.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int minHashBands() {
+        return 32;
+    }
+
+    /**
+     * Buckets with more target nodes than this are split into chunks of this size.
+     * A node is then only compared with the nodes of its own chunk, which bounds the candidates per band.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int minHashMaxBucketSize() {
+        return 1_000;
+    }
+
     @Value.Default
     @Configuration.Key(TOP_K_KEY)
     @Configuration.IntegerRange(min = 1)
@@ -148,6 +202,29 @@ public interface NodeSimilarityBaseConfig extends AlgoBaseConfig, RelationshipWe
                 BOTTOM_N_KEY
             ));
         }
+        if (useInvertedIndex() && useMinHashLsh()) {
+            throw new IllegalArgumentException(
+                "Invalid parameter combination: useInvertedIndex combined with useMinHashLsh"
+            );
+        }
+        // MinHash signatures only approximate the unweighted Jaccard similarity
+        if (useMinHashLsh() && similarityMetric() instanceof OverlapSimilarityComputer.Builder) {
+            throw new IllegalArgumentException(
+                "Invalid parameter combination: useMinHashLsh combined with similarityMetric OVERLAP"
+            );
+        }
+        if (useMinHashLsh() && relationshipWeightProperty().isPresent()) {
+            throw new IllegalArgumentException(
+                "Invalid parameter combination: useMinHashLsh combined with relationshipWeightProperty"
+            );
+        }
+        if (minHashSignatureLength() % minHashBands() != 0) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The `minHashSignatureLength` (%d) must be a multiple of `minHashBands` (%d)",
+                minHashSignatureLength(),
+                minHashBands()
+            ));
+        }
     }
 
 }
@@ -87,6 +87,12 @@ public class NodeSimilarityFactory<CONFIG extends NodeSimilarityBaseConfig> exte
                     .rangePerNode("array", nodeCount -> MemoryRange.of(0, nodeCount * averageVectorSize))
                     .build();
             }));
+        if (config.useInvertedIndex()) {
+            builder.add("inverted index", InvertedNeighborIndex.memoryEstimation());
+        }
+        if (config.useMinHashLsh()) {
+            builder.add("minhash lsh", MinHashLsh.memoryEstimation(config.minHashBands()));
+        }
         if (config.computeToGraph() && !config.hasTopK()) {
             builder.add(
                 "similarity graph",
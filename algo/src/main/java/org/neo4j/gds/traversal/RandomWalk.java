@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.traversal;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.Algorithm;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.config.SourceNodesConfig;
@@ -30,6 +31,7 @@ import org.neo4j.gds.core.utils.queue.QueueBasedSpliterator;
 import org.neo4j.gds.degree.DegreeCentrality;
 import org.neo4j.gds.degree.ImmutableDegreeCentralityConfig;
 import org.neo4j.gds.ml.core.EmbeddingUtils;
+import org.neo4j.gds.ml.core.samplers.NeighbourIndex;
 import org.neo4j.gds.ml.core.samplers.RandomWalkSampler;
 
 import java.util.List;
@@ -86,9 +88,13 @@ public final class RandomWalk extends Algorithm<Stream<long[]>> {
     public Stream<long[]> compute() {
         progressTracker.beginSubTask("RandomWalk");
 
-        RandomWalkSampler.CumulativeWeightSupplier cumulativeWeightSupplier = graph.hasRelationshipProperty()
-            ? cumulativeWeights()::get
-            : graph::degree;
+        NeighbourIndex neighbourIndex = null;
+        RandomWalkSampler.CumulativeWeightSupplier cumulativeWeightSupplier = graph::degree;
+        if (config.useNeighbourIndex()) {
+            neighbourIndex = neighbourIndex();
+        } else if (graph.hasRelationshipProperty()) {
+            cumulativeWeightSupplier = cumulativeWeights()::get;
+        }
 
         var randomSeed = config.randomSeed().orElseGet(() -> new Random().nextLong());
 
@@ -101,7 +107,15 @@ public final class RandomWalk extends Algorithm<Stream<long[]>> {
         BlockingQueue<long[]> walks = new ArrayBlockingQueue<>(config.walkBufferSize());
         long[] TOMB = new long[0];
 
-        startWalkers(terminationFlag, cumulativeWeightSupplier, randomSeed, nextNodeSupplier, walks, TOMB);
+        startWalkers(
+            terminationFlag,
+            cumulativeWeightSupplier,
+            neighbourIndex,
+            randomSeed,
+            nextNodeSupplier,
+            walks,
+            TOMB
+        );
         return walksQueueConsumer(terminationFlag, TOMB, walks);
     }
 
@@ -120,12 +134,20 @@ public final class RandomWalk extends Algorithm<Stream<long[]>> {
         ).compute();
     }
 
+    private NeighbourIndex neighbourIndex() {
+        progressTracker.beginSubTask("build neighbour index");
+        var neighbourIndex = NeighbourIndex.create(graph, config.concurrency(), executorService, progressTracker);
+        progressTracker.endSubTask("build neighbour index");
+        return neighbourIndex;
+    }
+
     @Override
     public void release() {}
 
     private void startWalkers(
         TerminationFlag terminationFlag,
         RandomWalkSampler.CumulativeWeightSupplier cumulativeWeightSupplier,
+        @Nullable NeighbourIndex neighbourIndex,
         long randomSeed,
         NextNodeSupplier nextNodeSupplier,
         BlockingQueue<long[]> walks,
@@ -137,6 +159,7 @@ public final class RandomWalk extends Algorithm<Stream<long[]>> {
                 RandomWalkTask.of(
                     nextNodeSupplier,
                     cumulativeWeightSupplier,
+                    neighbourIndex,
                     this.graph.concurrentCopy(),
                     this.config,
                     walks,
@@ -228,6 +251,7 @@ public final class RandomWalk extends Algorithm<Stream<long[]>> {
         static RandomWalkTask of(
             NextNodeSupplier nextNodeSupplier,
             RandomWalkSampler.CumulativeWeightSupplier cumulativeWeightSupplier,
+            @Nullable NeighbourIndex neighbourIndex,
             Graph graph,
             RandomWalkBaseConfig config,
             BlockingQueue<long[]> walks,
@@ -243,6 +267,7 @@ public final class RandomWalk extends Algorithm<Stream<long[]>> {
             return new RandomWalkTask(
                 nextNodeSupplier,
                 cumulativeWeightSupplier,
+                neighbourIndex,
                 config,
                 walks,
                 normalizedReturnProbability,
@@ -258,6 +283,7 @@ public final class RandomWalk extends Algorithm<Stream<long[]>> {
         private RandomWalkTask(
             NextNodeSupplier nextNodeSupplier,
             RandomWalkSampler.CumulativeWeightSupplier cumulativeWeightSupplier,
+            @Nullable NeighbourIndex neighbourIndex,
             RandomWalkBaseConfig config,
             BlockingQueue<long[]> walks,
             double normalizedReturnProbability,
@@ -274,15 +300,25 @@ public final class RandomWalk extends Algorithm<Stream<long[]>> {
             this.walks = walks;
             this.progressTracker = progressTracker;
             this.terminationFlag = terminationFlag;
-            this.sampler = new RandomWalkSampler(
-                cumulativeWeightSupplier,
-                config.walkLength(),
-                normalizedReturnProbability,
-                normalizedSameDistanceProbability,
-                normalizedInOutProbability,
-                graph,
-                randomSeed
-            );
+            this.sampler = neighbourIndex != null
+                ? new RandomWalkSampler(
+                    neighbourIndex,
+                    config.walkLength(),
+                    normalizedReturnProbability,
+                    normalizedSameDistanceProbability,
+                    normalizedInOutProbability,
+                    graph,
+                    randomSeed
+                )
+                : new RandomWalkSampler(
+                    cumulativeWeightSupplier,
+                    config.walkLength(),
+                    normalizedReturnProbability,
+                    normalizedSameDistanceProbability,
+                    normalizedInOutProbability,
+                    graph,
+                    randomSeed
+                );
 
             this.buffer = new long[1000][];
         }
@@ -30,6 +30,7 @@ import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.degree.DegreeCentralityFactory;
 import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.ml.core.samplers.NeighbourIndex;
 
 import java.util.ArrayList;
 
@@ -53,7 +54,9 @@ public class RandomWalkAlgorithmFactory<CONFIG extends RandomWalkBaseConfig> ext
         Graph graph, CONFIG config
     ) {
         var tasks = new ArrayList<Task>();
-        if (graph.hasRelationshipProperty()) {
+        if (config.useNeighbourIndex()) {
+            tasks.add(Tasks.leaf("build neighbour index", graph.nodeCount()));
+        } else if (graph.hasRelationshipProperty()) {
             tasks.add(DegreeCentralityFactory.degreeCentralityProgressTask(graph));
         }
         tasks.add(Tasks.leaf("create walks", graph.nodeCount()));
@@ -68,8 +71,16 @@ public class RandomWalkAlgorithmFactory<CONFIG extends RandomWalkBaseConfig> ext
 
         var maxMemoryUsage = sizeOfBuffer + MemoryUsage.sizeOfArray(config.walkBufferSize(), memoryUsagePerWalk);
 
-        return MemoryEstimations.builder(RandomWalk.class.getSimpleName())
-            .fixed("random walk buffer", MemoryRange.of(sizeOfBuffer, maxMemoryUsage))
-            .build();
+        var builder = MemoryEstimations.builder(RandomWalk.class.getSimpleName())
+            .fixed("random walk buffer", MemoryRange.of(sizeOfBuffer, maxMemoryUsage));
+
+        if (config.useNeighbourIndex()) {
+            builder.add(
+                "neighbour index",
+                NeighbourIndex.memoryEstimation(config.relationshipWeightProperty().isPresent())
+            );
+        }
+
+        return builder.build();
     }
 }
@@ -57,4 +57,13 @@ public interface RandomWalkBaseConfig extends AlgoBaseConfig, RelationshipWeight
     default double returnFactor() {
         return 1.0;
     }
+
+    /**
+     * Precompute a sorted copy of the adjacency with cumulative weights,
+     * trading memory for logarithmic instead of linear time per walk step.
+     */
+    @Value.Default
+    default boolean useNeighbourIndex() {
+        return false;
+    }
 }
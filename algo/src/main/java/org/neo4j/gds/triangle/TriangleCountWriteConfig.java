@@ -21,13 +21,14 @@ package org.neo4j.gds.triangle;
 
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.config.PipelinedNodePropertyWriteConfig;
 import org.neo4j.gds.config.WritePropertyConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface TriangleCountWriteConfig extends TriangleCountBaseConfig, WritePropertyConfig {
+public interface TriangleCountWriteConfig extends TriangleCountBaseConfig, WritePropertyConfig, PipelinedNodePropertyWriteConfig {
 
     static TriangleCountWriteConfig of(CypherMapWrapper userInput) {
         return new TriangleCountWriteConfigImpl(userInput);
@@ -22,13 +22,14 @@ package org.neo4j.gds.wcc;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.config.ComponentSizeConfig;
+import org.neo4j.gds.config.PipelinedNodePropertyWriteConfig;
 import org.neo4j.gds.config.WritePropertyConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface WccWriteConfig extends WccBaseConfig, WritePropertyConfig, ComponentSizeConfig {
+public interface WccWriteConfig extends WccBaseConfig, WritePropertyConfig, PipelinedNodePropertyWriteConfig, ComponentSizeConfig {
 
     static WccWriteConfig of(CypherMapWrapper userInput) {
         return new WccWriteConfigImpl(userInput);
@@ -24,6 +24,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.GraphDimensions;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.paged.HugeAtomicDoubleArray;
@@ -144,6 +145,28 @@ class BetweennessCentralityTest {
         );
     }
 
+    static Stream<Arguments> batchedTestArguments() {
+        return crossArguments(() -> Stream.of(1, 3, 64).map(Arguments::of), BetweennessCentralityTest::expectedResults);
+    }
+
+    @ParameterizedTest(name = "graph={1}, sourceBatchSize={0}, samplingSize={2}")
+    @MethodSource("org.neo4j.gds.betweenness.BetweennessCentralityTest#batchedTestArguments")
+    void batchedSampling(int sourceBatchSize, TestGraph graph, int samplingSize, Map<String, Double> expectedResult) {
+        HugeAtomicDoubleArray actualResult = new BetweennessCentrality(
+            graph,
+            new SelectionStrategy.RandomDegree(samplingSize, Optional.of(42L)),
+            ForwardTraverser.Factory.unweighted(),
+            Pools.DEFAULT,
+            4,
+            sourceBatchSize,
+            ProgressTracker.NULL_TRACKER
+        ).compute();
+        assertEquals(expectedResult.size(), actualResult.size());
+        expectedResult.forEach((variable, expectedCentrality) ->
+            assertEquals(expectedCentrality, actualResult.get(graph.toMappedNodeId(variable)), 1E-9, variable)
+        );
+    }
+
     @ParameterizedTest
     @ValueSource(ints = {1, 4})
     void noSampling(int concurrency) {
@@ -182,4 +205,17 @@ class BetweennessCentralityTest {
             MemoryRange.of(expectedMinBytes, expectedMaxBytes)
         );
     }
+
+    @ParameterizedTest
+    @ValueSource(ints = {4, 42})
+    void testBatchedMemoryEstimationIsIndependentOfConcurrency(int concurrency) {
+        var config = BetweennessCentralityStreamConfig.of(CypherMapWrapper.create(Map.of("sourceBatchSize", 64)));
+        var memoryEstimation = new BetweennessCentralityFactory<>().memoryEstimation(config);
+        var dimensions = GraphDimensions.of(100_000L);
+
+        assertEquals(
+            memoryEstimation.estimate(dimensions, 1).memoryUsage(),
+            memoryEstimation.estimate(dimensions, concurrency).memoryUsage()
+        );
+    }
 }
@@ -42,6 +42,7 @@ import java.util.Optional;
 import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
@@ -141,6 +142,53 @@ class GraphSageEmbeddingsGeneratorTest {
         LongStream.range(0, weightedGraph.nodeCount()).forEach(n -> assertEquals(EMBEDDING_DIMENSION, embeddings.get(n).length));
     }
 
+    @ParameterizedTest
+    @EnumSource(Aggregator.AggregatorType.class)
+    void layerWiseEmbeddingsEqualBatchWiseEmbeddings(Aggregator.AggregatorType aggregatorType) {
+        var config = GraphSageTrainConfigImpl.builder()
+            .aggregator(aggregatorType)
+            .embeddingDimension(EMBEDDING_DIMENSION)
+            .featureProperties(Collections.nCopies(FEATURES_COUNT, "dummyProp"))
+            .modelName(MODEL_NAME)
+            .modelUser("")
+            .relationshipWeightProperty("times")
+            .sampleSizes(List.of(3, 2))
+            .batchSize(3)
+            .randomSeed(42L)
+            .build();
+
+        var features = GraphSageHelper.initializeSingleLabelFeatures(weightedGraph, config);
+        var layers = new GraphSageModelTrainer(config, Pools.DEFAULT, ProgressTracker.NULL_TRACKER)
+            .train(weightedGraph, features)
+            .layers();
+
+        var batchWiseEmbeddings = new GraphSageEmbeddingsGenerator(
+            layers,
+            config.batchSize(),
+            config.concurrency(),
+            new SingleLabelFeatureFunction(),
+            config.randomSeed(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER,
+            false
+        ).makeEmbeddings(weightedGraph, features);
+
+        var layerWiseEmbeddings = new GraphSageEmbeddingsGenerator(
+            layers,
+            config.batchSize(),
+            config.concurrency(),
+            new SingleLabelFeatureFunction(),
+            config.randomSeed(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER,
+            true
+        ).makeEmbeddings(weightedGraph, features);
+
+        for (long nodeId = 0; nodeId < weightedGraph.nodeCount(); nodeId++) {
+            assertArrayEquals(batchWiseEmbeddings.get(nodeId), layerWiseEmbeddings.get(nodeId), 1e-9);
+        }
+    }
+
     @Test
     void embeddingsForNodeFilteredGraph() {
         GdlFactory factory = GdlFactory.of(
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.graphsage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.model.Model;
+import org.neo4j.gds.core.model.ModelDataFile;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.embeddings.graphsage.algo.GraphSage;
+import org.neo4j.gds.embeddings.graphsage.algo.GraphSageTrainConfig;
+import org.neo4j.gds.embeddings.graphsage.algo.GraphSageTrainConfigImpl;
+import org.neo4j.gds.embeddings.graphsage.algo.MultiLabelGraphSageTrain;
+import org.neo4j.gds.embeddings.graphsage.algo.SingleLabelGraphSageTrain;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class GraphSageModelDataSerializerTest {
+
+    @GdlGraph(orientation = Orientation.UNDIRECTED)
+    private static final String GDL =
+        "CREATE" +
+        "  (a:P {f1: 0.0, f2: 0.5})" +
+        ", (b:P {f1: 1.0, f2: 0.0})" +
+        ", (c:P {f1: 0.5, f2: 1.0})" +
+        ", (d:P {f1: 0.2, f2: 0.3})" +
+        ", (a)-[:T]->(b)" +
+        ", (b)-[:T]->(c)" +
+        ", (c)-[:T]->(d)";
+
+    @GdlGraph(graphNamePrefix = "multiLabel")
+    private static final String MULTI_LABEL_GDL = GraphSageTestGraph.GDL;
+
+    @Inject
+    private Graph graph;
+
+    @Inject
+    private Graph multiLabelGraph;
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest
+    @EnumSource(Aggregator.AggregatorType.class)
+    void shouldRoundTripSingleLabelModel(Aggregator.AggregatorType aggregator) {
+        var config = GraphSageTrainConfigImpl.builder()
+            .modelUser("user")
+            .modelName("model")
+            .featureProperties(List.of("f1", "f2"))
+            .aggregator(aggregator)
+            .embeddingDimension(4)
+            .sampleSizes(List.of(3, 2))
+            .randomSeed(42L)
+            .build();
+
+        var model = new SingleLabelGraphSageTrain(graph, config, Pools.DEFAULT, ProgressTracker.NULL_TRACKER).compute();
+
+        var restoredData = roundTrip(model);
+
+        assertThat(restoredData.featureFunction()).isExactlyInstanceOf(SingleLabelFeatureFunction.class);
+    }
+
+    @Test
+    void shouldRoundTripMultiLabelModel() {
+        var config = GraphSageTrainConfigImpl.builder()
+            .modelUser("user")
+            .modelName("model")
+            .featureProperties(List.of("numEmployees", "numIngredients", "rating", "numPurchases", "embedding"))
+            .projectedFeatureDimension(5)
+            .embeddingDimension(4)
+            .randomSeed(42L)
+            .build();
+
+        var model = new MultiLabelGraphSageTrain(multiLabelGraph, config, Pools.DEFAULT, ProgressTracker.NULL_TRACKER).compute();
+
+        var restoredData = roundTrip(model);
+
+        assertThat(restoredData.featureFunction()).isExactlyInstanceOf(MultiLabelFeatureFunction.class);
+        var originalFeatureFunction = (MultiLabelFeatureFunction) model.data().featureFunction();
+        var restoredFeatureFunction = (MultiLabelFeatureFunction) restoredData.featureFunction();
+        assertThat(restoredFeatureFunction.projectedFeatureDimension())
+            .isEqualTo(originalFeatureFunction.projectedFeatureDimension());
+        assertThat(restoredFeatureFunction.weightsByLabel()).hasSameSizeAs(originalFeatureFunction.weightsByLabel());
+        originalFeatureFunction.weightsByLabel().forEach((label, weights) ->
+            assertThat(restoredFeatureFunction.weightsByLabel().get(label).data().data())
+                .containsExactly(weights.data().data())
+        );
+    }
+
+    private ModelData roundTrip(
+        Model<ModelData, GraphSageTrainConfig, GraphSageModelTrainer.GraphSageTrainMetrics> model
+    ) {
+        assertThat(ModelDataFile.canSerialize(model)).isTrue();
+
+        var file = tempDir.resolve("model" + ModelDataFile.FILE_EXTENSION);
+        ModelDataFile.write(file, model);
+
+        var restoredMetadata = ModelDataFile.readMetadata(file);
+        assertThat(restoredMetadata.algoType()).isEqualTo(GraphSage.MODEL_TYPE);
+        assertThat(restoredMetadata.trainConfig().toMap()).isEqualTo(model.trainConfig().toMap());
+        assertThat(restoredMetadata.customInfo().toMap()).isEqualTo(model.customInfo().toMap());
+
+        var restoredData = (ModelData) ModelDataFile.readData(file);
+        var originalLayers = model.data().layers();
+        var restoredLayers = restoredData.layers();
+        assertThat(restoredLayers).hasSameSizeAs(originalLayers);
+        for (int i = 0; i < originalLayers.length; i++) {
+            var original = originalLayers[i];
+            var restored = restoredLayers[i];
+            assertThat(restored.sampleSize()).isEqualTo(original.sampleSize());
+            assertThat(restored.aggregator().type()).isEqualTo(original.aggregator().type());
+            assertThat(restored.aggregator().activationFunction()).isEqualTo(original.aggregator().activationFunction());
+            var originalWeights = original.weights();
+            var restoredWeights = restored.weights();
+            assertThat(restoredWeights).hasSameSizeAs(originalWeights);
+            for (int j = 0; j < originalWeights.size(); j++) {
+                assertThat(restoredWeights.get(j).data().data()).containsExactly(originalWeights.get(j).data().data());
+            }
+        }
+
+        return restoredData;
+    }
+}
@@ -19,10 +19,8 @@
  */
 package org.neo4j.gds.embeddings.hashgnn;
 
-import com.carrotsearch.hppc.BitSet;
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.extension.GdlExtension;
@@ -64,7 +62,7 @@ class BinarizeTaskTest {
             .iterations(100)
             .build();
         var featureExtractors = FeatureExtraction.propertyExtractors(graph, List.of("f1", "f2"));
-        var features = HugeObjectArray.newArray(BitSet.class, graph.nodeCount());
+        var features = HugeBitMatrix.of(graph.nodeCount(), 4);
         // each feature is the minimal in one of the hash arrays
         var hashes = List.of(
             new int[]{0, 1, 2, 3},
@@ -91,20 +89,20 @@ class BinarizeTaskTest {
         var idB = graph.toMappedNodeId(idFunction.of("b"));
         var idC = graph.toMappedNodeId(idFunction.of("c"));
 
-        assertThat(features.get(idA).get(0)).isTrue();
-        assertThat(features.get(idA).get(1)).isFalse();
-        assertThat(features.get(idA).get(2)).isFalse();
-        assertThat(features.get(idA).get(3)).isFalse();
+        assertThat(features.get(idA, 0)).isTrue();
+        assertThat(features.get(idA, 1)).isFalse();
+        assertThat(features.get(idA, 2)).isFalse();
+        assertThat(features.get(idA, 3)).isFalse();
 
-        assertThat(features.get(idB).get(0)).isFalse();
-        assertThat(features.get(idB).get(1)).isTrue();
-        assertThat(features.get(idB).get(2)).isFalse();
-        assertThat(features.get(idB).get(3)).isFalse();
+        assertThat(features.get(idB, 0)).isFalse();
+        assertThat(features.get(idB, 1)).isTrue();
+        assertThat(features.get(idB, 2)).isFalse();
+        assertThat(features.get(idB, 3)).isFalse();
 
-        assertThat(features.get(idC).get(0)).isTrue();
-        assertThat(features.get(idC).get(1)).isFalse();
-        assertThat(features.get(idC).get(2)).isTrue();
-        assertThat(features.get(idC).get(3)).isFalse();
+        assertThat(features.get(idC, 0)).isTrue();
+        assertThat(features.get(idC, 1)).isFalse();
+        assertThat(features.get(idC, 2)).isTrue();
+        assertThat(features.get(idC, 3)).isFalse();
 
     }
 
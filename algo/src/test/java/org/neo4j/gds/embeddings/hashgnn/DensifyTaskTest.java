@@ -19,7 +19,6 @@
  */
 package org.neo4j.gds.embeddings.hashgnn;
 
-import com.carrotsearch.hppc.BitSet;
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.partition.Partition;
@@ -45,20 +44,14 @@ class DensifyTaskTest {
             .iterations(100)
             .build();
         var denseFeatures = HugeObjectArray.newArray(double[].class, nodeCount);
-        var binaryFeatures = HugeObjectArray.newArray(BitSet.class, nodeCount);
-        binaryFeatures.set(0, new BitSet() {{
-            set(0);
-            set(1);
-            set(2);
-        }});
-        binaryFeatures.set(1, new BitSet() {{
-            set(0);
-            set(1);
-        }});
-        binaryFeatures.set(2, new BitSet() {{
-            set(0);
-            set(2);
-        }});
+        var binaryFeatures = HugeBitMatrix.of(nodeCount, 3);
+        binaryFeatures.set(0, 0);
+        binaryFeatures.set(0, 1);
+        binaryFeatures.set(0, 2);
+        binaryFeatures.set(1, 0);
+        binaryFeatures.set(1, 1);
+        binaryFeatures.set(2, 0);
+        binaryFeatures.set(2, 2);
         var projectionMatrix = new float[][]{
             {1.1f, 1.0f, -1.0f, 0.0f, 0.0f},
             {0.0f, -0.9f, 1.0f, 0.0f, 1.0f},
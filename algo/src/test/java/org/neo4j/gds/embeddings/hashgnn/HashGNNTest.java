@@ -94,9 +94,9 @@ class HashGNNTest {
             .build();
         var result = new HashGNN(binaryGraph, config, ProgressTracker.NULL_TRACKER).compute().embeddings();
         //dimension should be equal to dimension of feature input which is 3
-        assertThat(result.get(binaryGraph.toMappedNodeId(binaryIdFunction.of("a")))).containsExactly(1.0, 0.0, 0.0);
-        assertThat(result.get(binaryGraph.toMappedNodeId(binaryIdFunction.of("b")))).containsExactly(1.0, 1.0, 1.0);
-        assertThat(result.get(binaryGraph.toMappedNodeId(binaryIdFunction.of("c")))).containsExactly(0.0, 0.0, 1.0);
+        assertThat(result.doubleArrayValue(binaryGraph.toMappedNodeId(binaryIdFunction.of("a")))).containsExactly(1.0, 0.0, 0.0);
+        assertThat(result.doubleArrayValue(binaryGraph.toMappedNodeId(binaryIdFunction.of("b")))).containsExactly(1.0, 1.0, 1.0);
+        assertThat(result.doubleArrayValue(binaryGraph.toMappedNodeId(binaryIdFunction.of("c")))).containsExactly(0.0, 0.0, 1.0);
     }
 
     @Test
@@ -111,9 +111,9 @@ class HashGNNTest {
             .build();
         var result = new HashGNN(binaryGraph, config, ProgressTracker.NULL_TRACKER).compute().embeddings();
         //dimension should be equal to dimension of feature input which is 3
-        assertThat(result.get(binaryGraph.toMappedNodeId(binaryIdFunction.of("a")))).containsExactly(1.0, 0.0, 0.0);
-        assertThat(result.get(binaryGraph.toMappedNodeId(binaryIdFunction.of("b")))).containsExactly(1.0, 0.0, 1.0);
-        assertThat(result.get(binaryGraph.toMappedNodeId(binaryIdFunction.of("c")))).containsExactly(0.0, 0.0, 1.0);
+        assertThat(result.doubleArrayValue(binaryGraph.toMappedNodeId(binaryIdFunction.of("a")))).containsExactly(1.0, 0.0, 0.0);
+        assertThat(result.doubleArrayValue(binaryGraph.toMappedNodeId(binaryIdFunction.of("b")))).containsExactly(1.0, 0.0, 1.0);
+        assertThat(result.doubleArrayValue(binaryGraph.toMappedNodeId(binaryIdFunction.of("c")))).containsExactly(0.0, 0.0, 1.0);
     }
 
     @Test
@@ -127,9 +127,48 @@ class HashGNNTest {
             .build();
         var result = new HashGNN(binaryGraph, config, ProgressTracker.NULL_TRACKER).compute().embeddings();
         //dimension should be equal to dimension of feature input which is 3
-        assertThat(result.get(binaryGraph.toMappedNodeId(binaryIdFunction.of("a")))).containsExactly(1.0, 0.0, 0.0);
-        assertThat(result.get(binaryGraph.toMappedNodeId(binaryIdFunction.of("b")))).containsExactly(0.0, 0.0, 1.0);
-        assertThat(result.get(binaryGraph.toMappedNodeId(binaryIdFunction.of("c")))).containsExactly(0.0, 0.0, 1.0);
+        assertThat(result.doubleArrayValue(binaryGraph.toMappedNodeId(binaryIdFunction.of("a")))).containsExactly(1.0, 0.0, 0.0);
+        assertThat(result.doubleArrayValue(binaryGraph.toMappedNodeId(binaryIdFunction.of("b")))).containsExactly(0.0, 0.0, 1.0);
+        assertThat(result.doubleArrayValue(binaryGraph.toMappedNodeId(binaryIdFunction.of("c")))).containsExactly(0.0, 0.0, 1.0);
+    }
+
+    @Test
+    void packedEmbeddingsMatchUnpackedEmbeddings() {
+        var config = HashGNNConfigImpl
+            .builder()
+            .featureProperties(List.of("f1", "f2"))
+            .embeddingDensity(200)
+            .iterations(10)
+            .randomSeed(42L)
+            .build();
+        var result = new HashGNN(binaryGraph, config, ProgressTracker.NULL_TRACKER).compute();
+        var embeddings = result.embeddings();
+        var packedEmbeddings = result.packedEmbeddings().orElseThrow();
+
+        for (long nodeId = 0; nodeId < binaryGraph.nodeCount(); nodeId++) {
+            var embedding = embeddings.doubleArrayValue(nodeId);
+            var packedEmbedding = packedEmbeddings.longArrayValue(nodeId);
+            assertThat(packedEmbedding.length).isEqualTo(1);
+            for (int dimension = 0; dimension < embedding.length; dimension++) {
+                boolean isSet = (packedEmbedding[0] & (1L << dimension)) != 0;
+                assertThat(isSet).isEqualTo(embedding[dimension] == 1.0);
+            }
+        }
+    }
+
+    @Test
+    void shouldNotPackDensifiedEmbeddings() {
+        var config = HashGNNConfigImpl
+            .builder()
+            .featureProperties(List.of("f1", "f2"))
+            .embeddingDensity(2)
+            .outputDimension(42)
+            .iterations(2)
+            .randomSeed(42L)
+            .build();
+        var result = new HashGNN(binaryGraph, config, ProgressTracker.NULL_TRACKER).compute();
+
+        assertThat(result.packedEmbeddings().isPresent()).isFalse();
     }
 
     static Stream<Arguments> determinismParams() {
@@ -168,7 +207,7 @@ class HashGNNTest {
         var result2 = new HashGNN(binaryGraph, config, ProgressTracker.NULL_TRACKER).compute().embeddings();
 
         for (int i = 0; i < result1.size(); i++) {
-            assertThat(result1.get(i)).containsExactly(result2.get(i));
+            assertThat(result1.doubleArrayValue(i)).containsExactly(result2.doubleArrayValue(i));
         }
     }
 
@@ -195,9 +234,9 @@ class HashGNNTest {
         // the neighbors are expected to have the same features as their initial projection
 
 
-        double[] embeddingB = result.get(doubleGraph.toMappedNodeId(doubleIdFunction.of("b")));
-        double[] embeddingABefore = resultBefore.get(doubleGraph.toMappedNodeId(doubleIdFunction.of("a")));
-        double[] embeddingCBefore = resultBefore.get(doubleGraph.toMappedNodeId(doubleIdFunction.of("c")));
+        double[] embeddingB = result.doubleArrayValue(doubleGraph.toMappedNodeId(doubleIdFunction.of("b")));
+        double[] embeddingABefore = resultBefore.doubleArrayValue(doubleGraph.toMappedNodeId(doubleIdFunction.of("a")));
+        double[] embeddingCBefore = resultBefore.doubleArrayValue(doubleGraph.toMappedNodeId(doubleIdFunction.of("c")));
 
         var bHasUniqueFeature = false;
         for (int component = 0; component < binarizationDimension; component++) {
@@ -210,7 +249,7 @@ class HashGNNTest {
             }
         }
 
-        assertThat(result.get(0).length).isEqualTo(binarizationDimension);
+        assertThat(result.doubleArrayValue(0).length).isEqualTo(binarizationDimension);
         assertThat(bHasUniqueFeature).isTrue();
     }
 
@@ -236,9 +275,9 @@ class HashGNNTest {
         var result = new HashGNN(doubleGraph, config, ProgressTracker.NULL_TRACKER).compute().embeddings();
         // because of equal neighbor and self influence and high embeddingDensity, we expect the node `b` to have the union of features of its neighbors plus some of its own features
         // the neighbors are expected to have the same features as their initial projection
-        double[] embeddingB = result.get(doubleGraph.toMappedNodeId(doubleIdFunction.of("b")));
-        double[] embeddingABefore = resultBefore.get(doubleGraph.toMappedNodeId(doubleIdFunction.of("a")));
-        double[] embeddingCBefore = resultBefore.get(doubleGraph.toMappedNodeId(doubleIdFunction.of("c")));
+        double[] embeddingB = result.doubleArrayValue(doubleGraph.toMappedNodeId(doubleIdFunction.of("b")));
+        double[] embeddingABefore = resultBefore.doubleArrayValue(doubleGraph.toMappedNodeId(doubleIdFunction.of("a")));
+        double[] embeddingCBefore = resultBefore.doubleArrayValue(doubleGraph.toMappedNodeId(doubleIdFunction.of("c")));
         for (int component = 0; component < binarizationDimension; component++) {
             assertThat(embeddingB[component]).isEqualTo(Math.max(
                 embeddingABefore[component],
@@ -246,7 +285,7 @@ class HashGNNTest {
             ));
         }
 
-        assertThat(result.get(0).length).isEqualTo(binarizationDimension);
+        assertThat(result.doubleArrayValue(0).length).isEqualTo(binarizationDimension);
     }
 
     @Test
@@ -264,30 +303,30 @@ class HashGNNTest {
             .build();
         var result = new HashGNN(binaryGraph, config, ProgressTracker.NULL_TRACKER).compute().embeddings();
         //dimension should be equal to dimension of feature input which is 3
-        assertThat(result.get(0).length).isEqualTo(42);
-        assertThat(result.get(1).length).isEqualTo(42);
-        assertThat(result.get(2).length).isEqualTo(42);
+        assertThat(result.doubleArrayValue(0).length).isEqualTo(42);
+        assertThat(result.doubleArrayValue(1).length).isEqualTo(42);
+        assertThat(result.doubleArrayValue(2).length).isEqualTo(42);
     }
 
     @ParameterizedTest
     @CsvSource(value = {
         // BASE
-        "    10,  4,  10_000, 20_000, 1,  86_055_752",
+        "    10,  4,  10_000, 20_000, 1,  3_055_640",
 
-        // Should increase fairly little with higher density
-        "   100,  4,  10_000, 20_000, 1,  90_515_432",
+        // Should increase with higher density, as more hashes are cached
+        "   100,  4,  10_000, 20_000, 1,  7_515_320",
 
         // Should increase fairly little with more iterations
-        "    10, 16,  10_000, 20_000, 1,  87_542_312",
+        "    10, 16,  10_000, 20_000, 1,  4_542_200",
 
         // Should increase almost linearly with node count
-        "    10,  4, 100_000, 20_000, 1, 856_096_112",
+        "    10,  4, 100_000, 20_000, 1, 26_095_640",
 
         // Should be unaffected by relationship count
-        "    10,  4,  10_000, 80_000, 1,  86_055_752",
+        "    10,  4,  10_000, 80_000, 1,  3_055_640",
 
         // Should be unaffected by concurrency
-        "    10,  4,  10_000, 20_000, 8,  86_055_752",
+        "    10,  4,  10_000, 20_000, 8,  3_055_640",
     })
         void shouldEstimateMemory(
         int embeddingDensity,
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.embeddings.hashgnn;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HugeBitMatrixTest {
+
+    @Test
+    void shouldKeepRowsSeparate() {
+        var matrix = HugeBitMatrix.of(3, 70);
+        matrix.set(0, 0);
+        matrix.set(1, 69);
+        matrix.set(2, 63);
+        matrix.set(2, 64);
+
+        assertThat(matrix.get(0, 0)).isTrue();
+        assertThat(matrix.get(0, 69)).isFalse();
+        assertThat(matrix.get(1, 0)).isFalse();
+        assertThat(matrix.get(1, 69)).isTrue();
+        assertThat(matrix.get(2, 63)).isTrue();
+        assertThat(matrix.get(2, 64)).isTrue();
+        assertThat(matrix.capacity()).isEqualTo(128);
+    }
+
+    @Test
+    void shouldIterateSetBits() {
+        var matrix = HugeBitMatrix.of(2, 200);
+        matrix.set(1, 3);
+        matrix.set(1, 64);
+        matrix.set(1, 199);
+
+        assertThat(matrix.nextSetBit(0, 0)).isEqualTo(-1);
+        assertThat(matrix.nextSetBit(1, 0)).isEqualTo(3);
+        assertThat(matrix.nextSetBit(1, 4)).isEqualTo(64);
+        assertThat(matrix.nextSetBit(1, 65)).isEqualTo(199);
+        assertThat(matrix.nextSetBit(1, 200)).isEqualTo(-1);
+    }
+
+    @Test
+    void shouldConvertRows() {
+        var matrix = HugeBitMatrix.of(1, 66);
+        matrix.set(0, 1);
+        matrix.set(0, 65);
+
+        assertThat(matrix.packedRow(0)).containsExactly(2L, 2L);
+        var expected = new double[66];
+        expected[1] = 1.0;
+        expected[65] = 1.0;
+        assertThat(matrix.toDoubleArray(0)).containsExactly(expected);
+
+        matrix.clearAll();
+        assertThat(matrix.packedRow(0)).containsExactly(0L, 0L);
+    }
+}
@@ -19,10 +19,8 @@
  */
 package org.neo4j.gds.embeddings.hashgnn;
 
-import com.carrotsearch.hppc.BitSet;
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.api.Graph;
-import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.extension.GdlExtension;
@@ -61,8 +59,8 @@ class RawFeaturesTaskTest {
             .iterations(100)
             .build();
         var featureExtractors = FeatureExtraction.propertyExtractors(graph, List.of("f1", "f2"));
-        var features = HugeObjectArray.newArray(BitSet.class, graph.nodeCount());
         var inputDimension = FeatureExtraction.featureCount(featureExtractors);
+        var features = HugeBitMatrix.of(graph.nodeCount(), inputDimension);
         var hashes = List.of(new int[]{4, 2, 9}, new int[]{6, 2, 1});
 
         new RawFeaturesTask(
@@ -79,17 +77,17 @@ class RawFeaturesTaskTest {
         var idB = graph.toMappedNodeId(idFunction.of("b"));
         var idC = graph.toMappedNodeId(idFunction.of("c"));
 
-        assertThat(features.get(idA).get(0)).isFalse();
-        assertThat(features.get(idA).get(1)).isTrue();
-        assertThat(features.get(idA).get(2)).isTrue();
+        assertThat(features.get(idA, 0)).isFalse();
+        assertThat(features.get(idA, 1)).isTrue();
+        assertThat(features.get(idA, 2)).isTrue();
 
-        assertThat(features.get(idB).get(0)).isFalse();
-        assertThat(features.get(idB).get(1)).isTrue();
-        assertThat(features.get(idB).get(2)).isFalse();
+        assertThat(features.get(idB, 0)).isFalse();
+        assertThat(features.get(idB, 1)).isTrue();
+        assertThat(features.get(idB, 2)).isFalse();
 
-        assertThat(features.get(idC).get(0)).isTrue();
-        assertThat(features.get(idC).get(1)).isFalse();
-        assertThat(features.get(idC).get(2)).isTrue();
+        assertThat(features.get(idC, 0)).isTrue();
+        assertThat(features.get(idC, 1)).isFalse();
+        assertThat(features.get(idC, 2)).isTrue();
     }
 
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.influenceMaximization;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@GdlExtension
+class ReverseInfluenceSamplingTest {
+
+    @GdlGraph
+    private static final String DB_CYPHER =
+        "CREATE " +
+        "  (hub)" +
+        ", (a), (b), (c), (d), (e), (f), (g), (h)" +
+        ", (hub)-[:R]->(a)" +
+        ", (hub)-[:R]->(b)" +
+        ", (hub)-[:R]->(c)" +
+        ", (hub)-[:R]->(d)" +
+        ", (hub)-[:R]->(e)" +
+        ", (hub)-[:R]->(f)" +
+        ", (hub)-[:R]->(g)" +
+        ", (hub)-[:R]->(h)" +
+        ", (a)-[:R]->(b)";
+
+    @Inject
+    private TestGraph graph;
+
+    @Inject
+    private IdFunction idFunction;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldSelectTheNodeReachingAllOthers(int concurrency) {
+        var celf = new CELF(
+            graph,
+            1,
+            1.0,
+            1,
+            Pools.DEFAULT,
+            concurrency,
+            42L,
+            CELFAlgorithmFactory.DEFAULT_BATCH_SIZE,
+            SpreadEstimation.REVERSE_INFLUENCE_SAMPLING,
+            0.5,
+            ProgressTracker.NULL_TRACKER
+        );
+
+        var seedSetNodes = celf.compute();
+
+        assertThat(seedSetNodes.size()).isEqualTo(1);
+        // every node is reached from the hub, so the hub is part of every reverse reachable set
+        assertThat(seedSetNodes.get(idFunction.of("hub"))).isCloseTo(9.0, within(1E-9));
+    }
+
+    @Test
+    void shouldNotDependOnConcurrency() {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var singleThreaded = new CELF(
+            randomGraph, 10, 0.1, 1, Pools.DEFAULT, 1, 42L, CELFAlgorithmFactory.DEFAULT_BATCH_SIZE,
+            SpreadEstimation.REVERSE_INFLUENCE_SAMPLING, 0.5, ProgressTracker.NULL_TRACKER
+        ).compute();
+        var multiThreaded = new CELF(
+            randomGraph, 10, 0.1, 1, Pools.DEFAULT, 4, 42L, CELFAlgorithmFactory.DEFAULT_BATCH_SIZE,
+            SpreadEstimation.REVERSE_INFLUENCE_SAMPLING, 0.5, ProgressTracker.NULL_TRACKER
+        ).compute();
+
+        assertThat(multiThreaded.size()).isEqualTo(10);
+        assertThat(multiThreaded.keys().toArray()).containsExactlyInAnyOrder(singleThreaded.keys().toArray());
+        for (var seed : singleThreaded) {
+            assertThat(multiThreaded.get(seed.key)).isEqualTo(seed.value);
+        }
+    }
+
+    @Test
+    void shouldComputeLogBinomial() {
+        assertThat(ReverseInfluenceSampling.logBinomial(10, 3)).isCloseTo(Math.log(120), within(1E-9));
+        assertThat(ReverseInfluenceSampling.logBinomial(10, 0)).isEqualTo(0);
+    }
+}
@@ -21,8 +21,13 @@ package org.neo4j.gds.kmeans;
 
 import org.assertj.core.data.Offset;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.PropertyProducer;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
@@ -266,6 +271,81 @@ class KmeansTest {
 
     }
 
+    @Test
+    void shouldComputeSimplifiedSilhouette() {
+        var kmeansConfig = ImmutableKmeansStreamConfig.builder()
+            .nodeProperty("kmeans")
+            .concurrency(1)
+            .randomSeed(19L)
+            .k(2)
+            .computeSilhouette(true)
+            .simplifiedSilhouette(true)
+            .build();
+        var kmeansContext = ImmutableKmeansContext.builder().build();
+
+        var result = Kmeans.createKmeans(graph, kmeansConfig, kmeansContext).compute();
+        var silhouette = result.silhouette();
+
+        // centroids are (1, 1.5) and (101, 101)
+        assertThat(silhouette.get(0)).isCloseTo(1 - 0.5 / Math.sqrt(100 * 100 + 100 * 100), Offset.offset(1e-6));
+        assertThat(silhouette.get(1)).isCloseTo(1 - 0.5 / Math.sqrt(100 * 100 + 99 * 99), Offset.offset(1e-6));
+        assertThat(silhouette.get(2)).isCloseTo(1 - Math.sqrt(2) / Math.sqrt(101 * 101 + 98.5 * 98.5), Offset.offset(1e-6));
+        assertThat(silhouette.get(3)).isCloseTo(1 - Math.sqrt(2) / Math.sqrt(99 * 99 + 100.5 * 100.5), Offset.offset(1e-6));
+    }
+
+    @Test
+    void shouldEstimateSilhouetteFromSample() {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(1_000)
+            .averageDegree(1)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .nodePropertyProducer(PropertyProducer.randomDoubleArray("kmeans", 4, -1, 1))
+            .seed(42L)
+            .build()
+            .generate();
+
+        var configBuilder = ImmutableKmeansStreamConfig.builder()
+            .nodeProperty("kmeans")
+            .concurrency(4)
+            .randomSeed(19L)
+            .k(5)
+            .computeSilhouette(true);
+        var kmeansContext = ImmutableKmeansContext.builder().build();
+
+        var exact = Kmeans.createKmeans(randomGraph, configBuilder.build(), kmeansContext).compute();
+        var sampled = Kmeans
+            .createKmeans(randomGraph, configBuilder.silhouetteSampleSize(300L).build(), kmeansContext)
+            .compute();
+
+        assertThat(sampled.communities().toArray()).containsExactly(exact.communities().toArray());
+        assertThat(sampled.averageSilhouette()).isCloseTo(exact.averageSilhouette(), Offset.offset(0.02));
+    }
+
+    @Test
+    void shouldNotCombineSampledAndSimplifiedSilhouette() {
+        assertThatThrownBy(() -> ImmutableKmeansStreamConfig.builder()
+            .nodeProperty("kmeans")
+            .silhouetteSampleSize(10L)
+            .simplifiedSilhouette(true)
+            .build()
+        ).hasMessageContaining("cannot be combined");
+    }
+
+    @Test
+    void shouldRequireComputeSilhouetteForSilhouetteOptions() {
+        assertThatThrownBy(() -> ImmutableKmeansStreamConfig.builder()
+            .nodeProperty("kmeans")
+            .silhouetteSampleSize(10L)
+            .build()
+        ).hasMessageContaining("require 'computeSilhouette' to be true");
+
+        assertThatThrownBy(() -> ImmutableKmeansStreamConfig.builder()
+            .nodeProperty("kmeans")
+            .simplifiedSilhouette(true)
+            .build()
+        ).hasMessageContaining("require 'computeSilhouette' to be true");
+    }
+
     @Test
     void shouldNotWorkForRestartsAndSeeds() {
         var kmeansConfig = ImmutableKmeansStreamConfig.builder()
@@ -503,4 +583,32 @@ class KmeansTest {
             );
     }
 
+    @ParameterizedTest
+    @EnumSource(KmeansSampler.SamplerType.class)
+    void boundedAssignmentShouldProduceTheSameClusters(KmeansSampler.SamplerType samplerType) {
+        var randomGraph = RandomGraphGenerator.builder()
+            .nodeCount(2_000)
+            .averageDegree(1)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .nodePropertyProducer(PropertyProducer.randomDoubleArray("kmeans", 8, -1, 1))
+            .seed(42L)
+            .build()
+            .generate();
+
+        var configBuilder = ImmutableKmeansStreamConfig.builder()
+            .nodeProperty("kmeans")
+            .concurrency(4)
+            .randomSeed(19L)
+            .k(25)
+            .maxIterations(50)
+            .deltaThreshold(0)
+            .initialSampler(samplerType);
+        var kmeansContext = ImmutableKmeansContext.builder().build();
+
+        var expected = Kmeans.createKmeans(randomGraph, configBuilder.boundedAssignment(false).build(), kmeansContext).compute();
+        var actual = Kmeans.createKmeans(randomGraph, configBuilder.boundedAssignment(true).build(), kmeansContext).compute();
+
+        assertThat(actual.communities().toArray()).containsExactly(expected.communities().toArray());
+        assertThat(actual.centers()).isDeepEqualTo(expected.centers());
+    }
 }
@@ -30,6 +30,8 @@ import org.neo4j.gds.Orientation;
 import org.neo4j.gds.TestProgressTracker;
 import org.neo4j.gds.TestSupport;
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
 import org.neo4j.gds.core.GraphDimensions;
@@ -57,6 +59,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
@@ -836,6 +839,248 @@ final class NodeSimilarityTest {
             );
     }
 
+    @ParameterizedTest(name = "concurrency = {0}")
+    @ValueSource(ints = {1,2})
+    void shouldLogProgressWithInvertedIndex(int concurrency) {
+        var graph = naturalGraph;
+        var config = ImmutableNodeSimilarityStreamConfig.builder()
+            .degreeCutoff(0)
+            .concurrency(concurrency)
+            .useInvertedIndex(true)
+            .build();
+        var progressTask = new NodeSimilarityFactory<>().progressTask(graph, config);
+        TestLog log = Neo4jProxy.testLog();
+        var progressTracker = new TestProgressTracker(
+            progressTask,
+            log,
+            concurrency,
+            EmptyTaskRegistryFactory.INSTANCE
+        );
+
+        NodeSimilarity.create(
+            graph,
+            config,
+            Pools.DEFAULT,
+            progressTracker
+        ).compute().streamResult().count();
+
+        List<AtomicLong> progresses = progressTracker.getProgresses();
+        // with a degree cutoff of 0 every node is a source node, and progress is logged once per source node
+        assertThat(progresses.get(progresses.size() - 1).get()).isEqualTo(graph.nodeCount());
+
+        assertThat(log.getMessages(INFO))
+            .extracting(removingThreadId())
+            .contains(
+                "NodeSimilarity :: compare node pairs :: Start",
+                "NodeSimilarity :: compare node pairs 100%",
+                "NodeSimilarity :: compare node pairs :: Finished"
+            );
+    }
+
+    static Stream<Arguments> invertedIndexParameters() {
+        return crossArguments(
+            () -> Stream.of("JACCARD", "OVERLAP").map(Arguments::of),
+            () -> Stream.of(1E-42, 0.2, 0.5).map(Arguments::of),
+            () -> Stream.of(1, 4).map(Arguments::of),
+            // a cap of 1 turns almost every neighbor into a hub and exercises the fallback
+            () -> Stream.of(1, 10_000).map(Arguments::of)
+        );
+    }
+
+    @ParameterizedTest(name = "metric: {0}, similarityCutoff: {1}, concurrency: {2}, degreeCap: {3}")
+    @MethodSource("invertedIndexParameters")
+    void shouldComputeSameResultsWithInvertedIndex(String metric, double similarityCutoff, int concurrency, int degreeCap) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(200)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .build()
+            .generate();
+
+        var configBuilder = configBuilder()
+            .similarityMetric(MetricSimilarityComputer.parse(metric))
+            .similarityCutoff(similarityCutoff)
+            .concurrency(concurrency)
+            .topK(3);
+
+        var expected = NodeSimilarity.create(
+            graph,
+            configBuilder.build(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).computeToStream().map(NodeSimilarityTest::resultString).collect(Collectors.toList());
+
+        var actual = NodeSimilarity.create(
+            graph,
+            configBuilder.useInvertedIndex(true).invertedIndexDegreeCap(degreeCap).build(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).computeToStream().map(NodeSimilarityTest::resultString).collect(Collectors.toList());
+
+        assertThat(expected).isNotEmpty();
+        assertThat(actual).containsExactlyElementsOf(expected);
+
+        var expectedTopN = NodeSimilarity.create(
+            graph,
+            configBuilder.useInvertedIndex(false).topN(10).build(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).computeToStream().map(NodeSimilarityTest::resultString).collect(Collectors.toList());
+
+        var actualTopN = NodeSimilarity.create(
+            graph,
+            configBuilder.useInvertedIndex(true).topN(10).build(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).computeToStream().map(NodeSimilarityTest::resultString).collect(Collectors.toList());
+
+        assertThat(actualTopN).containsExactlyElementsOf(expectedTopN);
+    }
+
+    @Test
+    void shouldComputeTopNWithoutTopKWithInvertedIndex() {
+        // topN without topK can not be configured through the procedures, but is supported by the algorithm
+        var config = configBuilder().similarityCutoff(0.1).topK(0).topN(3).concurrency(1);
+
+        var expected = NodeSimilarity.create(
+            naturalGraph,
+            config.build(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).computeToStream().map(NodeSimilarityTest::resultString).collect(Collectors.toList());
+
+        var actual = NodeSimilarity.create(
+            naturalGraph,
+            config.useInvertedIndex(true).build(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).computeToStream().map(NodeSimilarityTest::resultString).collect(Collectors.toList());
+
+        assertThat(expected).isNotEmpty();
+        assertThat(actual).containsExactlyElementsOf(expected);
+    }
+
+    @ParameterizedTest(name = "concurrency: {0}")
+    @ValueSource(ints = {1, 4})
+    void shouldOnlyReturnExactSimilaritiesWithMinHashLsh(int concurrency) {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(200)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(42L)
+            .build()
+            .generate();
+
+        // a topK larger than the node count keeps every compared pair
+        var configBuilder = configBuilder()
+            .similarityCutoff(0.1)
+            .concurrency(concurrency)
+            .topK(200);
+
+        var exact = NodeSimilarity.create(
+            graph,
+            configBuilder.build(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).computeToStream().collect(Collectors.toList());
+
+        var minHashConfig = configBuilder
+            .useMinHashLsh(true)
+            .minHashSignatureLength(64)
+            .minHashBands(16)
+            .randomSeed(42L)
+            .build();
+        var approximate = NodeSimilarity.create(
+            graph,
+            minHashConfig,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).computeToStream().map(NodeSimilarityTest::resultString).collect(Collectors.toList());
+
+        assertThat(approximate)
+            .isNotEmpty()
+            .isSubsetOf(exact.stream().map(NodeSimilarityTest::resultString).collect(Collectors.toList()));
+
+        // nodes with the same neighbors have the same signature and always collide
+        assertThat(approximate).containsAll(exact
+            .stream()
+            .filter(result -> result.similarity == 1.0)
+            .map(NodeSimilarityTest::resultString)
+            .collect(Collectors.toList()));
+
+        var approximateAgain = NodeSimilarity.create(
+            graph,
+            minHashConfig,
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        ).computeToStream().map(NodeSimilarityTest::resultString).collect(Collectors.toList());
+
+        assertThat(approximateAgain).containsExactlyElementsOf(approximate);
+    }
+
+    @Test
+    void shouldThrowForMinHashSignatureLengthNotDivisibleByBands() {
+        var configBuilder = configBuilder()
+            .useMinHashLsh(true)
+            .minHashSignatureLength(100)
+            .minHashBands(32);
+
+        assertThatThrownBy(configBuilder::build)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("The `minHashSignatureLength` (100) must be a multiple of `minHashBands` (32)");
+    }
+
+    @Test
+    void shouldThrowForMinHashLshWithOverlap() {
+        var configBuilder = configBuilder()
+            .useMinHashLsh(true)
+            .similarityMetric(MetricSimilarityComputer.parse("OVERLAP"));
+
+        assertThatThrownBy(configBuilder::build)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid parameter combination: useMinHashLsh combined with similarityMetric OVERLAP");
+    }
+
+    @Test
+    void shouldThrowForMinHashLshWithRelationshipWeights() {
+        var configBuilder = configBuilder()
+            .useMinHashLsh(true)
+            .relationshipWeightProperty("prop");
+
+        assertThatThrownBy(configBuilder::build)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid parameter combination: useMinHashLsh combined with relationshipWeightProperty");
+    }
+
+    @Test
+    void shouldSplitOversizedMinHashBuckets() {
+        // all persons like the same item, so they share every bucket
+        var gdl = new StringBuilder("CREATE (i:Item)");
+        for (int person = 0; person < 100; person++) {
+            gdl.append(formatWithLocale(", (p%d:Person)-[:LIKES]->(i)", person));
+        }
+        var graph = fromGdl(gdl.toString());
+
+        var config = configBuilder()
+            .concurrency(1)
+            .similarityCutoff(0.1)
+            .topK(100)
+            .useMinHashLsh(true)
+            .minHashSignatureLength(8)
+            .minHashBands(2)
+            .minHashMaxBucketSize(10)
+            .randomSeed(42L)
+            .build();
+
+        var comparedPerNode = NodeSimilarity.create(graph, config, Pools.DEFAULT, ProgressTracker.NULL_TRACKER)
+            .computeToStream()
+            .collect(Collectors.groupingBy(result -> result.node1, Collectors.counting()));
+
+        assertThat(comparedPerNode).hasSize(100);
+        assertThat(comparedPerNode.values()).allMatch(count -> count == 9);
+    }
+
     @Test
     void shouldGiveCorrectResultsWithOverlap() {
         var gdl =
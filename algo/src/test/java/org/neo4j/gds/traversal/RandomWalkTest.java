@@ -381,6 +381,51 @@ class RandomWalkTest {
             .allMatch(walk -> walk.length <= config.walkLength());
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void neighbourIndexWalksShouldFollowRelationshipsDeterministically(boolean weighted) {
+        var generatorBuilder = new RandomGraphGeneratorBuilder()
+            .nodeCount(500)
+            .averageDegree(6)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(24L);
+        if (weighted) {
+            generatorBuilder.relationshipPropertyProducer(PropertyProducer.randomDouble("weight", 0, 1));
+        }
+        var graph = generatorBuilder.build().generate();
+
+        var configBuilder = ImmutableNode2VecStreamConfig.builder()
+            .walkLength(10)
+            .walksPerNode(2)
+            .returnFactor(0.5)
+            .inOutFactor(2)
+            .concurrency(4)
+            .randomSeed(42L);
+        if (weighted) {
+            configBuilder.relationshipWeightProperty("weight");
+        }
+
+        var withoutIndex = runRandomWalkSeeded(configBuilder.useNeighbourIndex(false).build(), graph);
+        var withIndex = runRandomWalkSeeded(configBuilder.useNeighbourIndex(true).build(), graph);
+        var withIndexAgain = runRandomWalkSeeded(configBuilder.useNeighbourIndex(true).build(), graph);
+
+        var withIndexAsSet = new TreeSet<long[]>(Arrays::compare);
+        withIndexAsSet.addAll(withIndex);
+        var withIndexAgainAsSet = new TreeSet<long[]>(Arrays::compare);
+        withIndexAgainAsSet.addAll(withIndexAgain);
+        assertThat(withIndexAsSet).isEqualTo(withIndexAgainAsSet);
+
+        assertThat(withIndex.stream().map(walk -> walk[0]).sorted().collect(Collectors.toList()))
+            .isEqualTo(withoutIndex.stream().map(walk -> walk[0]).sorted().collect(Collectors.toList()));
+
+        assertThat(withIndex).allSatisfy(walk -> {
+            assertThat(walk.length).isBetween(1, 10);
+            for (int i = 1; i < walk.length; i++) {
+                assertThat(graph.exists(walk[i - 1], walk[i])).isTrue();
+            }
+        });
+    }
+
     @Test
     void testWithConfiguredOffsetStartNodes() {
         var graph = TestSupport.fromGdl(GDL, 42);
@@ -23,13 +23,14 @@ import org.immutables.value.Value;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.PipelinedNodePropertyWriteConfig;
 import org.neo4j.gds.config.WritePropertyConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface SccConfig extends AlgoBaseConfig, WritePropertyConfig {
+public interface SccConfig extends AlgoBaseConfig, WritePropertyConfig, PipelinedNodePropertyWriteConfig {
 
     @Value.Default
     @Override
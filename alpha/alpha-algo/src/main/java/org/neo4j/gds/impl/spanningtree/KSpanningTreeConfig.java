@@ -20,13 +20,14 @@
 package org.neo4j.gds.impl.spanningtree;
 
 import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.config.PipelinedNodePropertyWriteConfig;
 import org.neo4j.gds.config.WritePropertyConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
 import java.util.function.DoubleUnaryOperator;
 
 @Configuration
-public interface KSpanningTreeConfig extends SpanningTreeBaseConfig, WritePropertyConfig {
+public interface KSpanningTreeConfig extends SpanningTreeBaseConfig, WritePropertyConfig, PipelinedNodePropertyWriteConfig {
 
     long k();
 
@@ -78,6 +78,7 @@ public class CELFWriteSpec implements AlgorithmSpec<CELF, LongDoubleScatterMap,
                         executionContext
                     ))
                     .parallel(Pools.DEFAULT, writeConcurrency)
+                    .withPipelinedWrites(config.pipelinedWriteSettings())
                     .build();
 
                 var properties = new CelfNodeProperties(celfSeedSet, graph.nodeCount());
@@ -105,6 +105,7 @@ public abstract class KSpanningTreeProc extends NodePropertiesWriter<KSpanningTr
                     .withIdMap(graph)
                     .withTerminationFlag(TerminationFlag.wrap(transaction)).withProgressTracker(progressTracker)
                     .parallel(Pools.DEFAULT, config.writeConcurrency())
+                    .withPipelinedWrites(config.pipelinedWriteSettings())
                     .build();
 
                 var properties = new DoubleNodePropertyValues() {
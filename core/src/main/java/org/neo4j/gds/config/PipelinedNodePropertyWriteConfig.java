@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.config;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.concurrency.ConcurrencyValidatorService;
+import org.neo4j.gds.core.write.PipelinedWriteSettings;
+
+import java.util.Optional;
+
+/**
+ * Pipelined writes of node properties can use several writer threads,
+ * because every batch holds a distinct set of nodes.
+ */
+public interface PipelinedNodePropertyWriteConfig extends PipelinedWriteConfig {
+
+    String WRITER_CONCURRENCY_KEY = "writerConcurrency";
+
+    @Value.Default
+    @Configuration.Key(WRITER_CONCURRENCY_KEY)
+    default int writerConcurrency() {
+        return PipelinedWriteSettings.DEFAULT_WRITER_CONCURRENCY;
+    }
+
+    @Override
+    @Configuration.Ignore
+    default Optional<PipelinedWriteSettings> pipelinedWriteSettings() {
+        if (!pipelinedWrites()) {
+            return Optional.empty();
+        }
+        return Optional.of(PipelinedWriteSettings.of(writeBatchSize(), writeQueueCapacity(), writerConcurrency()));
+    }
+
+    @Value.Check
+    default void validateWriterConcurrency() {
+        ConcurrencyValidatorService
+            .validator()
+            .validate(writerConcurrency(), WRITER_CONCURRENCY_KEY, ConcurrencyConfig.CONCURRENCY_LIMITATION);
+    }
+}
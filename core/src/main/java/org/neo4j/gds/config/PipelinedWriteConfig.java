@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.config;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.core.write.PipelinedWriteSettings;
+
+import java.util.Optional;
+
+/**
+ * Options for procedures whose exporters can write batches on a dedicated writer thread
+ * while the {@link #writeConcurrency()} threads keep producing them.
+ */
+public interface PipelinedWriteConfig extends WriteConfig {
+
+    @Value.Default
+    default boolean pipelinedWrites() {
+        return false;
+    }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int writeBatchSize() {
+        return PipelinedWriteSettings.DEFAULT_BATCH_SIZE;
+    }
+
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int writeQueueCapacity() {
+        return PipelinedWriteSettings.DEFAULT_QUEUE_CAPACITY;
+    }
+
+    @Configuration.Ignore
+    default Optional<PipelinedWriteSettings> pipelinedWriteSettings() {
+        if (!pipelinedWrites()) {
+            return Optional.empty();
+        }
+        return Optional.of(PipelinedWriteSettings.of(
+            writeBatchSize(),
+            writeQueueCapacity(),
+            PipelinedWriteSettings.DEFAULT_WRITER_CONCURRENCY
+        ));
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core;
+
+import org.neo4j.annotations.service.ServiceProvider;
+import org.neo4j.configuration.Description;
+import org.neo4j.configuration.DocumentedDefaultValue;
+import org.neo4j.configuration.SettingsDeclaration;
+import org.neo4j.graphdb.config.Setting;
+
+import java.nio.file.Path;
+
+import static org.neo4j.configuration.SettingConstraints.min;
+import static org.neo4j.configuration.SettingValueParsers.BYTES;
+import static org.neo4j.configuration.SettingValueParsers.PATH;
+import static org.neo4j.gds.compat.SettingProxy.newBuilder;
+
+@ServiceProvider
+public class CatalogSpillSettings implements SettingsDeclaration {
+
+    @Description("Sets the maximum size of the graphs held in memory by the graph catalog. Least recently used graphs beyond it are spilled to disk. 0 disables spilling.")
+    @DocumentedDefaultValue("0")
+    public static final Setting<Long> catalog_memory_budget = newBuilder(
+        "gds.catalog.memory_budget",
+        BYTES,
+        0L
+    ).addConstraint(min(0L)).build();
+
+    @Description("Sets the location where spilled graphs are written. Defaults to a directory below `java.io.tmpdir`.")
+    public static final Setting<Path> catalog_spill_location = newBuilder(
+        "gds.catalog.spill_location",
+        PATH,
+        null
+    ).build();
+}
@@ -24,17 +24,23 @@ import org.neo4j.gds.core.loading.ArrayIdMapBuilder;
 import org.neo4j.gds.core.loading.GrowingArrayIdMapBuilder;
 import org.neo4j.gds.core.loading.IdMapBuilder;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.utils.GdsFeatureToggles;
 
 import java.util.Optional;
 
 public class OpenGdsIdMapBehavior implements IdMapBehavior {
 
+    private static final IdMapBehavior SHARDED = new ShardedIdMapBehavior();
+
     @Override
     public IdMapBuilder create(
         int concurrency,
         Optional<Long> maxOriginalId,
         Optional<Long> nodeCount
     ) {
+        if (GdsFeatureToggles.USE_SHARDED_ID_MAP.isEnabled()) {
+            return SHARDED.create(concurrency, maxOriginalId, nodeCount);
+        }
         return nodeCount.or(() -> maxOriginalId.map(maxId -> maxId + 1))
             .map(capacity -> (IdMapBuilder) ArrayIdMapBuilder.of(capacity))
             .orElseGet(GrowingArrayIdMapBuilder::of);
@@ -42,6 +48,9 @@ public class OpenGdsIdMapBehavior implements IdMapBehavior {
 
     @Override
     public MemoryEstimation memoryEstimation() {
+        if (GdsFeatureToggles.USE_SHARDED_ID_MAP.isEnabled()) {
+            return SHARDED.memoryEstimation();
+        }
         return ArrayIdMap.memoryEstimation();
     }
 }
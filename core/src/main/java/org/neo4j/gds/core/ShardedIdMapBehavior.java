@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core;
+
+import org.neo4j.gds.core.loading.IdMapBuilder;
+import org.neo4j.gds.core.loading.ShardedIdMap;
+import org.neo4j.gds.core.loading.ShardedIdMapBuilder;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+
+import java.util.Optional;
+
+/**
+ * Maps original ids using lock-striped hash map shards.
+ * Memory does not depend on the highest original id and
+ * many importer threads can add unseen ids concurrently.
+ */
+public class ShardedIdMapBehavior implements IdMapBehavior {
+
+    @Override
+    public IdMapBuilder create(
+        int concurrency,
+        Optional<Long> maxOriginalId,
+        Optional<Long> nodeCount
+    ) {
+        // The node count is exact, the highest original id is only an upper bound
+        // for it, which would over-allocate the shards for sparse id spaces.
+        long expectedNodeCount = nodeCount.orElse(0L);
+        return ShardedIdMapBuilder.of(concurrency, expectedNodeCount);
+    }
+
+    @Override
+    public MemoryEstimation memoryEstimation() {
+        return ShardedIdMap.memoryEstimation();
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning the time a task spent in the work queue
+ * of {@link Pools#DEFAULT} before a worker thread picked it up.
+ */
+@Name("org.neo4j.gds.PoolQueueWait")
+@Label("GDS Pool Queue Wait")
+@Category({"Neo4j Graph Data Science", "Concurrency"})
+@Description("Time a task waited in the GDS thread pool queue before being executed")
+@StackTrace(false)
+final class PoolQueueWaitEvent extends Event {
+
+    @Label("Queue Size")
+    @Description("Number of queued tasks at submission time")
+    int queueSize;
+
+    @Label("Active Threads")
+    @Description("Number of busy worker threads at submission time")
+    int activeThreads;
+}
@@ -49,7 +49,7 @@ public final class Pools {
 
     static ExecutorService createDefaultPool() {
         var poolSizes = PoolSizesService.poolSizes();
-        return new ThreadPoolExecutor(
+        return new QueueWaitRecordingThreadPoolExecutor(
             poolSizes.corePoolSize(),
             poolSizes.maxPoolSize(),
             30L,
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.concurrency;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thread pool that reports queue waits of submitted tasks as {@link PoolQueueWaitEvent}s.
+ * Tasks are only wrapped while a Flight Recorder recording has the event enabled.
+ */
+class QueueWaitRecordingThreadPoolExecutor extends ThreadPoolExecutor {
+
+    QueueWaitRecordingThreadPoolExecutor(
+        int corePoolSize,
+        int maximumPoolSize,
+        long keepAliveTime,
+        TimeUnit unit,
+        BlockingQueue<Runnable> workQueue,
+        ThreadFactory threadFactory,
+        RejectedExecutionHandler handler
+    ) {
+        super(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory, handler);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        var event = new PoolQueueWaitEvent();
+        if (!event.isEnabled()) {
+            super.execute(command);
+            return;
+        }
+        event.queueSize = getQueue().size();
+        event.activeThreads = getActiveCount();
+        event.begin();
+        super.execute(new QueueWaitRecordingRunnable(command, event));
+    }
+
+    private static final class QueueWaitRecordingRunnable implements Runnable {
+        private final Runnable delegate;
+        private final PoolQueueWaitEvent event;
+
+        QueueWaitRecordingRunnable(Runnable delegate, PoolQueueWaitEvent event) {
+            this.delegate = delegate;
+            this.event = event;
+        }
+
+        @Override
+        public void run() {
+            event.commit();
+            delegate.run();
+        }
+    }
+}
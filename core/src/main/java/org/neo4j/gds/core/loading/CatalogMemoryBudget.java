@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * Tracks the on-heap size of the graphs in the catalog in least-recently-used order
+ * and decides which graphs need to be spilled in order to stay within the budget.
+ * Graphs whose size cannot be determined are not tracked and are never evicted.
+ */
+final class CatalogMemoryBudget {
+
+    @ValueClass
+    interface ResidentGraphKey {
+
+        String username();
+
+        GraphStoreCatalog.UserCatalog.UserCatalogKey catalogKey();
+
+        static ResidentGraphKey of(String username, GraphStoreCatalog.UserCatalog.UserCatalogKey catalogKey) {
+            return ImmutableResidentGraphKey.of(username, catalogKey);
+        }
+    }
+
+    private final long budgetInBytes;
+    private final GraphStoreSpillStore spillStore;
+    private final ToLongFunction<GraphStore> sizeOf;
+
+    // access ordered, guarded by `this`
+    private final LinkedHashMap<ResidentGraphKey, Long> residentGraphs;
+    private long residentBytes;
+
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
+    private final LongAdder evictionFailures;
+    private final LongAdder reloadTimeNanos;
+
+    CatalogMemoryBudget(long budgetInBytes, GraphStoreSpillStore spillStore) {
+        this(budgetInBytes, spillStore, MemoryUsage::sizeOf);
+    }
+
+    CatalogMemoryBudget(long budgetInBytes, GraphStoreSpillStore spillStore, ToLongFunction<GraphStore> sizeOf) {
+        this.budgetInBytes = budgetInBytes;
+        this.spillStore = spillStore;
+        this.sizeOf = sizeOf;
+        this.residentGraphs = new LinkedHashMap<>(16, 0.75f, true);
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+        this.evictionFailures = new LongAdder();
+        this.reloadTimeNanos = new LongAdder();
+    }
+
+    /**
+     * Returns an empty budget with the same limit and spill store.
+     */
+    CatalogMemoryBudget reset() {
+        return new CatalogMemoryBudget(budgetInBytes, spillStore, sizeOf);
+    }
+
+    GraphStoreSpillStore spillStore() {
+        return spillStore;
+    }
+
+    long sizeOf(GraphStore graphStore) {
+        return sizeOf.applyAsLong(graphStore);
+    }
+
+    /**
+     * Registers a graph that became resident and returns the graphs that need to be spilled,
+     * least recently used first. The returned graphs are no longer tracked.
+     */
+    List<ResidentGraphKey> track(ResidentGraphKey key, GraphStore graphStore) {
+        long size = sizeOf.applyAsLong(graphStore);
+        if (size < 0) {
+            return List.of();
+        }
+        return track(key, size);
+    }
+
+    synchronized List<ResidentGraphKey> track(ResidentGraphKey key, long sizeInBytes) {
+        var previousSize = residentGraphs.put(key, sizeInBytes);
+        residentBytes += sizeInBytes - (previousSize == null ? 0 : previousSize);
+
+        var victims = new ArrayList<ResidentGraphKey>();
+        var iterator = residentGraphs.entrySet().iterator();
+        while (residentBytes > budgetInBytes && iterator.hasNext()) {
+            var candidate = iterator.next();
+            if (candidate.getKey().equals(key)) {
+                continue;
+            }
+            victims.add(candidate.getKey());
+            residentBytes -= candidate.getValue();
+            iterator.remove();
+        }
+        return victims;
+    }
+
+    /**
+     * Registers a graph that could not be spilled without evicting any other graph.
+     */
+    void retain(ResidentGraphKey key, GraphStore graphStore) {
+        long size = sizeOf.applyAsLong(graphStore);
+        if (size < 0) {
+            return;
+        }
+        synchronized (this) {
+            var previousSize = residentGraphs.put(key, size);
+            residentBytes += size - (previousSize == null ? 0 : previousSize);
+        }
+    }
+
+    synchronized void untrack(ResidentGraphKey key) {
+        var size = residentGraphs.remove(key);
+        if (size != null) {
+            residentBytes -= size;
+        }
+    }
+
+    synchronized void untrackDatabase(String username, String databaseName) {
+        var iterator = residentGraphs.entrySet().iterator();
+        while (iterator.hasNext()) {
+            var entry = iterator.next();
+            var key = entry.getKey();
+            if (key.username().equals(username) && key.catalogKey().databaseName().equals(databaseName)) {
+                residentBytes -= entry.getValue();
+                iterator.remove();
+            }
+        }
+    }
+
+    void recordHit(ResidentGraphKey key) {
+        synchronized (this) {
+            // refreshes the access order
+            residentGraphs.get(key);
+        }
+        hits.increment();
+    }
+
+    void recordReload(long durationNanos) {
+        misses.increment();
+        reloadTimeNanos.add(durationNanos);
+    }
+
+    void recordEviction() {
+        evictions.increment();
+    }
+
+    void recordEvictionFailure() {
+        evictionFailures.increment();
+    }
+
+    synchronized CatalogCacheMetrics metrics(int spilledGraphs) {
+        return ImmutableCatalogCacheMetrics.builder()
+            .budgetInBytes(budgetInBytes)
+            .residentBytes(residentBytes)
+            .residentGraphs(residentGraphs.size())
+            .spilledGraphs(spilledGraphs)
+            .hits(hits.sum())
+            .misses(misses.sum())
+            .evictions(evictions.sum())
+            .evictionFailures(evictionFailures.sum())
+            .reloadTimeMillis(TimeUnit.NANOSECONDS.toMillis(reloadTimeNanos.sum()))
+            .build();
+    }
+}
@@ -27,11 +27,19 @@ import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.GraphProjectConfig;
 import org.neo4j.gds.utils.StringJoining;
 
+import java.lang.ref.WeakReference;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -41,92 +49,157 @@ public final class GraphStoreCatalog {
 
     private static final ConcurrentHashMap<String, UserCatalog> userCatalogs = new ConcurrentHashMap<>();
 
-    private GraphStoreCatalog() { }
+    private static volatile @Nullable CatalogMemoryBudget memoryBudget = null;
 
-    public static GraphStoreWithConfig get(CatalogRequest request, String graphName) {
-        var userCatalogKey = UserCatalog.UserCatalogKey.of(request.databaseName(), graphName);
-        var ownCatalog = getUserCatalog(request.username());
+    // pin counts by graph store identity, guarded by the map itself
+    private static final Map<GraphStore, Integer> pinnedGraphStores = new IdentityHashMap<>();
 
-        var maybeGraph = ownCatalog.get(userCatalogKey, request.restrictSearchToUsernameCatalog());
-        if (maybeGraph != null) {
-            return maybeGraph;
+    private GraphStoreCatalog() { }
+
+    /**
+     * Limits the on-heap size of all catalog graphs to the given budget.
+     * When the budget is exceeded, the least recently used graphs are written to the spill store
+     * and are transparently reloaded on the next access.
+     */
+    public static synchronized void enableMemoryBudget(long budgetInBytes, GraphStoreSpillStore spillStore) {
+        if (budgetInBytes <= 0) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The catalog memory budget must be positive, but got %d.",
+                budgetInBytes
+            ));
         }
+        enableMemoryBudget(new CatalogMemoryBudget(budgetInBytes, spillStore));
+    }
 
-        var usersWithMatchingGraphs = userCatalogs
-            .entrySet()
-            .stream()
-            .flatMap(e -> Stream
-                .ofNullable(e.getValue().get(userCatalogKey, false))
-                .map(graph -> Map.entry(e.getKey(), graph)))
-            .collect(Collectors.toList());
+    @TestOnly
+    static synchronized void enableMemoryBudget(
+        long budgetInBytes,
+        GraphStoreSpillStore spillStore,
+        ToLongFunction<GraphStore> sizeOf
+    ) {
+        enableMemoryBudget(new CatalogMemoryBudget(budgetInBytes, spillStore, sizeOf));
+    }
+
+    private static void enableMemoryBudget(CatalogMemoryBudget budget) {
+        memoryBudget = budget;
+        userCatalogs.forEach((username, userCatalog) -> userCatalog.trackResidentGraphs(budget));
+    }
+
+    /**
+     * Stops tracking graph sizes. Graphs that are spilled at this point are reloaded on their next access.
+     */
+    public static synchronized void disableMemoryBudget() {
+        memoryBudget = null;
+    }
 
-        if (usersWithMatchingGraphs.size() == 1) {
-            return usersWithMatchingGraphs.get(0).getValue();
+    /**
+     * Keeps the given graph resident until the returned pin is closed, even if the catalog exceeds its memory budget.
+     * A graph that has been spilled since it was looked up is made resident again.
+     * If the graph has been modified when the pin is closed, its size is measured again.
+     */
+    public static GraphStorePin pin(GraphStore graphStore) {
+        synchronized (pinnedGraphStores) {
+            pinnedGraphStores.merge(graphStore, 1, Integer::sum);
         }
+        userCatalogs.values().forEach(userCatalog -> userCatalog.revive(graphStore));
+        return new GraphStorePin(graphStore);
+    }
 
-        if (usersWithMatchingGraphs.isEmpty()) {
-            // suggests only own graphs names
-            throw ownCatalog.graphNotFoundException(userCatalogKey);
+    private static void unpin(GraphStore graphStore, ZonedDateTime modificationTimeWhenPinned) {
+        synchronized (pinnedGraphStores) {
+            pinnedGraphStores.computeIfPresent(graphStore, (ignored, pins) -> pins == 1 ? null : pins - 1);
         }
+        var budget = memoryBudget;
+        if (budget != null && !graphStore.modificationTime().equals(modificationTimeWhenPinned)) {
+            userCatalogs.values().forEach(userCatalog -> userCatalog.remeasure(graphStore, budget));
+        }
+    }
 
-        var usernames = StringJoining.joinVerbose(
-            usersWithMatchingGraphs.stream()
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toSet())
-        );
+    private static boolean isPinned(GraphStore graphStore) {
+        synchronized (pinnedGraphStores) {
+            return pinnedGraphStores.containsKey(graphStore);
+        }
+    }
 
-        throw new IllegalArgumentException(formatWithLocale(
-            "Multiple graphs that match '%s' are found from the users %s.",
-            graphName,
-            usernames
+    public static Optional<CatalogCacheMetrics> cacheMetrics() {
+        return Optional.ofNullable(memoryBudget).map(budget -> budget.metrics(
+            userCatalogs.values().stream().mapToInt(UserCatalog::spilledGraphsCount).sum()
         ));
     }
 
+    public static GraphStoreWithConfig get(CatalogRequest request, String graphName) {
+        var userCatalogKey = UserCatalog.UserCatalogKey.of(request.databaseName(), graphName);
+        var owner = Objects.requireNonNull(findOwner(request, userCatalogKey, true));
+        return getUserCatalog(owner).get(userCatalogKey, true);
+    }
+
+    /**
+     * Fails if the requested graph does not exist, without reloading it if it has been spilled.
+     */
+    public static void verifyExists(CatalogRequest request, String graphName) {
+        findOwner(request, UserCatalog.UserCatalogKey.of(request.databaseName(), graphName), true);
+    }
+
+    /**
+     * Removes the requested graph. Spilled graphs are not reloaded, the consumer receives the entry they were spilled with.
+     */
     public static void remove(
         CatalogRequest request,
         String graphName,
-        Consumer<GraphStoreWithConfig> removedGraphConsumer,
+        Consumer<GraphStoreCatalogEntry> removedGraphConsumer,
         boolean failOnMissing
     ) {
         var userCatalogKey = UserCatalog.UserCatalogKey.of(request.databaseName(), graphName);
-        var ownCatalog = getUserCatalog(request.username());
+        var owner = findOwner(request, userCatalogKey, failOnMissing);
+        if (owner != null) {
+            getUserCatalog(owner).remove(userCatalogKey, removedGraphConsumer, failOnMissing);
+        }
+    }
 
-        var didRemove = ownCatalog.remove(
-            userCatalogKey, removedGraphConsumer,
-            failOnMissing && request.restrictSearchToUsernameCatalog()
-        );
-        if (didRemove || request.restrictSearchToUsernameCatalog()) {
-            return;
+    /**
+     * Returns the user whose catalog holds the requested graph. Spilled graphs count as existing and are not reloaded.
+     */
+    private static @Nullable String findOwner(
+        CatalogRequest request,
+        UserCatalog.UserCatalogKey userCatalogKey,
+        boolean failOnMissing
+    ) {
+        var ownCatalog = getUserCatalog(request.username());
+        if (ownCatalog.exists(userCatalogKey)) {
+            return request.username();
+        }
+        if (request.restrictSearchToUsernameCatalog()) {
+            if (failOnMissing) {
+                throw ownCatalog.graphNotFoundException(userCatalogKey);
+            }
+            return null;
         }
 
         var usersWithMatchingGraphs = userCatalogs
             .entrySet()
             .stream()
-            .flatMap(e -> Stream.ofNullable(e.getValue().get(userCatalogKey, false)).map(graph -> e.getKey()))
+            .filter(e -> e.getValue().exists(userCatalogKey))
+            .map(Map.Entry::getKey)
             .collect(Collectors.toSet());
 
-        if (usersWithMatchingGraphs.isEmpty() && failOnMissing) {
-            // suggests only own graphs names
-            throw ownCatalog.graphNotFoundException(userCatalogKey);
+        if (usersWithMatchingGraphs.isEmpty()) {
+            if (failOnMissing) {
+                // suggests only own graphs names
+                throw ownCatalog.graphNotFoundException(userCatalogKey);
+            }
+            return null;
         }
 
         if (usersWithMatchingGraphs.size() > 1) {
             var usernames = StringJoining.joinVerbose(usersWithMatchingGraphs);
             throw new IllegalArgumentException(formatWithLocale(
                 "Multiple graphs that match '%s' are found from the users %s.",
-                graphName,
+                userCatalogKey.graphName(),
                 usernames
             ));
         }
 
-        if (!usersWithMatchingGraphs.isEmpty()) {
-            var username = usersWithMatchingGraphs.iterator().next();
-            getUserCatalog(username).remove(
-                userCatalogKey,
-                removedGraphConsumer,
-                failOnMissing
-            );
-        }
+        return usersWithMatchingGraphs.iterator().next();
     }
 
     @TestOnly
@@ -151,7 +224,7 @@ public final class GraphStoreCatalog {
         graphStore.canRelease(false);
         userCatalogs.compute(config.username(), (user, userCatalog) -> {
             if (userCatalog == null) {
-                userCatalog = new UserCatalog();
+                userCatalog = new UserCatalog(user);
             }
             userCatalog.set(
                 UserCatalog.UserCatalogKey.of(graphStore.databaseId(), config.graphName()),
@@ -161,6 +234,15 @@ public final class GraphStoreCatalog {
             );
             return userCatalog;
         });
+
+        var budget = memoryBudget;
+        if (budget != null) {
+            var key = CatalogMemoryBudget.ResidentGraphKey.of(
+                config.username(),
+                UserCatalog.UserCatalogKey.of(graphStore.databaseId(), config.graphName())
+            );
+            spill(budget.track(key, graphStore), budget);
+        }
     }
 
     public static boolean exists(String username, String databaseName, String graphName) {
@@ -175,7 +257,7 @@ public final class GraphStoreCatalog {
         return userCatalogs
             .values()
             .stream()
-            .mapToInt(userCatalog -> userCatalog.getGraphStores().values().size())
+            .mapToInt(UserCatalog::graphStoresCount)
             .sum();
     }
 
@@ -183,7 +265,7 @@ public final class GraphStoreCatalog {
         return userCatalogs
             .values()
             .stream()
-            .mapToInt(userCatalog -> userCatalog.getGraphStores(databaseId).values().size())
+            .mapToInt(userCatalog -> userCatalog.graphStoresCount(databaseId))
             .sum();
     }
 
@@ -212,21 +294,37 @@ public final class GraphStoreCatalog {
     }
 
     public static void removeAllLoadedGraphs() {
+        userCatalogs.values().forEach(UserCatalog::deleteSpilledGraphs);
         userCatalogs.clear();
+        var budget = memoryBudget;
+        if (budget != null) {
+            memoryBudget = budget.reset();
+        }
     }
 
     public static void removeAllLoadedGraphs(DatabaseId databaseId) {
         userCatalogs.forEach((user, userCatalog) -> userCatalog.remove(databaseId.databaseName()));
     }
 
+    /**
+     * Returns the resident graphs of the given user. Spilled graphs are not reloaded and not included,
+     * use {@link #listGraphs(String)} to describe all graphs.
+     */
     public static Map<GraphProjectConfig, GraphStore> getGraphStores(String username) {
         return getUserCatalog(username).getGraphStores();
     }
 
+    /**
+     * Returns the resident graphs of the given user on the given database. Spilled graphs are not included.
+     */
     public static Map<GraphProjectConfig, GraphStore> getGraphStores(String username, DatabaseId databaseId) {
         return getUserCatalog(username).getGraphStores(databaseId);
     }
 
+    /**
+     * Returns the resident graphs of all users. Spilled graphs are not included, use {@link #listAllGraphs()}
+     * to describe all graphs.
+     */
     public static Stream<GraphStoreWithUserNameAndConfig> getAllGraphStores() {
         return userCatalogs
             .entrySet()
@@ -234,10 +332,46 @@ public final class GraphStoreCatalog {
             .flatMap(entry -> entry.getValue().streamGraphStores(entry.getKey()));
     }
 
+    /**
+     * Describes the graphs of the given user without reloading spilled graphs.
+     */
+    public static Stream<GraphStoreCatalogEntry> listGraphs(String username) {
+        return getUserCatalog(username).entries();
+    }
+
+    /**
+     * Describes the graphs of all users without reloading spilled graphs.
+     */
+    public static Stream<GraphStoreCatalogEntry> listAllGraphs() {
+        return userCatalogs.values().stream().flatMap(UserCatalog::entries);
+    }
+
     private static UserCatalog getUserCatalog(String username) {
         return userCatalogs.getOrDefault(username, UserCatalog.EMPTY);
     }
 
+    private static void spill(List<CatalogMemoryBudget.ResidentGraphKey> victims, CatalogMemoryBudget budget) {
+        for (var victim : victims) {
+            getUserCatalog(victim.username()).spill(victim.catalogKey(), budget);
+        }
+    }
+
+    public static final class GraphStorePin implements AutoCloseable {
+
+        private final GraphStore graphStore;
+        private final ZonedDateTime modificationTime;
+
+        private GraphStorePin(GraphStore graphStore) {
+            this.graphStore = graphStore;
+            this.modificationTime = graphStore.modificationTime();
+        }
+
+        @Override
+        public void close() {
+            unpin(graphStore, modificationTime);
+        }
+    }
+
     @ValueClass
     public interface GraphStoreWithUserNameAndConfig {
 
@@ -266,12 +400,37 @@ public final class GraphStoreCatalog {
             }
         }
 
-        private static final UserCatalog EMPTY = new UserCatalog();
+        @ValueClass
+        interface SpilledGraph {
+
+            GraphProjectConfig config();
+
+            Path location();
+
+            GraphStoreSpillStore spillStore();
+
+            GraphStoreCatalogEntry entry();
+
+            /**
+             * The evicted graph store while it is still referenced by someone else.
+             */
+            WeakReference<GraphStore> evictedGraphStore();
+        }
+
+        private static final UserCatalog EMPTY = new UserCatalog("");
+
+        private final String username;
 
         private final Map<UserCatalogKey, GraphStoreWithConfig> graphsByName = new ConcurrentHashMap<>();
 
+        private final Map<UserCatalogKey, SpilledGraph> spilledGraphsByName = new ConcurrentHashMap<>();
+
         private final Map<UserCatalogKey, Map<String, Object>> degreeDistributionByName = new ConcurrentHashMap<>();
 
+        UserCatalog(String username) {
+            this.username = username;
+        }
+
         private void set(
             UserCatalogKey userCatalogKey,
             GraphProjectConfig config,
@@ -283,13 +442,14 @@ public final class GraphStoreCatalog {
             }
             GraphStoreWithConfig graphStoreWithConfig = GraphStoreWithConfig.of(graphStore, config);
 
-            if (!overwrite && graphsByName.containsKey(userCatalogKey)) {
+            if (!overwrite && exists(userCatalogKey)) {
                 throw new IllegalStateException(formatWithLocale(
                     "Graph name %s already loaded",
                     config.graphName()
                 ));
             }
             graphsByName.put(userCatalogKey, graphStoreWithConfig);
+            deleteSpilledGraph(userCatalogKey);
             graphStore.canRelease(false);
         }
 
@@ -298,7 +458,7 @@ public final class GraphStoreCatalog {
             if (userCatalogKey == null || degreeDistribution == null) {
                 throw new IllegalArgumentException("Both name and degreeDistribution must be not null");
             }
-            if (!graphsByName.containsKey(userCatalogKey)) {
+            if (!exists(userCatalogKey)) {
                 throw new IllegalArgumentException(formatWithLocale(
                     "Cannot set degreeDistribution because graph %s does not exist",
                     userCatalogKey.graphName()
@@ -314,6 +474,15 @@ public final class GraphStoreCatalog {
         private @Nullable GraphStoreWithConfig get(UserCatalogKey userCatalogKey, boolean failOnMissing) {
             var graphStoreWithConfig = graphsByName.get(userCatalogKey);
 
+            if (graphStoreWithConfig == null && spilledGraphsByName.containsKey(userCatalogKey)) {
+                graphStoreWithConfig = reload(userCatalogKey);
+            } else if (graphStoreWithConfig != null) {
+                var budget = memoryBudget;
+                if (budget != null) {
+                    budget.recordHit(CatalogMemoryBudget.ResidentGraphKey.of(username, userCatalogKey));
+                }
+            }
+
             if (graphStoreWithConfig == null && failOnMissing) {
                 throw graphNotFoundException(userCatalogKey);
             }
@@ -321,6 +490,157 @@ public final class GraphStoreCatalog {
             return graphStoreWithConfig;
         }
 
+        private @Nullable GraphStoreWithConfig reload(UserCatalogKey userCatalogKey) {
+            GraphStoreWithConfig graphStoreWithConfig;
+            synchronized (this) {
+                graphStoreWithConfig = graphsByName.get(userCatalogKey);
+                var spilledGraph = spilledGraphsByName.get(userCatalogKey);
+                if (graphStoreWithConfig != null || spilledGraph == null) {
+                    return graphStoreWithConfig;
+                }
+
+                long start = System.nanoTime();
+                // a graph store that is still referenced is at least as recent as the spilled one
+                var graphStore = spilledGraph.evictedGraphStore().get();
+                if (graphStore == null) {
+                    graphStore = spilledGraph.spillStore().reload(spilledGraph.location());
+                }
+                graphStore.canRelease(false);
+                graphStoreWithConfig = GraphStoreWithConfig.of(graphStore, spilledGraph.config());
+                graphsByName.put(userCatalogKey, graphStoreWithConfig);
+                spilledGraphsByName.remove(userCatalogKey);
+                spilledGraph.spillStore().delete(spilledGraph.location());
+
+                var budget = memoryBudget;
+                if (budget != null) {
+                    budget.recordReload(System.nanoTime() - start);
+                }
+            }
+
+            // spilling other graphs happens outside of the lock as it might need to lock another user catalog
+            var budget = memoryBudget;
+            if (budget != null) {
+                var key = CatalogMemoryBudget.ResidentGraphKey.of(username, userCatalogKey);
+                GraphStoreCatalog.spill(budget.track(key, graphStoreWithConfig.graphStore()), budget);
+            }
+
+            return graphStoreWithConfig;
+        }
+
+        private synchronized void spill(UserCatalogKey userCatalogKey, CatalogMemoryBudget budget) {
+            var graphStoreWithConfig = graphsByName.get(userCatalogKey);
+            if (graphStoreWithConfig == null) {
+                return;
+            }
+
+            var graphStore = graphStoreWithConfig.graphStore();
+            var residentGraphKey = CatalogMemoryBudget.ResidentGraphKey.of(username, userCatalogKey);
+
+            // a running procedure would keep working on the evicted graph store
+            if (isPinned(graphStore)) {
+                budget.retain(residentGraphKey, graphStore);
+                return;
+            }
+
+            Path location;
+            GraphStoreCatalogEntry entry;
+            // CSRGraphStore applies updates while holding its monitor, holding it here spills a consistent snapshot
+            synchronized (graphStore) {
+                try {
+                    location = budget.spillStore().spill(graphStoreWithConfig);
+                } catch (RuntimeException e) {
+                    // the graph stays resident and will be considered again on the next eviction
+                    budget.recordEvictionFailure();
+                    budget.retain(residentGraphKey, graphStore);
+                    return;
+                }
+                entry = GraphStoreCatalogEntry.spilled(
+                    username,
+                    graphStoreWithConfig.config(),
+                    graphStore,
+                    budget.sizeOf(graphStore)
+                );
+            }
+
+            // make the spilled graph visible before removing the resident one,
+            // so that concurrent lookups always find either of them
+            spilledGraphsByName.put(
+                userCatalogKey,
+                ImmutableSpilledGraph.of(
+                    graphStoreWithConfig.config(),
+                    location,
+                    budget.spillStore(),
+                    entry,
+                    new WeakReference<>(graphStore)
+                )
+            );
+            graphsByName.remove(userCatalogKey);
+            budget.recordEviction();
+        }
+
+        /**
+         * Makes the given graph store resident again if it has been spilled from this catalog.
+         */
+        private void revive(GraphStore graphStore) {
+            if (spilledGraphsByName.isEmpty()) {
+                return;
+            }
+
+            UserCatalogKey revivedKey = null;
+            synchronized (this) {
+                for (var entry : spilledGraphsByName.entrySet()) {
+                    var spilledGraph = entry.getValue();
+                    if (spilledGraph.evictedGraphStore().get() == graphStore) {
+                        revivedKey = entry.getKey();
+                        graphsByName.put(revivedKey, GraphStoreWithConfig.of(graphStore, spilledGraph.config()));
+                        spilledGraphsByName.remove(revivedKey);
+                        spilledGraph.spillStore().delete(spilledGraph.location());
+                        break;
+                    }
+                }
+            }
+
+            // spilling other graphs happens outside of the lock as it might need to lock another user catalog
+            var budget = memoryBudget;
+            if (revivedKey != null && budget != null) {
+                var key = CatalogMemoryBudget.ResidentGraphKey.of(username, revivedKey);
+                GraphStoreCatalog.spill(budget.track(key, graphStore), budget);
+            }
+        }
+
+        /**
+         * Measures the given graph store again if it is resident in this catalog.
+         */
+        private void remeasure(GraphStore graphStore, CatalogMemoryBudget budget) {
+            graphsByName.forEach((userCatalogKey, graphStoreWithConfig) -> {
+                if (graphStoreWithConfig.graphStore() == graphStore) {
+                    var key = CatalogMemoryBudget.ResidentGraphKey.of(username, userCatalogKey);
+                    GraphStoreCatalog.spill(budget.track(key, graphStore), budget);
+                }
+            });
+        }
+
+        private void trackResidentGraphs(CatalogMemoryBudget budget) {
+            graphsByName.forEach((userCatalogKey, graphStoreWithConfig) -> GraphStoreCatalog.spill(
+                budget.track(
+                    CatalogMemoryBudget.ResidentGraphKey.of(username, userCatalogKey),
+                    graphStoreWithConfig.graphStore()
+                ),
+                budget
+            ));
+        }
+
+        private void deleteSpilledGraph(UserCatalogKey userCatalogKey) {
+            var spilledGraph = spilledGraphsByName.remove(userCatalogKey);
+            if (spilledGraph != null) {
+                spilledGraph.spillStore().delete(spilledGraph.location());
+            }
+        }
+
+        private void deleteSpilledGraphs() {
+            spilledGraphsByName.keySet().forEach(this::deleteSpilledGraph);
+        }
+
         private NoSuchElementException graphNotFoundException(UserCatalogKey userCatalogKey) {
             var graphName = userCatalogKey.graphName();
 
@@ -334,41 +654,122 @@ public final class GraphStoreCatalog {
         }
 
         private Optional<Map<String, Object>> getDegreeDistribution(UserCatalogKey userCatalogKey) {
-            if (!graphsByName.containsKey(userCatalogKey)) {
+            if (!exists(userCatalogKey)) {
                 return Optional.empty();
             }
             return Optional.ofNullable(degreeDistributionByName.get(userCatalogKey));
         }
 
         private boolean exists(UserCatalogKey userCatalogKey) {
-            return userCatalogKey != null && graphsByName.containsKey(userCatalogKey);
+            return userCatalogKey != null && (
+                graphsByName.containsKey(userCatalogKey) || spilledGraphsByName.containsKey(userCatalogKey)
+            );
         }
 
         private boolean remove(
             UserCatalogKey userCatalogKey,
-            Consumer<GraphStoreWithConfig> removedGraphConsumer,
+            Consumer<GraphStoreCatalogEntry> removedGraphConsumer,
             boolean failOnMissing
         ) {
-            return Optional.ofNullable(get(userCatalogKey, failOnMissing))
-                .map(graphStoreWithConfig -> {
-                    removedGraphConsumer.accept(graphStoreWithConfig);
-                    graphStoreWithConfig.graphStore().canRelease(true);
-                    graphStoreWithConfig.graphStore().release();
-                    removeDegreeDistribution(userCatalogKey);
-                    graphsByName.remove(userCatalogKey);
-                    return Boolean.TRUE;
-                })
-                .orElse(Boolean.FALSE);
+            synchronized (this) {
+                var graphStoreWithConfig = graphsByName.remove(userCatalogKey);
+                // a spilled graph is removed from its spilled entry without being reloaded
+                var spilledGraph = spilledGraphsByName.remove(userCatalogKey);
+
+                if (graphStoreWithConfig != null) {
+                    var graphStore = graphStoreWithConfig.graphStore();
+                    removedGraphConsumer.accept(GraphStoreCatalogEntry.resident(
+                        username,
+                        graphStoreWithConfig.config(),
+                        graphStore
+                    ));
+                    graphStore.canRelease(true);
+                    graphStore.release();
+                } else if (spilledGraph != null) {
+                    removedGraphConsumer.accept(spilledGraph.entry());
+                } else if (failOnMissing) {
+                    throw graphNotFoundException(userCatalogKey);
+                } else {
+                    return false;
+                }
+
+                if (spilledGraph != null) {
+                    spilledGraph.spillStore().delete(spilledGraph.location());
+                }
+                removeDegreeDistribution(userCatalogKey);
+            }
+            untrack(userCatalogKey);
+            return true;
         }
 
         private void remove(String databaseName) {
             graphsByName.keySet().removeIf(userCatalogKey -> userCatalogKey.databaseName().equals(databaseName));
+            spilledGraphsByName
+                .keySet()
+                .stream()
+                .filter(userCatalogKey -> userCatalogKey.databaseName().equals(databaseName))
+                .forEach(this::deleteSpilledGraph);
+            var budget = memoryBudget;
+            if (budget != null) {
+                budget.untrackDatabase(username, databaseName);
+            }
         }
 
-        private Stream<GraphStoreWithUserNameAndConfig> streamGraphStores(String userName) {
+        private void untrack(UserCatalogKey userCatalogKey) {
+            var budget = memoryBudget;
+            if (budget != null) {
+                budget.untrack(CatalogMemoryBudget.ResidentGraphKey.of(username, userCatalogKey));
+            }
+        }
+
+        private int graphStoresCount() {
+            return graphsByName.size() + spilledGraphsByName.size();
+        }
+
+        private int graphStoresCount(DatabaseId databaseId) {
+            return (int) keys()
+                .filter(userCatalogKey -> userCatalogKey.databaseName().equals(databaseId.databaseName()))
+                .count();
+        }
+
+        private int spilledGraphsCount() {
+            return spilledGraphsByName.size();
+        }
+
+        private Stream<UserCatalogKey> keys() {
+            return Stream.concat(graphsByName.keySet().stream(), spilledGraphsByName.keySet().stream()).distinct();
+        }
+
+        /**
+         * Spilled graphs are not reloaded and therefore not included.
+         */
+        private Stream<GraphStoreWithConfig> graphStoresWithConfig(Predicate<UserCatalogKey> keyFilter) {
             return graphsByName
-                .values()
+                .entrySet()
                 .stream()
+                .filter(entry -> keyFilter.test(entry.getKey()))
+                .map(Map.Entry::getValue);
+        }
+
+        private Stream<GraphStoreCatalogEntry> entries() {
+            return keys()
+                .map(userCatalogKey -> {
+                    var graphStoreWithConfig = graphsByName.get(userCatalogKey);
+                    if (graphStoreWithConfig != null) {
+                        return GraphStoreCatalogEntry.resident(
+                            username,
+                            graphStoreWithConfig.config(),
+                            graphStoreWithConfig.graphStore()
+                        );
+                    }
+                    var spilledGraph = spilledGraphsByName.get(userCatalogKey);
+                    return spilledGraph == null ? null : spilledGraph.entry();
+                })
+                .filter(Objects::nonNull);
+        }
+
+        private Stream<GraphStoreWithUserNameAndConfig> streamGraphStores(String userName) {
+            return graphStoresWithConfig(userCatalogKey -> true)
                 .map(graphStoreWithConfig -> ImmutableGraphStoreWithUserNameAndConfig.of(
                     graphStoreWithConfig.graphStore(),
                     userName,
@@ -377,7 +778,7 @@ public final class GraphStoreCatalog {
         }
 
         private Map<GraphProjectConfig, GraphStore> getGraphStores() {
-            return graphsByName.values().stream()
+            return graphStoresWithConfig(userCatalogKey -> true)
                 .collect(Collectors.toMap(
                     GraphStoreWithConfig::config,
                     GraphStoreWithConfig::graphStore
@@ -386,11 +787,10 @@ public final class GraphStoreCatalog {
         }
 
         private Map<GraphProjectConfig, GraphStore> getGraphStores(DatabaseId databaseId) {
-            return graphsByName.entrySet().stream()
-                .filter(entry -> entry.getKey().databaseName().equals(databaseId.databaseName()))
+            return graphStoresWithConfig(userCatalogKey -> userCatalogKey.databaseName().equals(databaseId.databaseName()))
                 .collect(Collectors.toMap(
-                    entry -> entry.getValue().config(),
-                    entry -> entry.getValue().graphStore()
+                    GraphStoreWithConfig::config,
+                    GraphStoreWithConfig::graphStore
                     )
                 );
         }
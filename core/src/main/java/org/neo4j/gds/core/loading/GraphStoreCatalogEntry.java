@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.api.DatabaseId;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.schema.GraphSchema;
+import org.neo4j.gds.config.GraphProjectConfig;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * Describes a graph in the {@link GraphStoreCatalog} without reloading it if it has been spilled.
+ */
+@ValueClass
+public interface GraphStoreCatalogEntry {
+
+    String userName();
+
+    GraphProjectConfig config();
+
+    DatabaseId databaseId();
+
+    GraphSchema schema();
+
+    long nodeCount();
+
+    long relationshipCount();
+
+    ZonedDateTime modificationTime();
+
+    /**
+     * The graph store if it is held in memory, empty if it has been spilled.
+     */
+    Optional<GraphStore> residentGraphStore();
+
+    /**
+     * The size of the graph at the time it was spilled, empty for resident graphs.
+     */
+    OptionalLong spilledSizeInBytes();
+
+    static GraphStoreCatalogEntry resident(String userName, GraphProjectConfig config, GraphStore graphStore) {
+        return ImmutableGraphStoreCatalogEntry.builder()
+            .userName(userName)
+            .config(config)
+            .databaseId(graphStore.databaseId())
+            .schema(graphStore.schema())
+            .nodeCount(graphStore.nodeCount())
+            .relationshipCount(graphStore.relationshipCount())
+            .modificationTime(graphStore.modificationTime())
+            .residentGraphStore(graphStore)
+            .build();
+    }
+
+    static GraphStoreCatalogEntry spilled(
+        String userName,
+        GraphProjectConfig config,
+        GraphStore graphStore,
+        long sizeInBytes
+    ) {
+        return ImmutableGraphStoreCatalogEntry.builder()
+            .userName(userName)
+            .config(config)
+            .databaseId(graphStore.databaseId())
+            .schema(graphStore.schema())
+            .nodeCount(graphStore.nodeCount())
+            .relationshipCount(graphStore.relationshipCount())
+            .modificationTime(graphStore.modificationTime())
+            .spilledSizeInBytes(sizeInBytes)
+            .build();
+    }
+}
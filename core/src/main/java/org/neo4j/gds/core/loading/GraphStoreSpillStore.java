@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.api.GraphStore;
+
+import java.nio.file.Path;
+
+/**
+ * Persists graph stores that are evicted from the {@link GraphStoreCatalog}
+ * because the catalog exceeded its memory budget.
+ */
+public interface GraphStoreSpillStore {
+
+    /**
+     * Writes the given graph store to local storage.
+     *
+     * @return the location from which the graph store can be reloaded
+     */
+    Path spill(GraphStoreWithConfig graphStoreWithConfig);
+
+    GraphStore reload(Path location);
+
+    void delete(Path location);
+}
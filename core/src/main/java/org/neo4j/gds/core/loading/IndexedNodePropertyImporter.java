@@ -28,6 +28,7 @@ import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.compat.CompatIndexQuery;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.loading.nodeproperties.NodePropertiesFromStoreBuilder;
 import org.neo4j.gds.core.utils.StatementAction;
 import org.neo4j.gds.core.utils.TerminationFlag;
@@ -49,6 +50,12 @@ import java.util.OptionalDouble;
 import java.util.concurrent.ExecutorService;
 
 public final class IndexedNodePropertyImporter extends StatementAction {
+
+    // Property values are rarely distributed uniformly, so equally wide value ranges
+    // hold very different numbers of nodes. We split into more ranges than threads,
+    // so that threads which finish early can pick up the remaining ranges.
+    private static final int RANGES_PER_THREAD = 4;
+
     private final int concurrency;
     private final NodeLabel nodeLabel;
     private final PropertyMapping mapping;
@@ -163,7 +170,12 @@ public final class IndexedNodePropertyImporter extends StatementAction {
                     // try to import in parallel, see if we can find a range
                     var parallelJobs = prepareParallelScan(read, indexReadSession, indexCursor, propertyOffset);
                     if (parallelJobs != null) {
-                        ParallelUtil.run(parallelJobs, executorService);
+                        RunWithConcurrency.builder()
+                            .concurrency(concurrency)
+                            .tasks(parallelJobs)
+                            .terminationFlag(terminationFlag)
+                            .executor(executorService)
+                            .run();
                         return;
                     }
                 }
@@ -211,14 +223,15 @@ public final class IndexedNodePropertyImporter extends StatementAction {
                 // nextUp to make the range exclusive
                 var maxValue = Math.nextUp(max.getAsDouble());
                 var range = maxValue - minValue;
-                var batchSize = range / concurrency;
+                var numberOfRanges = this.concurrency * RANGES_PER_THREAD;
+                var batchSize = range / numberOfRanges;
                 // if min and max are too close together the batchSize could be small enough to not
                 // change the value of minValue. In that case, increase it to guarantee that is always
                 // has an effect.
                 if (minValue == (minValue + batchSize)) {
                     batchSize = Math.nextUp(minValue) - minValue;
                 }
-                var jobs = new ArrayList<IndexedNodePropertyImporter>(this.concurrency);
+                var jobs = new ArrayList<IndexedNodePropertyImporter>(numberOfRanges);
                 while (minValue < maxValue) {
                     var query = Neo4jProxy.rangeIndexQuery(
                         this.propertyId,
@@ -270,5 +283,7 @@ public final class IndexedNodePropertyImporter extends StatementAction {
                 }
             }
         }
+        progressTracker.logProgress(imported - logged);
+        logged = imported;
     }
 }
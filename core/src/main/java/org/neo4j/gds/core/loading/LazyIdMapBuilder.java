@@ -21,7 +21,6 @@ package org.neo4j.gds.core.loading;
 
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.annotation.ValueClass;
-import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.PartialIdMap;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.core.loading.construction.GraphFactory;
@@ -54,15 +53,13 @@ public final class LazyIdMapBuilder implements PartialIdMap {
     }
 
     public long addNode(long nodeId, @Nullable NodeLabelToken nodeLabels) {
-        var intermediateId = this.intermediateIdMapBuilder.toMappedNodeId(nodeId);
+        var intermediateId = this.intermediateIdMapBuilder.addNodeIfAbsent(nodeId);
 
         // deduplication
-        if (intermediateId != IdMap.NOT_FOUND) {
-            return intermediateId;
+        if (intermediateId < 0) {
+            return -(intermediateId + 1);
         }
 
-        intermediateId = this.intermediateIdMapBuilder.addNode(nodeId);
-
         isEmpty.lazySet(false);
         if (nodeLabels == null) {
             nodeLabels = NodeLabelTokens.empty();
@@ -77,14 +74,13 @@ public final class LazyIdMapBuilder implements PartialIdMap {
         Map<String, Value> properties,
         @Nullable NodeLabelToken nodeLabels
     ) {
-        var intermediateId = this.intermediateIdMapBuilder.toMappedNodeId(nodeId);
+        var intermediateId = this.intermediateIdMapBuilder.addNodeIfAbsent(nodeId);
 
         // deduplication
-        if (intermediateId != IdMap.NOT_FOUND) {
-            return intermediateId;
+        if (intermediateId < 0) {
+            return -(intermediateId + 1);
         }
 
-        intermediateId = this.intermediateIdMapBuilder.addNode(nodeId);
         isEmpty.lazySet(false);
         if (nodeLabels == null) {
             nodeLabels = NodeLabelTokens.empty();
@@ -21,7 +21,6 @@ package org.neo4j.gds.core.loading;
 
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.transaction.TransactionContext;
-import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.neo4j.logging.Log;
 
 import java.util.Arrays;
@@ -35,6 +34,7 @@ public final class NodeScannerFactory {
     public static StoreScanner.Factory<NodeReference> create(
         TransactionContext transactionContext,
         int[] labelIds,
+        boolean partitionedScan,
         Log log
     ) {
         var hasNodeLabelIndex = hasNodeLabelIndex(transactionContext);
@@ -50,14 +50,14 @@ public final class NodeScannerFactory {
                 labelIds[0],
                 prefetchSize,
                 transaction,
-                GdsFeatureToggles.USE_PARTITIONED_SCAN.isEnabled()
+                partitionedScan
             );
         } else {
             return (prefetchSize, transaction) -> new MultipleNodeLabelIndexBasedScanner(
                 labelIds,
                 prefetchSize,
                 transaction,
-                GdsFeatureToggles.USE_PARTITIONED_SCAN.isEnabled()
+                partitionedScan
             );
         }
     }
@@ -41,6 +41,7 @@ public final class NodesScannerTask extends StatementAction implements RecordSca
     private final ProgressTracker progressTracker;
     private final NodeImporter importer;
     private final NativeNodePropertyImporter nodePropertyImporter;
+    private final boolean partitionedScan;
     private long propertiesImported;
     private long nodesImported;
 
@@ -53,7 +54,8 @@ public final class NodesScannerTask extends StatementAction implements RecordSca
         int taskIndex,
         ProgressTracker progressTracker,
         NodeImporter importer,
-        @Nullable NativeNodePropertyImporter nodePropertyImporter
+        @Nullable NativeNodePropertyImporter nodePropertyImporter,
+        boolean partitionedScan
     ) {
         super(tx);
         this.terminationFlag = terminationFlag;
@@ -64,6 +66,7 @@ public final class NodesScannerTask extends StatementAction implements RecordSca
         this.progressTracker = progressTracker;
         this.importer = importer;
         this.nodePropertyImporter = nodePropertyImporter;
+        this.partitionedScan = partitionedScan;
     }
 
     @Override
@@ -80,6 +83,7 @@ public final class NodesScannerTask extends StatementAction implements RecordSca
                 .capacity(scanner.bufferSize())
                 .hasLabelInformation(labels.size() > 1)
                 .readProperty(nodePropertyImporter != null)
+                .partitionedScan(partitionedScan)
                 .build();
 
             boolean scanNextBatch = true;
@@ -144,7 +148,8 @@ public final class NodesScannerTask extends StatementAction implements RecordSca
         ProgressTracker progressTracker,
         NodeImporter nodeImporter,
         @Nullable NativeNodePropertyImporter nodePropertyImporter,
-        TerminationFlag terminationFlag
+        TerminationFlag terminationFlag,
+        boolean partitionedScan
     ) {
         return new Factory(
             tx,
@@ -154,7 +159,8 @@ public final class NodesScannerTask extends StatementAction implements RecordSca
             progressTracker,
             nodeImporter,
             nodePropertyImporter,
-            terminationFlag
+            terminationFlag,
+            partitionedScan
         );
     }
 
@@ -167,6 +173,7 @@ public final class NodesScannerTask extends StatementAction implements RecordSca
         private final NodeImporter nodeImporter;
         private final NativeNodePropertyImporter nodePropertyImporter;
         private final TerminationFlag terminationFlag;
+        private final boolean partitionedScan;
 
         Factory(
             TransactionContext tx,
@@ -176,7 +183,8 @@ public final class NodesScannerTask extends StatementAction implements RecordSca
             ProgressTracker progressTracker,
             NodeImporter nodeImporter,
             @Nullable NativeNodePropertyImporter nodePropertyImporter,
-            TerminationFlag terminationFlag
+            TerminationFlag terminationFlag,
+            boolean partitionedScan
         ) {
             this.tx = tx;
             this.scanner = scanner;
@@ -186,6 +194,7 @@ public final class NodesScannerTask extends StatementAction implements RecordSca
             this.nodeImporter = nodeImporter;
             this.nodePropertyImporter = nodePropertyImporter;
             this.terminationFlag = terminationFlag;
+            this.partitionedScan = partitionedScan;
         }
 
         @Override
@@ -199,7 +208,8 @@ public final class NodesScannerTask extends StatementAction implements RecordSca
                 taskIndex,
                 progressTracker,
                 nodeImporter,
-                nodePropertyImporter
+                nodePropertyImporter,
+                partitionedScan
             );
         }
 
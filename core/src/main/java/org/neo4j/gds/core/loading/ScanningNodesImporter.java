@@ -53,6 +53,7 @@ public final class ScanningNodesImporter extends ScanningRecordsImporter<NodeRef
     private final IdMapBuilder idMapBuilder;
     private final LabelInformation.Builder labelInformationBuilder;
     private final @Nullable NativeNodePropertyImporter nodePropertyImporter;
+    private final boolean partitionedScan;
 
     @Builder.Factory
     public static ScanningNodesImporter scanningNodesImporter(
@@ -65,7 +66,14 @@ public final class ScanningNodesImporter extends ScanningRecordsImporter<NodeRef
         var expectedCapacity = dimensions.highestPossibleNodeCount();
         var labelTokenNodeLabelMapping = dimensions.tokenNodeLabelMapping();
 
-        var scannerFactory = scannerFactory(loadingContext.transactionContext(), dimensions, loadingContext.log());
+        // Read the toggle once, the scanners and the buffers they feed must agree on it.
+        var partitionedScan = GdsFeatureToggles.USE_PARTITIONED_SCAN.isEnabled();
+        var scannerFactory = scannerFactory(
+            loadingContext.transactionContext(),
+            dimensions,
+            partitionedScan,
+            loadingContext.log()
+        );
 
         var idMapBuilder = IdMapBehaviorServiceProvider
             .idMapBehavior()
@@ -104,7 +112,8 @@ public final class ScanningNodesImporter extends ScanningRecordsImporter<NodeRef
             propertyMappings,
             nodePropertyImporter,
             idMapBuilder,
-            labelInformationBuilder
+            labelInformationBuilder,
+            partitionedScan
         );
     }
 
@@ -117,7 +126,8 @@ public final class ScanningNodesImporter extends ScanningRecordsImporter<NodeRef
         IndexPropertyMappings.LoadablePropertyMappings propertyMappings,
         @Nullable NativeNodePropertyImporter nodePropertyImporter,
         IdMapBuilder idMapBuilder,
-        LabelInformation.Builder labelInformationBuilder
+        LabelInformation.Builder labelInformationBuilder,
+        boolean partitionedScan
     ) {
         super(
             scannerFactory,
@@ -132,18 +142,20 @@ public final class ScanningNodesImporter extends ScanningRecordsImporter<NodeRef
         this.nodePropertyImporter = nodePropertyImporter;
         this.idMapBuilder = idMapBuilder;
         this.labelInformationBuilder = labelInformationBuilder;
+        this.partitionedScan = partitionedScan;
     }
 
     private static StoreScanner.Factory<NodeReference> scannerFactory(
         TransactionContext transaction,
         GraphDimensions dimensions,
+        boolean partitionedScan,
         Log log
     ) {
         var tokenNodeLabelMapping = dimensions.tokenNodeLabelMapping();
         assert tokenNodeLabelMapping != null : "Only null in Cypher loader";
 
         int[] labelIds = tokenNodeLabelMapping.keys().toArray();
-        return NodeScannerFactory.create(transaction, labelIds, log);
+        return NodeScannerFactory.create(transaction, labelIds, partitionedScan, log);
     }
 
     @Override
@@ -167,7 +179,8 @@ public final class ScanningNodesImporter extends ScanningRecordsImporter<NodeRef
             progressTracker,
             nodeImporter,
             nodePropertyImporter,
-            terminationFlag
+            terminationFlag,
+            partitionedScan
         );
     }
 
@@ -179,6 +192,15 @@ public final class ScanningNodesImporter extends ScanningRecordsImporter<NodeRef
             concurrency
         );
 
+        if (idMapBuilder instanceof ShardedIdMapBuilder) {
+            var lockContention = ((ShardedIdMapBuilder) idMapBuilder).lockContention();
+            progressTracker.logDebug(formatWithLocale(
+                "Sharded id map: %,d of %,d shard lock acquisitions were contended",
+                lockContention.contendedLockAcquisitions(),
+                lockContention.lockAcquisitions()
+            ));
+        }
+
         Map<PropertyMapping, NodePropertyValues> nodeProperties = nodePropertyImporter == null
             ? new HashMap<>()
             : nodePropertyImporter.result(idMap);
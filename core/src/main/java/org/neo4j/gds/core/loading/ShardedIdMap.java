@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import com.carrotsearch.hppc.BitSet;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.api.FilteredIdMap;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.LabeledIdMap;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.ShardedLongLongMap;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * An id map backed by a {@link org.neo4j.gds.core.utils.paged.ShardedLongLongMap}.
+ * In contrast to the {@link org.neo4j.gds.core.loading.ArrayIdMap}, its size does not
+ * depend on the highest original id, and many threads can insert into it concurrently.
+ */
+public final class ShardedIdMap extends LabeledIdMap {
+
+    private static final MemoryEstimation ESTIMATION = MemoryEstimations
+        .builder(ShardedIdMap.class)
+        .perNode("Neo4j identifiers", HugeLongArray::memoryEstimation)
+        .rangePerNode(
+            "Mapping from Neo4j identifiers to internal identifiers",
+            // every shard is a hash map with a load factor of 0.5 storing key and value
+            nodeCount -> MemoryRange.of(4L * Long.BYTES * nodeCount, 8L * Long.BYTES * nodeCount)
+        )
+        .perGraphDimension(
+            "Node Label BitSets",
+            (dimensions, concurrency) ->
+                MemoryRange.of(dimensions.estimationNodeLabelCount() * MemoryUsage.sizeOfBitset(dimensions.nodeCount()))
+        )
+        .build();
+
+    private final ShardedLongLongMap idMap;
+
+    public static MemoryEstimation memoryEstimation() {
+        return ESTIMATION;
+    }
+
+    ShardedIdMap(ShardedLongLongMap idMap, LabelInformation labelInformation, long nodeCount) {
+        super(labelInformation, nodeCount);
+        this.idMap = idMap;
+    }
+
+    @Override
+    public long toMappedNodeId(long originalNodeId) {
+        return idMap.toMappedNodeId(originalNodeId);
+    }
+
+    @Override
+    public long toOriginalNodeId(long mappedNodeId) {
+        return idMap.toOriginalNodeId(mappedNodeId);
+    }
+
+    @Override
+    public long toRootNodeId(long mappedNodeId) {
+        return mappedNodeId;
+    }
+
+    @Override
+    public IdMap rootIdMap() {
+        return this;
+    }
+
+    @Override
+    public boolean contains(long originalNodeId) {
+        return idMap.contains(originalNodeId);
+    }
+
+    @Override
+    public OptionalLong rootNodeCount() {
+        return OptionalLong.of(nodeCount());
+    }
+
+    @Override
+    public long highestOriginalId() {
+        return idMap.maxOriginalId();
+    }
+
+    @Override
+    public Optional<FilteredIdMap> withFilteredLabels(Collection<NodeLabel> nodeLabels, int concurrency) {
+        labelInformation.validateNodeLabelFilter(nodeLabels);
+
+        if (labelInformation.isEmpty()) {
+            return Optional.empty();
+        }
+
+        BitSet unionBitSet = labelInformation.unionBitSet(nodeLabels, nodeCount());
+        long newNodeCount = unionBitSet.cardinality();
+
+        // Filtered ids must follow the order of the root ids,
+        // hence we add them from a single thread.
+        var rootToFilteredIdsBuilder = ShardedLongLongMap.builder(concurrency, newNodeCount);
+        long nodeId = -1L;
+        while ((nodeId = unionBitSet.nextSetBit(nodeId + 1)) != -1) {
+            rootToFilteredIdsBuilder.addNode(nodeId);
+        }
+
+        var rootToFilteredIdMap = new ShardedIdMap(
+            rootToFilteredIdsBuilder.build(),
+            labelInformation.filter(nodeLabels),
+            newNodeCount
+        );
+
+        return Optional.of(new FilteredLabeledIdMap(this, rootToFilteredIdMap));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.core.loading.construction.NodesBuilder;
+import org.neo4j.gds.core.utils.paged.ShardedLongLongMap;
+
+public final class ShardedIdMapBuilder implements IdMapBuilder {
+
+    private final ShardedLongLongMap.BatchedBuilder builder;
+
+    /**
+     * @param expectedNodeCount used to pre-size the shards, 0 if unknown
+     */
+    public static ShardedIdMapBuilder of(int concurrency, long expectedNodeCount) {
+        return new ShardedIdMapBuilder(ShardedLongLongMap.batchedBuilder(concurrency, expectedNodeCount));
+    }
+
+    private ShardedIdMapBuilder(ShardedLongLongMap.BatchedBuilder builder) {
+        this.builder = builder;
+    }
+
+    @Override
+    public IdMapAllocator allocate(int batchLength) {
+        return builder.prepareBatch(batchLength);
+    }
+
+    @Override
+    public IdMap build(
+        LabelInformation.Builder labelInformationBuilder,
+        long highestNodeId,
+        int concurrency
+    ) {
+        var idMap = highestNodeId == NodesBuilder.UNKNOWN_MAX_ID
+            ? builder.build()
+            : builder.build(highestNodeId);
+        long nodeCount = idMap.size();
+        var labelInformation = labelInformationBuilder.build(nodeCount, idMap::toMappedNodeId);
+        return new ShardedIdMap(idMap, labelInformation, nodeCount);
+    }
+
+    public long size() {
+        return builder.size();
+    }
+
+    public ShardedLongLongMap.LockContention lockContention() {
+        return builder.lockContention();
+    }
+}
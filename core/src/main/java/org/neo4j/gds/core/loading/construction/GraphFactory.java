@@ -58,7 +58,6 @@ import java.util.concurrent.ExecutorService;
 import java.util.stream.IntStream;
 
 import static java.util.stream.Collectors.toMap;
-import static org.neo4j.gds.core.GraphDimensions.ANY_LABEL;
 import static org.neo4j.kernel.api.StatementConstants.NO_SUCH_RELATIONSHIP_TYPE;
 
 @Value.Style(
@@ -142,9 +141,9 @@ public final class GraphFactory {
         var labelTokenNodeLabelMapping = new IntObjectHashMap<List<NodeLabel>>();
         var labelTokenCounter = new MutableInt(0);
         nodeLabels.forEach(nodeLabel -> {
-            int labelToken = nodeLabel == NodeLabel.ALL_NODES
-                ? ANY_LABEL
-                : labelTokenCounter.getAndIncrement();
+            // `__ALL__` in a schema denotes unlabelled nodes, not a '*' projection,
+            // so it gets its own token instead of being assigned to every node
+            int labelToken = labelTokenCounter.getAndIncrement();
 
             elementIdentifierLabelTokenMapping.put(nodeLabel, labelToken);
             labelTokenNodeLabelMapping.put(labelToken, List.of(nodeLabel));
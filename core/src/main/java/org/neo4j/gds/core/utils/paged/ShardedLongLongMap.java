@@ -25,6 +25,8 @@ import org.eclipse.collections.api.map.primitive.MutableLongLongMap;
 import org.eclipse.collections.impl.SpreadFunctions;
 import org.eclipse.collections.impl.collection.mutable.AbstractMultiReaderMutableCollection;
 import org.eclipse.collections.impl.factory.primitive.LongLongMaps;
+import org.eclipse.collections.impl.map.mutable.primitive.LongLongHashMap;
+import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.core.loading.IdMapAllocator;
 import org.neo4j.gds.mem.BitUtil;
@@ -37,6 +39,9 @@ import java.util.stream.IntStream;
 
 public final class ShardedLongLongMap {
 
+    // Shards are pre-sized up to this many entries, beyond that they grow on demand.
+    private static final int MAX_PRESIZED_SHARD_CAPACITY = 1 << 28;
+
     private final HugeLongArray internalNodeMapping;
     private final LongLongMap[] originalNodeMappingShards;
     private final int shardShift;
@@ -44,11 +49,36 @@ public final class ShardedLongLongMap {
     private final long maxOriginalId;
 
     public static Builder builder(int concurrency) {
-        return new Builder(concurrency);
+        return new Builder(concurrency, 0);
+    }
+
+    /**
+     * @param expectedNodeCount used to pre-size the shards, 0 if unknown
+     */
+    public static Builder builder(int concurrency, long expectedNodeCount) {
+        return new Builder(concurrency, expectedNodeCount);
     }
 
     public static BatchedBuilder batchedBuilder(int concurrency) {
-        return new BatchedBuilder(concurrency);
+        return new BatchedBuilder(concurrency, 0);
+    }
+
+    /**
+     * @param expectedNodeCount used to pre-size the shards, 0 if unknown
+     */
+    public static BatchedBuilder batchedBuilder(int concurrency, long expectedNodeCount) {
+        return new BatchedBuilder(concurrency, expectedNodeCount);
+    }
+
+    /**
+     * How often the shard locks have been taken during building
+     * and how often a thread had to wait for another thread to release one.
+     */
+    @ValueClass
+    public interface LockContention {
+        long lockAcquisitions();
+
+        long contendedLockAcquisitions();
     }
 
     private ShardedLongLongMap(
@@ -107,6 +137,26 @@ public final class ShardedLongLongMap {
         return BitUtil.nextHighestPowerOfTwo(concurrency * 4);
     }
 
+    private static LockContention lockContention(MapShard[] shards) {
+        long acquisitions = 0;
+        long contended = 0;
+        for (MapShard shard : shards) {
+            acquisitions += shard.lockAcquisitions;
+            contended += shard.contendedLockAcquisitions;
+        }
+        return ImmutableLockContention.of(acquisitions, contended);
+    }
+
+    private static int expectedShardCapacity(long expectedNodeCount, int numberOfShards) {
+        if (expectedNodeCount <= 0) {
+            return 0;
+        }
+        long perShard = BitUtil.ceilDiv(expectedNodeCount, numberOfShards);
+        // the hash does not spread the keys perfectly evenly, leave some headroom
+        perShard += perShard >>> 3;
+        return (int) Math.min(perShard, MAX_PRESIZED_SHARD_CAPACITY);
+    }
+
     private static <S extends MapShard> ShardedLongLongMap build(
         long nodeCount,
         S[] shards,
@@ -176,14 +226,25 @@ public final class ShardedLongLongMap {
         private final AbstractMultiReaderMutableCollection.LockWrapper lockWrapper;
         final MutableLongLongMap mapping;
 
-        MapShard() {
-            this.mapping = LongLongMaps.mutable.empty();
+        // only modified while holding the lock
+        private long lockAcquisitions;
+        private long contendedLockAcquisitions;
+
+        MapShard(int expectedCapacity) {
+            this.mapping = expectedCapacity > 0
+                ? new LongLongHashMap(expectedCapacity)
+                : LongLongMaps.mutable.empty();
             this.lock = new ReentrantLock();
             this.lockWrapper = new AbstractMultiReaderMutableCollection.LockWrapper(lock);
         }
 
         final AbstractMultiReaderMutableCollection.LockWrapper acquireLock() {
-            this.lock.lock();
+            boolean contended = !this.lock.tryLock();
+            if (contended) {
+                this.lock.lock();
+                this.contendedLockAcquisitions++;
+            }
+            this.lockAcquisitions++;
             return this.lockWrapper;
         }
 
@@ -203,13 +264,14 @@ public final class ShardedLongLongMap {
         private final int shardShift;
         private final int shardMask;
 
-        Builder(int concurrency) {
+        Builder(int concurrency, long expectedNodeCount) {
             this.nodeCount = new AtomicLong();
             int numberOfShards = numberOfShards(concurrency);
+            int shardCapacity = expectedShardCapacity(expectedNodeCount, numberOfShards);
             this.shardShift = Long.SIZE - Integer.numberOfTrailingZeros(numberOfShards);
             this.shardMask = numberOfShards - 1;
             this.shards = IntStream.range(0, numberOfShards)
-                .mapToObj(__ -> new Shard(this.nodeCount))
+                .mapToObj(__ -> new Shard(this.nodeCount, shardCapacity))
                 .toArray(Shard[]::new);
         }
 
@@ -220,6 +282,29 @@ public final class ShardedLongLongMap {
             }
         }
 
+        /**
+         * Adds the node unless it has been added before.
+         * The lookup and the insert happen under the same shard lock,
+         * so concurrent callers never map the same original id twice.
+         *
+         * @return the new mapped id if the node has been added, otherwise
+         *     {@code -(mappedId + 1)} where {@code mappedId} is the existing mapping
+         */
+        public long addNodeIfAbsent(long nodeId) {
+            var shard = findShard(nodeId, this.shards, this.shardShift, this.shardMask);
+            try (var ignoredLock = shard.acquireLock()) {
+                long mappedId = shard.toMappedNodeId(nodeId);
+                if (mappedId != IdMap.NOT_FOUND) {
+                    return -mappedId - 1;
+                }
+                return shard.addNode(nodeId);
+            }
+        }
+
+        public LockContention lockContention() {
+            return ShardedLongLongMap.lockContention(this.shards);
+        }
+
         public long toMappedNodeId(long nodeId) {
             var shard = findShard(nodeId, this.shards, this.shardShift, this.shardMask);
             return shard.toMappedNodeId(nodeId);
@@ -247,8 +332,8 @@ public final class ShardedLongLongMap {
         private static final class Shard extends MapShard {
             private final AtomicLong nextId;
 
-            private Shard(AtomicLong nextId) {
-                super();
+            private Shard(AtomicLong nextId, int expectedCapacity) {
+                super(expectedCapacity);
                 this.nextId = nextId;
             }
 
@@ -273,13 +358,14 @@ public final class ShardedLongLongMap {
         private final int shardShift;
         private final int shardMask;
 
-        BatchedBuilder(int concurrency) {
+        BatchedBuilder(int concurrency, long expectedNodeCount) {
             this.nodeCount = new AtomicLong();
             int numberOfShards = numberOfShards(concurrency);
+            int shardCapacity = expectedShardCapacity(expectedNodeCount, numberOfShards);
             this.shardShift = Long.SIZE - Integer.numberOfTrailingZeros(numberOfShards);
             this.shardMask = numberOfShards - 1;
             this.shards = IntStream.range(0, numberOfShards)
-                .mapToObj(__ -> new Shard())
+                .mapToObj(__ -> new Shard(shardCapacity))
                 .toArray(Shard[]::new);
             this.batches = CloseableThreadLocal.withInitial(() -> new Batch(
                 this.shards,
@@ -295,6 +381,14 @@ public final class ShardedLongLongMap {
             return batch;
         }
 
+        public long size() {
+            return this.nodeCount.get();
+        }
+
+        public LockContention lockContention() {
+            return ShardedLongLongMap.lockContention(this.shards);
+        }
+
         public ShardedLongLongMap build() {
             this.batches.close();
             return ShardedLongLongMap.build(
@@ -325,10 +419,20 @@ public final class ShardedLongLongMap {
             private long startId;
             private int length;
 
+            // scratch space to group a batch by shard
+            private final int[] shardOffsets;
+            private int[] shardIndices;
+            private long[] groupedNodeIds;
+            private long[] groupedMappedIds;
+
             private Batch(Shard[] shards, int shardShift, int shardMask) {
                 this.shards = shards;
                 this.shardShift = shardShift;
                 this.shardMask = shardMask;
+                this.shardOffsets = new int[shards.length + 1];
+                this.shardIndices = new int[0];
+                this.groupedNodeIds = new long[0];
+                this.groupedMappedIds = new long[0];
             }
 
             @Override
@@ -336,12 +440,51 @@ public final class ShardedLongLongMap {
                 return this.length;
             }
 
+            /**
+             * Inserts the whole batch while taking every shard lock at most once.
+             * The node ids are grouped by their shard using a counting sort first.
+             */
             @Override
             public void insert(long[] nodeIds) {
                 int length = allocatedSize();
+                if (this.shardIndices.length < length) {
+                    this.shardIndices = new int[length];
+                    this.groupedNodeIds = new long[length];
+                    this.groupedMappedIds = new long[length];
+                }
+
+                var offsets = this.shardOffsets;
+                Arrays.fill(offsets, 0);
+                for (int i = 0; i < length; i++) {
+                    int shardIdx = shardIdx2(nodeIds[i], this.shardShift, this.shardMask);
+                    this.shardIndices[i] = shardIdx;
+                    offsets[shardIdx + 1]++;
+                }
+                for (int shardIdx = 0; shardIdx < this.shards.length; shardIdx++) {
+                    offsets[shardIdx + 1] += offsets[shardIdx];
+                }
+                // offsets[shard] now points to the start of the shard group,
+                // filling the groups moves it to the start of the next group
                 for (int i = 0; i < length; i++) {
-                    addNode(nodeIds[i]);
+                    int position = offsets[this.shardIndices[i]]++;
+                    this.groupedNodeIds[position] = nodeIds[i];
+                    this.groupedMappedIds[position] = this.startId + i;
                 }
+
+                int groupStart = 0;
+                for (int shardIdx = 0; shardIdx < this.shards.length; shardIdx++) {
+                    int groupEnd = offsets[shardIdx];
+                    if (groupEnd > groupStart) {
+                        var shard = this.shards[shardIdx];
+                        try (var ignoredLock = shard.acquireLock()) {
+                            for (int i = groupStart; i < groupEnd; i++) {
+                                shard.addNode(this.groupedNodeIds[i], this.groupedMappedIds[i]);
+                            }
+                        }
+                    }
+                    groupStart = groupEnd;
+                }
+                this.startId += length;
             }
 
             public long addNode(long nodeId) {
@@ -361,6 +504,10 @@ public final class ShardedLongLongMap {
 
         private static final class Shard extends MapShard {
 
+            private Shard(int expectedCapacity) {
+                super(expectedCapacity);
+            }
+
             void addNode(long nodeId, long mappedId) {
                 this.assertIsUnderLock();
                 this.mapping.put(nodeId, mappedId);
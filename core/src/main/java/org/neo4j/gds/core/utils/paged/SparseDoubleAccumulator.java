@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import com.carrotsearch.hppc.BitMixer;
+
+/**
+ * Sums up double values per key, e.g. the weights of the neighbouring communities of a node.
+ *
+ * The keys and sums are stored in the order the keys were first added and located through an
+ * open addressing table, so the memory grows with the number of distinct keys and iterating and
+ * {@link #clear() clearing} cost O(touched keys). One instance is meant to be reused by a single
+ * thread across nodes and iterations.
+ */
+public final class SparseDoubleAccumulator {
+
+    private static final int INITIAL_TABLE_SIZE = 16;
+
+    private long[] keys;
+    private double[] values;
+    // position of a key in `keys` plus one, or `0` for a free slot
+    private int[] slots;
+    private int mask;
+    private int size;
+
+    public static SparseDoubleAccumulator newAccumulator() {
+        return new SparseDoubleAccumulator();
+    }
+
+    private SparseDoubleAccumulator() {
+        allocate(INITIAL_TABLE_SIZE);
+    }
+
+    public void add(long key, double value) {
+        int slot = slotOf(key);
+        int index = slots[slot] - 1;
+        if (index >= 0) {
+            values[index] += value;
+            return;
+        }
+        if (size == keys.length) {
+            grow();
+            slot = slotOf(key);
+        }
+        keys[size] = key;
+        values[size] = value;
+        slots[slot] = ++size;
+    }
+
+    public boolean contains(long key) {
+        return slots[slotOf(key)] != 0;
+    }
+
+    /**
+     * @return the sum for the given key or {@code 0} if nothing was added for it
+     */
+    public double get(long key) {
+        int index = slots[slotOf(key)] - 1;
+        return index < 0 ? 0D : values[index];
+    }
+
+    /**
+     * @return the number of distinct keys added since the last {@link #clear()}
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return the key that was added {@code index}-th, in insertion order
+     */
+    public long keyAt(long index) {
+        return keys[(int) index];
+    }
+
+    /**
+     * @return the sum for the key that was added {@code index}-th, in insertion order
+     */
+    public double valueAt(long index) {
+        return values[(int) index];
+    }
+
+    public void clear() {
+        // A key may have been placed behind the slots of keys that were added before it, but never behind
+        // the slots of later keys. Freeing the slots in reverse insertion order keeps every remaining key reachable.
+        for (int i = size - 1; i >= 0; i--) {
+            slots[slotOf(keys[i])] = 0;
+        }
+        size = 0;
+    }
+
+    public void release() {
+        allocate(INITIAL_TABLE_SIZE);
+    }
+
+    private int slotOf(long key) {
+        int slot = (int) BitMixer.mix64(key) & mask;
+        int index;
+        while ((index = slots[slot] - 1) >= 0 && keys[index] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        var keys = this.keys;
+        var values = this.values;
+        int size = this.size;
+
+        allocate(slots.length << 1);
+
+        System.arraycopy(keys, 0, this.keys, 0, size);
+        System.arraycopy(values, 0, this.values, 0, size);
+        for (int i = 0; i < size; i++) {
+            slots[slotOf(keys[i])] = i + 1;
+        }
+        this.size = size;
+    }
+
+    private void allocate(int tableSize) {
+        // keep the table at most three quarters full
+        int capacity = tableSize - (tableSize >>> 2);
+        this.keys = new long[capacity];
+        this.values = new double[capacity];
+        this.slots = new int[tableSize];
+        this.mask = tableSize - 1;
+        this.size = 0;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.progress.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event comparing the memory estimation of a root task
+ * with the heap usage observed while it was running.
+ * It spans the full lifetime of the root task.
+ */
+@Name("org.neo4j.gds.MemoryEstimation")
+@Label("GDS Memory Estimation")
+@Category({"Neo4j Graph Data Science", "Memory"})
+@Description("Estimated memory of a task compared to the heap usage observed while running it")
+@StackTrace(false)
+public final class MemoryEstimationEvent extends Event {
+
+    @Label("Job Id")
+    public String jobId;
+
+    @Label("Task")
+    public String description;
+
+    @Label("Estimated Minimum")
+    @DataAmount
+    public long estimatedMinBytes;
+
+    @Label("Estimated Maximum")
+    @DataAmount
+    public long estimatedMaxBytes;
+
+    @Label("Heap Used At Start")
+    @DataAmount
+    public long heapUsedAtStartBytes;
+
+    @Label("Heap Used At End")
+    @DataAmount
+    public long heapUsedAtEndBytes;
+
+    @Label("Max Concurrency")
+    public int maxConcurrency;
+}
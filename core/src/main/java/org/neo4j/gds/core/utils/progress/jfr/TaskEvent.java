@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.progress.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning a single {@link org.neo4j.gds.core.utils.progress.tasks.Task},
+ * from {@code beginSubTask} to {@code endSubTask} (or failure).
+ */
+@Name("org.neo4j.gds.Task")
+@Label("GDS Task")
+@Category({"Neo4j Graph Data Science", "Progress"})
+@Description("Execution of a progress tracked task")
+@StackTrace(false)
+public final class TaskEvent extends Event {
+
+    @Label("Job Id")
+    public String jobId;
+
+    @Label("Task")
+    public String description;
+
+    @Label("Parent Task")
+    public String parentDescription;
+
+    @Label("Depth")
+    @Description("Nesting level of the task, 0 for the root task")
+    public int depth;
+
+    @Label("Iteration")
+    @Description("Iteration of the enclosing iterative task, or -1 if not part of one")
+    public int iteration;
+
+    @Label("Volume")
+    public long volume;
+
+    @Label("Progress")
+    public long progress;
+
+    @Label("Status")
+    public String status;
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.progress.jfr;
+
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.core.utils.progress.tasks.IterativeTask;
+import org.neo4j.gds.core.utils.progress.tasks.Task;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Translates the task lifecycle of a single progress tracker into Flight Recorder events.
+ * Events are only created and kept around while a recording has them enabled,
+ * so the recorder is close to free when Flight Recorder is not running.
+ * <p>
+ * Not thread-safe, it follows the threading model of the progress tracker that owns it.
+ */
+public final class TaskEventRecorder {
+
+    private static final int NO_ITERATION = -1;
+
+    private final String jobId;
+    private final Map<Task, TaskEvent> runningTasks;
+    private final Map<Task, TaskIterationEvent> runningIterations;
+    private @Nullable Task rootTask;
+    private @Nullable MemoryEstimationEvent memoryEstimationEvent;
+
+    public TaskEventRecorder(String jobId) {
+        this.jobId = jobId;
+        this.runningTasks = new IdentityHashMap<>();
+        this.runningIterations = new IdentityHashMap<>();
+    }
+
+    public void onTaskStarted(Task task, @Nullable Task parentTask, int depth) {
+        if (parentTask == null) {
+            this.rootTask = task;
+            beginMemoryEstimationEvent(task);
+        }
+
+        int iteration = NO_ITERATION;
+        if (parentTask instanceof IterativeTask) {
+            iteration = ((IterativeTask) parentTask).currentIteration();
+            onIteration(parentTask, iteration);
+        }
+
+        var event = new TaskEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.jobId = jobId;
+        event.description = task.description();
+        event.parentDescription = parentTask == null ? null : parentTask.description();
+        event.depth = depth;
+        event.iteration = iteration;
+        event.begin();
+        runningTasks.put(task, event);
+    }
+
+    public void onTaskEnded(Task task) {
+        var event = runningTasks.remove(task);
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                var progress = task.getProgress();
+                event.volume = progress.volume();
+                event.progress = progress.progress();
+                event.status = task.status().name();
+                event.commit();
+            }
+        }
+
+        var iterationEvent = runningIterations.remove(task);
+        if (iterationEvent != null) {
+            iterationEvent.commit();
+        }
+
+        if (task == rootTask) {
+            this.rootTask = null;
+            if (memoryEstimationEvent != null) {
+                commitMemoryEstimationEvent(task);
+            }
+        }
+    }
+
+    private void onIteration(Task iterativeTask, int iteration) {
+        var current = runningIterations.get(iterativeTask);
+        if (current != null) {
+            if (current.iteration == iteration) {
+                return;
+            }
+            current.commit();
+        }
+
+        var event = new TaskIterationEvent();
+        if (!event.isEnabled()) {
+            runningIterations.remove(iterativeTask);
+            return;
+        }
+        event.jobId = jobId;
+        event.description = iterativeTask.description();
+        event.iteration = iteration;
+        event.begin();
+        runningIterations.put(iterativeTask, event);
+    }
+
+    private void beginMemoryEstimationEvent(Task baseTask) {
+        var event = new MemoryEstimationEvent();
+        if (!event.isEnabled()) {
+            return;
+        }
+        event.jobId = jobId;
+        event.description = baseTask.description();
+        event.heapUsedAtStartBytes = usedHeap();
+        event.begin();
+        this.memoryEstimationEvent = event;
+    }
+
+    private void commitMemoryEstimationEvent(Task baseTask) {
+        var event = this.memoryEstimationEvent;
+        this.memoryEstimationEvent = null;
+        event.end();
+        if (event.shouldCommit()) {
+            var estimation = baseTask.estimatedMemoryRangeInBytes();
+            event.estimatedMinBytes = estimation.min;
+            event.estimatedMaxBytes = estimation.max;
+            event.maxConcurrency = baseTask.maxConcurrency();
+            event.heapUsedAtEndBytes = usedHeap();
+            event.commit();
+        }
+    }
+
+    private static long usedHeap() {
+        var runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.progress.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning one iteration of an
+ * {@link org.neo4j.gds.core.utils.progress.tasks.IterativeTask}.
+ */
+@Name("org.neo4j.gds.TaskIteration")
+@Label("GDS Task Iteration")
+@Category({"Neo4j Graph Data Science", "Progress"})
+@Description("Single iteration of an iterative task")
+@StackTrace(false)
+public final class TaskIterationEvent extends Event {
+
+    @Label("Job Id")
+    public String jobId;
+
+    @Label("Task")
+    public String description;
+
+    @Label("Iteration")
+    public int iteration;
+}
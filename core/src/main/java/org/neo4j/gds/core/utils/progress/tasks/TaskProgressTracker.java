@@ -25,6 +25,7 @@ import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.progress.JobId;
 import org.neo4j.gds.core.utils.progress.TaskRegistry;
 import org.neo4j.gds.core.utils.progress.TaskRegistryFactory;
+import org.neo4j.gds.core.utils.progress.jfr.TaskEventRecorder;
 import org.neo4j.gds.core.utils.warnings.EmptyUserLogRegistryFactory;
 import org.neo4j.gds.core.utils.warnings.UserLogRegistry;
 import org.neo4j.gds.core.utils.warnings.UserLogRegistryFactory;
@@ -43,6 +44,7 @@ public class TaskProgressTracker implements ProgressTracker {
     private final TaskRegistry taskRegistry;
     private final UserLogRegistry userLogRegistry;
     private final TaskProgressLogger taskProgressLogger;
+    private final TaskEventRecorder taskEventRecorder;
     private final Stack<Task> nestedTasks;
     protected Optional<Task> currentTask;
     private long currentTotalSteps;
@@ -59,6 +61,7 @@ public class TaskProgressTracker implements ProgressTracker {
         this.baseTask = baseTask;
         this.taskRegistry = taskRegistryFactory.newInstance(jobId);
         this.taskProgressLogger = new TaskProgressLogger(log, baseTask, concurrency);
+        this.taskEventRecorder = new TaskEventRecorder(jobId.asString());
         this.currentTask = Optional.empty();
         this.currentTotalSteps = UNKNOWN_STEPS;
         this.progressLeftOvers = 0;
@@ -81,6 +84,7 @@ public class TaskProgressTracker implements ProgressTracker {
         }).orElse(baseTask);
         nextTask.start();
         taskProgressLogger.logBeginSubTask(nextTask, parentTask());
+        taskEventRecorder.onTaskStarted(nextTask, parentTask(), nestedTasks.size());
         currentTask = Optional.of(nextTask);
         currentTotalSteps = UNKNOWN_STEPS;
         progressLeftOvers = 0;
@@ -130,6 +134,7 @@ public class TaskProgressTracker implements ProgressTracker {
         var currentTask = requireCurrentTask();
         taskProgressLogger.logEndSubTask(currentTask, parentTask());
         currentTask.finish();
+        taskEventRecorder.onTaskEnded(currentTask);
         if (nestedTasks.isEmpty()) {
             this.currentTask = Optional.empty();
             release();
@@ -197,6 +202,7 @@ public class TaskProgressTracker implements ProgressTracker {
         var currentTask = requireCurrentTask();
         currentTask.fail();
         taskProgressLogger.logEndSubTaskWithFailure(currentTask, parentTask());
+        taskEventRecorder.onTaskEnded(currentTask);
 
         if (nestedTasks.isEmpty()) {
             this.currentTask = Optional.empty();
@@ -34,6 +34,7 @@ import org.neo4j.values.storable.Value;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.LongAdder;
@@ -49,6 +50,8 @@ public class NativeNodePropertyExporter extends StatementApi implements NodeProp
     protected final long nodeCount;
     protected final LongUnaryOperator toOriginalId;
     protected final LongAdder propertiesWritten;
+    protected final Optional<PipelinedWriteSettings> pipelinedWriteSettings;
+    private Optional<WriteMetrics> writeMetrics;
 
     public static NodePropertyExporterBuilder<NativeNodePropertyExporter> builder(TransactionContext transactionContext, IdMap idMap, TerminationFlag terminationFlag) {
         return new NativeNodePropertiesExporterBuilder(transactionContext)
@@ -82,6 +85,28 @@ public class NativeNodePropertyExporter extends StatementApi implements NodeProp
         ProgressTracker progressTracker,
         int concurrency,
         ExecutorService executorService
+    ) {
+        this(
+            tx,
+            nodeCount,
+            toOriginalId,
+            terminationFlag,
+            progressTracker,
+            concurrency,
+            executorService,
+            Optional.empty()
+        );
+    }
+
+    protected NativeNodePropertyExporter(
+        TransactionContext tx,
+        long nodeCount,
+        LongUnaryOperator toOriginalId,
+        TerminationFlag terminationFlag,
+        ProgressTracker progressTracker,
+        int concurrency,
+        ExecutorService executorService,
+        Optional<PipelinedWriteSettings> pipelinedWriteSettings
     ) {
         super(tx);
         this.nodeCount = nodeCount;
@@ -91,6 +116,8 @@ public class NativeNodePropertyExporter extends StatementApi implements NodeProp
         this.concurrency = concurrency;
         this.executorService = executorService;
         this.propertiesWritten = new LongAdder();
+        this.pipelinedWriteSettings = pipelinedWriteSettings;
+        this.writeMetrics = Optional.empty();
     }
 
     @Override
@@ -111,7 +138,9 @@ public class NativeNodePropertyExporter extends StatementApi implements NodeProp
 
         progressTracker.beginSubTask(nodeCount);
         try {
-            if (ParallelUtil.canRunInParallel(executorService)) {
+            if (pipelinedWriteSettings.isPresent()) {
+                writePipelined(resolvedNodeProperties, pipelinedWriteSettings.get());
+            } else if (ParallelUtil.canRunInParallel(executorService)) {
                 writeParallel(resolvedNodeProperties);
             } else {
                 writeSequential(resolvedNodeProperties);
@@ -126,6 +155,13 @@ public class NativeNodePropertyExporter extends StatementApi implements NodeProp
         return propertiesWritten.longValue();
     }
 
+    /**
+     * Metrics of the last pipelined write, empty if pipelined writes are disabled or nothing has been written yet.
+     */
+    public Optional<WriteMetrics> writeMetrics() {
+        return writeMetrics;
+    }
+
     private void writeSequential(Iterable<ResolvedNodeProperty> nodeProperties) {
         writeSequential((ops, nodeId) -> doWrite(nodeProperties, ops, nodeId));
     }
@@ -200,4 +236,115 @@ public class NativeNodePropertyExporter extends StatementApi implements NodeProp
             .mayInterruptIfRunning(false)
             .run();
     }
+
+    /**
+     * Compute threads read the property values and fill batches which are
+     * written by the dedicated writer threads of a {@link PipelinedBatchWriter}.
+     */
+    private void writePipelined(List<ResolvedNodeProperty> nodeProperties, PipelinedWriteSettings settings) {
+        var pipeline = PipelinedBatchWriter.<NodePropertyBatch>start(
+            tx,
+            settings,
+            terminationFlag,
+            (ops, batch) -> {
+                batch.writeTo(ops);
+                propertiesWritten.add(batch.size);
+                progressTracker.logProgress(batch.nodes);
+            }
+        );
+
+        final long partitionSize = ParallelUtil.adjustedBatchSize(
+            nodeCount,
+            concurrency,
+            MIN_BATCH_SIZE,
+            MAX_BATCH_SIZE
+        );
+        final Collection<Runnable> producers = LazyBatchCollection.of(
+            nodeCount,
+            partitionSize,
+            (start, len) -> () -> produceBatches(nodeProperties, pipeline, settings.batchSize(), start, start + len)
+        );
+
+        try {
+            if (ParallelUtil.canRunInParallel(executorService)) {
+                RunWithConcurrency.builder()
+                    .concurrency(concurrency)
+                    .tasks(producers)
+                    .maxWaitRetries(Integer.MAX_VALUE)
+                    .waitTime(10L, TimeUnit.MICROSECONDS)
+                    .terminationFlag(terminationFlag)
+                    .executor(executorService)
+                    .mayInterruptIfRunning(false)
+                    .run();
+            } else {
+                producers.forEach(Runnable::run);
+            }
+        } catch (RuntimeException e) {
+            throw pipeline.abort(e);
+        }
+
+        var metrics = pipeline.finish();
+        progressTracker.logInfo(metrics.toLogMessage());
+        writeMetrics = Optional.of(metrics);
+    }
+
+    private void produceBatches(
+        List<ResolvedNodeProperty> nodeProperties,
+        PipelinedBatchWriter<NodePropertyBatch> pipeline,
+        int batchSize,
+        long startNode,
+        long endNode
+    ) {
+        terminationFlag.assertRunning();
+        var batch = new NodePropertyBatch(batchSize, nodeProperties.size());
+        for (long nodeId = startNode; nodeId < endNode; nodeId++) {
+            long originalId = toOriginalId.applyAsLong(nodeId);
+            for (ResolvedNodeProperty nodeProperty : nodeProperties) {
+                var value = nodeProperty.properties().value(nodeId);
+                if (value != null) {
+                    batch.add(originalId, nodeProperty.propertyToken(), value);
+                }
+            }
+            batch.nodes++;
+
+            if (batch.nodes == batchSize) {
+                pipeline.submit(batch, batch.size);
+                batch = new NodePropertyBatch(batchSize, nodeProperties.size());
+            }
+            if ((nodeId - startNode) % TerminationFlag.RUN_CHECK_NODE_COUNT == 0) {
+                terminationFlag.assertRunning();
+            }
+        }
+        if (batch.nodes > 0) {
+            pipeline.submit(batch, batch.size);
+        }
+    }
+
+    private static final class NodePropertyBatch {
+        private final long[] nodeIds;
+        private final int[] propertyTokens;
+        private final Value[] values;
+        private int size;
+        private int nodes;
+
+        NodePropertyBatch(int batchSize, int propertyCount) {
+            int capacity = Math.multiplyExact(batchSize, propertyCount);
+            this.nodeIds = new long[capacity];
+            this.propertyTokens = new int[capacity];
+            this.values = new Value[capacity];
+        }
+
+        void add(long originalNodeId, int propertyToken, Value value) {
+            nodeIds[size] = originalNodeId;
+            propertyTokens[size] = propertyToken;
+            values[size] = value;
+            size++;
+        }
+
+        void writeTo(Write ops) throws Exception {
+            for (int i = 0; i < size; i++) {
+                ops.nodeSetProperty(nodeIds[i], propertyTokens[i], values[i]);
+            }
+        }
+    }
 }
@@ -27,7 +27,9 @@ import org.neo4j.gds.api.RelationshipIterator;
 import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
 import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.partition.DegreePartition;
 import org.neo4j.gds.core.utils.partition.Partition;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -38,6 +40,7 @@ import org.neo4j.internal.kernel.api.Write;
 import org.neo4j.internal.kernel.api.exceptions.EntityNotFoundException;
 import org.neo4j.internal.kernel.api.exceptions.schema.ConstraintValidationException;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.function.LongUnaryOperator;
 
@@ -51,6 +54,10 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
     private final TerminationFlag terminationFlag;
     private final ProgressTracker progressTracker;
     private final ExecutorService executorService;
+    private final ExecutorService producerExecutorService;
+    private final int producerConcurrency;
+    private final Optional<PipelinedWriteSettings> pipelinedWriteSettings;
+    private Optional<WriteMetrics> writeMetrics;
 
     public static RelationshipExporterBuilder<NativeRelationshipExporter> builder(
         TransactionContext transactionContext,
@@ -83,7 +90,10 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
         LongUnaryOperator toOriginalId,
         RelationshipPropertyTranslator propertyTranslator,
         TerminationFlag terminationFlag,
-        ProgressTracker progressTracker
+        ProgressTracker progressTracker,
+        @Nullable ExecutorService producerExecutorService,
+        int producerConcurrency,
+        Optional<PipelinedWriteSettings> pipelinedWriteSettings
     ) {
         super(transactionContext);
         this.graph = graph;
@@ -92,6 +102,10 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
         this.terminationFlag = terminationFlag;
         this.progressTracker = progressTracker;
         this.executorService = Pools.DEFAULT_SINGLE_THREAD_POOL;
+        this.producerExecutorService = producerExecutorService;
+        this.producerConcurrency = producerConcurrency;
+        this.pipelinedWriteSettings = pipelinedWriteSettings;
+        this.writeMetrics = Optional.empty();
     }
 
     @Override
@@ -118,7 +132,24 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
         write(relationshipTypeToken, propertyKeyToken, afterWriteConsumer);
     }
 
+    /**
+     * Metrics of the last pipelined write, empty if pipelined writes are disabled or nothing has been written yet.
+     */
+    public Optional<WriteMetrics> writeMetrics() {
+        return writeMetrics;
+    }
+
     private void write(int relationshipTypeToken, int propertyKeyToken, @Nullable RelationshipWithPropertyConsumer afterWriteConsumer) {
+        if (pipelinedWriteSettings.isPresent()) {
+            progressTracker.beginSubTask();
+            try {
+                writePipelined(relationshipTypeToken, propertyKeyToken, afterWriteConsumer, pipelinedWriteSettings.get());
+            } finally {
+                progressTracker.endSubTask();
+            }
+            return;
+        }
+
         // We use MIN_BATCH_SIZE since writing relationships
         // is performed batch-wise, but single-threaded.
         var tasks = PartitionUtils.degreePartitionWithBatchSize(
@@ -175,6 +206,126 @@ public final class NativeRelationshipExporter extends StatementApi implements Re
         });
     }
 
+    /**
+     * Compute threads traverse degree partitions of the graph and fill batches
+     * which are written by the dedicated writer thread of a {@link PipelinedBatchWriter}.
+     *
+     * Creating a relationship locks both of its end nodes. Batches of different partitions share nodes,
+     * so concurrent writer transactions could deadlock on them. Only producing the batches runs in parallel,
+     * they are written by a single writer thread regardless of the configured writer concurrency.
+     * The after-write consumer is called from that thread only.
+     */
+    private void writePipelined(
+        int relationshipToken,
+        int propertyToken,
+        @Nullable RelationshipWithPropertyConsumer afterWrite,
+        PipelinedWriteSettings settings
+    ) {
+        var pipeline = PipelinedBatchWriter.<RelationshipBatch>start(
+            tx,
+            PipelinedWriteSettings.of(settings.batchSize(), settings.queueCapacity(), 1),
+            terminationFlag,
+            (ops, batch) -> {
+                RelationshipWithPropertyConsumer writeConsumer = new WriteConsumer(
+                    toOriginalId,
+                    ops,
+                    propertyTranslator,
+                    relationshipToken,
+                    propertyToken,
+                    progressTracker
+                );
+                if (afterWrite != null) {
+                    writeConsumer = writeConsumer.andThen(afterWrite);
+                }
+                batch.forEach(writeConsumer);
+            }
+        );
+
+        var producers = PartitionUtils.degreePartition(
+            graph,
+            producerConcurrency,
+            partition -> (Runnable) () -> produceBatches(pipeline, settings.batchSize(), partition),
+            Optional.empty()
+        );
+
+        try {
+            if (ParallelUtil.canRunInParallel(producerExecutorService)) {
+                RunWithConcurrency.builder()
+                    .concurrency(producerConcurrency)
+                    .tasks(producers)
+                    .terminationFlag(terminationFlag)
+                    .executor(producerExecutorService)
+                    .run();
+            } else {
+                producers.forEach(Runnable::run);
+            }
+        } catch (RuntimeException e) {
+            throw pipeline.abort(e);
+        }
+
+        var metrics = pipeline.finish();
+        progressTracker.logInfo(metrics.toLogMessage());
+        writeMetrics = Optional.of(metrics);
+    }
+
+    private void produceBatches(
+        PipelinedBatchWriter<RelationshipBatch> pipeline,
+        int batchSize,
+        DegreePartition partition
+    ) {
+        terminationFlag.assertRunning();
+        var relationshipIterator = graph.concurrentCopy();
+        var batch = new RelationshipBatch[]{new RelationshipBatch(batchSize)};
+        var startNode = partition.startNode();
+        partition.consume(nodeId -> {
+            relationshipIterator.forEachRelationship(nodeId, Double.NaN, (sourceNodeId, targetNodeId, property) -> {
+                batch[0].add(sourceNodeId, targetNodeId, property);
+                if (batch[0].isFull()) {
+                    pipeline.submit(batch[0], batch[0].size);
+                    batch[0] = new RelationshipBatch(batchSize);
+                }
+                return true;
+            });
+
+            if ((nodeId - startNode) % TerminationFlag.RUN_CHECK_NODE_COUNT == 0) {
+                terminationFlag.assertRunning();
+            }
+        });
+        if (batch[0].size > 0) {
+            pipeline.submit(batch[0], batch[0].size);
+        }
+    }
+
+    private static final class RelationshipBatch {
+        private final long[] sourceNodeIds;
+        private final long[] targetNodeIds;
+        private final double[] properties;
+        private int size;
+
+        RelationshipBatch(int capacity) {
+            this.sourceNodeIds = new long[capacity];
+            this.targetNodeIds = new long[capacity];
+            this.properties = new double[capacity];
+        }
+
+        void add(long sourceNodeId, long targetNodeId, double property) {
+            sourceNodeIds[size] = sourceNodeId;
+            targetNodeIds[size] = targetNodeId;
+            properties[size] = property;
+            size++;
+        }
+
+        boolean isFull() {
+            return size == sourceNodeIds.length;
+        }
+
+        void forEach(RelationshipWithPropertyConsumer consumer) {
+            for (int i = 0; i < size; i++) {
+                consumer.accept(sourceNodeIds[i], targetNodeIds[i], properties[i]);
+            }
+        }
+    }
+
     private static class WriteConsumer implements RelationshipWithPropertyConsumer {
         @FunctionalInterface
         interface RelationshipWriteBehavior {
@@ -25,6 +25,7 @@ import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.function.LongUnaryOperator;
 
@@ -36,6 +37,7 @@ public abstract class NodePropertyExporterBuilder<T extends NodePropertyExporter
     protected ExecutorService executorService;
     protected int writeConcurrency = ConcurrencyConfig.DEFAULT_CONCURRENCY;
     protected ProgressTracker progressTracker = ProgressTracker.NULL_TRACKER;
+    protected Optional<PipelinedWriteSettings> pipelinedWriteSettings = Optional.empty();
 
     public abstract T build();
 
@@ -71,4 +73,30 @@ public abstract class NodePropertyExporterBuilder<T extends NodePropertyExporter
         return this;
     }
 
+    /**
+     * Decouple reading the property values from writing them.
+     *
+     * The threads configured via {@link #parallel(ExecutorService, int)} fill batches which are written
+     * by dedicated writer threads. Producers block while the writers are behind by more than the queue capacity.
+     * Exporters that do not support pipelining ignore this setting.
+     *
+     * @param settings batch size, queue capacity and number of writer threads
+     * @return this
+     */
+    public NodePropertyExporterBuilder<T> withPipelinedWrites(PipelinedWriteSettings settings) {
+        this.pipelinedWriteSettings = Optional.of(settings);
+        return this;
+    }
+
+    /**
+     * Enable pipelined writes if settings are present, see {@link #withPipelinedWrites(PipelinedWriteSettings)}.
+     *
+     * @param settings batch size, queue capacity and number of writer threads, or empty to write without pipelining
+     * @return this
+     */
+    public NodePropertyExporterBuilder<T> withPipelinedWrites(Optional<PipelinedWriteSettings> settings) {
+        this.pipelinedWriteSettings = settings;
+        return this;
+    }
+
 }
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.write;
+
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.transaction.TransactionContext;
+import org.neo4j.gds.utils.ExceptionUtil;
+import org.neo4j.gds.utils.StatementApi;
+import org.neo4j.internal.kernel.api.Write;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hands batches from any number of producer threads to a fixed set of dedicated writer threads.
+ * Each batch is written in its own transaction. The queue between producers and writers is bounded,
+ * so producers block once the writers fall behind.
+ *
+ * If a writer fails, the remaining batches are discarded and the failure is rethrown
+ * to the producers on their next {@link #submit} and from {@link #finish()}.
+ */
+final class PipelinedBatchWriter<BATCH> {
+
+    private static final long OFFER_TIMEOUT_MILLIS = 10L;
+
+    @FunctionalInterface
+    interface BatchConsumer<BATCH> {
+        void accept(Write ops, BATCH batch) throws Exception;
+    }
+
+    private final TerminationFlag terminationFlag;
+    private final BlockingQueue<Pending<BATCH>> queue;
+    private final Thread[] writers;
+    private final Pending<BATCH> poison;
+
+    private final AtomicReference<Throwable> failure;
+    private volatile boolean aborted;
+
+    private final long startNanos;
+    private final LongAdder batches;
+    private final LongAdder written;
+    private final LongAdder writeNanos;
+    private final LongAdder producerBlockedNanos;
+    private final AtomicLong maxBatchLatencyNanos;
+
+    static <BATCH> PipelinedBatchWriter<BATCH> start(
+        TransactionContext tx,
+        PipelinedWriteSettings settings,
+        TerminationFlag terminationFlag,
+        BatchConsumer<BATCH> batchConsumer
+    ) {
+        var pipeline = new PipelinedBatchWriter<BATCH>(settings, terminationFlag);
+        for (int i = 0; i < pipeline.writers.length; i++) {
+            pipeline.writers[i] = Pools.newThread(pipeline.new Writer(tx, batchConsumer));
+            pipeline.writers[i].start();
+        }
+        return pipeline;
+    }
+
+    private PipelinedBatchWriter(PipelinedWriteSettings settings, TerminationFlag terminationFlag) {
+        this.terminationFlag = terminationFlag;
+        this.queue = new ArrayBlockingQueue<>(settings.queueCapacity());
+        this.writers = new Thread[settings.writerConcurrency()];
+        this.poison = new Pending<>(null, 0, 0L);
+        this.failure = new AtomicReference<>();
+        this.startNanos = System.nanoTime();
+        this.batches = new LongAdder();
+        this.written = new LongAdder();
+        this.writeNanos = new LongAdder();
+        this.producerBlockedNanos = new LongAdder();
+        this.maxBatchLatencyNanos = new AtomicLong();
+    }
+
+    /**
+     * Enqueues a batch of {@code size} entities, blocking while the queue is full.
+     * The caller must not modify the batch afterwards.
+     */
+    void submit(BATCH batch, int size) {
+        rethrowFailure();
+
+        long start = System.nanoTime();
+        var pending = new Pending<>(batch, size, start);
+        try {
+            while (!queue.offer(pending, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                rethrowFailure();
+                terminationFlag.assertRunning();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } finally {
+            producerBlockedNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Waits until all submitted batches are written and stops the writer threads.
+     *
+     * @return the metrics of this export
+     * @throws RuntimeException the first failure of any writer
+     */
+    WriteMetrics finish() {
+        shutdown();
+        rethrowFailure();
+        return ImmutableWriteMetrics.of(
+            batches.longValue(),
+            written.longValue(),
+            System.nanoTime() - startNanos,
+            writeNanos.longValue(),
+            producerBlockedNanos.longValue(),
+            maxBatchLatencyNanos.get()
+        );
+    }
+
+    /**
+     * Discards all batches that are not yet written and stops the writer threads.
+     *
+     * @return the failure of a writer if there was one, otherwise the given producer failure
+     */
+    RuntimeException abort(RuntimeException producerFailure) {
+        aborted = true;
+        shutdown();
+        var writerFailure = failure.get();
+        if (writerFailure instanceof RuntimeException) {
+            return (RuntimeException) writerFailure;
+        }
+        return producerFailure;
+    }
+
+    private void shutdown() {
+        try {
+            for (int i = 0; i < writers.length; i++) {
+                queue.put(poison);
+            }
+            for (Thread writer : writers) {
+                writer.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void rethrowFailure() {
+        var writerFailure = failure.get();
+        if (writerFailure != null) {
+            ExceptionUtil.throwIfUnchecked(writerFailure);
+            throw new RuntimeException(writerFailure);
+        }
+    }
+
+    private final class Writer extends StatementApi implements Runnable {
+
+        private final BatchConsumer<BATCH> batchConsumer;
+
+        Writer(TransactionContext tx, BatchConsumer<BATCH> batchConsumer) {
+            super(tx);
+            this.batchConsumer = batchConsumer;
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                Pending<BATCH> pending;
+                try {
+                    pending = queue.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failure.compareAndSet(null, e);
+                    return;
+                }
+                if (pending == poison) {
+                    return;
+                }
+                // keep draining after a failure so that producers never block forever
+                if (aborted || failure.get() != null) {
+                    continue;
+                }
+                var batch = pending.batch;
+                try {
+                    long start = System.nanoTime();
+                    acceptInTransaction(stmt -> {
+                        terminationFlag.assertRunning();
+                        batchConsumer.accept(stmt.dataWrite(), batch);
+                    });
+                    long end = System.nanoTime();
+
+                    writeNanos.add(end - start);
+                    written.add(pending.size);
+                    batches.increment();
+                    maxBatchLatencyNanos.accumulateAndGet(end - pending.enqueuedNanos, Math::max);
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            }
+        }
+    }
+
+    private static final class Pending<BATCH> {
+        private final BATCH batch;
+        private final int size;
+        private final long enqueuedNanos;
+
+        Pending(BATCH batch, int size, long enqueuedNanos) {
+            this.batch = batch;
+            this.size = size;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.write;
+
+import org.immutables.value.Value;
+import org.neo4j.gds.annotation.ValueClass;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Settings for exporters that decouple producing write batches from writing them.
+ * Producers fill batches of up to {@link #batchSize()} entities and hand them to
+ * {@link #writerConcurrency()} dedicated writer threads through a queue holding at most
+ * {@link #queueCapacity()} batches. Producers block while the queue is full.
+ */
+@ValueClass
+public interface PipelinedWriteSettings {
+
+    int DEFAULT_BATCH_SIZE = 10_000;
+    int DEFAULT_QUEUE_CAPACITY = 4;
+    int DEFAULT_WRITER_CONCURRENCY = 1;
+
+    int batchSize();
+
+    int queueCapacity();
+
+    int writerConcurrency();
+
+    @Value.Check
+    default void validate() {
+        if (batchSize() < 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The batch size must be at least 1, but got %d.",
+                batchSize()
+            ));
+        }
+        if (queueCapacity() < 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The queue capacity must be at least 1, but got %d.",
+                queueCapacity()
+            ));
+        }
+        if (writerConcurrency() < 1) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "The writer concurrency must be at least 1, but got %d.",
+                writerConcurrency()
+            ));
+        }
+    }
+
+    static PipelinedWriteSettings of(int batchSize, int queueCapacity, int writerConcurrency) {
+        return ImmutablePipelinedWriteSettings.of(batchSize, queueCapacity, writerConcurrency);
+    }
+
+    static PipelinedWriteSettings defaults() {
+        return of(DEFAULT_BATCH_SIZE, DEFAULT_QUEUE_CAPACITY, DEFAULT_WRITER_CONCURRENCY);
+    }
+}
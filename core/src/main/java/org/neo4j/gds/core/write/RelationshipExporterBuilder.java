@@ -24,6 +24,8 @@ import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.values.storable.Values;
 
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.function.LongUnaryOperator;
 
 public abstract class RelationshipExporterBuilder<T extends RelationshipExporter> {
@@ -35,6 +37,9 @@ public abstract class RelationshipExporterBuilder<T extends RelationshipExporter
     protected Graph graph;
     protected ProgressTracker progressTracker = ProgressTracker.NULL_TRACKER;
     protected RelationshipPropertyTranslator propertyTranslator = Values::doubleValue;
+    protected ExecutorService executorService;
+    protected int writeConcurrency = DEFAULT_WRITE_CONCURRENCY;
+    protected Optional<PipelinedWriteSettings> pipelinedWriteSettings = Optional.empty();
 
     public abstract T build();
 
@@ -72,4 +77,43 @@ public abstract class RelationshipExporterBuilder<T extends RelationshipExporter
         return this;
     }
 
+    /**
+     * Set the executor and concurrency used to traverse the graph when pipelined writes are enabled.
+     * Without pipelined writes, relationships are always written by a single thread.
+     *
+     * @return this
+     */
+    public RelationshipExporterBuilder<T> parallel(ExecutorService es, int writeConcurrency) {
+        this.executorService = es;
+        this.writeConcurrency = writeConcurrency;
+        return this;
+    }
+
+    /**
+     * Decouple traversing the graph from writing the relationships.
+     *
+     * The threads configured via {@link #parallel(ExecutorService, int)} fill batches which are written
+     * by a dedicated writer thread. Producers block while the writer is behind by more than the queue capacity.
+     * Relationships are always written by a single writer thread, as concurrent transactions creating
+     * relationships between shared nodes could deadlock. An after-write consumer is called from that thread.
+     * Exporters that do not support pipelining ignore this setting.
+     *
+     * @param settings batch size and queue capacity, the number of writer threads is ignored
+     * @return this
+     */
+    public RelationshipExporterBuilder<T> withPipelinedWrites(PipelinedWriteSettings settings) {
+        this.pipelinedWriteSettings = Optional.of(settings);
+        return this;
+    }
+
+    /**
+     * Enable pipelined writes if settings are present, see {@link #withPipelinedWrites(PipelinedWriteSettings)}.
+     *
+     * @param settings batch size and queue capacity, or empty to write without pipelining
+     * @return this
+     */
+    public RelationshipExporterBuilder<T> withPipelinedWrites(Optional<PipelinedWriteSettings> settings) {
+        this.pipelinedWriteSettings = settings;
+        return this;
+    }
 }
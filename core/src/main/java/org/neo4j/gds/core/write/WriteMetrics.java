@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.write;
+
+import org.neo4j.gds.annotation.ValueClass;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Throughput and latency figures of a single pipelined export.
+ */
+@ValueClass
+public interface WriteMetrics {
+
+    long batches();
+
+    long written();
+
+    /**
+     * Wall-clock time between starting the writer threads and the last batch being written.
+     */
+    long elapsedNanos();
+
+    /**
+     * Time spent inside write transactions, summed over all writer threads.
+     */
+    long writeNanos();
+
+    /**
+     * Time producers spent waiting for space in the queue, summed over all producers.
+     */
+    long producerBlockedNanos();
+
+    /**
+     * Longest time between a batch being enqueued and its transaction being committed.
+     */
+    long maxBatchLatencyNanos();
+
+    default double writtenPerSecond() {
+        return elapsedNanos() == 0 ? 0D : written() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos();
+    }
+
+    default String toLogMessage() {
+        return formatWithLocale(
+            "Wrote %d entities in %d batches within %d ms (%.2f/s), write time %d ms, producers blocked %d ms, max batch latency %d ms",
+            written(),
+            batches(),
+            TimeUnit.NANOSECONDS.toMillis(elapsedNanos()),
+            writtenPerSecond(),
+            TimeUnit.NANOSECONDS.toMillis(writeNanos()),
+            TimeUnit.NANOSECONDS.toMillis(producerBlockedNanos()),
+            TimeUnit.NANOSECONDS.toMillis(maxBatchLatencyNanos())
+        );
+    }
+}
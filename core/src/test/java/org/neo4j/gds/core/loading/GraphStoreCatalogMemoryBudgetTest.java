@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.config.GraphProjectFromStoreConfig;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.extension.GdlSupportPerMethodExtension.DATABASE_ID;
+
+@GdlExtension
+class GraphStoreCatalogMemoryBudgetTest {
+
+    private static final String USER_NAME = "alice";
+    private static final long GRAPH_SIZE = 100;
+
+    @GdlGraph(graphNamePrefix = "first")
+    private static final String FIRST_GRAPH = "()";
+
+    @GdlGraph(graphNamePrefix = "second")
+    private static final String SECOND_GRAPH = "({ prop: 1 })-->()";
+
+    @Inject
+    private GraphStore firstGraphStore;
+
+    @Inject
+    private GraphStore secondGraphStore;
+
+    private final InMemorySpillStore spillStore = new InMemorySpillStore();
+
+    @AfterEach
+    void tearDown() {
+        GraphStoreCatalog.disableMemoryBudget();
+        GraphStoreCatalog.removeAllLoadedGraphs();
+    }
+
+    @Test
+    void shouldSpillLeastRecentlyUsedGraph() {
+        GraphStoreCatalog.enableMemoryBudget(GRAPH_SIZE, spillStore, graphStore -> GRAPH_SIZE);
+
+        GraphStoreCatalog.set(config("first"), firstGraphStore);
+        GraphStoreCatalog.set(config("second"), secondGraphStore);
+
+        assertThat(spillStore.spilled).hasSize(1).containsValue(firstGraphStore);
+        assertThat(GraphStoreCatalog.exists(USER_NAME, DATABASE_ID, "first")).isTrue();
+        assertThat(GraphStoreCatalog.graphStoresCount()).isEqualTo(2);
+
+        var metrics = GraphStoreCatalog.cacheMetrics().orElseThrow();
+        assertThat(metrics.evictions()).isEqualTo(1);
+        assertThat(metrics.residentGraphs()).isEqualTo(1);
+        assertThat(metrics.spilledGraphs()).isEqualTo(1);
+        assertThat(metrics.residentBytes()).isEqualTo(GRAPH_SIZE);
+    }
+
+    @Test
+    void shouldReloadSpilledGraphOnAccess() {
+        GraphStoreCatalog.enableMemoryBudget(GRAPH_SIZE, spillStore, graphStore -> GRAPH_SIZE);
+
+        GraphStoreCatalog.set(config("first"), firstGraphStore);
+        GraphStoreCatalog.set(config("second"), secondGraphStore);
+
+        var reloaded = GraphStoreCatalog.get(USER_NAME, DATABASE_ID, "first");
+        assertThat(reloaded.graphStore()).isSameAs(firstGraphStore);
+        assertThat(reloaded.config().graphName()).isEqualTo("first");
+
+        // reloading the first graph spills the second one
+        assertThat(spillStore.spilled).hasSize(1).containsValue(secondGraphStore);
+        assertThat(spillStore.deleted).hasSize(1);
+
+        GraphStoreCatalog.get(USER_NAME, DATABASE_ID, "first");
+
+        var metrics = GraphStoreCatalog.cacheMetrics().orElseThrow();
+        assertThat(metrics.hits()).isEqualTo(1);
+        assertThat(metrics.misses()).isEqualTo(1);
+        assertThat(metrics.evictions()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldDeleteSpilledGraphOnRemoveWithoutReloading() {
+        GraphStoreCatalog.enableMemoryBudget(GRAPH_SIZE, spillStore, graphStore -> GRAPH_SIZE);
+
+        GraphStoreCatalog.set(config("first"), firstGraphStore);
+        GraphStoreCatalog.set(config("second"), secondGraphStore);
+
+        var removedGraphs = new ArrayList<GraphStoreCatalogEntry>();
+        GraphStoreCatalog.remove(CatalogRequest.of(USER_NAME, DATABASE_ID), "first", removedGraphs::add, true);
+
+        assertThat(removedGraphs).hasSize(1);
+        var removedGraph = removedGraphs.get(0);
+        assertThat(removedGraph.config().graphName()).isEqualTo("first");
+        assertThat(removedGraph.residentGraphStore()).isEmpty();
+        assertThat(removedGraph.spilledSizeInBytes()).hasValue(GRAPH_SIZE);
+        assertThat(removedGraph.nodeCount()).isEqualTo(firstGraphStore.nodeCount());
+
+        assertThat(GraphStoreCatalog.exists(USER_NAME, DATABASE_ID, "first")).isFalse();
+        assertThat(GraphStoreCatalog.graphStoresCount()).isEqualTo(1);
+        assertThat(spillStore.spilled).isEmpty();
+        assertThat(spillStore.deleted).containsValue(firstGraphStore);
+        assertThat(spillStore.reloads).isZero();
+
+        var metrics = GraphStoreCatalog.cacheMetrics().orElseThrow();
+        assertThat(metrics.evictions()).isEqualTo(1);
+        assertThat(metrics.spilledGraphs()).isZero();
+        assertThat(metrics.residentBytes()).isEqualTo(GRAPH_SIZE);
+    }
+
+    @Test
+    void shouldNotReloadSpilledGraphsOfOtherUsers() {
+        GraphStoreCatalog.enableMemoryBudget(GRAPH_SIZE, spillStore, graphStore -> GRAPH_SIZE);
+
+        GraphStoreCatalog.set(GraphProjectFromStoreConfig.emptyWithName("bob", "first"), firstGraphStore);
+        GraphStoreCatalog.set(config("second"), secondGraphStore);
+        assertThat(spillStore.spilled).containsValue(firstGraphStore);
+
+        var adminRequest = CatalogRequest.ofAdmin(USER_NAME, DATABASE_ID);
+        GraphStoreCatalog.verifyExists(adminRequest, "first");
+
+        var removedGraphs = new ArrayList<GraphStoreCatalogEntry>();
+        GraphStoreCatalog.remove(adminRequest, "first", removedGraphs::add, true);
+
+        assertThat(removedGraphs).extracting(GraphStoreCatalogEntry::userName).containsExactly("bob");
+        assertThat(GraphStoreCatalog.exists("bob", DATABASE_ID, "first")).isFalse();
+        assertThat(spillStore.reloads).isZero();
+        assertThat(GraphStoreCatalog.getGraphStores(USER_NAME)).containsValue(secondGraphStore);
+    }
+
+    @Test
+    void shouldKeepGraphResidentIfSpillingFails() {
+        var failingSpillStore = new InMemorySpillStore() {
+            @Override
+            public Path spill(GraphStoreWithConfig graphStoreWithConfig) {
+                throw new IllegalStateException("disk full");
+            }
+        };
+        GraphStoreCatalog.enableMemoryBudget(GRAPH_SIZE, failingSpillStore, graphStore -> GRAPH_SIZE);
+
+        GraphStoreCatalog.set(config("first"), firstGraphStore);
+        GraphStoreCatalog.set(config("second"), secondGraphStore);
+
+        assertThat(GraphStoreCatalog.get(USER_NAME, DATABASE_ID, "first").graphStore()).isSameAs(firstGraphStore);
+
+        var metrics = GraphStoreCatalog.cacheMetrics().orElseThrow();
+        assertThat(metrics.evictionFailures()).isEqualTo(1);
+        assertThat(metrics.residentGraphs()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldSpillExistingGraphsWhenEnabled() {
+        GraphStoreCatalog.set(config("first"), firstGraphStore);
+        GraphStoreCatalog.set(config("second"), secondGraphStore);
+
+        GraphStoreCatalog.enableMemoryBudget(GRAPH_SIZE, spillStore, graphStore -> GRAPH_SIZE);
+
+        assertThat(spillStore.spilled).hasSize(1);
+        assertThat(GraphStoreCatalog.graphStoresCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldListSpilledGraphsWithoutReloading() {
+        GraphStoreCatalog.enableMemoryBudget(GRAPH_SIZE, spillStore, graphStore -> GRAPH_SIZE);
+
+        GraphStoreCatalog.set(config("first"), firstGraphStore);
+        GraphStoreCatalog.set(config("second"), secondGraphStore);
+
+        var entries = new HashMap<String, GraphStoreCatalogEntry>();
+        GraphStoreCatalog.listGraphs(USER_NAME).forEach(entry -> entries.put(entry.config().graphName(), entry));
+
+        assertThat(entries).containsOnlyKeys("first", "second");
+        var spilled = entries.get("first");
+        assertThat(spilled.residentGraphStore()).isEmpty();
+        assertThat(spilled.spilledSizeInBytes()).hasValue(GRAPH_SIZE);
+        assertThat(spilled.nodeCount()).isEqualTo(firstGraphStore.nodeCount());
+        assertThat(spilled.modificationTime()).isEqualTo(firstGraphStore.modificationTime());
+        assertThat(entries.get("second").residentGraphStore()).containsSame(secondGraphStore);
+
+        assertThat(GraphStoreCatalog.listAllGraphs()).hasSize(2);
+        assertThat(spillStore.deleted).isEmpty();
+        assertThat(GraphStoreCatalog.cacheMetrics().orElseThrow().misses()).isZero();
+    }
+
+    @Test
+    void shouldNotSpillPinnedGraph() {
+        GraphStoreCatalog.enableMemoryBudget(GRAPH_SIZE, spillStore, graphStore -> GRAPH_SIZE);
+
+        GraphStoreCatalog.set(config("first"), firstGraphStore);
+        try (var ignored = GraphStoreCatalog.pin(firstGraphStore)) {
+            GraphStoreCatalog.set(config("second"), secondGraphStore);
+            assertThat(spillStore.spilled).isEmpty();
+        }
+
+        var metrics = GraphStoreCatalog.cacheMetrics().orElseThrow();
+        assertThat(metrics.residentGraphs()).isEqualTo(2);
+        assertThat(metrics.evictions()).isZero();
+    }
+
+    @Test
+    void shouldReviveGraphSpilledBeforePinning() {
+        GraphStoreCatalog.enableMemoryBudget(GRAPH_SIZE, spillStore, graphStore -> GRAPH_SIZE);
+
+        GraphStoreCatalog.set(config("first"), firstGraphStore);
+        GraphStoreCatalog.set(config("second"), secondGraphStore);
+        assertThat(spillStore.spilled).containsValue(firstGraphStore);
+
+        try (var ignored = GraphStoreCatalog.pin(firstGraphStore)) {
+            assertThat(spillStore.spilled).hasSize(1).containsValue(secondGraphStore);
+            assertThat(spillStore.deleted).containsValue(firstGraphStore);
+            assertThat(GraphStoreCatalog.get(USER_NAME, DATABASE_ID, "first").graphStore()).isSameAs(firstGraphStore);
+        }
+
+        assertThat(GraphStoreCatalog.cacheMetrics().orElseThrow().misses()).isZero();
+    }
+
+    @Test
+    void shouldMeasureModifiedGraphAgainWhenUnpinned() {
+        var sizes = new IdentityHashMap<GraphStore, Long>();
+        GraphStoreCatalog.enableMemoryBudget(
+            2 * GRAPH_SIZE,
+            spillStore,
+            graphStore -> sizes.getOrDefault(graphStore, GRAPH_SIZE)
+        );
+
+        GraphStoreCatalog.set(config("first"), firstGraphStore);
+        GraphStoreCatalog.set(config("second"), secondGraphStore);
+        assertThat(spillStore.spilled).isEmpty();
+
+        try (var ignored = GraphStoreCatalog.pin(secondGraphStore)) {
+            secondGraphStore.removeNodeProperty("prop");
+            sizes.put(secondGraphStore, 2 * GRAPH_SIZE);
+        }
+
+        assertThat(spillStore.spilled).hasSize(1).containsValue(firstGraphStore);
+        assertThat(GraphStoreCatalog.cacheMetrics().orElseThrow().residentBytes()).isEqualTo(2 * GRAPH_SIZE);
+    }
+
+    private static GraphProjectFromStoreConfig config(String graphName) {
+        return GraphProjectFromStoreConfig.emptyWithName(USER_NAME, graphName);
+    }
+
+    private static class InMemorySpillStore implements GraphStoreSpillStore {
+
+        final Map<Path, GraphStore> spilled = new HashMap<>();
+        final Map<Path, GraphStore> deleted = new HashMap<>();
+        int reloads = 0;
+
+        @Override
+        public Path spill(GraphStoreWithConfig graphStoreWithConfig) {
+            var location = Path.of("spill-" + spilled.size() + "-" + deleted.size());
+            spilled.put(location, graphStoreWithConfig.graphStore());
+            return location;
+        }
+
+        @Override
+        public GraphStore reload(Path location) {
+            reloads++;
+            return spilled.get(location);
+        }
+
+        @Override
+        public void delete(Path location) {
+            deleted.put(location, spilled.remove(location));
+        }
+    }
+}
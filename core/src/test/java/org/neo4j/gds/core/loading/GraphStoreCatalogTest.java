@@ -190,7 +190,7 @@ class GraphStoreCatalogTest {
         GraphStoreCatalog.remove(
             CatalogRequest.of(USER_NAME, DATABASE_ID),
             GRAPH_NAME,
-            graphStoreWithConfig -> {},
+            removedGraph -> {},
             true
         );
         assertFalse(GraphStoreCatalog.exists(USER_NAME, DATABASE_ID, GRAPH_NAME));
@@ -202,8 +202,8 @@ class GraphStoreCatalogTest {
         GraphStoreCatalog.remove(
             CatalogRequest.ofAdmin("admin", DATABASE_ID),
             GRAPH_NAME,
-            graphStoreWithConfig -> {
-                assertEquals(graphStore, graphStoreWithConfig.graphStore());
+            removedGraph -> {
+                assertEquals(graphStore, removedGraph.residentGraphStore().orElseThrow());
             },
             true
         );
@@ -219,8 +219,8 @@ class GraphStoreCatalogTest {
         GraphStoreCatalog.remove(
             CatalogRequest.ofAdmin("admin", DATABASE_ID),
             GRAPH_NAME,
-            graphStoreWithConfig -> {
-                assertEquals(graphStore, graphStoreWithConfig.graphStore());
+            removedGraph -> {
+                assertEquals(graphStore, removedGraph.residentGraphStore().orElseThrow());
             },
             true
         );
@@ -233,7 +233,7 @@ class GraphStoreCatalogTest {
         assertThatThrownBy(() -> GraphStoreCatalog.remove(
             CatalogRequest.ofAdmin("admin", DATABASE_ID),
             GRAPH_NAME,
-            graphStoreWithConfig -> fail("How did you remove a graph that never existed?"),
+            removedGraph -> fail("How did you remove a graph that never existed?"),
             true
         ))
             .hasMessage("Graph with name `%s` does not exist on database `%s`. It might exist on another database.", GRAPH_NAME, DATABASE_ID.databaseName());
@@ -244,7 +244,7 @@ class GraphStoreCatalogTest {
         assertThatCode(() -> GraphStoreCatalog.remove(
             CatalogRequest.ofAdmin("admin", DATABASE_ID),
             GRAPH_NAME,
-            graphStoreWithConfig -> fail("How did you remove a graph that never existed?"),
+            removedGraph -> fail("How did you remove a graph that never existed?"),
             false
         ))
             .doesNotThrowAnyException();
@@ -258,7 +258,7 @@ class GraphStoreCatalogTest {
         assertThatThrownBy(() -> GraphStoreCatalog.remove(
             CatalogRequest.ofAdmin("admin", DATABASE_ID),
             GRAPH_NAME,
-            graphStoreWithConfig -> fail("Should not have removed the graph"),
+            removedGraph -> fail("Should not have removed the graph"),
             true
         ))
             .hasMessage("Multiple graphs that match '%s' are found from the users alice and bob.", GRAPH_NAME);
@@ -272,8 +272,8 @@ class GraphStoreCatalogTest {
         GraphStoreCatalog.remove(
             CatalogRequest.ofAdmin("admin", Optional.of("alice"), DATABASE_ID),
             GRAPH_NAME,
-            graphStoreWithConfig -> {
-                assertEquals(graphStore, graphStoreWithConfig.graphStore());
+            removedGraph -> {
+                assertEquals(graphStore, removedGraph.residentGraphStore().orElseThrow());
             },
             true
         );
@@ -288,7 +288,7 @@ class GraphStoreCatalogTest {
         GraphStoreCatalog.remove(
             CatalogRequest.of(USER_NAME, DATABASE_ID),
             GRAPH_NAME,
-            graphStoreWithConfig -> fail("Should not have removed the graph"),
+            removedGraph -> fail("Should not have removed the graph"),
             false
         );
         assertTrue(GraphStoreCatalog.exists("bob", DATABASE_ID, GRAPH_NAME));
@@ -303,8 +303,8 @@ class GraphStoreCatalogTest {
         GraphStoreCatalog.remove(
             CatalogRequest.ofAdmin("admin", Optional.of(USER_NAME), DATABASE_ID),
             GRAPH_NAME,
-            graphStoreWithConfig -> {
-                assertEquals(graphStore, graphStoreWithConfig.graphStore());
+            removedGraph -> {
+                assertEquals(graphStore, removedGraph.residentGraphStore().orElseThrow());
             },
             true
         );
@@ -319,7 +319,7 @@ class GraphStoreCatalogTest {
         assertThatThrownBy(() -> GraphStoreCatalog.remove(
             CatalogRequest.ofAdmin("admin", Optional.of(USER_NAME), DATABASE_ID),
             GRAPH_NAME,
-            graphStoreWithConfig -> fail("Should not have removed the graph"),
+            removedGraph -> fail("Should not have removed the graph"),
             true
         ))
             .hasMessage("Graph with name `%s` does not exist on database `%s`. It might exist on another database.", GRAPH_NAME, DATABASE_ID.databaseName());
@@ -335,7 +335,7 @@ class GraphStoreCatalogTest {
         assertThatThrownBy(() -> GraphStoreCatalog.remove(
             CatalogRequest.ofAdmin("admin", Optional.of(USER_NAME), DATABASE_ID),
             GRAPH_NAME,
-            graphStoreWithConfig -> fail("Should not have removed the graph"),
+            removedGraph -> fail("Should not have removed the graph"),
             true
         ))
             .hasMessage("Graph with name `%s` does not exist on database `%s`. It might exist on another database.", GRAPH_NAME, DATABASE_ID.databaseName());
@@ -351,7 +351,7 @@ class GraphStoreCatalogTest {
         GraphStoreCatalog.remove(
             CatalogRequest.of(USER_NAME, DATABASE_ID),
             GRAPH_NAME,
-            graphStoreWithConfig -> {},
+            removedGraph -> {},
             true
         );
         assertEquals(0, GraphStoreCatalog.graphStoresCount(DATABASE_ID));
@@ -369,7 +369,7 @@ class GraphStoreCatalogTest {
         GraphStoreCatalog.remove(
             CatalogRequest.of(USER_NAME, DATABASE_ID),
             GRAPH_NAME,
-            graphStoreWithConfig -> {},
+            removedGraph -> {},
             true
         );
         assertEquals(2, GraphStoreCatalog.graphStoresCount());
@@ -431,7 +431,7 @@ class GraphStoreCatalogTest {
             .isThrownBy(() -> GraphStoreCatalog.remove(
                 CatalogRequest.of(USER_NAME, dummyDatabaseId),
                 "myGraph",
-                graphStoreWithConfig -> {},
+                removedGraph -> {},
                 true
             ))
             .withMessage("Graph with name `myGraph` does not exist on database `mydatabase`. It might exist on another database.");
@@ -108,6 +108,24 @@ class NodesBatchBufferTest {
             .returns(new long[]{21, 42, 0}, RecordsBatchBuffer::batch);
     }
 
+    @Test
+    void shouldSignalFullBufferForPartitionedScans() {
+        var nodesBatchBuffer = new NodesBatchBufferBuilder()
+            .capacity(2)
+            .highestPossibleNodeCount(43)
+            .partitionedScan(true)
+            .build();
+
+        assertThat(nodesBatchBuffer.offer(new TestNode(21))).isTrue();
+        assertThat(nodesBatchBuffer.offer(new TestNode(42))).isFalse();
+        // a partition can hold more records than fit into the buffer
+        assertThat(nodesBatchBuffer.offer(new TestNode(23))).isFalse();
+
+        assertThat(nodesBatchBuffer)
+            .returns(2, RecordsBatchBuffer::length)
+            .returns(new long[]{21, 42}, RecordsBatchBuffer::batch);
+    }
+
     private static final class TestNode implements NodeReference {
         private final long nodeId;
         private final long[] labels;
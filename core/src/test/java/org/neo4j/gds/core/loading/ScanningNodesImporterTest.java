@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.loading;
+
+import org.apache.commons.lang3.mutable.MutableObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.BaseTest;
+import org.neo4j.gds.PropertyMapping;
+import org.neo4j.gds.StoreLoaderBuilder;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.utils.GdsFeatureToggles;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.RelationshipType;
+
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+import static org.neo4j.gds.compat.GraphDatabaseApiProxy.runInTransaction;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PARALLEL_PROPERTY_VALUE_INDEX;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PARTITIONED_SCAN;
+import static org.neo4j.gds.utils.GdsFeatureToggles.USE_PROPERTY_VALUE_INDEX;
+
+/**
+ * Loads the same graph with the node scanning feature toggles enabled
+ * and compares it against the graph loaded with the default store scan.
+ */
+class ScanningNodesImporterTest extends BaseTest {
+
+    private static final int NODE_COUNT = 10_000;
+
+    private static final Label A = Label.label("A");
+    private static final Label B = Label.label("B");
+
+    @BeforeEach
+    void setup() {
+        runQuery("CREATE INDEX longPropA FOR (n:A) ON (n.longProp)");
+        runQuery("CREATE INDEX longPropB FOR (n:B) ON (n.longProp)");
+        runQuery("CREATE INDEX doublePropA FOR (n:A) ON (n.doubleProp)");
+        runQuery("CREATE INDEX doublePropB FOR (n:B) ON (n.doubleProp)");
+
+        runInTransaction(db, tx -> {
+            var nodes = new ArrayList<Node>(NODE_COUNT);
+            for (int i = 0; i < NODE_COUNT; i++) {
+                var node = i % 3 == 0
+                    ? tx.createNode(A)
+                    : i % 3 == 1 ? tx.createNode(B) : tx.createNode(A, B);
+                // most values are small, few are large, so equally wide value ranges hold very different node counts
+                if (i % 11 != 0) {
+                    node.setProperty("longProp", i % 7 == 0 ? i * 1000L : i % 10);
+                }
+                node.setProperty("doubleProp", Math.pow(1.001, i));
+                nodes.add(node);
+            }
+            for (int i = 0; i < NODE_COUNT - 1; i += 5) {
+                nodes.get(i).createRelationshipTo(nodes.get(i + 1), RelationshipType.withName("REL"));
+            }
+        });
+        runQuery("CALL db.awaitIndexes()");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void partitionedScanShouldLoadTheSameGraph(int concurrency) {
+        assertGraphEquals(load(concurrency), loadWith(concurrency, USE_PARTITIONED_SCAN));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void propertyValueIndexShouldLoadTheSameGraph(int concurrency) {
+        assertGraphEquals(load(concurrency), loadWith(concurrency, USE_PROPERTY_VALUE_INDEX));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void parallelPropertyValueIndexShouldLoadTheSameGraph(int concurrency) {
+        assertGraphEquals(
+            load(concurrency),
+            loadWith(concurrency, USE_PROPERTY_VALUE_INDEX, USE_PARALLEL_PROPERTY_VALUE_INDEX)
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void allTogglesShouldLoadTheSameGraph(int concurrency) {
+        var actual = loadWith(
+            concurrency,
+            USE_PARTITIONED_SCAN,
+            USE_PROPERTY_VALUE_INDEX,
+            USE_PARALLEL_PROPERTY_VALUE_INDEX
+        );
+
+        assertGraphEquals(load(concurrency), actual);
+        assertThat(actual.nodeCount()).isEqualTo(NODE_COUNT);
+        assertThat(actual.relationshipCount()).isEqualTo(NODE_COUNT / 5);
+    }
+
+    private Graph loadWith(int concurrency, GdsFeatureToggles... toggles) {
+        var graph = new MutableObject<Graph>();
+        Runnable load = () -> graph.setValue(load(concurrency));
+        for (var toggle : toggles) {
+            var inner = load;
+            load = () -> toggle.enableAndRun(inner::run);
+        }
+        load.run();
+        return graph.getValue();
+    }
+
+    private Graph load(int concurrency) {
+        return new StoreLoaderBuilder()
+            .databaseService(db)
+            .addNodeLabels(A.name(), B.name())
+            .addRelationshipType("REL")
+            .addNodeProperty(PropertyMapping.of("longProp", 42L))
+            .addNodeProperty(PropertyMapping.of("doubleProp", 42.0D))
+            .concurrency(concurrency)
+            .build()
+            .graph();
+    }
+}
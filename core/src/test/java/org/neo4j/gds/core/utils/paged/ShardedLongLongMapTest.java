@@ -196,6 +196,21 @@ abstract class ShardedLongLongMapTest {
 
     static class DefaultBuilderTest extends ShardedLongLongMapTest {
 
+        @Test
+        void testAddingNodeIfAbsent() {
+            var builder = ShardedLongLongMap.builder(4);
+
+            assertThat(builder.addNodeIfAbsent(42)).isEqualTo(0L);
+            assertThat(builder.addNodeIfAbsent(1337)).isEqualTo(1L);
+            // existing mappings are returned as -(mappedId + 1)
+            assertThat(builder.addNodeIfAbsent(42)).isEqualTo(-1L);
+            assertThat(builder.addNodeIfAbsent(1337)).isEqualTo(-2L);
+
+            var map = builder.build();
+            assertThat(map.size()).isEqualTo(2);
+            assertThat(map.toMappedNodeId(1337)).isEqualTo(1L);
+        }
+
         @Override
         TestBuilder builder(int concurrency) {
             return new DefaultBuilder(concurrency);
@@ -236,6 +251,24 @@ abstract class ShardedLongLongMapTest {
             assertThat(mappedIds).doesNotHaveDuplicates();
         }
 
+        @Property(tries = 10)
+        void testInsertingBatchTakesEveryShardLockOnce(@ForAll("fixedSizeIds") long[] originalIds) {
+            int concurrency = 4;
+            var builder = ShardedLongLongMap.batchedBuilder(concurrency, originalIds.length);
+            builder.prepareBatch(originalIds.length).insert(originalIds);
+
+            var lockContention = builder.lockContention();
+            var map = builder.build();
+
+            // 4 shards per thread
+            assertThat(lockContention.lockAcquisitions()).isLessThanOrEqualTo(4 * concurrency);
+            assertThat(lockContention.contendedLockAcquisitions()).isZero();
+            for (int i = 0; i < originalIds.length; i++) {
+                assertThat(map.toMappedNodeId(originalIds[i])).isEqualTo(i);
+                assertThat(map.toOriginalNodeId(i)).isEqualTo(originalIds[i]);
+            }
+        }
+
         @Override
         TestBuilder builder(int concurrency) {
             return new BatchedBuilder(concurrency);
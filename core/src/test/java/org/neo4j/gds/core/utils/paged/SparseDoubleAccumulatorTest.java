@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.paged;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SparseDoubleAccumulatorTest {
+
+    @Test
+    void shouldSumUpValuesPerKey() {
+        var accumulator = SparseDoubleAccumulator.newAccumulator();
+        accumulator.add(7, 1.5);
+        accumulator.add(2, -3.0);
+        accumulator.add(7, 2.0);
+        accumulator.add(2, 3.0);
+
+        assertThat(accumulator.size()).isEqualTo(2);
+        assertThat(accumulator.keyAt(0)).isEqualTo(7);
+        assertThat(accumulator.keyAt(1)).isEqualTo(2);
+        assertThat(accumulator.get(7)).isEqualTo(3.5);
+        assertThat(accumulator.get(2)).isEqualTo(0.0);
+        assertThat(accumulator.contains(2)).isTrue();
+        assertThat(accumulator.contains(3)).isFalse();
+        assertThat(accumulator.get(3)).isEqualTo(0.0);
+    }
+
+    @Test
+    void shouldBeReusableAfterClear() {
+        var accumulator = SparseDoubleAccumulator.newAccumulator();
+        accumulator.add(1, 1.0);
+        accumulator.add(9, 1.0);
+        accumulator.clear();
+
+        assertThat(accumulator.size()).isZero();
+        assertThat(accumulator.contains(1)).isFalse();
+        assertThat(accumulator.contains(9)).isFalse();
+
+        accumulator.add(9, 4.2);
+        assertThat(accumulator.size()).isEqualTo(1);
+        assertThat(accumulator.keyAt(0)).isEqualTo(9);
+        assertThat(accumulator.get(9)).isEqualTo(4.2);
+    }
+
+    @Test
+    void shouldGrowWithTheNumberOfDistinctKeys() {
+        var accumulator = SparseDoubleAccumulator.newAccumulator();
+        for (int round = 0; round < 2; round++) {
+            for (long key = 0; key < 1_000; key++) {
+                accumulator.add(key * 31 - 500, 1.0);
+                accumulator.add(key * 31 - 500, key);
+            }
+
+            assertThat(accumulator.size()).isEqualTo(1_000);
+            for (long i = 0; i < 1_000; i++) {
+                assertThat(accumulator.keyAt(i)).isEqualTo(i * 31 - 500);
+                assertThat(accumulator.valueAt(i)).isEqualTo(i + 1.0);
+                assertThat(accumulator.get(i * 31 - 500)).isEqualTo(i + 1.0);
+            }
+            assertThat(accumulator.contains(1)).isFalse();
+
+            accumulator.clear();
+            assertThat(accumulator.size()).isZero();
+            assertThat(accumulator.contains(-500)).isFalse();
+        }
+    }
+}
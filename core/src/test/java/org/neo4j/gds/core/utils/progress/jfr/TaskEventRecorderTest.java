@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.utils.progress.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
+import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
+import org.neo4j.gds.core.utils.progress.tasks.Tasks;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class TaskEventRecorderTest {
+
+    @Test
+    void shouldEmitTaskAndIterationEvents(@TempDir Path tempDir) throws IOException {
+        var rootTask = Tasks.task(
+            "root",
+            Tasks.leaf("leaf1"),
+            Tasks.iterativeFixed("iterative", () -> List.of(Tasks.leaf("leaf2")), 2)
+        );
+        var progressTracker = new TaskProgressTracker(
+            rootTask,
+            Neo4jProxy.testLog(),
+            1,
+            EmptyTaskRegistryFactory.INSTANCE
+        );
+
+        var recordingFile = tempDir.resolve("gds.jfr");
+        try (var recording = new Recording()) {
+            recording.enable(TaskEvent.class);
+            recording.enable(TaskIterationEvent.class);
+            recording.enable(MemoryEstimationEvent.class);
+            recording.start();
+
+            progressTracker.setEstimatedResourceFootprint(MemoryRange.of(42, 1337), 4);
+            progressTracker.beginSubTask("root");
+            progressTracker.beginSubTask("leaf1");
+            progressTracker.endSubTask("leaf1");
+            progressTracker.beginSubTask("iterative");
+            progressTracker.beginSubTask("leaf2");
+            progressTracker.endSubTask("leaf2");
+            progressTracker.beginSubTask("leaf2");
+            progressTracker.endSubTask("leaf2");
+            progressTracker.endSubTask("iterative");
+            progressTracker.endSubTask("root");
+
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        var events = RecordingFile.readAllEvents(recordingFile);
+
+        assertThat(eventsOf(events, "org.neo4j.gds.Task"))
+            .extracting(
+                e -> e.getString("description"),
+                e -> e.getInt("depth"),
+                e -> e.getInt("iteration"),
+                e -> e.getString("status")
+            )
+            .containsExactly(
+                tuple("leaf1", 1, -1, "FINISHED"),
+                tuple("leaf2", 2, 0, "FINISHED"),
+                tuple("leaf2", 2, 1, "FINISHED"),
+                tuple("iterative", 1, -1, "FINISHED"),
+                tuple("root", 0, -1, "FINISHED")
+            );
+
+        assertThat(eventsOf(events, "org.neo4j.gds.TaskIteration"))
+            .extracting(e -> e.getString("description"), e -> e.getInt("iteration"))
+            .containsExactly(tuple("iterative", 0), tuple("iterative", 1));
+
+        assertThat(eventsOf(events, "org.neo4j.gds.MemoryEstimation"))
+            .singleElement()
+            .satisfies(e -> {
+                assertThat(e.getString("description")).isEqualTo("root");
+                assertThat(e.getLong("estimatedMinBytes")).isEqualTo(42);
+                assertThat(e.getLong("estimatedMaxBytes")).isEqualTo(1337);
+                assertThat(e.getInt("maxConcurrency")).isEqualTo(4);
+            });
+    }
+
+    private static List<RecordedEvent> eventsOf(List<RecordedEvent> events, String name) {
+        return events
+            .stream()
+            .filter(e -> e.getEventType().getName().equals(name))
+            .collect(Collectors.toList());
+    }
+}
@@ -142,6 +142,65 @@ class NativeNodePropertyExporterTest extends BaseTest {
         );
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 10_000})
+    void exportMultipleNodePropertiesPipelined(int batchSize) {
+        Graph graph = new StoreLoaderBuilder().databaseService(db)
+            .addNodeProperty("newProp1", "prop1", DefaultValue.of(42.0), Aggregation.NONE)
+            .build()
+            .graph();
+
+        var exporter = NativeNodePropertyExporter
+            .builder(TestSupport.fullAccessTransaction(db), graph, TerminationFlag.RUNNING_TRUE)
+            .parallel(Pools.DEFAULT, 4)
+            .withPipelinedWrites(PipelinedWriteSettings.of(batchSize, 1, 2))
+            .build();
+
+        int[] intData = {23, 42, 84};
+        double[] doubleData = {123D, 142D, 184D};
+
+        exporter.write(List.of(
+            ImmutableNodeProperty.of("newProp1", new LongTestPropertyValues(nodeId -> intData[(int) nodeId])),
+            ImmutableNodeProperty.of("newProp2", new DoubleTestPropertyValues(nodeId -> doubleData[(int) nodeId]))
+        ));
+
+        Graph updatedGraph = new StoreLoaderBuilder().databaseService(db)
+            .addNodeProperty("newProp1", "newProp1", DefaultValue.of(42), Aggregation.NONE)
+            .addNodeProperty("newProp2", "newProp2", DefaultValue.of(42.0), Aggregation.NONE)
+            .build()
+            .graph();
+
+        assertGraphEquals(
+            fromGdl(
+                "(a { newProp1: 23, newProp2: 123.0d })" +
+                "(b { newProp1: 42, newProp2: 142.0d })" +
+                "(c { newProp1: 84, newProp2: 184.0d })" +
+                "(a)-->(b)" +
+                "(a)-->(c)" +
+                "(b)-->(c)" +
+                "(b)-->(c)"),
+            updatedGraph
+        );
+
+        assertThat(exporter.propertiesWritten()).isEqualTo(6);
+        assertThat(exporter.writeMetrics()).hasValueSatisfying(metrics -> {
+            assertThat(metrics.written()).isEqualTo(6);
+            assertThat(metrics.batches()).isEqualTo((long) Math.ceil(3.0 / batchSize));
+        });
+    }
+
+    @Test
+    void stopsPipelinedExportingWhenTransactionHasBeenTerminated() {
+        TerminationFlag terminationFlag = () -> false;
+        var exporter = NativeNodePropertyExporter
+            .builder(TestSupport.fullAccessTransaction(db), new DirectIdMap(3), terminationFlag)
+            .withPipelinedWrites(PipelinedWriteSettings.defaults())
+            .build();
+
+        assertTransactionTermination(() -> exporter.write("foo", new DoubleTestPropertyValues(ignore -> 42.0)));
+        assertThat(exporter.writeMetrics()).isEmpty();
+    }
+
     @Test
     void stopsExportingWhenTransactionHasBeenTerminated() {
         transactionTerminationTest(null);
@@ -35,6 +35,7 @@ import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.gds.compat.TestLog;
 import org.neo4j.gds.core.Aggregation;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
 import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
@@ -46,6 +47,9 @@ import org.neo4j.values.storable.Values;
 
 import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -183,6 +187,51 @@ class NativeRelationshipExporterTest extends BaseTest {
         validateWrittenGraphWithoutProperties();
     }
 
+    @Test
+    void exportRelationshipsPipelined() {
+        NativeRelationshipExporter exporter = setupExportTest(
+            /* includeProperties */ true,
+            builder -> builder
+                .parallel(Pools.DEFAULT, 2)
+                .withPipelinedWrites(PipelinedWriteSettings.of(1, 1, 2))
+        );
+        var count = new LongAdder();
+        var writerThreads = ConcurrentHashMap.<Thread>newKeySet();
+        exporter.write("FOOBAR", "weight", (sourceNodeId, targetNodeId, property) -> {
+            count.increment();
+            writerThreads.add(Thread.currentThread());
+            return true;
+        });
+        assertEquals(4, count.longValue());
+        // relationships are written by a single writer, even if more are configured
+        assertThat(writerThreads).hasSize(1);
+        validateWrittenGraph();
+
+        assertThat(exporter.writeMetrics()).hasValueSatisfying(metrics -> {
+            assertThat(metrics.batches()).isEqualTo(4);
+            assertThat(metrics.written()).isEqualTo(4);
+            assertThat(metrics.maxBatchLatencyNanos()).isPositive();
+        });
+    }
+
+    @Test
+    void stopsPipelinedExportingWhenTransactionHasBeenTerminated() {
+        clearDb();
+        runQuery(NODE_QUERY_PART + RELS_QUERY_PART);
+        Graph graph = new StoreLoaderBuilder().databaseService(db).addRelationshipType("BARFOO").build().graph();
+
+        var exporter = NativeRelationshipExporter
+            .builder(TestSupport.fullAccessTransaction(db), graph, () -> false)
+            .withPipelinedWrites(PipelinedWriteSettings.defaults())
+            .build();
+
+        TestSupport.assertTransactionTermination(() -> exporter.write("FOOBAR"));
+
+        runQueryWithRowConsumer(db, "MATCH ()-[r:FOOBAR]->() RETURN COUNT(*) AS count", row ->
+            assertThat(row.getNumber("count").longValue()).isZero()
+        );
+    }
+
     @Test
     void progressLogging() {
         // given a graph of 20 rels
@@ -232,6 +281,13 @@ class NativeRelationshipExporterTest extends BaseTest {
     }
 
     private NativeRelationshipExporter setupExportTest(boolean includeProperties) {
+        return setupExportTest(includeProperties, UnaryOperator.identity());
+    }
+
+    private NativeRelationshipExporter setupExportTest(
+        boolean includeProperties,
+        UnaryOperator<RelationshipExporterBuilder<NativeRelationshipExporter>> configureExporter
+    ) {
         // create graph to export
         clearDb();
         runQuery(NODE_QUERY_PART + RELS_QUERY_PART);
@@ -249,8 +305,8 @@ class NativeRelationshipExporterTest extends BaseTest {
 
 
         // export into new database
-        return NativeRelationshipExporter
-            .builder(TestSupport.fullAccessTransaction(db), fromGraph, RUNNING_TRUE)
+        return configureExporter
+            .apply(NativeRelationshipExporter.builder(TestSupport.fullAccessTransaction(db), fromGraph, RUNNING_TRUE))
             .build();
     }
 
@@ -25,6 +25,7 @@ import org.neo4j.gds.compat.TokenManager;
 import org.neo4j.gds.config.GraphProjectConfig;
 import org.neo4j.gds.core.cypher.CypherGraphStore;
 import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.loading.GraphStoreCatalogEntry;
 import org.neo4j.gds.storageengine.InMemoryDatabaseCreationCatalog;
 import org.neo4j.gds.storageengine.InMemoryTransactionStateVisitor;
 import org.neo4j.internal.diagnostics.DiagnosticsLogger;
@@ -94,9 +95,9 @@ public final class InMemoryStorageEngineImpl implements StorageEngine {
 
     private static CypherGraphStore getGraphStoreFromCatalog(String databaseName) {
         var graphName = InMemoryDatabaseCreationCatalog.getRegisteredDbCreationGraphName(databaseName);
-        return (CypherGraphStore) GraphStoreCatalog
-            .getAllGraphStores()
-            .filter(graphStoreWithUserNameAndConfig -> graphStoreWithUserNameAndConfig
+        var catalogEntry = GraphStoreCatalog
+            .listAllGraphs()
+            .filter(entry -> entry
                 .config()
                 .graphName()
                 .equals(graphName))
@@ -105,11 +106,14 @@ public final class InMemoryStorageEngineImpl implements StorageEngine {
                 "No graph with name `%s` was found in GraphStoreCatalog. Available graph names are %s",
                 graphName,
                 GraphStoreCatalog
-                    .getAllGraphStores()
-                    .map(GraphStoreCatalog.GraphStoreWithUserNameAndConfig::config)
+                    .listAllGraphs()
+                    .map(GraphStoreCatalogEntry::config)
                     .map(GraphProjectConfig::graphName)
                     .collect(Collectors.toList())
-            )))
+            )));
+        // the listing does not reload spilled graphs, looking the graph up does
+        return (CypherGraphStore) GraphStoreCatalog
+            .get(catalogEntry.userName(), catalogEntry.databaseId(), graphName)
             .graphStore();
     }
 
@@ -22,11 +22,13 @@ package org.neo4j.gds;
 import org.jetbrains.annotations.TestOnly;
 import org.neo4j.annotations.service.ServiceProvider;
 import org.neo4j.configuration.Config;
+import org.neo4j.gds.compat.Neo4jProxy;
 import org.neo4j.kernel.api.procedure.GlobalProcedures;
 import org.neo4j.kernel.extension.ExtensionFactory;
 import org.neo4j.kernel.extension.ExtensionType;
 import org.neo4j.kernel.extension.context.ExtensionContext;
 import org.neo4j.kernel.lifecycle.Lifecycle;
+import org.neo4j.logging.internal.LogService;
 
 import java.util.Optional;
 
@@ -52,6 +54,7 @@ public class EditionFactory extends ExtensionFactory<EditionFactory.Dependencies
             context,
             dependencies.config(),
             dependencies.globalProceduresRegistry(),
+            Neo4jProxy.getInternalLog(dependencies.logService(), EditionLifecycleAdapter.class),
             licenseState
         );
     }
@@ -60,5 +63,7 @@ public class EditionFactory extends ExtensionFactory<EditionFactory.Dependencies
         Config config();
 
         GlobalProcedures globalProceduresRegistry();
+
+        LogService logService();
     }
 }
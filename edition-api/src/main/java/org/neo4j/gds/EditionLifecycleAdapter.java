@@ -26,11 +26,13 @@ import org.neo4j.gds.concurrency.PoolSizesProvider;
 import org.neo4j.gds.concurrency.PoolSizesService;
 import org.neo4j.gds.core.IdMapBehaviorFactory;
 import org.neo4j.gds.core.IdMapBehaviorServiceProvider;
+import org.neo4j.gds.core.ModelStoreSettings;
 import org.neo4j.gds.core.model.ModelCatalog;
 import org.neo4j.gds.core.model.ModelCatalogProvider;
 import org.neo4j.kernel.api.procedure.GlobalProcedures;
 import org.neo4j.kernel.extension.context.ExtensionContext;
 import org.neo4j.kernel.lifecycle.LifecycleAdapter;
+import org.neo4j.logging.Log;
 
 import java.util.Optional;
 
@@ -41,17 +43,20 @@ public class EditionLifecycleAdapter extends LifecycleAdapter {
     private final ExtensionContext context;
     private final Config config;
     private final GlobalProcedures globalProceduresRegistry;
+    private final Log log;
     private final Optional<LicenseState> licenseState;
 
     EditionLifecycleAdapter(
         ExtensionContext context,
         Config config,
         GlobalProcedures globalProceduresRegistry,
+        Log log,
         Optional<LicenseState> licenseState
     ) {
         this.context = context;
         this.config = config;
         this.globalProceduresRegistry = globalProceduresRegistry;
+        this.log = log;
         this.licenseState = licenseState;
     }
 
@@ -130,6 +135,11 @@ public class EditionLifecycleAdapter extends LifecycleAdapter {
 
         var modelCatalog = modelCatalogProvider.get(licenseState);
 
+        var modelStoreLocation = config.get(ModelStoreSettings.model_store_location_setting);
+        if (modelStoreLocation != null) {
+            modelCatalog.discoverStoredModels(modelStoreLocation, log);
+        }
+
         globalProceduresRegistry.registerComponent(
             ModelCatalog.class,
             (context) -> modelCatalog,
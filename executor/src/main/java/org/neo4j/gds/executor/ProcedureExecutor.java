@@ -26,6 +26,7 @@ import org.neo4j.gds.GraphStoreAlgorithmFactory;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
 import org.neo4j.gds.core.utils.ProgressTimer;
 import org.neo4j.gds.core.utils.TerminationFlag;
 
@@ -89,34 +90,37 @@ public class ProcedureExecutor<
             graph = graphCreation.createGraph(graphStore);
         }
 
-        if (graph.isEmpty()) {
-            var emptyComputationResult = builder
-                .isGraphEmpty(true)
-                .graph(graph)
-                .graphStore(graphStore)
-                .config(config)
-                .computeMillis(0)
-                .result(null)
-                .algorithm(null)
-                .build();
-            return algoSpec.computationResultConsumer().consume(emptyComputationResult, executionContext);
-        }
+        // keeps the catalog from spilling the graph while the algorithm and the result consumer work on it
+        try (var ignored = GraphStoreCatalog.pin(graphStore)) {
+            if (graph.isEmpty()) {
+                var emptyComputationResult = builder
+                    .isGraphEmpty(true)
+                    .graph(graph)
+                    .graphStore(graphStore)
+                    .config(config)
+                    .computeMillis(0)
+                    .result(null)
+                    .algorithm(null)
+                    .build();
+                return algoSpec.computationResultConsumer().consume(emptyComputationResult, executionContext);
+            }
 
-        ALGO algo = newAlgorithm(graph, graphStore, config);
+            ALGO algo = newAlgorithm(graph, graphStore, config);
 
-        algo.getProgressTracker().setEstimatedResourceFootprint(memoryEstimationInBytes, config.concurrency());
+            algo.getProgressTracker().setEstimatedResourceFootprint(memoryEstimationInBytes, config.concurrency());
 
-        ALGO_RESULT result = executeAlgorithm(releaseAlgorithm, releaseTopology, builder, graph, algo);
+            ALGO_RESULT result = executeAlgorithm(releaseAlgorithm, releaseTopology, builder, graph, algo);
 
-        var computationResult = builder
-            .graph(graph)
-            .graphStore(graphStore)
-            .algorithm(algo)
-            .result(result)
-            .config(config)
-            .build();
+            var computationResult = builder
+                .graph(graph)
+                .graphStore(graphStore)
+                .algorithm(algo)
+                .result(result)
+                .config(config)
+                .build();
 
-        return algoSpec.computationResultConsumer().consume(computationResult, executionContext);
+            return algoSpec.computationResultConsumer().consume(computationResult, executionContext);
+        }
     }
 
     private ALGO_RESULT executeAlgorithm(
@@ -19,18 +19,12 @@
  */
 package org.neo4j.gds.graphsampling;
 
-import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.beta.filter.GraphStoreFilter;
 import org.neo4j.gds.beta.filter.ImmutableFilteredNodes;
-import org.neo4j.gds.beta.filter.NodesFilter;
-import org.neo4j.gds.beta.filter.RelationshipsFilter;
-import org.neo4j.gds.beta.filter.expression.EvaluationContext;
-import org.neo4j.gds.beta.filter.expression.Expression;
 import org.neo4j.gds.config.GraphSampleAlgoConfig;
-import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.loading.GraphStoreBuilder;
 import org.neo4j.gds.core.loading.construction.GraphFactory;
@@ -44,9 +38,7 @@ import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 public class GraphSampleConstructor {
     private final GraphSampleAlgoConfig config;
@@ -80,33 +72,11 @@ public class GraphSampleConstructor {
 
         var idMap = computeIdMap(inputGraph, sampledNodesBitSet);
 
-        var nodePropertyStore = NodesFilter.filterNodeProperties(
+        var inducedSubgraph = InducedSubgraph.of(inputGraphStore.nodes(), idMap, config.concurrency());
+        var nodePropertyStore = inducedSubgraph.nodeProperties(inputGraphStore, progressTracker);
+        var filteredRelationships = inducedSubgraph.relationships(
             inputGraphStore,
-            idMap,
-            config.concurrency(),
-            progressTracker
-        );
-
-        var relTypeFilterExpression = new Expression() {
-            private final List<String> types = config
-                .internalRelationshipTypes(inputGraphStore)
-                .stream()
-                .map(RelationshipType::name)
-                .collect(Collectors.toList());
-
-            @Override
-            public double evaluate(EvaluationContext context) {
-                return context.hasLabelsOrTypes(types) ? Expression.TRUE : Expression.FALSE;
-            }
-        };
-        var filteredRelationships = RelationshipsFilter.filterRelationships(
-            inputGraphStore,
-            relTypeFilterExpression,
-            inputGraphStore.nodes(),
-            idMap,
-            config.concurrency(),
-            Map.of(),
-            Pools.DEFAULT,
+            config.internalRelationshipTypes(inputGraphStore),
             progressTracker
         );
 
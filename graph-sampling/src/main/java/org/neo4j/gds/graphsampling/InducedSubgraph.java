@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.graphsampling;
+
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.properties.nodes.NodeProperty;
+import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.beta.filter.RelationshipsFilter;
+import org.neo4j.gds.beta.filter.expression.EvaluationContext;
+import org.neo4j.gds.beta.filter.expression.Expression;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.api.IdMap.NOT_FOUND;
+
+/**
+ * Builds the node properties and relationships of the subgraph induced by a set of sampled nodes.
+ * <p>
+ * Unlike the generic filters, which map every node through the original node ids,
+ * the mapping between the nodes of the graph store and the sampled nodes is resolved once per sampled node
+ * into dense lookup tables. The relationships are filtered by {@link RelationshipsFilter} using these tables
+ * as node mapping, so relationship end points are remapped without any hash lookups.
+ */
+final class InducedSubgraph implements RelationshipsFilter.NodeMapping {
+    private final IdMap sampledNodes;
+    private final HugeLongArray sampledToRoot;
+    private final HugeLongArray rootToSampled;
+    private final int concurrency;
+
+    static InducedSubgraph of(IdMap rootNodes, IdMap sampledNodes, int concurrency) {
+        var sampledToRoot = HugeLongArray.newArray(sampledNodes.nodeCount());
+        var rootToSampled = HugeLongArray.newArray(rootNodes.nodeCount());
+        rootToSampled.fill(NOT_FOUND);
+
+        ParallelUtil.parallelForEachNode(sampledNodes.nodeCount(), concurrency, sampledNode -> {
+            long rootNode = rootNodes.toMappedNodeId(sampledNodes.toOriginalNodeId(sampledNode));
+            sampledToRoot.set(sampledNode, rootNode);
+            rootToSampled.set(rootNode, sampledNode);
+        });
+
+        return new InducedSubgraph(sampledNodes, sampledToRoot, rootToSampled, concurrency);
+    }
+
+    private InducedSubgraph(
+        IdMap sampledNodes,
+        HugeLongArray sampledToRoot,
+        HugeLongArray rootToSampled,
+        int concurrency
+    ) {
+        this.sampledNodes = sampledNodes;
+        this.sampledToRoot = sampledToRoot;
+        this.rootToSampled = rootToSampled;
+        this.concurrency = concurrency;
+    }
+
+    NodePropertyStore nodeProperties(GraphStore inputGraphStore, ProgressTracker progressTracker) {
+        var propertyKeys = inputGraphStore.nodePropertyKeys();
+        long sampledNodeCount = sampledNodes.nodeCount();
+
+        progressTracker.beginSubTask(sampledNodeCount * propertyKeys.size());
+
+        var builder = NodePropertyStore.builder();
+        propertyKeys.forEach(propertyKey -> {
+            var nodeProperty = inputGraphStore.nodeProperty(propertyKey);
+            builder.putProperty(
+                propertyKey,
+                NodeProperty.of(
+                    propertyKey,
+                    nodeProperty.propertyState(),
+                    copyNodePropertyValues(nodeProperty.values(), progressTracker)
+                )
+            );
+        });
+
+        progressTracker.endSubTask();
+        return builder.build();
+    }
+
+    private NodePropertyValues copyNodePropertyValues(NodePropertyValues inputValues, ProgressTracker progressTracker) {
+        long sampledNodeCount = sampledNodes.nodeCount();
+
+        switch (inputValues.valueType()) {
+            case LONG:
+                var longValues = HugeLongArray.newArray(sampledNodeCount);
+                ParallelUtil.parallelForEachNode(sampledNodeCount, concurrency, sampledNode -> {
+                    longValues.set(sampledNode, inputValues.longValue(sampledToRoot.get(sampledNode)));
+                    progressTracker.logProgress();
+                });
+                return longValues.asNodeProperties();
+
+            case DOUBLE:
+                var doubleValues = HugeDoubleArray.newArray(sampledNodeCount);
+                ParallelUtil.parallelForEachNode(sampledNodeCount, concurrency, sampledNode -> {
+                    doubleValues.set(sampledNode, inputValues.doubleValue(sampledToRoot.get(sampledNode)));
+                    progressTracker.logProgress();
+                });
+                return doubleValues.asNodeProperties();
+
+            case DOUBLE_ARRAY:
+                var doubleArrayValues = HugeObjectArray.newArray(double[].class, sampledNodeCount);
+                ParallelUtil.parallelForEachNode(sampledNodeCount, concurrency, sampledNode -> {
+                    doubleArrayValues.set(sampledNode, inputValues.doubleArrayValue(sampledToRoot.get(sampledNode)));
+                    progressTracker.logProgress();
+                });
+                return doubleArrayValues.asNodeProperties();
+
+            case FLOAT_ARRAY:
+                var floatArrayValues = HugeObjectArray.newArray(float[].class, sampledNodeCount);
+                ParallelUtil.parallelForEachNode(sampledNodeCount, concurrency, sampledNode -> {
+                    floatArrayValues.set(sampledNode, inputValues.floatArrayValue(sampledToRoot.get(sampledNode)));
+                    progressTracker.logProgress();
+                });
+                return floatArrayValues.asNodeProperties();
+
+            case LONG_ARRAY:
+                var longArrayValues = HugeObjectArray.newArray(long[].class, sampledNodeCount);
+                ParallelUtil.parallelForEachNode(sampledNodeCount, concurrency, sampledNode -> {
+                    longArrayValues.set(sampledNode, inputValues.longArrayValue(sampledToRoot.get(sampledNode)));
+                    progressTracker.logProgress();
+                });
+                return longArrayValues.asNodeProperties();
+
+            default:
+                throw new UnsupportedOperationException("Cannot import properties of type " + inputValues.valueType());
+        }
+    }
+
+    RelationshipsFilter.FilteredRelationships relationships(
+        GraphStore inputGraphStore,
+        Collection<RelationshipType> sampledTypes,
+        ProgressTracker progressTracker
+    ) {
+        var relTypeFilterExpression = new Expression() {
+            private final List<String> types = sampledTypes
+                .stream()
+                .map(RelationshipType::name)
+                .collect(Collectors.toList());
+
+            @Override
+            public double evaluate(EvaluationContext context) {
+                return context.hasLabelsOrTypes(types) ? Expression.TRUE : Expression.FALSE;
+            }
+        };
+
+        return RelationshipsFilter.filterRelationships(
+            inputGraphStore,
+            relTypeFilterExpression,
+            this,
+            sampledNodes,
+            concurrency,
+            Map.of(),
+            Pools.DEFAULT,
+            progressTracker
+        );
+    }
+
+    @Override
+    public long toInputNode(long outputNode) {
+        return sampledToRoot.get(outputNode);
+    }
+
+    @Override
+    public long toOutputNode(long inputNode) {
+        return rootToSampled.get(inputNode);
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.graphsampling;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.api.properties.nodes.NodePropertyStore;
+import org.neo4j.gds.beta.filter.GraphStoreFilter;
+import org.neo4j.gds.beta.filter.ImmutableFilteredNodes;
+import org.neo4j.gds.beta.filter.NodesFilter;
+import org.neo4j.gds.beta.filter.RelationshipsFilter;
+import org.neo4j.gds.beta.filter.expression.EvaluationContext;
+import org.neo4j.gds.beta.filter.expression.Expression;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.loading.GraphStoreBuilder;
+import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.loading.construction.NodeLabelTokens;
+import org.neo4j.gds.core.utils.paged.HugeObjectArray;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.IdFunction;
+import org.neo4j.gds.extension.Inject;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+import static org.neo4j.gds.TestSupport.crossArguments;
+
+@GdlExtension
+class InducedSubgraphTest {
+
+    @GdlGraph(idOffset = 42)
+    private static final String DB_CYPHER =
+        "CREATE" +
+        "  (a:A   {long: 1, double: 1.5, longArray: [1L, 2L], doubleArray: [1.0, 2.0]})" +
+        ", (b:A:B {long: 2, double: 2.5, longArray: [3L, 4L], doubleArray: [3.0, 4.0]})" +
+        ", (c:B   {long: 3, double: 3.5, longArray: [5L, 6L], doubleArray: [5.0, 6.0]})" +
+        ", (d:A   {long: 4, double: 4.5, longArray: [7L, 8L], doubleArray: [7.0, 8.0]})" +
+        ", (e:B   {long: 5, double: 5.5, longArray: [9L, 0L], doubleArray: [9.0, 0.0]})" +
+        ", (f:A:B {long: 6, double: 6.5, longArray: [1L, 1L], doubleArray: [1.0, 1.0]})" +
+        ", (a)-[:R1 {cost: 1.0, distance: 10.0}]->(b)" +
+        ", (a)-[:R1 {cost: 2.0, distance: 20.0}]->(c)" +
+        ", (b)-[:R1 {cost: 3.0, distance: 30.0}]->(c)" +
+        ", (c)-[:R1 {cost: 4.0, distance: 40.0}]->(d)" +
+        ", (d)-[:R1 {cost: 5.0, distance: 50.0}]->(a)" +
+        ", (e)-[:R1 {cost: 6.0, distance: 60.0}]->(f)" +
+        ", (f)-[:R1 {cost: 7.0, distance: 70.0}]->(a)" +
+        ", (b)-[:R2 {weight: 0.5}]->(d)" +
+        ", (d)-[:R2 {weight: 1.5}]->(b)" +
+        ", (c)-[:R2 {weight: 2.5}]->(e)" +
+        ", (a)-[:R3]->(f)" +
+        ", (f)-[:R3]->(e)" +
+        ", (e)-[:R4]->(c)";
+
+    @Inject
+    private GraphStore graphStore;
+
+    @Inject
+    private IdFunction idFunction;
+
+    static Stream<Arguments> samples() {
+        return crossArguments(
+            () -> Stream.of(
+                // R4 has no relationship between sampled nodes and gets dropped
+                Arguments.of(List.of("a", "b", "c", "d"), List.of("R1", "R2", "R3", "R4")),
+                // R2 and R3 are not sampled and get skipped
+                Arguments.of(List.of("f", "d", "b", "a", "e"), List.of("R1", "R4")),
+                Arguments.of(List.of("e", "c", "f"), List.of("R2", "R3", "R4")),
+                Arguments.of(List.of("a", "b", "c", "d", "e", "f"), List.of("R1", "R2", "R3", "R4"))
+            ),
+            () -> Stream.of(Arguments.of(1), Arguments.of(4))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("samples")
+    void shouldMatchTheGenericFilters(List<String> sampledVariables, List<String> sampledTypeNames, int concurrency) {
+        addFloatArrayProperty();
+
+        var sampledNodes = sampledIdMap(sampledVariables);
+        var sampledTypes = sampledTypeNames.stream().map(RelationshipType::of).collect(Collectors.toList());
+
+        var filteredNodeProperties = NodesFilter.filterNodeProperties(
+            graphStore,
+            sampledNodes,
+            concurrency,
+            ProgressTracker.NULL_TRACKER
+        );
+        var filteredRelationships = RelationshipsFilter.filterRelationships(
+            graphStore,
+            relationshipTypeExpression(sampledTypeNames),
+            graphStore.nodes(),
+            sampledNodes,
+            concurrency,
+            Map.of(),
+            Pools.DEFAULT,
+            ProgressTracker.NULL_TRACKER
+        );
+        var expected = graphStore(sampledNodes, filteredNodeProperties, filteredRelationships);
+
+        var inducedSubgraph = InducedSubgraph.of(graphStore.nodes(), sampledNodes, concurrency);
+        var actual = graphStore(
+            sampledNodes,
+            inducedSubgraph.nodeProperties(graphStore, ProgressTracker.NULL_TRACKER),
+            inducedSubgraph.relationships(graphStore, sampledTypes, ProgressTracker.NULL_TRACKER)
+        );
+
+        assertThat(actual.schema()).isEqualTo(expected.schema());
+        assertThat(actual.relationshipTypes()).isEqualTo(expected.relationshipTypes());
+        assertThat(actual.relationshipTypes()).isSubsetOf(sampledTypes);
+
+        for (var propertyKey : expected.nodePropertyKeys()) {
+            var expectedValues = expected.nodeProperty(propertyKey).values();
+            var actualValues = actual.nodeProperty(propertyKey).values();
+            assertThat(actualValues.valueType()).isEqualTo(expectedValues.valueType());
+            for (long nodeId = 0; nodeId < sampledNodes.nodeCount(); nodeId++) {
+                assertThat(actualValues.getObject(nodeId)).isEqualTo(expectedValues.getObject(nodeId));
+            }
+        }
+
+        assertGraphEquals(expected.getUnion(), actual.getUnion());
+        for (var relType : expected.relationshipTypes()) {
+            assertGraphEquals(
+                expected.getGraph(relType),
+                actual.getGraph(relType)
+            );
+            for (var propertyKey : expected.relationshipPropertyKeys(relType)) {
+                assertGraphEquals(
+                    expected.getGraph(relType, Optional.of(propertyKey)),
+                    actual.getGraph(relType, Optional.of(propertyKey))
+                );
+            }
+        }
+    }
+
+    private void addFloatArrayProperty() {
+        var floatArrays = HugeObjectArray.newArray(float[].class, graphStore.nodeCount());
+        floatArrays.setAll(nodeId -> new float[]{nodeId, -nodeId});
+        graphStore.addNodeProperty(graphStore.nodeLabels(), "floatArray", floatArrays.asNodeProperties());
+    }
+
+    private IdMap sampledIdMap(List<String> sampledVariables) {
+        var rootNodes = graphStore.nodes();
+        var nodesBuilder = GraphFactory.initNodesBuilder()
+            .concurrency(1)
+            .maxOriginalId(rootNodes.highestOriginalId())
+            .hasLabelInformation(true)
+            .deduplicateIds(false)
+            .build();
+        for (var variable : sampledVariables) {
+            long originalId = idFunction.of(variable);
+            nodesBuilder.addNode(
+                originalId,
+                NodeLabelTokens.of(rootNodes.nodeLabels(rootNodes.toMappedNodeId(originalId)))
+            );
+        }
+        return nodesBuilder.build().idMap();
+    }
+
+    private static Expression relationshipTypeExpression(List<String> types) {
+        return new Expression() {
+            @Override
+            public double evaluate(EvaluationContext context) {
+                return context.hasLabelsOrTypes(types) ? Expression.TRUE : Expression.FALSE;
+            }
+        };
+    }
+
+    private GraphStore graphStore(
+        IdMap sampledNodes,
+        NodePropertyStore nodePropertyStore,
+        RelationshipsFilter.FilteredRelationships relationships
+    ) {
+        var schema = GraphStoreFilter.filterSchema(
+            graphStore.schema(),
+            ImmutableFilteredNodes.of(sampledNodes, nodePropertyStore),
+            relationships
+        );
+
+        return new GraphStoreBuilder()
+            .databaseId(graphStore.databaseId())
+            .capabilities(graphStore.capabilities())
+            .schema(schema)
+            .nodes(sampledNodes)
+            .nodePropertyStore(nodePropertyStore)
+            .relationships(relationships.topology())
+            .relationshipPropertyStores(relationships.propertyStores())
+            .concurrency(1)
+            .build();
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.arrow;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.ipc.ArrowFileWriter;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Row-wise appender on top of an Arrow IPC file writer.
+ * Rows are collected into column vectors and written as a record batch
+ * once {@code batchSize} rows have been appended.
+ * The remaining rows are written as the last record batch on {@link #close()}.
+ */
+final class ArrowFileAppender implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final VectorSchemaRoot root;
+    private final ArrowFileWriter writer;
+    private final FieldVector[] vectors;
+    private final int batchSize;
+
+    private int currentRow = 0;
+    private int currentColumnIndex = 0;
+
+    static ArrowFileAppender of(Path filePath, Schema schema, BufferAllocator allocator, int batchSize) {
+        try {
+            var channel = FileChannel.open(
+                filePath,
+                StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.WRITE
+            );
+            var root = VectorSchemaRoot.create(schema, allocator);
+            var writer = new ArrowFileWriter(root, null, channel);
+            writer.start();
+            return new ArrowFileAppender(channel, root, writer, batchSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ArrowFileAppender(FileChannel channel, VectorSchemaRoot root, ArrowFileWriter writer, int batchSize) {
+        this.channel = channel;
+        this.root = root;
+        this.writer = writer;
+        this.vectors = root.getFieldVectors().toArray(new FieldVector[0]);
+        this.batchSize = batchSize;
+        root.allocateNew();
+    }
+
+    void startLine() {
+        currentColumnIndex = 0;
+    }
+
+    void append(long value) {
+        ((BigIntVector) nextVector()).setSafe(currentRow, value);
+    }
+
+    void appendAny(@Nullable Object value) {
+        var vector = nextVector();
+        if (value == null) {
+            vector.setNull(currentRow);
+        } else if (value instanceof Long) {
+            ((BigIntVector) vector).setSafe(currentRow, (long) value);
+        } else if (value instanceof Double) {
+            ((Float8Vector) vector).setSafe(currentRow, (double) value);
+        } else if (value instanceof String) {
+            ((VarCharVector) vector).setSafe(currentRow, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof long[]) {
+            appendLongArray((ListVector) vector, (long[]) value);
+        } else if (value instanceof double[]) {
+            appendDoubleArray((ListVector) vector, (double[]) value);
+        } else if (value instanceof float[]) {
+            appendFloatArray((ListVector) vector, (float[]) value);
+        } else {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Cannot write value of type `%s` to Arrow column `%s`",
+                value.getClass().getSimpleName(),
+                vector.getName()
+            ));
+        }
+    }
+
+    void endLine() throws IOException {
+        if (++currentRow == batchSize) {
+            writeBatch();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (channel; root; writer) {
+            if (currentRow > 0) {
+                writeBatch();
+            }
+            writer.end();
+        }
+    }
+
+    private FieldVector nextVector() {
+        return vectors[currentColumnIndex++];
+    }
+
+    private void writeBatch() throws IOException {
+        root.setRowCount(currentRow);
+        writer.writeBatch();
+        for (FieldVector vector : vectors) {
+            vector.reset();
+        }
+        currentRow = 0;
+    }
+
+    private void appendLongArray(ListVector vector, long[] values) {
+        var offset = vector.startNewValue(currentRow);
+        var data = (BigIntVector) vector.getDataVector();
+        for (int i = 0; i < values.length; i++) {
+            data.setSafe(offset + i, values[i]);
+        }
+        vector.endValue(currentRow, values.length);
+    }
+
+    private void appendDoubleArray(ListVector vector, double[] values) {
+        var offset = vector.startNewValue(currentRow);
+        var data = (Float8Vector) vector.getDataVector();
+        for (int i = 0; i < values.length; i++) {
+            data.setSafe(offset + i, values[i]);
+        }
+        vector.endValue(currentRow, values.length);
+    }
+
+    private void appendFloatArray(ListVector vector, float[] values) {
+        var offset = vector.startNewValue(currentRow);
+        var data = (Float4Vector) vector.getDataVector();
+        for (int i = 0; i < values.length; i++) {
+            data.setSafe(offset + i, values[i]);
+        }
+        vector.endValue(currentRow, values.length);
+    }
+}
@@ -0,0 +1,428 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.arrow;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.complex.ListVector;
+import org.apache.arrow.vector.ipc.ArrowFileReader;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.schema.NodeSchema;
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.api.schema.RelationshipSchema;
+import org.neo4j.gds.compat.CompatPropertySizeCalculator;
+import org.neo4j.gds.core.io.file.FileInput;
+import org.neo4j.gds.core.io.file.GraphInfo;
+import org.neo4j.gds.core.io.file.csv.CsvMetaDataLoader;
+import org.neo4j.gds.core.loading.Capabilities;
+import org.neo4j.internal.batchimport.InputIterable;
+import org.neo4j.internal.batchimport.InputIterator;
+import org.neo4j.internal.batchimport.input.Collector;
+import org.neo4j.internal.batchimport.input.Groups;
+import org.neo4j.internal.batchimport.input.IdType;
+import org.neo4j.internal.batchimport.input.Input;
+import org.neo4j.internal.batchimport.input.InputChunk;
+import org.neo4j.internal.batchimport.input.InputEntityVisitor;
+import org.neo4j.internal.batchimport.input.ReadableGroups;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.core.io.file.arrow.ArrowSchemaUtil.GRAPH_PROPERTY_FILE_PREFIX;
+import static org.neo4j.gds.core.io.file.arrow.ArrowSchemaUtil.NODES_FILE_PREFIX;
+import static org.neo4j.gds.core.io.file.arrow.ArrowSchemaUtil.RELATIONSHIPS_FILE_PREFIX;
+import static org.neo4j.gds.core.io.file.arrow.ArrowSchemaUtil.RELATIONSHIP_TYPE_METADATA_KEY;
+
+final class ArrowFileInput implements FileInput {
+
+    private final Path importPath;
+    private final CsvMetaDataLoader.MetaData metaData;
+
+    ArrowFileInput(Path importPath) {
+        this.importPath = importPath;
+        this.metaData = CsvMetaDataLoader.load(importPath);
+    }
+
+    @Override
+    public InputIterable nodes(Collector badCollector) {
+        var splits = ArrowInputSplit.splitsOf(importPath, NODES_FILE_PREFIX);
+        return () -> new RecordBatchIterator(splits, () -> new NodeRecordBatchChunk(metaData.nodeSchema()));
+    }
+
+    @Override
+    public InputIterable relationships(Collector badCollector) {
+        var splits = ArrowInputSplit.splitsOf(importPath, RELATIONSHIPS_FILE_PREFIX);
+        return () -> new RecordBatchIterator(
+            splits,
+            () -> new RelationshipRecordBatchChunk(metaData.relationshipSchema())
+        );
+    }
+
+    @Override
+    public InputIterable graphProperties() {
+        var splits = ArrowInputSplit.splitsOf(importPath, GRAPH_PROPERTY_FILE_PREFIX);
+        return () -> new RecordBatchIterator(
+            splits,
+            () -> new GraphPropertyRecordBatchChunk(metaData.graphPropertySchema())
+        );
+    }
+
+    @Override
+    public IdType idType() {
+        return IdType.ACTUAL;
+    }
+
+    @Override
+    public ReadableGroups groups() {
+        return Groups.EMPTY;
+    }
+
+    @Override
+    public Input.Estimates calculateEstimates(CompatPropertySizeCalculator propertySizeCalculator) {
+        return null;
+    }
+
+    @Override
+    public String userName() {
+        return metaData.userName();
+    }
+
+    @Override
+    public GraphInfo graphInfo() {
+        return metaData.graphInfo();
+    }
+
+    @Override
+    public NodeSchema nodeSchema() {
+        return metaData.nodeSchema();
+    }
+
+    @Override
+    public RelationshipSchema relationshipSchema() {
+        return metaData.relationshipSchema();
+    }
+
+    @Override
+    public Map<String, PropertySchema> graphPropertySchema() {
+        return metaData.graphPropertySchema();
+    }
+
+    @Override
+    public Capabilities capabilities() {
+        return metaData.capabilities();
+    }
+
+    static final class RecordBatchIterator implements InputIterator {
+
+        private final Iterator<ArrowInputSplit> splits;
+        private final Supplier<RecordBatchChunk> chunkSupplier;
+
+        RecordBatchIterator(List<ArrowInputSplit> splits, Supplier<RecordBatchChunk> chunkSupplier) {
+            this.splits = splits.iterator();
+            this.chunkSupplier = chunkSupplier;
+        }
+
+        @Override
+        public InputChunk newChunk() {
+            return chunkSupplier.get();
+        }
+
+        @Override
+        public boolean next(InputChunk chunk) throws IOException {
+            ArrowInputSplit split;
+            synchronized (this) {
+                if (!splits.hasNext()) {
+                    return false;
+                }
+                split = splits.next();
+            }
+            ((RecordBatchChunk) chunk).initialize(split);
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * Reads one record batch at a time. The column vectors are read directly,
+     * no intermediate row representation is materialized.
+     */
+    abstract static class RecordBatchChunk implements InputChunk {
+
+        private final BufferAllocator allocator;
+        private @Nullable FileChannel channel;
+        private @Nullable ArrowFileReader reader;
+
+        private int currentRow;
+        private int rowCount;
+
+        RecordBatchChunk() {
+            this.allocator = new RootAllocator();
+        }
+
+        void initialize(ArrowInputSplit split) throws IOException {
+            closeReader();
+            this.channel = FileChannel.open(split.path(), StandardOpenOption.READ);
+            this.reader = new ArrowFileReader(channel, allocator);
+            reader.loadRecordBatch(reader.getRecordBlocks().get(split.recordBatchIndex()));
+
+            var root = reader.getVectorSchemaRoot();
+            this.currentRow = 0;
+            this.rowCount = root.getRowCount();
+            initializeColumns(root, root.getSchema().getCustomMetadata());
+        }
+
+        abstract void initializeColumns(VectorSchemaRoot root, Map<String, String> metadata);
+
+        abstract void visitRow(int row, InputEntityVisitor visitor) throws IOException;
+
+        @Override
+        public boolean next(InputEntityVisitor visitor) throws IOException {
+            if (currentRow < rowCount) {
+                visitRow(currentRow++, visitor);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try (allocator) {
+                closeReader();
+            }
+        }
+
+        private void closeReader() throws IOException {
+            if (reader != null) {
+                reader.close();
+                reader = null;
+            }
+            if (channel != null) {
+                channel.close();
+                channel = null;
+            }
+        }
+    }
+
+    static final class NodeRecordBatchChunk extends RecordBatchChunk {
+
+        private final NodeSchema nodeSchema;
+        private String[] labels;
+        private BigIntVector ids;
+        private PropertyColumn[] properties;
+
+        NodeRecordBatchChunk(NodeSchema nodeSchema) {
+            this.nodeSchema = nodeSchema;
+        }
+
+        @Override
+        void initializeColumns(VectorSchemaRoot root, Map<String, String> metadata) {
+            this.labels = ArrowSchemaUtil.labelsFromMetadata(metadata);
+            var nodeLabels = labels.length == 0
+                ? Set.of(NodeLabel.ALL_NODES)
+                : Arrays.stream(labels).map(NodeLabel::of).collect(Collectors.toSet());
+            var propertySchemas = nodeSchema.filter(nodeLabels).unionProperties();
+
+            this.ids = (BigIntVector) root.getVector(0);
+            this.properties = PropertyColumn.of(root, 1, propertySchemas);
+        }
+
+        @Override
+        void visitRow(int row, InputEntityVisitor visitor) throws IOException {
+            visitor.labels(labels);
+            visitor.id(ids.get(row));
+            PropertyColumn.visit(properties, row, visitor);
+            visitor.endOfEntity();
+        }
+    }
+
+    static final class RelationshipRecordBatchChunk extends RecordBatchChunk {
+
+        private final RelationshipSchema relationshipSchema;
+        private String relationshipType;
+        private BigIntVector startIds;
+        private BigIntVector endIds;
+        private PropertyColumn[] properties;
+
+        RelationshipRecordBatchChunk(RelationshipSchema relationshipSchema) {
+            this.relationshipSchema = relationshipSchema;
+        }
+
+        @Override
+        void initializeColumns(VectorSchemaRoot root, Map<String, String> metadata) {
+            this.relationshipType = metadata.get(RELATIONSHIP_TYPE_METADATA_KEY);
+            var propertySchemas = relationshipSchema
+                .filter(Set.of(RelationshipType.of(relationshipType)))
+                .unionProperties();
+
+            this.startIds = (BigIntVector) root.getVector(0);
+            this.endIds = (BigIntVector) root.getVector(1);
+            this.properties = PropertyColumn.of(root, 2, propertySchemas);
+        }
+
+        @Override
+        void visitRow(int row, InputEntityVisitor visitor) throws IOException {
+            visitor.type(relationshipType);
+            visitor.startId(startIds.get(row));
+            visitor.endId(endIds.get(row));
+            PropertyColumn.visit(properties, row, visitor);
+            visitor.endOfEntity();
+        }
+    }
+
+    static final class GraphPropertyRecordBatchChunk extends RecordBatchChunk {
+
+        private final Map<String, PropertySchema> graphPropertySchema;
+        private PropertyColumn[] properties;
+
+        GraphPropertyRecordBatchChunk(Map<String, PropertySchema> graphPropertySchema) {
+            this.graphPropertySchema = graphPropertySchema;
+        }
+
+        @Override
+        void initializeColumns(VectorSchemaRoot root, Map<String, String> metadata) {
+            this.properties = PropertyColumn.of(root, 0, graphPropertySchema);
+        }
+
+        @Override
+        void visitRow(int row, InputEntityVisitor visitor) throws IOException {
+            PropertyColumn.visit(properties, row, visitor);
+            visitor.endOfEntity();
+        }
+    }
+
+    @FunctionalInterface
+    interface ColumnReader {
+        Object read(int row);
+    }
+
+    static final class PropertyColumn {
+        private final String key;
+        private final ColumnReader reader;
+
+        private PropertyColumn(String key, ColumnReader reader) {
+            this.key = key;
+            this.reader = reader;
+        }
+
+        static PropertyColumn[] of(
+            VectorSchemaRoot root,
+            int firstPropertyColumn,
+            Map<String, ? extends PropertySchema> propertySchemas
+        ) {
+            var fields = root.getSchema().getFields();
+            return Stream
+                .iterate(firstPropertyColumn, i -> i + 1)
+                .limit(fields.size() - firstPropertyColumn)
+                .map(i -> {
+                    Field field = fields.get(i);
+                    var defaultValue = propertySchemas.get(field.getName()).defaultValue();
+                    return new PropertyColumn(field.getName(), columnReader(root, i, field, defaultValue));
+                })
+                .toArray(PropertyColumn[]::new);
+        }
+
+        static void visit(PropertyColumn[] columns, int row, InputEntityVisitor visitor) {
+            for (PropertyColumn column : columns) {
+                visitor.property(column.key, column.reader.read(row));
+            }
+        }
+
+        private static ColumnReader columnReader(VectorSchemaRoot root, int column, Field field, DefaultValue defaultValue) {
+            switch (ArrowSchemaUtil.valueType(field)) {
+                case LONG: {
+                    var vector = (BigIntVector) root.getVector(column);
+                    return row -> vector.isNull(row) ? defaultValue.longValue() : vector.get(row);
+                }
+                case DOUBLE: {
+                    var vector = (Float8Vector) root.getVector(column);
+                    return row -> vector.isNull(row) ? defaultValue.doubleValue() : vector.get(row);
+                }
+                case LONG_ARRAY: {
+                    var vector = (ListVector) root.getVector(column);
+                    var data = (BigIntVector) vector.getDataVector();
+                    return row -> {
+                        if (vector.isNull(row)) {
+                            return defaultValue.longArrayValue();
+                        }
+                        int start = vector.getElementStartIndex(row);
+                        var values = new long[vector.getElementEndIndex(row) - start];
+                        for (int i = 0; i < values.length; i++) {
+                            values[i] = data.get(start + i);
+                        }
+                        return values;
+                    };
+                }
+                case DOUBLE_ARRAY: {
+                    var vector = (ListVector) root.getVector(column);
+                    var data = (Float8Vector) vector.getDataVector();
+                    return row -> {
+                        if (vector.isNull(row)) {
+                            return defaultValue.doubleArrayValue();
+                        }
+                        int start = vector.getElementStartIndex(row);
+                        var values = new double[vector.getElementEndIndex(row) - start];
+                        for (int i = 0; i < values.length; i++) {
+                            values[i] = data.get(start + i);
+                        }
+                        return values;
+                    };
+                }
+                case FLOAT_ARRAY: {
+                    var vector = (ListVector) root.getVector(column);
+                    var data = (Float4Vector) vector.getDataVector();
+                    return row -> {
+                        if (vector.isNull(row)) {
+                            return defaultValue.floatArrayValue();
+                        }
+                        int start = vector.getElementStartIndex(row);
+                        var values = new float[vector.getElementEndIndex(row) - start];
+                        for (int i = 0; i < values.length; i++) {
+                            values[i] = data.get(start + i);
+                        }
+                        return values;
+                    };
+                }
+                default:
+                    throw new UnsupportedOperationException("String value parsing is not supported");
+            }
+        }
+    }
+}
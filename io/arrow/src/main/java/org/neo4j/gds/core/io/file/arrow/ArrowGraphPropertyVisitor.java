@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.arrow;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.core.io.file.GraphPropertyVisitor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.neo4j.gds.core.io.file.arrow.ArrowSchemaUtil.FILE_SUFFIX;
+import static org.neo4j.gds.core.io.file.arrow.ArrowSchemaUtil.GRAPH_PROPERTY_FILE_PREFIX;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Writes one single column Arrow IPC file per graph property.
+ */
+public class ArrowGraphPropertyVisitor extends GraphPropertyVisitor {
+
+    private final Path fileLocation;
+    private final Map<String, PropertySchema> graphPropertySchemas;
+    private final int visitorId;
+    private final int batchSize;
+    private final BufferAllocator allocator;
+    private final Map<String, ArrowFileAppender> appenders;
+
+    ArrowGraphPropertyVisitor(
+        Path fileLocation,
+        Map<String, PropertySchema> graphPropertySchemas,
+        int visitorId,
+        int batchSize
+    ) {
+        this.fileLocation = fileLocation;
+        this.graphPropertySchemas = graphPropertySchemas;
+        this.visitorId = visitorId;
+        this.batchSize = batchSize;
+        this.allocator = new RootAllocator();
+        this.appenders = new HashMap<>();
+    }
+
+    @Override
+    public boolean property(String key, Object value) {
+        var appender = getAppender(key);
+        try {
+            appender.startLine();
+            appender.appendAny(value);
+            appender.endLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return true;
+    }
+
+    @Override
+    public void flush() {
+        // record batches are written once they are full, the remaining rows are written on close
+    }
+
+    @Override
+    public void close() {
+        try (allocator) {
+            for (var appender : appenders.values()) {
+                appender.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ArrowFileAppender getAppender(String propertyKey) {
+        return appenders.computeIfAbsent(propertyKey, key -> {
+            var fileName = formatWithLocale("%s_%s_%d%s", GRAPH_PROPERTY_FILE_PREFIX, key, visitorId, FILE_SUFFIX);
+            var schema = ArrowSchemaUtil.schema(List.of(), List.of(graphPropertySchemas.get(key)), Map.of());
+            return ArrowFileAppender.of(fileLocation.resolve(fileName), schema, allocator, batchSize);
+        });
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.arrow;
+
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.core.io.file.ImmutableGraphStoreToFileExporterConfig;
+import org.neo4j.gds.core.loading.GraphStoreSpillStore;
+import org.neo4j.gds.core.loading.GraphStoreWithConfig;
+import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
+import org.neo4j.logging.Log;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Spills evicted catalog graphs as Arrow IPC files into one sub directory per graph.
+ */
+public final class ArrowGraphStoreSpillStore implements GraphStoreSpillStore {
+
+    private final Path spillDirectory;
+    private final int concurrency;
+    private final Log log;
+
+    public ArrowGraphStoreSpillStore(Path spillDirectory, int concurrency, Log log) {
+        this.spillDirectory = spillDirectory;
+        this.concurrency = concurrency;
+        this.log = log;
+    }
+
+    @Override
+    public Path spill(GraphStoreWithConfig graphStoreWithConfig) {
+        var config = graphStoreWithConfig.config();
+        var location = spillDirectory.resolve(UUID.randomUUID().toString());
+        try {
+            Files.createDirectories(location);
+            var exportConfig = ImmutableGraphStoreToFileExporterConfig.builder()
+                .username(config.username())
+                .exportName(config.graphName())
+                .writeConcurrency(concurrency)
+                .includeMetaData(true)
+                .build();
+            GraphStoreToArrowExporter.create(
+                graphStoreWithConfig.graphStore(),
+                exportConfig,
+                location,
+                Optional.empty(),
+                EmptyTaskRegistryFactory.INSTANCE,
+                log
+            ).run();
+        } catch (IOException | RuntimeException e) {
+            log.warn(formatWithLocale("Failed to spill graph `%s` to %s", config.graphName(), location), e);
+            delete(location);
+            throw e instanceof IOException ? new UncheckedIOException((IOException) e) : (RuntimeException) e;
+        }
+        log.info(formatWithLocale("Spilled graph `%s` to %s", config.graphName(), location));
+        return location;
+    }
+
+    @Override
+    public GraphStore reload(Path location) {
+        return new ArrowToGraphStoreImporter(concurrency, location, log, EmptyTaskRegistryFactory.INSTANCE)
+            .run()
+            .graphStore();
+    }
+
+    @Override
+    public void delete(Path location) {
+        if (!Files.exists(location)) {
+            return;
+        }
+        try (var files = Files.walk(location)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> {
+                try {
+                    Files.delete(file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException | UncheckedIOException e) {
+            log.warn(formatWithLocale("Failed to delete spilled graph at %s", location), e);
+        }
+    }
+}
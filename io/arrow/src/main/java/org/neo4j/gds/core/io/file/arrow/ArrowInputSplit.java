@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.arrow;
+
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.ipc.ArrowFileReader;
+import org.neo4j.gds.annotation.ValueClass;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.neo4j.gds.core.io.file.arrow.ArrowSchemaUtil.FILE_SUFFIX;
+
+/**
+ * A single record batch of an Arrow IPC file.
+ * Record batches are the unit of parallelism during import.
+ */
+@ValueClass
+interface ArrowInputSplit {
+
+    Path path();
+
+    int recordBatchIndex();
+
+    static List<ArrowInputSplit> splitsOf(Path directory, String filePrefix) {
+        var splits = new ArrayList<ArrowInputSplit>();
+        try (
+            var files = Files.newDirectoryStream(directory, file -> isDataFile(file, filePrefix));
+            var allocator = new RootAllocator()
+        ) {
+            for (Path file : files) {
+                try (
+                    var channel = FileChannel.open(file, StandardOpenOption.READ);
+                    var reader = new ArrowFileReader(channel, allocator)
+                ) {
+                    var recordBatchCount = reader.getRecordBlocks().size();
+                    for (int i = 0; i < recordBatchCount; i++) {
+                        splits.add(ImmutableArrowInputSplit.of(file, i));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return splits;
+    }
+
+    private static boolean isDataFile(Path file, String filePrefix) {
+        var fileName = file.getFileName().toString();
+        return fileName.startsWith(filePrefix + "_") && fileName.endsWith(FILE_SUFFIX);
+    }
+}
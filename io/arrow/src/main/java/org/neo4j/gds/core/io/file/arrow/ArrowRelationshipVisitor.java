@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.arrow;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.api.schema.RelationshipPropertySchema;
+import org.neo4j.gds.api.schema.RelationshipSchema;
+import org.neo4j.gds.core.io.file.RelationshipVisitor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.neo4j.gds.core.io.file.arrow.ArrowSchemaUtil.END_ID_COLUMN_NAME;
+import static org.neo4j.gds.core.io.file.arrow.ArrowSchemaUtil.FILE_SUFFIX;
+import static org.neo4j.gds.core.io.file.arrow.ArrowSchemaUtil.RELATIONSHIPS_FILE_PREFIX;
+import static org.neo4j.gds.core.io.file.arrow.ArrowSchemaUtil.RELATIONSHIP_TYPE_METADATA_KEY;
+import static org.neo4j.gds.core.io.file.arrow.ArrowSchemaUtil.START_ID_COLUMN_NAME;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Writes one Arrow IPC file per relationship type.
+ * The type is stored in the schema metadata of the file, the columns are
+ * the source and target node ids followed by all properties of the type.
+ */
+public class ArrowRelationshipVisitor extends RelationshipVisitor {
+
+    private final Path fileLocation;
+    private final int visitorId;
+    private final int batchSize;
+    private final BufferAllocator allocator;
+    private final Map<String, ArrowFileAppender> appenders;
+
+    ArrowRelationshipVisitor(Path fileLocation, RelationshipSchema relationshipSchema, int visitorId, int batchSize) {
+        super(relationshipSchema);
+        this.fileLocation = fileLocation;
+        this.visitorId = visitorId;
+        this.batchSize = batchSize;
+        this.allocator = new RootAllocator();
+        this.appenders = new HashMap<>();
+    }
+
+    @Override
+    protected void exportElement() {
+        var appender = getAppender();
+        try {
+            appender.startLine();
+            appender.append(startNode());
+            appender.append(endNode());
+            forEachProperty((key, value) -> appender.appendAny(value));
+            appender.endLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void flush() {
+        // record batches are written once they are full, the remaining rows are written on close
+    }
+
+    @Override
+    public void close() {
+        try (allocator) {
+            for (var appender : appenders.values()) {
+                appender.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ArrowFileAppender getAppender() {
+        return appenders.computeIfAbsent(relationshipType(), type -> {
+            var fileName = formatWithLocale("%s_%s_%d%s", RELATIONSHIPS_FILE_PREFIX, type, visitorId, FILE_SUFFIX);
+
+            List<RelationshipPropertySchema> propertySchemas = getPropertySchema();
+            propertySchemas.sort(Comparator.comparing(PropertySchema::key));
+            var schema = ArrowSchemaUtil.schema(
+                List.of(START_ID_COLUMN_NAME, END_ID_COLUMN_NAME),
+                propertySchemas,
+                Map.of(RELATIONSHIP_TYPE_METADATA_KEY, type)
+            );
+
+            return ArrowFileAppender.of(fileLocation.resolve(fileName), schema, allocator, batchSize);
+        });
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.arrow;
+
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.schema.PropertySchema;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+final class ArrowSchemaUtil {
+
+    static final String ID_COLUMN_NAME = "id";
+    static final String START_ID_COLUMN_NAME = "sourceNodeId";
+    static final String END_ID_COLUMN_NAME = "targetNodeId";
+
+    static final String NODES_FILE_PREFIX = "nodes";
+    static final String RELATIONSHIPS_FILE_PREFIX = "relationships";
+    static final String GRAPH_PROPERTY_FILE_PREFIX = "graph_property";
+    static final String FILE_SUFFIX = ".arrow";
+
+    static final String LABEL_COUNT_METADATA_KEY = "gds.labelCount";
+    static final String LABEL_METADATA_KEY_PREFIX = "gds.label.";
+    static final String RELATIONSHIP_TYPE_METADATA_KEY = "gds.relationshipType";
+
+    private static final ArrowType LONG = new ArrowType.Int(64, true);
+    private static final ArrowType DOUBLE = new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE);
+    private static final ArrowType FLOAT = new ArrowType.FloatingPoint(FloatingPointPrecision.SINGLE);
+    private static final String LIST_ELEMENT_NAME = "item";
+
+    private ArrowSchemaUtil() {}
+
+    static <PROPERTY_SCHEMA extends PropertySchema> Schema schema(
+        List<String> idColumns,
+        List<PROPERTY_SCHEMA> propertySchemas,
+        Map<String, String> metadata
+    ) {
+        var fields = new ArrayList<Field>();
+        for (String idColumn : idColumns) {
+            fields.add(Field.notNullable(idColumn, LONG));
+        }
+        for (PROPERTY_SCHEMA propertySchema : propertySchemas) {
+            fields.add(field(propertySchema.key(), propertySchema.valueType()));
+        }
+        return new Schema(fields, metadata);
+    }
+
+    static Field field(String name, ValueType valueType) {
+        switch (valueType) {
+            case LONG:
+                return Field.nullable(name, LONG);
+            case DOUBLE:
+                return Field.nullable(name, DOUBLE);
+            case STRING:
+                return Field.nullable(name, ArrowType.Utf8.INSTANCE);
+            case LONG_ARRAY:
+                return listField(name, LONG);
+            case DOUBLE_ARRAY:
+                return listField(name, DOUBLE);
+            case FLOAT_ARRAY:
+                return listField(name, FLOAT);
+            default:
+                throw new UnsupportedOperationException(formatWithLocale(
+                    "Properties of type `%s` are not supported by the Arrow export",
+                    valueType
+                ));
+        }
+    }
+
+    static ValueType valueType(Field field) {
+        var type = field.getType();
+        if (type.equals(LONG)) {
+            return ValueType.LONG;
+        }
+        if (type.equals(DOUBLE)) {
+            return ValueType.DOUBLE;
+        }
+        if (type.equals(ArrowType.Utf8.INSTANCE)) {
+            return ValueType.STRING;
+        }
+        if (type instanceof ArrowType.List && field.getChildren().size() == 1) {
+            var elementType = field.getChildren().get(0).getType();
+            if (elementType.equals(LONG)) {
+                return ValueType.LONG_ARRAY;
+            }
+            if (elementType.equals(DOUBLE)) {
+                return ValueType.DOUBLE_ARRAY;
+            }
+            if (elementType.equals(FLOAT)) {
+                return ValueType.FLOAT_ARRAY;
+            }
+        }
+        throw new IllegalArgumentException(formatWithLocale(
+            "Arrow column `%s` has unsupported type `%s`",
+            field.getName(),
+            field
+        ));
+    }
+
+    static Map<String, String> labelMetadata(List<String> labels) {
+        var metadata = new HashMap<String, String>();
+        metadata.put(LABEL_COUNT_METADATA_KEY, Integer.toString(labels.size()));
+        for (int i = 0; i < labels.size(); i++) {
+            metadata.put(LABEL_METADATA_KEY_PREFIX + i, labels.get(i));
+        }
+        return metadata;
+    }
+
+    static String[] labelsFromMetadata(Map<String, String> metadata) {
+        var labelCount = Integer.parseInt(metadata.getOrDefault(LABEL_COUNT_METADATA_KEY, "0"));
+        var labels = new String[labelCount];
+        for (int i = 0; i < labelCount; i++) {
+            labels[i] = metadata.get(LABEL_METADATA_KEY_PREFIX + i);
+        }
+        return labels;
+    }
+
+    private static Field listField(String name, ArrowType elementType) {
+        return new Field(
+            name,
+            FieldType.nullable(ArrowType.List.INSTANCE),
+            List.of(Field.nullable(LIST_ELEMENT_NAME, elementType))
+        );
+    }
+}
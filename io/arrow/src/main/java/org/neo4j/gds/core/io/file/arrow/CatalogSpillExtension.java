@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.arrow;
+
+import org.neo4j.annotations.service.ServiceProvider;
+import org.neo4j.configuration.Config;
+import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.config.ConcurrencyConfig;
+import org.neo4j.gds.core.CatalogSpillSettings;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.kernel.extension.ExtensionFactory;
+import org.neo4j.kernel.extension.ExtensionType;
+import org.neo4j.kernel.extension.context.ExtensionContext;
+import org.neo4j.kernel.lifecycle.Lifecycle;
+import org.neo4j.kernel.lifecycle.LifecycleAdapter;
+import org.neo4j.logging.internal.LogService;
+
+import java.nio.file.Path;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Enables the catalog memory budget when {@link CatalogSpillSettings#catalog_memory_budget} is set.
+ * Evicted graphs are written to {@link CatalogSpillSettings#catalog_spill_location},
+ * which defaults to a sub directory of {@code java.io.tmpdir}.
+ */
+@ServiceProvider
+public final class CatalogSpillExtension extends ExtensionFactory<CatalogSpillExtension.Dependencies> {
+
+    public CatalogSpillExtension() {
+        super(ExtensionType.GLOBAL, "gds.catalog.spill");
+    }
+
+    @Override
+    public Lifecycle newInstance(ExtensionContext context, Dependencies dependencies) {
+        var config = dependencies.config();
+        long memoryBudget = config.get(CatalogSpillSettings.catalog_memory_budget);
+        if (memoryBudget <= 0) {
+            return new LifecycleAdapter();
+        }
+
+        var configuredSpillDirectory = config.get(CatalogSpillSettings.catalog_spill_location);
+        var spillDirectory = configuredSpillDirectory != null
+            ? configuredSpillDirectory
+            : Path.of(System.getProperty("java.io.tmpdir"), "gds-catalog-spill");
+
+        return new LifecycleAdapter() {
+            @Override
+            public void init() {
+                var log = Neo4jProxy.getInternalLog(dependencies.logService(), CatalogSpillExtension.class);
+                log.info(formatWithLocale(
+                    "Limiting the graph catalog to %d bytes, spilling to %s",
+                    memoryBudget,
+                    spillDirectory
+                ));
+                GraphStoreCatalog.enableMemoryBudget(
+                    memoryBudget,
+                    new ArrowGraphStoreSpillStore(spillDirectory, ConcurrencyConfig.DEFAULT_CONCURRENCY, log)
+                );
+            }
+
+            @Override
+            public void shutdown() {
+                GraphStoreCatalog.disableMemoryBudget();
+            }
+        };
+    }
+
+    interface Dependencies {
+        Config config();
+
+        LogService logService();
+    }
+}
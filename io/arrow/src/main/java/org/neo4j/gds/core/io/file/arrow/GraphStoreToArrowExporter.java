@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.arrow;
+
+import org.jetbrains.annotations.TestOnly;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.schema.NodeSchema;
+import org.neo4j.gds.core.io.NeoNodeProperties;
+import org.neo4j.gds.core.io.file.GraphStoreToFileExporter;
+import org.neo4j.gds.core.io.file.GraphStoreToFileExporterConfig;
+import org.neo4j.gds.core.io.file.csv.CsvGraphCapabilitiesWriter;
+import org.neo4j.gds.core.io.file.csv.CsvGraphInfoVisitor;
+import org.neo4j.gds.core.io.file.csv.CsvGraphPropertySchemaVisitor;
+import org.neo4j.gds.core.io.file.csv.CsvNodeSchemaVisitor;
+import org.neo4j.gds.core.io.file.csv.CsvRelationshipSchemaVisitor;
+import org.neo4j.gds.core.io.file.csv.UserInfoVisitor;
+import org.neo4j.gds.core.utils.progress.TaskRegistryFactory;
+import org.neo4j.logging.Log;
+import org.neo4j.logging.NullLog;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Writes node, relationship and graph property data as Arrow IPC files,
+ * one record batch per {@link GraphStoreToFileExporterConfig#batchSize()} rows.
+ * The metadata files (user, graph info, schemas, capabilities) are shared with the CSV format.
+ */
+public final class GraphStoreToArrowExporter {
+
+    @TestOnly
+    public static GraphStoreToFileExporter create(
+        GraphStore graphStore,
+        GraphStoreToFileExporterConfig config,
+        Path exportPath
+    ) {
+        return create(graphStore, config, exportPath, Optional.empty(), TaskRegistryFactory.empty(), NullLog.getInstance());
+    }
+
+    public static GraphStoreToFileExporter create(
+        GraphStore graphStore,
+        GraphStoreToFileExporterConfig config,
+        Path exportPath,
+        Optional<NeoNodeProperties> neoNodeProperties,
+        TaskRegistryFactory taskRegistryFactory,
+        Log log
+    ) {
+        var nodeSchema = graphStore.schema().nodeSchema();
+        var relationshipSchema = graphStore.schema().relationshipSchema();
+        var batchSize = config.batchSize();
+
+        var builder = NodeSchema.builder();
+
+        // Add additional properties to each label present in the graph store.
+        var neoNodeSchema = neoNodeProperties.map(additionalProps -> {
+            additionalProps
+                .neoNodeProperties()
+                .forEach((key, ignore) -> nodeSchema
+                    .availableLabels()
+                    .forEach(label -> builder.addProperty(label, key, ValueType.STRING))
+                );
+            return builder.build();
+        }).orElseGet(builder::build);
+
+        return new GraphStoreToFileExporter(
+            graphStore,
+            config,
+            neoNodeProperties,
+            () -> new UserInfoVisitor(exportPath),
+            () -> new CsvGraphInfoVisitor(exportPath),
+            () -> new CsvNodeSchemaVisitor(exportPath),
+            () -> new CsvRelationshipSchemaVisitor(exportPath),
+            () -> new CsvGraphPropertySchemaVisitor(exportPath),
+            () -> new CsvGraphCapabilitiesWriter(exportPath),
+            (index) -> new ArrowNodeVisitor(exportPath, nodeSchema.union(neoNodeSchema), index, batchSize),
+            (index) -> new ArrowRelationshipVisitor(exportPath, relationshipSchema, index, batchSize),
+            (index) -> new ArrowGraphPropertyVisitor(
+                exportPath,
+                graphStore.schema().graphProperties(),
+                index,
+                batchSize
+            ),
+            taskRegistryFactory,
+            log,
+            "Arrow"
+        );
+    }
+
+    private GraphStoreToArrowExporter() {}
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.arrow;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.properties.graph.DoubleArrayGraphPropertyValues;
+import org.neo4j.gds.api.properties.graph.LongGraphPropertyValues;
+import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.config.GraphProjectFromStoreConfig;
+import org.neo4j.gds.core.loading.GraphStoreWithConfig;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+
+@GdlExtension
+class ArrowGraphStoreSpillStoreTest {
+
+    @GdlGraph
+    @GdlGraph(graphNamePrefix = "undirected", orientation = Orientation.UNDIRECTED)
+    private static final String GDL =
+        "CREATE" +
+        "  (a:A { prop1: 0, prop2: [1.0D, 2.0D] })" +
+        ", (b:B { prop1: 1 })" +
+        ", (a)-[:REL { weight: 0.5 }]->(b)" +
+        ", (b)-[:REL { weight: 1.5 }]->(a)";
+
+    @GdlGraph(graphNamePrefix = "multiLabel")
+    private static final String MULTI_LABEL_GDL =
+        "CREATE" +
+        "  (a:A:B { prop1: 0 })" +
+        ", (b:A { prop1: 1 })" +
+        ", (c:B:C { prop1: 2 })" +
+        ", (d { prop1: 3 })" +
+        ", (a)-[:REL1]->(b)" +
+        ", (b)-[:REL2]->(c)" +
+        ", (c)-[:REL1]->(d)";
+
+    @Inject
+    GraphStore graphStore;
+
+    @Inject
+    GraphStore undirectedGraphStore;
+
+    @Inject
+    GraphStore multiLabelGraphStore;
+
+    @TempDir
+    Path spillDirectory;
+
+    @Test
+    void shouldSpillAndReload() {
+        var spillStore = new ArrowGraphStoreSpillStore(spillDirectory, 4, Neo4jProxy.testLog());
+        var config = GraphProjectFromStoreConfig.emptyWithName("alice", "graph");
+
+        var location = spillStore.spill(GraphStoreWithConfig.of(graphStore, config));
+        assertThat(location).startsWith(spillDirectory).isDirectory();
+
+        var reloaded = spillStore.reload(location);
+        assertGraphEquals(graphStore.getUnion(), reloaded.getUnion());
+        assertThat(reloaded.databaseId()).isEqualTo(graphStore.databaseId());
+
+        spillStore.delete(location);
+        assertThat(location).doesNotExist();
+    }
+
+    @Test
+    void shouldSpillAndReloadUndirectedGraph() {
+        var reloaded = spillAndReload(undirectedGraphStore);
+
+        assertThat(reloaded.schema().isUndirected()).isTrue();
+        assertGraphEquals(undirectedGraphStore.getUnion(), reloaded.getUnion());
+    }
+
+    @Test
+    void shouldSpillAndReloadMultiLabelGraph() {
+        var reloaded = spillAndReload(multiLabelGraphStore);
+
+        assertGraphEquals(multiLabelGraphStore.getUnion(), reloaded.getUnion());
+        assertThat(reloaded.nodeLabels()).isEqualTo(multiLabelGraphStore.nodeLabels());
+        assertThat(reloaded.relationshipTypes()).isEqualTo(multiLabelGraphStore.relationshipTypes());
+
+        var original = multiLabelGraphStore.getUnion();
+        var reloadedGraph = reloaded.getUnion();
+        original.forEachNode(nodeId -> {
+            var reloadedNodeId = reloadedGraph.toMappedNodeId(original.toOriginalNodeId(nodeId));
+            assertThat(reloadedGraph.nodeLabels(reloadedNodeId))
+                .containsExactlyInAnyOrderElementsOf(original.nodeLabels(nodeId));
+            return true;
+        });
+    }
+
+    @Test
+    void shouldSpillAndReloadGraphProperties() {
+        graphStore.addGraphProperty("longProp", new LongGraphPropertyValues() {
+            @Override
+            public LongStream longValues() {
+                return LongStream.range(0, 100);
+            }
+
+            @Override
+            public long size() {
+                return 100;
+            }
+        });
+        graphStore.addGraphProperty("doubleArrayProp", new DoubleArrayGraphPropertyValues() {
+            @Override
+            public Stream<double[]> doubleArrayValues() {
+                return LongStream.range(0, 10).mapToObj(i -> new double[]{(double) i, 42.0});
+            }
+
+            @Override
+            public long size() {
+                return 10;
+            }
+        });
+
+        var reloaded = spillAndReload(graphStore);
+
+        assertGraphEquals(graphStore.getUnion(), reloaded.getUnion());
+        assertThat(reloaded.graphPropertyKeys()).containsExactlyInAnyOrder("longProp", "doubleArrayProp");
+        assertThat(reloaded.graphProperty("longProp").values().longValues().toArray())
+            .containsExactlyInAnyOrder(LongStream.range(0, 100).toArray());
+        assertThat(reloaded.graphProperty("doubleArrayProp").values().doubleArrayValues().collect(Collectors.toList()))
+            .containsExactlyInAnyOrderElementsOf(
+                LongStream.range(0, 10).mapToObj(i -> new double[]{(double) i, 42.0}).collect(Collectors.toList())
+            );
+    }
+
+    private GraphStore spillAndReload(GraphStore graphStore) {
+        var spillStore = new ArrowGraphStoreSpillStore(spillDirectory, 4, Neo4jProxy.testLog());
+        var config = GraphProjectFromStoreConfig.emptyWithName("alice", "graph");
+
+        var location = spillStore.spill(GraphStoreWithConfig.of(graphStore, config));
+        return spillStore.reload(location);
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.arrow;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.properties.graph.DoubleArrayGraphPropertyValues;
+import org.neo4j.gds.api.properties.graph.LongGraphPropertyValues;
+import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.core.io.file.GraphStoreToFileExporterConfig;
+import org.neo4j.gds.core.io.file.ImmutableGraphStoreToFileExporterConfig;
+import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.gdl.GdlFactory;
+
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.neo4j.gds.TestSupport.assertGraphEquals;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+@GdlExtension
+class ArrowToGraphStoreImporterIntegrationTest {
+
+    @GdlGraph
+    private static final String GDL =
+        "CREATE" +
+        "  (a:A:B { prop1: 0, prop2: 42, prop3: [0.30000001192092896D, 0.20000000298023224D]})" +
+        ", (b:A:B { prop1: 1, prop2: 43})" +
+        ", (c:A:C { prop1: 2, prop2: 44, prop3: [-0.04D] })" +
+        ", (d:B { prop1: 3 })" +
+        ", (a)-[:REL1 { prop1: 0, prop2: 42 }]->(a)" +
+        ", (a)-[:REL1 { prop1: 1, prop2: 43 }]->(b)" +
+        ", (b)-[:REL1 { prop1: 2, prop2: 44 }]->(a)" +
+        ", (b)-[:REL2 { prop3: 3, prop4: 45 }]->(c)" +
+        ", (c)-[:REL2 { prop3: 4, prop4: 46 }]->(d)" +
+        ", (d)-[:REL2 { prop3: 5, prop4: 47 }]->(a)";
+
+    @Inject
+    GraphStore graphStore;
+
+    @Inject
+    Graph graph;
+
+    @TempDir
+    Path graphLocation;
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldImportProperties(int concurrency) {
+        GraphStoreToArrowExporter.create(graphStore, exportConfig(concurrency), graphLocation).run();
+
+        var importer = new ArrowToGraphStoreImporter(concurrency, graphLocation, Neo4jProxy.testLog(), EmptyTaskRegistryFactory.INSTANCE);
+        var importedGraphStore = importer.run().graphStore();
+
+        assertGraphEquals(graph, importedGraphStore.getUnion());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldImportGraphStoreWithGraphProperties(int concurrency) {
+        addLongGraphProperty();
+        addDoubleArrayGraphProperty();
+
+        GraphStoreToArrowExporter.create(graphStore, exportConfig(concurrency), graphLocation).run();
+
+        var importer = new ArrowToGraphStoreImporter(concurrency, graphLocation, Neo4jProxy.testLog(), EmptyTaskRegistryFactory.INSTANCE);
+        var importedGraphStore = importer.run().graphStore();
+
+        assertThat(importedGraphStore.graphPropertyKeys()).containsExactlyInAnyOrder("longProp", "doubleArrayProp");
+        assertThat(importedGraphStore.graphProperty("longProp").values().longValues().toArray())
+            .containsExactlyInAnyOrder(LongStream.range(0, 10_000).toArray());
+
+        var expectedDoubleArrayProperties = LongStream
+            .range(0, 1337)
+            .mapToObj(i -> new double[]{(double) i, 42.0})
+            .collect(Collectors.toList())
+            .toArray(new double[0][0]);
+        assertThat(importedGraphStore.graphProperty("doubleArrayProp").values().doubleArrayValues().collect(Collectors.toList()))
+            .containsExactlyInAnyOrder(expectedDoubleArrayProperties);
+    }
+
+    @Test
+    void shouldImportGraphWithNoLabels() {
+        var graphStore = GdlFactory.of("()-[]->()").build();
+
+        GraphStoreToArrowExporter.create(graphStore, exportConfig(4), graphLocation).run();
+
+        var importer = new ArrowToGraphStoreImporter(4, graphLocation, Neo4jProxy.testLog(), EmptyTaskRegistryFactory.INSTANCE);
+        var importedGraphStore = importer.run().graphStore();
+
+        assertGraphEquals(graphStore.getUnion(), importedGraphStore.getUnion());
+    }
+
+    @Test
+    void shouldSplitLargeFilesIntoRecordBatches() {
+        addLongGraphProperty();
+
+        var config = ImmutableGraphStoreToFileExporterConfig.builder()
+            .from(exportConfig(1))
+            .batchSize(1000)
+            .build();
+        GraphStoreToArrowExporter.create(graphStore, config, graphLocation).run();
+
+        var splits = ArrowInputSplit.splitsOf(graphLocation, ArrowSchemaUtil.GRAPH_PROPERTY_FILE_PREFIX);
+        assertThat(splits).hasSize(10);
+    }
+
+    @Test
+    void shouldOnlyWriteFullRecordBatchesAcrossChunks() {
+        // every chunk of 1000 nodes contains 500 nodes per label
+        var gdl = IntStream
+            .range(0, 4000)
+            .mapToObj(i -> formatWithLocale("(n%d:%s)", i, i % 2 == 0 ? "A" : "B"))
+            .collect(Collectors.joining(", ", "CREATE ", ", (n0)-[:REL]->(n1)"));
+        var graphStore = GdlFactory.of(gdl).build();
+
+        var config = ImmutableGraphStoreToFileExporterConfig.builder()
+            .from(exportConfig(1))
+            .batchSize(1000)
+            .build();
+        GraphStoreToArrowExporter.create(graphStore, config, graphLocation).run();
+
+        var splits = ArrowInputSplit.splitsOf(graphLocation, ArrowSchemaUtil.NODES_FILE_PREFIX);
+        assertThat(splits).hasSize(4);
+
+        var importer = new ArrowToGraphStoreImporter(4, graphLocation, Neo4jProxy.testLog(), EmptyTaskRegistryFactory.INSTANCE);
+        assertGraphEquals(graphStore.getUnion(), importer.run().graphStore().getUnion());
+    }
+
+    private GraphStoreToFileExporterConfig exportConfig(int concurrency) {
+        return ImmutableGraphStoreToFileExporterConfig.builder()
+            .exportName("my-export")
+            .writeConcurrency(concurrency)
+            .includeMetaData(true)
+            .build();
+    }
+
+    private void addDoubleArrayGraphProperty() {
+        graphStore.addGraphProperty("doubleArrayProp", new DoubleArrayGraphPropertyValues() {
+            @Override
+            public Stream<double[]> doubleArrayValues() {
+                return LongStream.range(0, 1337).mapToObj(i -> new double[]{ (double) i, 42.0 });
+            }
+
+            @Override
+            public long size() {
+                return 1337;
+            }
+        });
+    }
+
+    private void addLongGraphProperty() {
+        graphStore.addGraphProperty("longProp", new LongGraphPropertyValues() {
+            @Override
+            public LongStream longValues() {
+                return LongStream.range(0, 10_000);
+            }
+
+            @Override
+            public long size() {
+                return 10_000;
+            }
+        });
+    }
+}
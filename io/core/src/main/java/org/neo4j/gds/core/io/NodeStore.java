@@ -19,7 +19,7 @@
  */
 package org.neo4j.gds.core.io;
 
-import org.neo4j.gds.NodeLabel;
+import org.apache.commons.lang3.mutable.MutableInt;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
@@ -27,7 +27,6 @@ import org.neo4j.gds.core.utils.paged.HugeIntArray;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.function.LongFunction;
 
 public class NodeStore {
@@ -43,8 +42,6 @@ public class NodeStore {
     final Map<String, Map<String, NodePropertyValues>> nodeProperties;
     final Map<String, LongFunction<Object>> additionalProperties;
 
-    private final Set<NodeLabel> availableNodeLabels;
-
     private final boolean hasLabels;
 
     private NodeStore(
@@ -60,7 +57,6 @@ public class NodeStore {
         this.idMap = idMap;
         this.nodeProperties = nodeProperties;
         this.hasLabels = hasLabels;
-        this.availableNodeLabels = idMap.availableNodeLabels();
         this.additionalProperties = additionalProperties;
     }
 
@@ -91,12 +87,13 @@ public class NodeStore {
         }
         String[] labels = new String[labelCount];
 
-        int i = 0;
-        for (var nodeLabel : availableNodeLabels) {
-            if (idMap.hasLabel(nodeId, nodeLabel)) {
-                labels[i++] = nodeLabel.name;
-            }
-        }
+        // `hasLabel` reports `__ALL__` for every node, so we
+        // only export the labels the node has been assigned to
+        var i = new MutableInt(0);
+        idMap.forEachNodeLabel(nodeId, nodeLabel -> {
+            labels[i.getAndIncrement()] = nodeLabel.name;
+            return true;
+        });
 
         return labels;
     }
@@ -114,13 +111,12 @@ public class NodeStore {
         if (hasNodeLabels) {
             labelCounts = HugeIntArray.newArray(graphStore.nodeCount());
             labelCounts.setAll(i -> {
-                int labelCount = 0;
-                for (var nodeLabel : nodeLabels.availableNodeLabels()) {
-                    if (nodeLabels.hasLabel(i, nodeLabel)) {
-                        labelCount++;
-                    }
-                }
-                return labelCount;
+                var labelCount = new MutableInt(0);
+                nodeLabels.forEachNodeLabel(i, nodeLabel -> {
+                    labelCount.increment();
+                    return true;
+                });
+                return labelCount.intValue();
             });
         }
 
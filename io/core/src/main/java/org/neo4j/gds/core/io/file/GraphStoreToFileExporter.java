@@ -36,12 +36,15 @@ import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.internal.batchimport.input.Collector;
+import org.neo4j.internal.batchimport.input.InputEntityVisitor;
 import org.neo4j.logging.Log;
 
+import java.io.Flushable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 public class GraphStoreToFileExporter extends GraphStoreExporter<GraphStoreToFileExporterConfig> {
@@ -144,7 +147,10 @@ public class GraphStoreToFileExporter extends GraphStoreExporter<GraphStoreToFil
 
         var tasks = ParallelUtil.tasks(
             config.writeConcurrency(),
-            (index) -> new ElementImportRunner<>(nodeVisitorSupplier.apply(index), nodeInputIterator, progressTracker)
+            (index) -> closingVisitor(
+                nodeVisitorSupplier.apply(index),
+                visitor -> new ElementImportRunner<>(visitor, nodeInputIterator, progressTracker)
+            )
         );
 
         RunWithConcurrency.builder()
@@ -164,10 +170,9 @@ public class GraphStoreToFileExporter extends GraphStoreExporter<GraphStoreToFil
 
         var tasks = ParallelUtil.tasks(
             config.writeConcurrency(),
-            (index) -> new ElementImportRunner<>(
+            (index) -> closingVisitor(
                 relationshipVisitorSupplier.apply(index),
-                relationshipInputIterator,
-                progressTracker
+                visitor -> new ElementImportRunner<>(visitor, relationshipInputIterator, progressTracker)
             )
         );
 
@@ -190,10 +195,9 @@ public class GraphStoreToFileExporter extends GraphStoreExporter<GraphStoreToFil
 
             var tasks = ParallelUtil.tasks(
                 config.writeConcurrency(),
-                (index) -> new ElementImportRunner<>(
+                (index) -> closingVisitor(
                     graphPropertyVisitorSupplier.apply(index),
-                    graphPropertyInputIterator,
-                    progressTracker
+                    visitor -> new ElementImportRunner<>(visitor, graphPropertyInputIterator, progressTracker)
                 )
             );
 
@@ -205,6 +209,24 @@ public class GraphStoreToFileExporter extends GraphStoreExporter<GraphStoreToFil
         }
     }
 
+    /**
+     * Closes the visitor once all elements have been exported,
+     * which allows visitors to complete their files, e.g. write trailing blocks or footers.
+     */
+    private static <VISITOR extends InputEntityVisitor.Adapter & Flushable> Runnable closingVisitor(
+        VISITOR visitor,
+        Function<VISITOR, ElementImportRunner<VISITOR>> runnerFactory
+    ) {
+        var runner = runnerFactory.apply(visitor);
+        return () -> {
+            try {
+                runner.run();
+            } finally {
+                visitor.close();
+            }
+        };
+    }
+
     private void exportUserName() {
         try (var userInfoVisitor = userInfoVisitorSupplier.get()) {
             userInfoVisitor.export(config.username());
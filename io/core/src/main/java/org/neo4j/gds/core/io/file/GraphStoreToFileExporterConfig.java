@@ -31,6 +31,8 @@ import org.neo4j.gds.core.io.GraphStoreExporterBaseConfig;
 @SuppressWarnings("immutables:subtype")
 public interface GraphStoreToFileExporterConfig extends GraphStoreExporterBaseConfig {
 
+    int DEFAULT_COMPRESSION_BLOCK_SIZE = 4 * 1024 * 1024;
+
     @Configuration.Parameter
     @Value.Default
     default String username() {
@@ -39,6 +41,25 @@ public interface GraphStoreToFileExporterConfig extends GraphStoreExporterBaseCo
 
     String exportName();
 
+    /**
+     * Writes data files as a sequence of independently gzip-compressed blocks,
+     * which allows importing a single file with multiple threads.
+     */
+    @Value.Default
+    default boolean useCompression() {
+        return false;
+    }
+
+    /**
+     * Number of uncompressed bytes after which a compressed block is completed.
+     * Blocks always end on a line boundary and can therefore be slightly larger.
+     */
+    @Value.Default
+    @Configuration.IntegerRange(min = 1)
+    default int compressionBlockSize() {
+        return DEFAULT_COMPRESSION_BLOCK_SIZE;
+    }
+
     static GraphStoreToFileExporterConfig of(String username, CypherMapWrapper config) {
         return new GraphStoreToFileExporterConfigImpl(username, config);
     }
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.csv;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes data as a sequence of independent gzip members.
+ * <p>
+ * Bytes are buffered until the writer signals a record boundary via {@link #markRecordBoundary()}
+ * and at least {@code blockSize} bytes are buffered. The buffer is then compressed into its own
+ * gzip member, so that every block starts at the beginning of a record and can be decompressed
+ * and parsed on its own. The concatenation of all members is still a valid gzip file.
+ * <p>
+ * The offsets of all blocks are written to an index file next to the data file when the stream is closed,
+ * see {@link CompressedBlockIndex}.
+ */
+final class BlockCompressedOutputStream extends OutputStream {
+
+    private final OutputStream out;
+    private final Path indexPath;
+    private final int blockSize;
+    private final ByteArrayOutputStream uncompressedBlock;
+    private final ByteArrayOutputStream compressedBlock;
+    private final List<CompressedBlockIndex.Block> blocks;
+
+    private long offset;
+
+    static BlockCompressedOutputStream of(Path filePath, int blockSize) throws IOException {
+        return new BlockCompressedOutputStream(
+            Files.newOutputStream(filePath),
+            CompressedBlockIndex.indexPath(filePath),
+            blockSize
+        );
+    }
+
+    private BlockCompressedOutputStream(OutputStream out, Path indexPath, int blockSize) {
+        this.out = out;
+        this.indexPath = indexPath;
+        this.blockSize = blockSize;
+        this.uncompressedBlock = new ByteArrayOutputStream(blockSize);
+        this.compressedBlock = new ByteArrayOutputStream();
+        this.blocks = new ArrayList<>();
+        this.offset = 0;
+    }
+
+    @Override
+    public void write(int b) {
+        uncompressedBlock.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        uncompressedBlock.write(b, off, len);
+    }
+
+    /**
+     * Signals that all bytes written so far form complete records.
+     * Completes the current block if it reached the configured block size.
+     */
+    void markRecordBoundary() throws IOException {
+        if (uncompressedBlock.size() >= blockSize) {
+            writeBlock();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (out) {
+            if (uncompressedBlock.size() > 0) {
+                writeBlock();
+            }
+            out.flush();
+        }
+        CompressedBlockIndex.write(indexPath, blocks);
+    }
+
+    private void writeBlock() throws IOException {
+        compressedBlock.reset();
+        try (var gzip = new GZIPOutputStream(compressedBlock)) {
+            uncompressedBlock.writeTo(gzip);
+        }
+        compressedBlock.writeTo(out);
+
+        blocks.add(CompressedBlockIndex.Block.of(offset, compressedBlock.size()));
+        offset += compressedBlock.size();
+        uncompressedBlock.reset();
+    }
+}
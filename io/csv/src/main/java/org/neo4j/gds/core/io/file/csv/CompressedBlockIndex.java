@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.csv;
+
+import org.neo4j.gds.annotation.ValueClass;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Index of the gzip members written by {@link BlockCompressedOutputStream}.
+ * The index is a plain text file with one {@code offset,length} line per block.
+ */
+final class CompressedBlockIndex {
+
+    static final String COMPRESSED_FILE_SUFFIX = ".gz";
+    private static final String INDEX_FILE_SUFFIX = ".idx";
+
+    private CompressedBlockIndex() {}
+
+    @ValueClass
+    interface Block {
+        long offset();
+
+        long length();
+
+        static Block of(long offset, long length) {
+            return ImmutableBlock.of(offset, length);
+        }
+    }
+
+    static String dataFileName(String uncompressedFileName, OptionalInt compressionBlockSize) {
+        return compressionBlockSize.isPresent()
+            ? uncompressedFileName + COMPRESSED_FILE_SUFFIX
+            : uncompressedFileName;
+    }
+
+    static boolean isCompressed(Path dataFile) {
+        return dataFile.getFileName().toString().endsWith(COMPRESSED_FILE_SUFFIX);
+    }
+
+    static Path indexPath(Path dataFile) {
+        return dataFile.resolveSibling(dataFile.getFileName().toString() + INDEX_FILE_SUFFIX);
+    }
+
+    static void write(Path indexFile, List<Block> blocks) throws IOException {
+        try (var writer = Files.newBufferedWriter(indexFile, StandardCharsets.UTF_8)) {
+            for (Block block : blocks) {
+                writer.write(formatWithLocale("%d,%d", block.offset(), block.length()));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * @return the blocks of the given compressed data file or an empty Optional
+     *     if the file was not written with an index, e.g. by an external tool.
+     */
+    static Optional<List<Block>> read(Path dataFile) {
+        var indexFile = indexPath(dataFile);
+        if (!Files.exists(indexFile)) {
+            return Optional.empty();
+        }
+
+        try (var reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+            var blocks = new ArrayList<Block>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                var separator = line.indexOf(',');
+                if (separator < 0) {
+                    throw new IllegalStateException(formatWithLocale(
+                        "Invalid entry `%s` in compressed block index `%s`",
+                        line,
+                        indexFile
+                    ));
+                }
+                blocks.add(Block.of(
+                    Long.parseLong(line.substring(0, separator)),
+                    Long.parseLong(line.substring(separator + 1))
+                ));
+            }
+            return Optional.of(blocks);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
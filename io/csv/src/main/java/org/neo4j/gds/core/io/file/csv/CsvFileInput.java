@@ -85,12 +85,13 @@ final class CsvFileInput implements FileInput {
 
     CsvFileInput(Path importPath) {
         this.importPath = importPath;
-        this.userName = new UserInfoLoader(importPath).load();
-        this.graphInfo = new GraphInfoLoader(importPath, CSV_MAPPER).load();
-        this.nodeSchema = new NodeSchemaLoader(importPath).load();
-        this.relationshipSchema = new RelationshipSchemaLoader(importPath).load();
-        this.graphPropertySchema = new GraphPropertySchemaLoader(importPath).load();
-        this.capabilities = new GraphCapabilitiesLoader(importPath, CSV_MAPPER).load();
+        var metaData = CsvMetaDataLoader.load(importPath);
+        this.userName = metaData.userName();
+        this.graphInfo = metaData.graphInfo();
+        this.nodeSchema = metaData.nodeSchema();
+        this.relationshipSchema = metaData.relationshipSchema();
+        this.graphPropertySchema = metaData.graphPropertySchema();
+        this.capabilities = metaData.capabilities();
     }
 
     @Override
@@ -176,21 +177,31 @@ final class CsvFileInput implements FileInput {
         SCHEMA,
         PROPERTY_SCHEMA extends PropertySchema> implements InputIterator {
 
-        private final MappedListIterator<HEADER, Path> entryIterator;
+        private final MappedListIterator<HEADER, CsvInputSplit> entryIterator;
         final SCHEMA elementSchema;
 
         FileImporter(
             Map<HEADER, List<Path>> headerToDataFilesMapping,
             SCHEMA elementSchema
         ) {
-            this.entryIterator = new MappedListIterator<>(headerToDataFilesMapping);
+            this.entryIterator = new MappedListIterator<>(splitDataFiles(headerToDataFilesMapping));
             this.elementSchema = elementSchema;
         }
 
+        private static <HEADER> Map<HEADER, List<CsvInputSplit>> splitDataFiles(Map<HEADER, List<Path>> headerToDataFilesMapping) {
+            return headerToDataFilesMapping.entrySet().stream().collect(Collectors.toMap(
+                Map.Entry::getKey,
+                entry -> entry.getValue()
+                    .stream()
+                    .flatMap(dataFile -> CsvInputSplit.splitsOf(dataFile).stream())
+                    .collect(Collectors.toList())
+            ));
+        }
+
         @Override
         public synchronized boolean next(InputChunk chunk) throws IOException {
             if (entryIterator.hasNext()) {
-                Pair<HEADER, Path> entry = entryIterator.next();
+                Pair<HEADER, CsvInputSplit> entry = entryIterator.next();
 
                 assert chunk instanceof LineChunk;
                 var header = entry.getKey();
@@ -266,10 +277,13 @@ final class CsvFileInput implements FileInput {
             this.schema = schema;
         }
 
-        void initialize(HEADER header, Path path) throws IOException {
+        void initialize(HEADER header, CsvInputSplit split) throws IOException {
             this.header = header;
             this.propertySchemas = header.schemaForIdentifier(schema);
-            this.lineIterator = LINE_READER.readValues(path.toFile());
+            if (this.lineIterator != null) {
+                this.lineIterator.close();
+            }
+            this.lineIterator = LINE_READER.readValues(split.open());
         }
 
         @Override
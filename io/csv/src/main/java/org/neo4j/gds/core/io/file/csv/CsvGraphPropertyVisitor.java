@@ -28,6 +28,7 @@ import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalInt;
 import java.util.Set;
 import java.util.function.UnaryOperator;
 
@@ -43,17 +44,29 @@ public class CsvGraphPropertyVisitor extends GraphPropertyVisitor {
     private final int visitorId;
     private final Map<String, JacksonFileAppender> csvAppenders;
     private final Set<String> headerFiles;
+    private final OptionalInt compressionBlockSize;
 
     public CsvGraphPropertyVisitor(
         Path fileLocation,
         Map<String, PropertySchema> graphPropertySchemas,
         Set<String> headerFiles,
         int visitorId
+    ) {
+        this(fileLocation, graphPropertySchemas, headerFiles, visitorId, OptionalInt.empty());
+    }
+
+    public CsvGraphPropertyVisitor(
+        Path fileLocation,
+        Map<String, PropertySchema> graphPropertySchemas,
+        Set<String> headerFiles,
+        int visitorId,
+        OptionalInt compressionBlockSize
     ) {
         this.fileLocation = fileLocation;
         this.graphPropertySchemas = graphPropertySchemas;
         this.headerFiles = headerFiles;
         this.visitorId = visitorId;
+        this.compressionBlockSize = compressionBlockSize;
         this.csvAppenders = new HashMap<>();
     }
 
@@ -92,19 +105,22 @@ public class CsvGraphPropertyVisitor extends GraphPropertyVisitor {
     private JacksonFileAppender getAppender(String propertyKey) {
         return csvAppenders.computeIfAbsent(propertyKey, __ -> {
             var headerFileName = formatWithLocale(GRAPH_PROPERTY_HEADER_FILE_NAME_TEMPLATE, propertyKey);
-            var dataFileName = formatWithLocale(GRAPH_PROPERTY_DATA_FILE_NAME_TEMPLATE, propertyKey, visitorId);
+            var dataFileName = CompressedBlockIndex.dataFileName(
+                formatWithLocale(GRAPH_PROPERTY_DATA_FILE_NAME_TEMPLATE, propertyKey, visitorId),
+                compressionBlockSize
+            );
             var propertySchema = graphPropertySchemas.get(propertyKey);
 
             if (headerFiles.add(headerFileName)) {
                 writeHeaderFile(propertySchema, headerFileName);
             }
 
-            return fileAppender(fileLocation.resolve(dataFileName), propertySchema);
+            return fileAppender(fileLocation.resolve(dataFileName), propertySchema, compressionBlockSize);
         });
     }
 
     private void writeHeaderFile(PropertySchema propertySchema, String headerFileName) {
-        try (var headerAppender = fileAppender(fileLocation.resolve(headerFileName), propertySchema)) {
+        try (var headerAppender = fileAppender(fileLocation.resolve(headerFileName), propertySchema, OptionalInt.empty())) {
             var propertyHeader = formatWithLocale(
                 "%s:%s",
                 propertySchema.key(),
@@ -121,12 +137,14 @@ public class CsvGraphPropertyVisitor extends GraphPropertyVisitor {
 
     private JacksonFileAppender fileAppender(
         Path filePath,
-        PropertySchema propertySchema
+        PropertySchema propertySchema,
+        OptionalInt compressionBlockSize
     ) {
         return JacksonFileAppender.of(
             filePath,
             List.of(propertySchema),
-            UnaryOperator.identity()
+            UnaryOperator.identity(),
+            compressionBlockSize
         );
     }
 }
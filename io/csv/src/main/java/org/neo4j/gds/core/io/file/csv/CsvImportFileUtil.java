@@ -94,7 +94,8 @@ public final class CsvImportFileUtil {
     private static Map<Path, List<Path>> headerToFileMapping(Path csvDirectory, Function<Path, Collection<Path>> headerPaths) {
         Map<Path, List<Path>> headerToDataFileMapping = new HashMap<>();
         for (Path headerFile : headerPaths.apply(csvDirectory)) {
-            String dataFilePattern = headerFile.getFileName().toString().replace("_header", "(_\\d+)");
+            // data files may have been written with block compression, see `CompressedBlockIndex`
+            String dataFilePattern = headerFile.getFileName().toString().replace("_header", "(_\\d+)") + "(\\.gz)?";
             List<Path> dataPaths = headerToDataFileMapping.computeIfAbsent(
                 headerFile,
                 path -> new ArrayList<>()
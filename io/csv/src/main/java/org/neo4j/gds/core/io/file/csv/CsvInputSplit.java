@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.csv;
+
+import org.neo4j.gds.annotation.ValueClass;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * A part of a data file that can be parsed independently of the rest of the file.
+ * <p>
+ * Uncompressed files and compressed files without a block index form a single split.
+ * Files written with block compression are split into one split per compressed block,
+ * which allows multiple threads to decompress and parse the same file concurrently.
+ */
+@ValueClass
+interface CsvInputSplit {
+
+    long WHOLE_FILE = -1;
+
+    Path path();
+
+    long offset();
+
+    long length();
+
+    boolean compressed();
+
+    static List<CsvInputSplit> splitsOf(Path dataFile) {
+        if (!CompressedBlockIndex.isCompressed(dataFile)) {
+            return List.of(ImmutableCsvInputSplit.of(dataFile, 0, WHOLE_FILE, false));
+        }
+
+        return CompressedBlockIndex
+            .read(dataFile)
+            .map(blocks -> blocks
+                .stream()
+                .map(block -> (CsvInputSplit) ImmutableCsvInputSplit.of(dataFile, block.offset(), block.length(), true))
+                .collect(Collectors.toList()))
+            .orElseGet(() -> List.of(ImmutableCsvInputSplit.of(dataFile, 0, WHOLE_FILE, true)));
+    }
+
+    default InputStream open() throws IOException {
+        InputStream in = length() == WHOLE_FILE
+            ? Files.newInputStream(path())
+            : new ByteArrayInputStream(readBlock());
+
+        return compressed() ? new GZIPInputStream(in) : in;
+    }
+
+    private byte[] readBlock() throws IOException {
+        var buffer = ByteBuffer.allocate(Math.toIntExact(length()));
+        try (var channel = FileChannel.open(path(), StandardOpenOption.READ)) {
+            long position = offset();
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    throw new IOException(formatWithLocale(
+                        "Unexpected end of file `%s` while reading block at offset %d",
+                        path(),
+                        offset()
+                    ));
+                }
+                position += read;
+            }
+        }
+        return buffer.array();
+    }
+}
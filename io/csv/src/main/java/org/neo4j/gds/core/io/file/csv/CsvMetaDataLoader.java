@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.io.file.csv;
+
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.gds.api.schema.NodeSchema;
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.api.schema.RelationshipSchema;
+import org.neo4j.gds.core.io.file.GraphInfo;
+import org.neo4j.gds.core.loading.Capabilities;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Loads the meta data files (user info, graph info, schemas and capabilities)
+ * that are written by every file based graph store export.
+ * The data files themselves are read by the format specific file inputs.
+ */
+public final class CsvMetaDataLoader {
+
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+
+    private CsvMetaDataLoader() {}
+
+    @ValueClass
+    public interface MetaData {
+        String userName();
+
+        GraphInfo graphInfo();
+
+        NodeSchema nodeSchema();
+
+        RelationshipSchema relationshipSchema();
+
+        Map<String, PropertySchema> graphPropertySchema();
+
+        Capabilities capabilities();
+    }
+
+    public static MetaData load(Path importPath) {
+        return ImmutableMetaData.of(
+            new UserInfoLoader(importPath).load(),
+            new GraphInfoLoader(importPath, CSV_MAPPER).load(),
+            new NodeSchemaLoader(importPath).load(),
+            new RelationshipSchemaLoader(importPath).load(),
+            new GraphPropertySchemaLoader(importPath).load(),
+            new GraphCapabilitiesLoader(importPath, CSV_MAPPER).load()
+        );
+    }
+}
@@ -31,6 +31,7 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.OptionalInt;
 import java.util.Set;
 import java.util.function.UnaryOperator;
 
@@ -44,23 +45,26 @@ public class CsvNodeVisitor extends NodeVisitor {
     private final int visitorId;
     private final Map<String, JacksonFileAppender> csvAppenders;
     private final Set<String> headerFiles;
+    private final OptionalInt compressionBlockSize;
 
     CsvNodeVisitor(
         Path fileLocation,
         NodeSchema nodeSchema,
         Set<String> headerFiles,
-        int visitorId
+        int visitorId,
+        OptionalInt compressionBlockSize
     ) {
         super(nodeSchema);
         this.fileLocation = fileLocation;
         this.headerFiles = headerFiles;
         this.visitorId = visitorId;
+        this.compressionBlockSize = compressionBlockSize;
         this.csvAppenders = new HashMap<>();
     }
 
     @TestOnly
     public CsvNodeVisitor(Path fileLocation, NodeSchema nodeSchema) {
-        this(fileLocation, nodeSchema, new HashSet<>(), 0);
+        this(fileLocation, nodeSchema, new HashSet<>(), 0, OptionalInt.empty());
     }
 
     @Override
@@ -104,7 +108,10 @@ public class CsvNodeVisitor extends NodeVisitor {
         return csvAppenders.computeIfAbsent(labelsString, (ignore) -> {
             var fileName = labelsString.isBlank() ? "nodes" : formatWithLocale("nodes_%s", labelsString);
             var headerFileName = formatWithLocale("%s_header.csv", fileName);
-            var dataFileName = formatWithLocale("%s_%d.csv", fileName, visitorId);
+            var dataFileName = CompressedBlockIndex.dataFileName(
+                formatWithLocale("%s_%d.csv", fileName, visitorId),
+                compressionBlockSize
+            );
 
             if (headerFiles.add(headerFileName)) {
                 writeHeaderFile(headerFileName);
@@ -112,7 +119,8 @@ public class CsvNodeVisitor extends NodeVisitor {
 
             return fileAppender(
                 fileLocation.resolve(dataFileName),
-                csvSchemaBuilder -> csvSchemaBuilder.addNumberColumn(ID_COLUMN_NAME)
+                csvSchemaBuilder -> csvSchemaBuilder.addNumberColumn(ID_COLUMN_NAME),
+                compressionBlockSize
             );
         });
     }
@@ -120,7 +128,8 @@ public class CsvNodeVisitor extends NodeVisitor {
     private void writeHeaderFile(String headerFileName) {
         try (var headerAppender = fileAppender(
             fileLocation.resolve(headerFileName),
-            csvSchemaBuilder -> csvSchemaBuilder.addColumn(ID_COLUMN_NAME, CsvSchema.ColumnType.STRING)
+            csvSchemaBuilder -> csvSchemaBuilder.addColumn(ID_COLUMN_NAME, CsvSchema.ColumnType.STRING),
+            OptionalInt.empty()
         )) {
             headerAppender.startLine();
             headerAppender.append(ID_COLUMN_NAME);
@@ -151,13 +160,18 @@ public class CsvNodeVisitor extends NodeVisitor {
         }
     }
 
-    private JacksonFileAppender fileAppender(Path filePath, UnaryOperator<CsvSchema.Builder> builderUnaryOperator) {
+    private JacksonFileAppender fileAppender(
+        Path filePath,
+        UnaryOperator<CsvSchema.Builder> builderUnaryOperator,
+        OptionalInt compressionBlockSize
+    ) {
         var propertySchema = getPropertySchema();
         propertySchema.sort(Comparator.comparing(PropertySchema::key));
         return JacksonFileAppender.of(
             filePath,
             propertySchema,
-            builderUnaryOperator
+            builderUnaryOperator,
+            compressionBlockSize
         );
     }
 }
@@ -30,6 +30,7 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.OptionalInt;
 import java.util.Set;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
@@ -43,23 +44,26 @@ public class CsvRelationshipVisitor extends RelationshipVisitor {
     private final Set<String> headerFiles;
     private final int visitorId;
     private final Map<String, JacksonFileAppender> csvAppenders;
+    private final OptionalInt compressionBlockSize;
 
     CsvRelationshipVisitor(
         Path fileLocation,
         RelationshipSchema relationshipSchema,
         Set<String> headerFiles,
-        int visitorId
+        int visitorId,
+        OptionalInt compressionBlockSize
     ) {
         super(relationshipSchema);
         this.fileLocation = fileLocation;
         this.headerFiles = headerFiles;
         this.visitorId = visitorId;
+        this.compressionBlockSize = compressionBlockSize;
         this.csvAppenders = new HashMap<>();
     }
 
     @TestOnly
     CsvRelationshipVisitor(Path fileLocation, RelationshipSchema relationshipSchema) {
-        this(fileLocation, relationshipSchema, new HashSet<>(), 0);
+        this(fileLocation, relationshipSchema, new HashSet<>(), 0, OptionalInt.empty());
     }
 
     @Override
@@ -104,18 +108,21 @@ public class CsvRelationshipVisitor extends RelationshipVisitor {
         return csvAppenders.computeIfAbsent(relationshipType(), (ignore) -> {
             var fileName = formatWithLocale("relationships_%s", relationshipType());
             var headerFileName = formatWithLocale("%s_header.csv", fileName);
-            var dataFileName = formatWithLocale("%s_%d.csv", fileName, visitorId);
+            var dataFileName = CompressedBlockIndex.dataFileName(
+                formatWithLocale("%s_%d.csv", fileName, visitorId),
+                compressionBlockSize
+            );
 
             if (headerFiles.add(headerFileName)) {
                 writeHeaderFile(headerFileName);
             }
 
-            return fileAppender(fileLocation.resolve(dataFileName));
+            return fileAppender(fileLocation.resolve(dataFileName), compressionBlockSize);
         });
     }
 
     private void writeHeaderFile(String headerFileName) {
-        try (var headerAppender = fileAppender(fileLocation.resolve(headerFileName))) {
+        try (var headerAppender = fileAppender(fileLocation.resolve(headerFileName), OptionalInt.empty())) {
             headerAppender.startLine();
             headerAppender.append(START_ID_COLUMN_NAME);
             headerAppender.append(END_ID_COLUMN_NAME);
@@ -146,7 +153,7 @@ public class CsvRelationshipVisitor extends RelationshipVisitor {
         }
     }
 
-    private JacksonFileAppender fileAppender(Path filePath) {
+    private JacksonFileAppender fileAppender(Path filePath, OptionalInt compressionBlockSize) {
         var propertySchema = getPropertySchema();
         propertySchema.sort(Comparator.comparing(PropertySchema::key));
         return JacksonFileAppender.of(
@@ -154,7 +161,8 @@ public class CsvRelationshipVisitor extends RelationshipVisitor {
             propertySchema,
             csvSchemaBuilder -> csvSchemaBuilder
                 .addNumberColumn(START_ID_COLUMN_NAME)
-                .addNumberColumn(END_ID_COLUMN_NAME)
+                .addNumberColumn(END_ID_COLUMN_NAME),
+            compressionBlockSize
         );
     }
 }
@@ -32,6 +32,7 @@ import org.neo4j.logging.NullLog;
 
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -55,6 +56,9 @@ public final class GraphStoreToCsvExporter {
         Log log
     ) {
         Set<String> headerFiles = ConcurrentHashMap.newKeySet();
+        var compressionBlockSize = config.useCompression()
+            ? OptionalInt.of(config.compressionBlockSize())
+            : OptionalInt.empty();
 
         var nodeSchema = graphStore.schema().nodeSchema();
         var relationshipSchema = graphStore.schema().relationshipSchema();
@@ -86,14 +90,22 @@ public final class GraphStoreToCsvExporter {
                 exportPath,
                 nodeSchema.union(neoNodeSchema),
                 headerFiles,
-                index
+                index,
+                compressionBlockSize
+            ),
+            (index) -> new CsvRelationshipVisitor(
+                exportPath,
+                relationshipSchema,
+                headerFiles,
+                index,
+                compressionBlockSize
             ),
-            (index) -> new CsvRelationshipVisitor(exportPath, relationshipSchema, headerFiles, index),
             (index) -> new CsvGraphPropertyVisitor(
                 exportPath,
                 graphStore.schema().graphProperties(),
                 headerFiles,
-                index
+                index,
+                compressionBlockSize
             ),
             taskRegistryFactory,
             log,
@@ -25,13 +25,17 @@ import com.fasterxml.jackson.dataformat.csv.CsvSchema;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.schema.PropertySchema;
 
+import java.io.BufferedWriter;
 import java.io.Flushable;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.OptionalInt;
 import java.util.function.UnaryOperator;
 
 import static org.neo4j.gds.api.DefaultValue.INTEGER_DEFAULT_FALLBACK;
@@ -39,15 +43,35 @@ import static org.neo4j.gds.api.DefaultValue.LONG_DEFAULT_FALLBACK;
 
 final class JacksonFileAppender implements Flushable, AutoCloseable {
 
+    // Compressed blocks can only be completed after the encoder has been flushed,
+    // so we only check for a full block every so many lines.
+    private static final int LINES_PER_BLOCK_CHECK = 1024;
+
     private final CsvGenerator csvEncoder;
     private final CsvSchema csvSchema;
+    private final @Nullable BlockCompressedOutputStream compressedOutput;
 
     private int currentColumnIndex = 0;
+    private int linesSinceBlockCheck = 0;
 
     static <PROPERTY_SCHEMA extends PropertySchema> JacksonFileAppender of(
         Path filePath,
         List<PROPERTY_SCHEMA> propertySchemas,
         UnaryOperator<CsvSchema.Builder> schemaEnricher
+    ) {
+        return of(filePath, propertySchemas, schemaEnricher, OptionalInt.empty());
+    }
+
+    /**
+     * @param compressionBlockSize if present, the file is written as a sequence of gzip blocks
+     *     of roughly the given uncompressed size, see {@link BlockCompressedOutputStream}.
+     *     The file name is expected to carry the {@code .gz} suffix in this case.
+     */
+    static <PROPERTY_SCHEMA extends PropertySchema> JacksonFileAppender of(
+        Path filePath,
+        List<PROPERTY_SCHEMA> propertySchemas,
+        UnaryOperator<CsvSchema.Builder> schemaEnricher,
+        OptionalInt compressionBlockSize
     ) {
         var csvSchemaBuilder = schemaEnricher.apply(CsvSchema.builder());
         for (PROPERTY_SCHEMA propertySchema : propertySchemas) {
@@ -74,10 +98,17 @@ final class JacksonFileAppender implements Flushable, AutoCloseable {
         var factory = mapper.getFactory();
 
         try {
-            var writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8);
+            BlockCompressedOutputStream compressedOutput = null;
+            Writer writer;
+            if (compressionBlockSize.isPresent()) {
+                compressedOutput = BlockCompressedOutputStream.of(filePath, compressionBlockSize.getAsInt());
+                writer = new BufferedWriter(new OutputStreamWriter(compressedOutput, StandardCharsets.UTF_8));
+            } else {
+                writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8);
+            }
             var csvEncoder = factory.createGenerator(writer);
             csvEncoder.setSchema(csvSchema);
-            return new JacksonFileAppender(csvEncoder, csvSchema);
+            return new JacksonFileAppender(csvEncoder, csvSchema, compressedOutput);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -85,10 +116,12 @@ final class JacksonFileAppender implements Flushable, AutoCloseable {
 
     private JacksonFileAppender(
         CsvGenerator csvEncoder,
-        CsvSchema csvSchema
+        CsvSchema csvSchema,
+        @Nullable BlockCompressedOutputStream compressedOutput
     ) {
         this.csvEncoder = csvEncoder;
         this.csvSchema = csvSchema;
+        this.compressedOutput = compressedOutput;
     }
 
     void append(long value) throws IOException {
@@ -159,6 +192,11 @@ final class JacksonFileAppender implements Flushable, AutoCloseable {
 
     void endLine() throws IOException {
         csvEncoder.writeEndObject();
+        if (compressedOutput != null && ++linesSinceBlockCheck == LINES_PER_BLOCK_CHECK) {
+            linesSinceBlockCheck = 0;
+            csvEncoder.flush();
+            compressedOutput.markRecordBoundary();
+        }
     }
 
     @Override
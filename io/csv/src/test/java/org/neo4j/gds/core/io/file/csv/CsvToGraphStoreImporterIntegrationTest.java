@@ -37,6 +37,8 @@ import org.neo4j.gds.extension.GdlGraph;
 import org.neo4j.gds.extension.Inject;
 import org.neo4j.gds.gdl.GdlFactory;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
@@ -112,6 +114,34 @@ class CsvToGraphStoreImporterIntegrationTest {
             .containsExactlyInAnyOrder(expectedDoubleArrayProperties);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4})
+    void shouldImportCompressedExport(int concurrency) throws IOException {
+        addLongGraphProperty();
+
+        var config = ImmutableGraphStoreToFileExporterConfig.builder()
+            .from(exportConfig(concurrency))
+            .useCompression(true)
+            .compressionBlockSize(1024)
+            .build();
+        GraphStoreToCsvExporter.create(graphStore, config, graphLocation).run();
+
+        try (var files = Files.list(graphLocation)) {
+            var longPropBlocks = files
+                .filter(file -> file.getFileName().toString().matches("graph_property_longProp_\\d+\\.csv\\.gz"))
+                .mapToLong(file -> CompressedBlockIndex.read(file).orElseThrow().size())
+                .sum();
+            assertThat(longPropBlocks).isGreaterThan(concurrency);
+        }
+
+        var importer = new CsvToGraphStoreImporter(concurrency, graphLocation, Neo4jProxy.testLog(), EmptyTaskRegistryFactory.INSTANCE);
+        var importedGraphStore = importer.run().graphStore();
+
+        assertGraphEquals(graph, importedGraphStore.getUnion());
+        assertThat(importedGraphStore.graphProperty("longProp").values().longValues().toArray())
+            .containsExactlyInAnyOrder(LongStream.range(0, 10_000).toArray());
+    }
+
     @Test
     void shouldImportGraphWithNoLabels() {
         var graphStore = GdlFactory.of("()-[]->()").build();
@@ -45,4 +45,8 @@ public class DecisionTreePredictor<PREDICTION extends Number> {
 
         return node.prediction();
     }
+
+    TreeNode<PREDICTION> root() {
+        return root;
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.decisiontree;
+
+import com.carrotsearch.hppc.DoubleArrayList;
+import com.carrotsearch.hppc.IntArrayDeque;
+import com.carrotsearch.hppc.IntArrayList;
+import org.neo4j.gds.core.model.ModelDataInput;
+import org.neo4j.gds.core.model.ModelDataOutput;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.function.DoubleFunction;
+
+/**
+ * Writes decision trees as flat arrays in pre-order.
+ * The left child of a split directly follows its parent, the index of the right child is stored explicitly.
+ * Leaves are marked by a feature index of {@code -1} and store their prediction instead of a threshold.
+ */
+public final class DecisionTreeSerializer {
+
+    private static final int NO_FEATURE = -1;
+
+    private DecisionTreeSerializer() {}
+
+    public static void write(DecisionTreePredictor<?> tree, ModelDataOutput output) throws IOException {
+        var featureIndices = new IntArrayList();
+        var values = new DoubleArrayList();
+        var rightChildren = new IntArrayList();
+
+        var nodes = new ArrayDeque<TreeNode<?>>();
+        // index of the parent for right children, -1 otherwise
+        var parents = new IntArrayDeque();
+        nodes.push(tree.root());
+        parents.addLast(-1);
+
+        while (!nodes.isEmpty()) {
+            var node = nodes.pop();
+            var parent = parents.removeLast();
+            var index = featureIndices.size();
+            if (parent != -1) {
+                rightChildren.set(parent, index);
+            }
+
+            rightChildren.add(-1);
+            if (node.leftChild() == null) {
+                featureIndices.add(NO_FEATURE);
+                values.add(node.prediction().doubleValue());
+            } else {
+                featureIndices.add(node.featureIndex());
+                values.add(node.thresholdValue());
+
+                nodes.push(node.rightChild());
+                parents.addLast(index);
+                nodes.push(node.leftChild());
+                parents.addLast(-1);
+            }
+        }
+
+        output.writeInts(featureIndices.toArray());
+        output.writeDoubles(values.toArray());
+        output.writeInts(rightChildren.toArray());
+    }
+
+    public static <PREDICTION extends Number> DecisionTreePredictor<PREDICTION> read(
+        ModelDataInput input,
+        DoubleFunction<PREDICTION> toPrediction
+    ) {
+        var featureIndices = input.readInts();
+        var values = input.readDoubles();
+        var rightChildren = input.readInts();
+
+        @SuppressWarnings("unchecked")
+        TreeNode<PREDICTION>[] nodes = new TreeNode[featureIndices.length];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = featureIndices[i] == NO_FEATURE
+                ? new TreeNode<>(toPrediction.apply(values[i]))
+                : new TreeNode<>(featureIndices[i], values[i]);
+        }
+
+        for (int i = 0; i < nodes.length; i++) {
+            if (featureIndices[i] != NO_FEATURE) {
+                nodes[i].setLeftChild(nodes[i + 1]);
+                nodes[i].setRightChild(nodes[rightChildren[i]]);
+            }
+        }
+
+        return new DecisionTreePredictor<>(nodes[0]);
+    }
+}
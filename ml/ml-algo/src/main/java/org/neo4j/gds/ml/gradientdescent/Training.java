@@ -164,6 +164,8 @@ public class Training {
         private final Objective<?> objective;
         private final long trainSize;
         private final List<? extends Tensor<?>> summedWeightGradients;
+        // reused across batches, so buffers of the same shape are recycled instead of reallocated
+        private final ComputationContext ctx;
         private double lossSum;
         private int consumedBatches;
 
@@ -178,6 +180,7 @@ public class Training {
                 .stream()
                 .map(weight -> weight.data().createWithSameDimensions())
                 .collect(Collectors.toList());
+            this.ctx = new ComputationContext();
             this.consumedBatches = 0;
             this.lossSum = 0;
         }
@@ -185,7 +188,7 @@ public class Training {
         @Override
         public void accept(Batch batch) {
             Variable<Scalar> loss = objective.loss(batch, trainSize);
-            var ctx = new ComputationContext();
+            ctx.reset();
             lossSum += ctx.forward(loss).value();
             ctx.backward(loss);
 
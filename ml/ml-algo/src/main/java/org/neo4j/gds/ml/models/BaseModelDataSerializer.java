@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.models;
+
+import org.neo4j.annotations.service.ServiceProvider;
+import org.neo4j.gds.core.model.ModelDataInput;
+import org.neo4j.gds.core.model.ModelDataOutput;
+import org.neo4j.gds.core.model.ModelDataSerializer;
+import org.neo4j.gds.ml.core.functions.Weights;
+import org.neo4j.gds.ml.core.tensor.Matrix;
+import org.neo4j.gds.ml.core.tensor.Scalar;
+import org.neo4j.gds.ml.core.tensor.Vector;
+import org.neo4j.gds.ml.decisiontree.DecisionTreePredictor;
+import org.neo4j.gds.ml.decisiontree.DecisionTreeSerializer;
+import org.neo4j.gds.ml.models.linearregression.ImmutableLinearRegressionData;
+import org.neo4j.gds.ml.models.linearregression.LinearRegressionData;
+import org.neo4j.gds.ml.models.logisticregression.ImmutableLogisticRegressionData;
+import org.neo4j.gds.ml.models.logisticregression.LogisticRegressionData;
+import org.neo4j.gds.ml.models.mlp.ImmutableMLPClassifierData;
+import org.neo4j.gds.ml.models.mlp.MLPClassifierData;
+import org.neo4j.gds.ml.models.randomforest.ImmutableRandomForestClassifierData;
+import org.neo4j.gds.ml.models.randomforest.ImmutableRandomForestRegressorData;
+import org.neo4j.gds.ml.models.randomforest.RandomForestClassifierData;
+import org.neo4j.gds.ml.models.randomforest.RandomForestRegressorData;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoubleFunction;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Serializes the data of the classifiers and regressors trained by the pipelines.
+ * The data is prefixed by its {@link TrainingMethod} which selects the layout of the rest.
+ */
+@ServiceProvider
+public final class BaseModelDataSerializer implements ModelDataSerializer {
+
+    @Override
+    public String id() {
+        return "gds.ml.models";
+    }
+
+    @Override
+    public boolean canSerialize(Object modelData) {
+        return modelData instanceof BaseModelData;
+    }
+
+    @Override
+    public void serialize(Object modelData, ModelDataOutput output) throws IOException {
+        var data = (BaseModelData) modelData;
+        var method = data.trainerMethod();
+        output.writeString(method.name());
+
+        switch (method) {
+            case LogisticRegression:
+                var logisticRegressionData = (LogisticRegressionData) data;
+                output.writeInt(logisticRegressionData.numberOfClasses());
+                writeMatrix(logisticRegressionData.weights().data(), output);
+                output.writeDoubles(logisticRegressionData.bias().data().data());
+                break;
+            case LinearRegression:
+                var linearRegressionData = (LinearRegressionData) data;
+                writeMatrix(linearRegressionData.weights().data(), output);
+                output.writeDouble(linearRegressionData.bias().data().value());
+                break;
+            case RandomForestClassification:
+                var classifierData = (RandomForestClassifierData) data;
+                output.writeInt(classifierData.featureDimension());
+                output.writeInt(classifierData.numberOfClasses());
+                writeDecisionTrees(classifierData.decisionTrees(), output);
+                break;
+            case RandomForestRegression:
+                var regressorData = (RandomForestRegressorData) data;
+                output.writeInt(regressorData.featureDimension());
+                writeDecisionTrees(regressorData.decisionTrees(), output);
+                break;
+            case MLPClassification:
+                var mlpData = (MLPClassifierData) data;
+                output.writeInt(mlpData.featureDimension());
+                output.writeInt(mlpData.numberOfClasses());
+                output.writeInt(mlpData.depth());
+                output.writeInt(mlpData.weights().size());
+                for (Weights<Matrix> weights : mlpData.weights()) {
+                    writeMatrix(weights.data(), output);
+                }
+                output.writeInt(mlpData.biases().size());
+                for (Weights<Vector> bias : mlpData.biases()) {
+                    output.writeDoubles(bias.data().data());
+                }
+                break;
+            default:
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Cannot serialize model data trained by `%s`.",
+                    method.name()
+                ));
+        }
+    }
+
+    @Override
+    public Object deserialize(ModelDataInput input) {
+        var method = TrainingMethod.valueOf(input.readString());
+
+        switch (method) {
+            case LogisticRegression:
+                return ImmutableLogisticRegressionData.builder()
+                    .numberOfClasses(input.readInt())
+                    .weights(new Weights<>(readMatrix(input)))
+                    .bias(new Weights<>(new Vector(input.readDoubles())))
+                    .build();
+            case LinearRegression:
+                return ImmutableLinearRegressionData.builder()
+                    .weights(new Weights<>(readMatrix(input)))
+                    .bias(new Weights<>(new Scalar(input.readDouble())))
+                    .build();
+            case RandomForestClassification:
+                var classifierFeatureDimension = input.readInt();
+                var numberOfClasses = input.readInt();
+                List<DecisionTreePredictor<Integer>> classificationTrees = readDecisionTrees(
+                    input,
+                    value -> (int) value
+                );
+                return ImmutableRandomForestClassifierData.of(
+                    classifierFeatureDimension,
+                    numberOfClasses,
+                    classificationTrees
+                );
+            case RandomForestRegression:
+                var regressorFeatureDimension = input.readInt();
+                List<DecisionTreePredictor<Double>> regressionTrees = readDecisionTrees(input, value -> value);
+                return ImmutableRandomForestRegressorData.of(regressorFeatureDimension, regressionTrees);
+            case MLPClassification:
+                var builder = ImmutableMLPClassifierData.builder()
+                    .featureDimension(input.readInt())
+                    .numberOfClasses(input.readInt())
+                    .depth(input.readInt());
+                var numberOfWeights = input.readInt();
+                var weights = new ArrayList<Weights<Matrix>>(numberOfWeights);
+                for (int i = 0; i < numberOfWeights; i++) {
+                    weights.add(new Weights<>(readMatrix(input)));
+                }
+                var numberOfBiases = input.readInt();
+                var biases = new ArrayList<Weights<Vector>>(numberOfBiases);
+                for (int i = 0; i < numberOfBiases; i++) {
+                    biases.add(new Weights<>(new Vector(input.readDoubles())));
+                }
+                return builder.weights(weights).biases(biases).build();
+            default:
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Cannot deserialize model data trained by `%s`.",
+                    method.name()
+                ));
+        }
+    }
+
+    private static void writeMatrix(Matrix matrix, ModelDataOutput output) throws IOException {
+        output.writeInt(matrix.rows());
+        output.writeInt(matrix.cols());
+        output.writeDoubles(matrix.data());
+    }
+
+    private static Matrix readMatrix(ModelDataInput input) {
+        var rows = input.readInt();
+        var cols = input.readInt();
+        return new Matrix(input.readDoubles(), rows, cols);
+    }
+
+    private static void writeDecisionTrees(
+        List<? extends DecisionTreePredictor<?>> decisionTrees,
+        ModelDataOutput output
+    ) throws IOException {
+        output.writeInt(decisionTrees.size());
+        for (DecisionTreePredictor<?> decisionTree : decisionTrees) {
+            DecisionTreeSerializer.write(decisionTree, output);
+        }
+    }
+
+    private static <PREDICTION extends Number> List<DecisionTreePredictor<PREDICTION>> readDecisionTrees(
+        ModelDataInput input,
+        DoubleFunction<PREDICTION> toPrediction
+    ) {
+        var numberOfTrees = input.readInt();
+        var decisionTrees = new ArrayList<DecisionTreePredictor<PREDICTION>>(numberOfTrees);
+        for (int i = 0; i < numberOfTrees; i++) {
+            decisionTrees.add(DecisionTreeSerializer.read(input, toPrediction));
+        }
+        return decisionTrees;
+    }
+}
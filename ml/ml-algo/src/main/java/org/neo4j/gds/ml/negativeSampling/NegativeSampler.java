@@ -40,7 +40,9 @@ public interface NegativeSampler {
         long trainPositiveCount,
         IdMap validSourceNodes,
         IdMap validTargetNodes,
-        Optional<Long> randomSeed
+        Optional<Long> randomSeed,
+        int concurrency,
+        boolean partitioned
     ) {
         if (negativeRelationshipType.isPresent()) {
             Graph negativeExampleGraph = graphStore.getGraph(RelationshipType.of(negativeRelationshipType.orElseThrow()));
@@ -58,7 +60,9 @@ public interface NegativeSampler {
                 (long) (trainPositiveCount * negativeSamplingRatio),
                 validSourceNodes,
                 validTargetNodes,
-                randomSeed
+                randomSeed,
+                concurrency,
+                partitioned
             );
         }
     }
@@ -19,13 +19,18 @@
  */
 package org.neo4j.gds.ml.negativeSampling;
 
+import com.carrotsearch.hppc.LongHashSet;
 import com.carrotsearch.hppc.predicates.LongPredicate;
 import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.IdMap;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.ml.splitting.PartitionedSampling;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.SplittableRandom;
 
@@ -43,6 +48,8 @@ public class RandomNegativeSampler implements NegativeSampler {
     private final long trainSampleCount;
     private final IdMap validSourceNodes;
     private final IdMap validTargetNodes;
+    private final int concurrency;
+    private final boolean partitioned;
 
     public RandomNegativeSampler(
         Graph graph,
@@ -51,6 +58,19 @@ public class RandomNegativeSampler implements NegativeSampler {
         IdMap validSourceNodes,
         IdMap validTargetNodes,
         Optional<Long> randomSeed
+    ) {
+        this(graph, testSampleCount, trainSampleCount, validSourceNodes, validTargetNodes, randomSeed, 1, false);
+    }
+
+    public RandomNegativeSampler(
+        Graph graph,
+        long testSampleCount,
+        long trainSampleCount,
+        IdMap validSourceNodes,
+        IdMap validTargetNodes,
+        Optional<Long> randomSeed,
+        int concurrency,
+        boolean partitioned
     ) {
         this.graph = graph;
         this.testSampleCount = testSampleCount;
@@ -58,6 +78,8 @@ public class RandomNegativeSampler implements NegativeSampler {
         this.validSourceNodes = validSourceNodes;
         this.validTargetNodes = validTargetNodes;
         this.rng = randomSeed.map(SplittableRandom::new).orElseGet(SplittableRandom::new);
+        this.concurrency = concurrency;
+        this.partitioned = partitioned;
     }
 
     @Override
@@ -65,74 +87,164 @@ public class RandomNegativeSampler implements NegativeSampler {
         RelationshipsBuilder testSetBuilder,
         RelationshipsBuilder trainSetBuilder
     ) {
+        if (partitioned) {
+            produceNegativeSamplesPartitioned(testSetBuilder, trainSetBuilder);
+            return;
+        }
+
         var remainingTestSamples = new MutableLong(testSampleCount);
         var remainingTrainSamples = new MutableLong(trainSampleCount);
         var remainingValidSourceNodes = new MutableLong(validSourceNodes.nodeCount());
         LongPredicate isValidSourceNodes = nodeId -> validSourceNodes.contains(graph.toOriginalNodeId(nodeId));
-        LongPredicate isValidTargetNodes = nodeId -> validTargetNodes.contains(graph.toOriginalNodeId(nodeId));
 
         graph.forEachNode(nodeId -> {
-            if (!isValidSourceNodes.apply(nodeId)) {
-                return true;
+            if (isValidSourceNodes.apply(nodeId)) {
+                sampleNegativeRelationships(
+                    graph,
+                    nodeId,
+                    remainingTestSamples,
+                    remainingTrainSamples,
+                    remainingValidSourceNodes,
+                    testSetBuilder,
+                    trainSetBuilder,
+                    rng
+                );
             }
-            var masterDegree = graph.degree(nodeId);
-            var negativeEdgeCount = samplesPerNode(
-                (graph.nodeCount() - 1) - masterDegree,
-                remainingTestSamples.longValue() + remainingTrainSamples.longValue(),
-                remainingValidSourceNodes.getAndDecrement()
-            );
-
-            var neighbours = new HashSet<Long>(masterDegree);
-            graph.forEachRelationship(nodeId, (source, target) -> {
-                neighbours.add(target);
-                return true;
+            return true;
+        });
+    }
+
+    /**
+     * Samples each node partition independently, with its own random stream and share of the test and train samples.
+     * The partitions and random streams only depend on the seed and the node count, so the result is reproducible
+     * for any concurrency.
+     */
+    private void produceNegativeSamplesPartitioned(
+        RelationshipsBuilder testSetBuilder,
+        RelationshipsBuilder trainSetBuilder
+    ) {
+        List<Partition> partitions = PartitionedSampling.partitions(graph.nodeCount());
+        var partitionSourceNodes = new long[partitions.size()];
+
+        var countTasks = new ArrayList<Runnable>(partitions.size());
+        for (int i = 0; i < partitions.size(); i++) {
+            var partitionIndex = i;
+            countTasks.add(() -> {
+                var validSourceNodeCount = new MutableLong();
+                partitions.get(partitionIndex).consume(nodeId -> {
+                    if (validSourceNodes.contains(graph.toOriginalNodeId(nodeId))) {
+                        validSourceNodeCount.increment();
+                    }
+                });
+                partitionSourceNodes[partitionIndex] = validSourceNodeCount.longValue();
             });
+        }
+        RunWithConcurrency.builder().concurrency(concurrency).tasks(countTasks).run();
 
-            // this will not try to avoid duplicate negative relationships.
-            // If duplicate negative relationships are sampled, they can get added into the same setBuilder, or both setBuilders.
-            int retries = MAX_RETRIES;
-            for (int i = 0; i < negativeEdgeCount; i++) {
-                var negativeTarget = randomNodeId(graph);
-                // no self-relationships
-                if (isValidTargetNodes.apply(negativeTarget) && !neighbours.contains(negativeTarget) && negativeTarget != nodeId) {
-                    if (sample(remainingTestSamples.doubleValue()/(remainingTestSamples.doubleValue() + remainingTrainSamples.doubleValue()))) {
-                        remainingTestSamples.decrement();
-                        testSetBuilder.addFromInternal(
-                            graph.toRootNodeId(nodeId),
-                            graph.toRootNodeId(negativeTarget),
-                            NEGATIVE
-                        );
-                    } else {
-                        remainingTrainSamples.decrement();
-                        trainSetBuilder.addFromInternal(
-                            graph.toRootNodeId(nodeId),
-                            graph.toRootNodeId(negativeTarget),
-                            NEGATIVE
+        var partitionSamples = PartitionedSampling.allocate(testSampleCount + trainSampleCount, partitionSourceNodes);
+        var partitionTestSamples = PartitionedSampling.allocate(testSampleCount, partitionSamples);
+        var randomStreams = PartitionedSampling.randomStreams(partitions.size(), rng.nextLong());
+
+        var samplingTasks = new ArrayList<Runnable>(partitions.size());
+        for (int i = 0; i < partitions.size(); i++) {
+            var partitionIndex = i;
+            samplingTasks.add(() -> {
+                var concurrentGraph = graph.concurrentCopy();
+                var partitionRng = randomStreams[partitionIndex];
+                var remainingTestSamples = new MutableLong(partitionTestSamples[partitionIndex]);
+                var remainingTrainSamples = new MutableLong(
+                    partitionSamples[partitionIndex] - partitionTestSamples[partitionIndex]
+                );
+                var remainingValidSourceNodes = new MutableLong(partitionSourceNodes[partitionIndex]);
+
+                partitions.get(partitionIndex).consume(nodeId -> {
+                    if (validSourceNodes.contains(concurrentGraph.toOriginalNodeId(nodeId))) {
+                        sampleNegativeRelationships(
+                            concurrentGraph,
+                            nodeId,
+                            remainingTestSamples,
+                            remainingTrainSamples,
+                            remainingValidSourceNodes,
+                            testSetBuilder,
+                            trainSetBuilder,
+                            partitionRng
                         );
                     }
-                } else if (retries-- > 0) {
-                    // we retry with a different negative target
-                    // skipping here and relying on finding another source node is not safe
-                    // we only retry a few times to protect against resampling forever for high deg nodes
-                    i--;
-                }
-            }
+                });
+            });
+        }
+        RunWithConcurrency.builder().concurrency(concurrency).tasks(samplingTasks).run();
+    }
+
+    private void sampleNegativeRelationships(
+        Graph graph,
+        long nodeId,
+        MutableLong remainingTestSamples,
+        MutableLong remainingTrainSamples,
+        MutableLong remainingValidSourceNodes,
+        RelationshipsBuilder testSetBuilder,
+        RelationshipsBuilder trainSetBuilder,
+        SplittableRandom rng
+    ) {
+        LongPredicate isValidTargetNodes = targetId -> validTargetNodes.contains(graph.toOriginalNodeId(targetId));
+
+        var masterDegree = graph.degree(nodeId);
+        var negativeEdgeCount = samplesPerNode(
+            (graph.nodeCount() - 1) - masterDegree,
+            remainingTestSamples.longValue() + remainingTrainSamples.longValue(),
+            remainingValidSourceNodes.getAndDecrement(),
+            rng
+        );
+
+        var neighbours = new LongHashSet(masterDegree);
+        graph.forEachRelationship(nodeId, (source, target) -> {
+            neighbours.add(target);
             return true;
         });
+
+        // this will not try to avoid duplicate negative relationships.
+        // If duplicate negative relationships are sampled, they can get added into the same setBuilder, or both setBuilders.
+        int retries = MAX_RETRIES;
+        for (int i = 0; i < negativeEdgeCount; i++) {
+            var negativeTarget = randomNodeId(graph, rng);
+            // no self-relationships
+            if (isValidTargetNodes.apply(negativeTarget) && !neighbours.contains(negativeTarget) && negativeTarget != nodeId) {
+                if (sample(remainingTestSamples.doubleValue()/(remainingTestSamples.doubleValue() + remainingTrainSamples.doubleValue()), rng)) {
+                    remainingTestSamples.decrement();
+                    testSetBuilder.addFromInternal(
+                        graph.toRootNodeId(nodeId),
+                        graph.toRootNodeId(negativeTarget),
+                        NEGATIVE
+                    );
+                } else {
+                    remainingTrainSamples.decrement();
+                    trainSetBuilder.addFromInternal(
+                        graph.toRootNodeId(nodeId),
+                        graph.toRootNodeId(negativeTarget),
+                        NEGATIVE
+                    );
+                }
+            } else if (retries-- > 0) {
+                // we retry with a different negative target
+                // skipping here and relying on finding another source node is not safe
+                // we only retry a few times to protect against resampling forever for high deg nodes
+                i--;
+            }
+        }
     }
 
-    private long randomNodeId(Graph graph) {
+    private static long randomNodeId(Graph graph, SplittableRandom rng) {
         return Math.abs(rng.nextLong() % graph.nodeCount());
     }
 
-    private long samplesPerNode(long maxSamples, double remainingSamples, long remainingNodes) {
+    private static long samplesPerNode(long maxSamples, double remainingSamples, long remainingNodes, SplittableRandom rng) {
         var numSamplesOnAverage = remainingSamples / remainingNodes;
         var wholeSamples = (long) numSamplesOnAverage;
-        var extraSample = sample(numSamplesOnAverage - wholeSamples) ? 1 : 0;
+        var extraSample = sample(numSamplesOnAverage - wholeSamples, rng) ? 1 : 0;
         return Math.min(maxSamples, wholeSamples + extraSample);
     }
 
-    private boolean sample(double probability) {
+    private static boolean sample(double probability, SplittableRandom rng) {
         return rng.nextDouble() < probability;
     }
 
@@ -24,12 +24,10 @@ import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
-import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
-import org.neo4j.gds.core.utils.partition.PartitionUtils;
 
 import java.util.Optional;
-import java.util.concurrent.atomic.LongAdder;
+import java.util.Random;
 
 public class DirectedEdgeSplitter extends EdgeSplitter {
 
@@ -39,33 +37,29 @@ public class DirectedEdgeSplitter extends EdgeSplitter {
         IdMap targetLabels,
         int concurrency
     ) {
-        super(maybeSeed, sourceLabels, targetLabels, concurrency);
+        this(maybeSeed, sourceLabels, targetLabels, concurrency, false);
     }
 
-    @Override
-    protected long validPositiveRelationshipCandidateCount(
-        Graph graph,
-        LongLongPredicate isValidNodePair
+    public DirectedEdgeSplitter(
+        Optional<Long> maybeSeed,
+        IdMap sourceLabels,
+        IdMap targetLabels,
+        int concurrency,
+        boolean partitioned
     ) {
-        LongAdder validRelationshipCountAdder = new LongAdder();
-        var countValidRelationshipTasks = PartitionUtils.rangePartition(
-            concurrency,
-            graph.nodeCount(),
-            partition -> (Runnable) () -> {
-                var concurrentGraph = graph.concurrentCopy();
-                partition.consume(nodeId -> concurrentGraph.forEachRelationship(nodeId, (s, t) -> {
-                        if (isValidNodePair.apply(s, t)) {
-                            validRelationshipCountAdder.add(1);
-                        }
-                        return true;
-                    })
-                );
-            }, Optional.empty()
-        );
-
-        RunWithConcurrency.builder().concurrency(concurrency).tasks(countValidRelationshipTasks).run();
+        super(maybeSeed, sourceLabels, targetLabels, concurrency, partitioned);
+    }
 
-        return validRelationshipCountAdder.longValue();
+    @Override
+    protected long validPositiveRelationshipCandidateCount(Graph graph, long nodeId, LongLongPredicate isValidNodePair) {
+        var validRelationshipCount = new MutableLong();
+        graph.forEachRelationship(nodeId, (s, t) -> {
+            if (isValidNodePair.apply(s, t)) {
+                validRelationshipCount.increment();
+            }
+            return true;
+        });
+        return validRelationshipCount.longValue();
     }
 
     @Override
@@ -78,12 +72,13 @@ public class DirectedEdgeSplitter extends EdgeSplitter {
         long nodeId,
         LongLongPredicate isValidNodePair,
         MutableLong positiveSamplesRemaining,
-        MutableLong candidateEdgesRemaining
+        MutableLong candidateEdgesRemaining,
+        Random rng
     ) {
 
         graph.forEachRelationship(nodeId, Double.NaN, (source, target, weight) -> {
             if (isValidNodePair.apply(source, target)) {
-                if (sample(positiveSamplesRemaining.doubleValue() / candidateEdgesRemaining.doubleValue())) {
+                if (sample(rng, positiveSamplesRemaining.doubleValue() / candidateEdgesRemaining.doubleValue())) {
                     positiveSamplesRemaining.decrementAndGet();
                     selectedRelCount.increment();
                     selectedRelsBuilder.addFromInternal(graph.toRootNodeId(source), graph.toRootNodeId(target), POSITIVE);
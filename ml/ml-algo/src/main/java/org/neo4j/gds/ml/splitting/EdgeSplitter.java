@@ -31,11 +31,16 @@ import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.loading.construction.GraphFactory;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.atomic.LongAdder;
 
 public abstract class EdgeSplitter {
     public static final double POSITIVE = 1D;
@@ -45,14 +50,16 @@ public abstract class EdgeSplitter {
     protected final IdMap sourceNodes;
     protected final IdMap targetNodes;
     protected int concurrency;
+    private final boolean partitioned;
 
-    EdgeSplitter(Optional<Long> maybeSeed, IdMap sourceNodes, IdMap targetNodes, int concurrency) {
+    EdgeSplitter(Optional<Long> maybeSeed, IdMap sourceNodes, IdMap targetNodes, int concurrency, boolean partitioned) {
         this.rng = new Random();
         maybeSeed.ifPresent(rng::setSeed);
 
         this.sourceNodes = sourceNodes;
         this.targetNodes = targetNodes;
         this.concurrency = concurrency;
+        this.partitioned = partitioned;
     }
 
     public SplitResult splitPositiveExamples(
@@ -83,6 +90,17 @@ public abstract class EdgeSplitter {
             };
         }
 
+        if (partitioned) {
+            return partitionedPositiveSampling(
+                graph,
+                holdoutFraction,
+                isValidNodePair,
+                selectedRelsBuilder,
+                remainingRelsBuilder,
+                remainingRelsConsumer
+            );
+        }
+
         var validRelationshipCount = validPositiveRelationshipCandidateCount(graph, isValidNodePair);
 
         var positiveSamples = (long) (validRelationshipCount * holdoutFraction);
@@ -101,7 +119,8 @@ public abstract class EdgeSplitter {
                 nodeId,
                 isValidNodePair,
                 positiveSamplesRemaining,
-                candidateEdgesRemaining
+                candidateEdgesRemaining,
+                rng
             );
 
             return true;
@@ -124,12 +143,133 @@ public abstract class EdgeSplitter {
         long nodeId,
         LongLongPredicate isValidNodePair,
         MutableLong positiveSamplesRemaining,
-        MutableLong candidateEdgesRemaining
+        MutableLong candidateEdgesRemaining,
+        Random rng
     );
 
-    protected abstract long validPositiveRelationshipCandidateCount(Graph graph, LongLongPredicate isValidNodePair);
+    /**
+     * @return the number of positive candidates among the relationships of the given node,
+     *     in the same unit as the sample counts of {@link #positiveSampling}
+     */
+    protected abstract long validPositiveRelationshipCandidateCount(Graph graph, long nodeId, LongLongPredicate isValidNodePair);
+
+    /**
+     * The number of candidates a single selected relationship accounts for.
+     */
+    protected long candidatesPerSample() {
+        return 1;
+    }
+
+    protected long validPositiveRelationshipCandidateCount(Graph graph, LongLongPredicate isValidNodePair) {
+        var validRelationshipCountAdder = new LongAdder();
+
+        var countValidRelationshipTasks = PartitionUtils.rangePartition(
+            concurrency,
+            graph.nodeCount(),
+            partition -> (Runnable) () -> {
+                var concurrentGraph = graph.concurrentCopy();
+                partition.consume(nodeId -> validRelationshipCountAdder.add(
+                    validPositiveRelationshipCandidateCount(concurrentGraph, nodeId, isValidNodePair)
+                ));
+            }, Optional.empty()
+        );
+
+        RunWithConcurrency.builder().concurrency(concurrency).tasks(countValidRelationshipTasks).run();
+
+        return validRelationshipCountAdder.longValue();
+    }
+
+    /**
+     * Samples each node partition independently, with its own random stream and share of the positive samples.
+     * The partitions and random streams only depend on the seed and the node count, so the result is reproducible
+     * for any concurrency.
+     */
+    private SplitResult partitionedPositiveSampling(
+        Graph graph,
+        double holdoutFraction,
+        LongLongPredicate isValidNodePair,
+        RelationshipsBuilder selectedRelsBuilder,
+        RelationshipsBuilder remainingRelsBuilder,
+        RelationshipWithPropertyConsumer remainingRelsConsumer
+    ) {
+        List<Partition> partitions = PartitionedSampling.partitions(graph.nodeCount());
+        var partitionCandidates = new long[partitions.size()];
+
+        var countTasks = new ArrayList<Runnable>(partitions.size());
+        for (int i = 0; i < partitions.size(); i++) {
+            var partitionIndex = i;
+            countTasks.add(() -> {
+                var concurrentGraph = graph.concurrentCopy();
+                var candidates = new MutableLong();
+                partitions.get(partitionIndex).consume(nodeId -> candidates.add(
+                    validPositiveRelationshipCandidateCount(concurrentGraph, nodeId, isValidNodePair)
+                ));
+                partitionCandidates[partitionIndex] = candidates.longValue();
+            });
+        }
+        RunWithConcurrency.builder().concurrency(concurrency).tasks(countTasks).run();
+
+        long validRelationshipCount = 0;
+        for (long candidates : partitionCandidates) {
+            validRelationshipCount += candidates;
+        }
+
+        // distribute whole relationships, so that each partition can select exactly its share
+        var unit = candidatesPerSample();
+        var positiveSamples = (long) (validRelationshipCount * holdoutFraction);
+        var partitionSampleUnits = new long[partitions.size()];
+        for (int i = 0; i < partitions.size(); i++) {
+            partitionSampleUnits[i] = partitionCandidates[i] / unit;
+        }
+        var partitionSamples = PartitionedSampling.allocate((positiveSamples + unit - 1) / unit, partitionSampleUnits);
+
+        var randomStreams = PartitionedSampling.randomStreams(partitions.size(), rng.nextLong());
+        var selectedRelCount = new LongAdder();
+        var remainingRelCount = new LongAdder();
+
+        var samplingTasks = new ArrayList<Runnable>(partitions.size());
+        for (int i = 0; i < partitions.size(); i++) {
+            var partitionIndex = i;
+            samplingTasks.add(() -> {
+                var concurrentGraph = graph.concurrentCopy();
+                var partitionRng = new Random(randomStreams[partitionIndex].nextLong());
+                var partitionSelectedRelCount = new MutableLong(0);
+                var partitionRemainingRelCount = new MutableLong(0);
+                var positiveSamplesRemaining = new MutableLong(partitionSamples[partitionIndex] * unit);
+                var candidateEdgesRemaining = new MutableLong(partitionCandidates[partitionIndex]);
+
+                partitions.get(partitionIndex).consume(nodeId -> positiveSampling(
+                    concurrentGraph,
+                    selectedRelsBuilder,
+                    remainingRelsConsumer,
+                    partitionSelectedRelCount,
+                    partitionRemainingRelCount,
+                    nodeId,
+                    isValidNodePair,
+                    positiveSamplesRemaining,
+                    candidateEdgesRemaining,
+                    partitionRng
+                ));
+
+                selectedRelCount.add(partitionSelectedRelCount.longValue());
+                remainingRelCount.add(partitionRemainingRelCount.longValue());
+            });
+        }
+        RunWithConcurrency.builder().concurrency(concurrency).tasks(samplingTasks).run();
+
+        return SplitResult.of(
+            remainingRelsBuilder,
+            remainingRelCount.longValue(),
+            selectedRelsBuilder,
+            selectedRelCount.longValue()
+        );
+    }
 
     protected boolean sample(double probability) {
+        return sample(rng, probability);
+    }
+
+    protected static boolean sample(Random rng, double probability) {
         return rng.nextDouble() < probability;
     }
 
@@ -141,14 +281,23 @@ public abstract class EdgeSplitter {
     }
 
     RelationshipsBuilder newRelationshipsBuilderWithProp(Graph graph, Orientation orientation) {
-        return newRelationshipsBuilder(graph, orientation, true);
+        return newRelationshipsBuilder(graph, orientation, true, builderConcurrency());
     }
 
     RelationshipsBuilder newRelationshipsBuilder(Graph graph, Orientation orientation) {
-        return newRelationshipsBuilder(graph, orientation, false);
+        return newRelationshipsBuilder(graph, orientation, false, builderConcurrency());
+    }
+
+    private int builderConcurrency() {
+        return partitioned ? concurrency : 1;
     }
 
-    private static RelationshipsBuilder newRelationshipsBuilder(Graph graph, Orientation orientation, boolean loadRelationshipProperty) {
+    private static RelationshipsBuilder newRelationshipsBuilder(
+        Graph graph,
+        Orientation orientation,
+        boolean loadRelationshipProperty,
+        int concurrency
+    ) {
         return GraphFactory.initRelationshipsBuilder()
             .aggregation(Aggregation.SINGLE)
             .nodes(graph)
@@ -157,7 +306,7 @@ public abstract class EdgeSplitter {
                 ? List.of(GraphFactory.PropertyConfig.of(Aggregation.SINGLE, DefaultValue.forDouble()))
                 : List.of()
             )
-            .concurrency(1)
+            .concurrency(concurrency)
             .executorService(Pools.DEFAULT)
             .build();
     }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.splitting;
+
+import org.neo4j.gds.core.utils.partition.Partition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+/**
+ * Helpers for sampling relationships per node partition.
+ * The partitions only depend on the node count, so that a seeded sampling
+ * gives the same result for any concurrency.
+ */
+public final class PartitionedSampling {
+
+    private static final long MAX_PARTITIONS = 1024;
+    private static final long MIN_PARTITION_SIZE = 64;
+
+    private PartitionedSampling() {}
+
+    public static List<Partition> partitions(long nodeCount) {
+        long batchSize = Math.max(MIN_PARTITION_SIZE, (nodeCount + MAX_PARTITIONS - 1) / MAX_PARTITIONS);
+        return PartitionUtils.rangePartitionWithBatchSize(nodeCount, batchSize, Function.identity());
+    }
+
+    /**
+     * @return an independent random number stream per partition, derived from a single seed
+     */
+    public static SplittableRandom[] randomStreams(int partitionCount, long seed) {
+        var root = new SplittableRandom(seed);
+        var streams = new SplittableRandom[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            streams[i] = root.split();
+        }
+        return streams;
+    }
+
+    /**
+     * Distributes the samples over the partitions proportionally to their weights.
+     * The allocations sum up to exactly {@code samples}.
+     */
+    public static long[] allocate(long samples, long[] weights) {
+        long totalWeight = 0;
+        for (long weight : weights) {
+            totalWeight += weight;
+        }
+
+        var allocation = new long[weights.length];
+        if (totalWeight == 0) {
+            return allocation;
+        }
+
+        long cumulativeWeight = 0;
+        long allocated = 0;
+        for (int i = 0; i < weights.length; i++) {
+            cumulativeWeight += weights[i];
+            long cumulativeSamples = cumulativeWeight == totalWeight
+                ? samples
+                : (long) ((double) samples * cumulativeWeight / totalWeight);
+            allocation[i] = cumulativeSamples - allocated;
+            allocated = cumulativeSamples;
+        }
+        return allocation;
+    }
+}
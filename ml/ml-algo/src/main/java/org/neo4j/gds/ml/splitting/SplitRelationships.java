@@ -100,13 +100,15 @@ public final class SplitRelationships extends Algorithm<EdgeSplitter.SplitResult
             config.randomSeed(),
             sourceNodes,
             targetNodes,
-            config.concurrency()
+            config.concurrency(),
+            config.partitionedSplitting()
         )
             : new DirectedEdgeSplitter(
                 config.randomSeed(),
                 sourceNodes,
                 targetNodes,
-                config.concurrency()
+                config.concurrency(),
+                config.partitionedSplitting()
             );
 
         var splitResult =  splitter.splitPositiveExamples(
@@ -121,7 +123,9 @@ public final class SplitRelationships extends Algorithm<EdgeSplitter.SplitResult
             0,
             sourceNodes,
             targetNodes,
-            config.randomSeed()
+            config.randomSeed(),
+            config.concurrency(),
+            config.partitionedSplitting()
         );
 
         negativeSampler.produceNegativeSamples(splitResult.selectedRels(), null);
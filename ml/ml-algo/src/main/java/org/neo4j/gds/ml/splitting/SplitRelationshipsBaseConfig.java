@@ -49,6 +49,13 @@ public interface SplitRelationshipsBaseConfig extends AlgoBaseConfig, RandomSeed
 
     Optional<String> negativeRelationshipType();
 
+    /**
+     * Whether node partitions are sampled in parallel, each with its own random stream derived from the seed.
+     */
+    default boolean partitionedSplitting() {
+        return false;
+    }
+
     default List<String> sourceNodeLabels() {
         return List.of(ElementProjection.PROJECT_ALL);
     }
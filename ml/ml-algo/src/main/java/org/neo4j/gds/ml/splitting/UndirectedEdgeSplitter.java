@@ -24,12 +24,10 @@ import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.IdMap;
 import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
-import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
-import org.neo4j.gds.core.utils.partition.PartitionUtils;
 
 import java.util.Optional;
-import java.util.concurrent.atomic.LongAdder;
+import java.util.Random;
 
 
 /**
@@ -48,34 +46,40 @@ public class UndirectedEdgeSplitter extends EdgeSplitter {
         IdMap targetNodes,
         int concurrency
     ) {
-        super(maybeSeed, sourceNodes, targetNodes, concurrency);
+        this(maybeSeed, sourceNodes, targetNodes, concurrency, false);
     }
 
-    @Override
-    protected long validPositiveRelationshipCandidateCount(Graph graph, LongLongPredicate isValidNodePair) {
-        var validRelationshipCountAdder = new LongAdder();
-
-        var countValidRelationshipTasks = PartitionUtils.rangePartition(concurrency,
-            graph.nodeCount(),
-            partition -> (Runnable) () -> {
-                var concurrentGraph = graph.concurrentCopy();
-                partition.consume(nodeId -> concurrentGraph.forEachRelationship(nodeId, (s, t) -> {
-                    if (s < t) {
-                        //If one directed edge has valid labels, then increment count by 2 for undirected graph to get correct total positiveSamples count.
-                        //because we only do directed positiveSampling, which is choosing one of the positive undirected relationship.
-                        //Otherwise, if sourceNodeLabels != targetNodeLabels, positiveSamples will be too small.
-                        if (isValidNodePair.apply(s, t) || isValidNodePair.apply(t, s)) {
-                            validRelationshipCountAdder.add(2);
-                        }
-                    }
-                    return true;
-                }));
-            }, Optional.empty()
-        );
+    public UndirectedEdgeSplitter(
+        Optional<Long> maybeSeed,
+        IdMap sourceNodes,
+        IdMap targetNodes,
+        int concurrency,
+        boolean partitioned
+    ) {
+        super(maybeSeed, sourceNodes, targetNodes, concurrency, partitioned);
+    }
 
-        RunWithConcurrency.builder().concurrency(concurrency).tasks(countValidRelationshipTasks).run();
+    @Override
+    protected long validPositiveRelationshipCandidateCount(Graph graph, long nodeId, LongLongPredicate isValidNodePair) {
+        var validRelationshipCount = new MutableLong();
+        graph.forEachRelationship(nodeId, (s, t) -> {
+            if (s < t) {
+                //If one directed edge has valid labels, then increment count by 2 for undirected graph to get correct total positiveSamples count.
+                //because we only do directed positiveSampling, which is choosing one of the positive undirected relationship.
+                //Otherwise, if sourceNodeLabels != targetNodeLabels, positiveSamples will be too small.
+                if (isValidNodePair.apply(s, t) || isValidNodePair.apply(t, s)) {
+                    validRelationshipCount.add(2);
+                }
+            }
+            return true;
+        });
+        return validRelationshipCount.longValue();
+    }
 
-        return validRelationshipCountAdder.longValue();
+    @Override
+    protected long candidatesPerSample() {
+        // each selected undirected relationship accounts for both directions
+        return 2;
     }
 
     @Override
@@ -88,14 +92,15 @@ public class UndirectedEdgeSplitter extends EdgeSplitter {
         long nodeId,
         LongLongPredicate isValidNodePair,
         MutableLong positiveSamplesRemaining,
-        MutableLong candidateEdgesRemaining
+        MutableLong candidateEdgesRemaining,
+        Random rng
     ) {
         graph.forEachRelationship(nodeId, Double.NaN, (source, target, weight) -> {
             if (source < target) {
                 // we handle also reverse edge here
                 // the effect of self-loops are disregarded
                 if (isValidNodePair.apply(source, target) || isValidNodePair.apply(target, source)) {
-                    if (sample(positiveSamplesRemaining.doubleValue() / candidateEdgesRemaining.doubleValue())) {
+                    if (sample(rng, positiveSamplesRemaining.doubleValue() / candidateEdgesRemaining.doubleValue())) {
                         positiveSamplesRemaining.addAndGet(-2);
                         selectedRelCount.increment();
                         if (isValidNodePair.apply(source, target)) {
@@ -20,7 +20,10 @@
 package org.neo4j.gds.ml.training;
 
 import org.eclipse.collections.api.block.function.primitive.LongToLongFunction;
+import org.neo4j.gds.core.concurrency.ParallelUtil;
 import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.paged.ReadOnlyHugeLongArray;
 import org.neo4j.gds.core.utils.progress.tasks.LogLevel;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -36,9 +39,12 @@ import org.neo4j.gds.ml.splitting.StratifiedKFoldSplitter;
 import org.neo4j.gds.ml.splitting.TrainingExamplesSplit;
 
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.SortedSet;
+import java.util.stream.IntStream;
 
 import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
@@ -50,6 +56,8 @@ public class CrossValidation<MODEL_TYPE> {
     private final List<? extends Metric> metrics;
     private final int validationFolds;
     private final Optional<Long> randomSeed;
+    private final int concurrency;
+    private final int maxConcurrentTrainingJobs;
     private final ModelTrainer<MODEL_TYPE> modelTrainer;
     private final ModelEvaluator<MODEL_TYPE> modelEvaluator;
 
@@ -64,12 +72,29 @@ public class CrossValidation<MODEL_TYPE> {
         );
     }
 
+    /**
+     * The folds of a model candidate are trained concurrently, so the memory of a single fold is needed once per concurrent fold.
+     */
+    public static MemoryEstimation estimateConcurrentFolds(
+        MemoryEstimation foldEstimation,
+        int validationFolds,
+        int maxConcurrentTrainingJobs
+    ) {
+        int concurrentFolds = Math.min(validationFolds, maxConcurrentTrainingJobs);
+        if (concurrentFolds == 1) {
+            return foldEstimation;
+        }
+        return MemoryEstimations.andThen(foldEstimation, range -> range.times(concurrentFolds));
+    }
+
     public CrossValidation(
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag,
         List<? extends Metric> metrics,
         int validationFolds,
         Optional<Long> randomSeed,
+        int concurrency,
+        int maxConcurrentTrainingJobs,
         ModelTrainer<MODEL_TYPE> modelTrainer,
         ModelEvaluator<MODEL_TYPE> modelEvaluator
     ) {
@@ -78,6 +103,8 @@ public class CrossValidation<MODEL_TYPE> {
         this.metrics = metrics;
         this.validationFolds = validationFolds;
         this.randomSeed = randomSeed;
+        this.concurrency = concurrency;
+        this.maxConcurrentTrainingJobs = maxConcurrentTrainingJobs;
         this.modelTrainer = modelTrainer;
         this.modelEvaluator = modelEvaluator;
     }
@@ -99,6 +126,10 @@ public class CrossValidation<MODEL_TYPE> {
         ).splits();
         progressTracker.endSubTask("Create validation folds");
 
+        // the concurrency is shared between the folds trained at the same time
+        int concurrentFolds = Math.min(validationSplits.size(), Math.min(maxConcurrentTrainingJobs, concurrency));
+        int concurrencyPerFold = Math.max(1, concurrency / concurrentFolds);
+
         progressTracker.beginSubTask("Select best model");
         int trial = 0;
         while (modelCandidates.hasNext()) {
@@ -114,25 +145,31 @@ public class CrossValidation<MODEL_TYPE> {
                 modelParams.toMap()
             ));
 
+            var foldResults = new FoldResult[validationSplits.size()];
+            if (concurrentFolds == 1) {
+                for (int fold = 0; fold < validationSplits.size(); fold++) {
+                    foldResults[fold] = trainAndEvaluateFold(fold, validationSplits.get(fold), modelParams, concurrency);
+                }
+            } else {
+                ParallelUtil.parallelStreamConsume(
+                    IntStream.range(0, validationSplits.size()),
+                    concurrentFolds,
+                    terminationFlag,
+                    folds -> folds.forEach(fold -> foldResults[fold] = trainAndEvaluateFold(
+                        fold,
+                        validationSplits.get(fold),
+                        modelParams,
+                        concurrencyPerFold
+                    ))
+                );
+            }
+
+            // the scores are aggregated in fold order, independent of the order the folds finished in
             var validationStatsBuilder = new ModelStatsBuilder(validationSplits.size());
             var trainStatsBuilder = new ModelStatsBuilder(validationSplits.size());
-            var metricsHandler = ModelSpecificMetricsHandler.of(metrics, validationStatsBuilder);
-
-            int fold = 1;
-            for (TrainingExamplesSplit split : validationSplits) {
-                var trainSet = split.trainSet();
-                var validationSet = split.testSet();
-
-                progressTracker.logDebug("Starting fold " + fold + " training");
-                var trainedModel = modelTrainer.train(trainSet, modelParams, metricsHandler, LogLevel.DEBUG);
-                progressTracker.logDebug("Finished fold " + fold + " training");
-
-                modelEvaluator.evaluate(validationSet, trainedModel, validationStatsBuilder::update);
-                modelEvaluator.evaluate(trainSet, trainedModel, trainStatsBuilder::update);
-
-                progressTracker.logSteps(1);
-
-                fold++;
+            for (FoldResult foldResult : foldResults) {
+                foldResult.validationScores.forEach(validationStatsBuilder::update);
+                foldResult.trainScores.forEach(trainStatsBuilder::update);
             }
 
             var candidateStats = ModelCandidateStats.of(
@@ -170,18 +207,47 @@ public class CrossValidation<MODEL_TYPE> {
         progressTracker.endSubTask("Select best model");
     }
 
+    private FoldResult trainAndEvaluateFold(
+        int fold,
+        TrainingExamplesSplit split,
+        TrainerConfig modelParams,
+        int foldConcurrency
+    ) {
+        var trainSet = split.trainSet();
+        var validationSet = split.testSet();
+        var foldResult = new FoldResult();
+        var metricsHandler = ModelSpecificMetricsHandler.of(metrics, foldResult.validationScores::put);
+
+        progressTracker.logDebug("Starting fold " + (fold + 1) + " training");
+        var trainedModel = modelTrainer.train(trainSet, modelParams, metricsHandler, LogLevel.DEBUG, foldConcurrency);
+        progressTracker.logDebug("Finished fold " + (fold + 1) + " training");
+
+        modelEvaluator.evaluate(validationSet, trainedModel, foldResult.validationScores::put, foldConcurrency);
+        modelEvaluator.evaluate(trainSet, trainedModel, foldResult.trainScores::put, foldConcurrency);
+
+        progressTracker.logSteps(1);
+
+        return foldResult;
+    }
+
+    private static final class FoldResult {
+        private final Map<Metric, Double> validationScores = new LinkedHashMap<>();
+        private final Map<Metric, Double> trainScores = new LinkedHashMap<>();
+    }
+
     @FunctionalInterface
     public interface ModelTrainer<MODEL_TYPE> {
         MODEL_TYPE train(
             ReadOnlyHugeLongArray trainSet,
             TrainerConfig modelParameters,
             ModelSpecificMetricsHandler metricsHandler,
-            LogLevel messageLogLevel
+            LogLevel messageLogLevel,
+            int concurrency
         );
     }
 
     @FunctionalInterface
     public interface ModelEvaluator<MODEL_TYPE> {
-        void evaluate(ReadOnlyHugeLongArray evaluationSet, MODEL_TYPE model, MetricConsumer scoreConsumer);
+        void evaluate(ReadOnlyHugeLongArray evaluationSet, MODEL_TYPE model, MetricConsumer scoreConsumer, int concurrency);
     }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.decisiontree;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.api.schema.GraphSchema;
+import org.neo4j.gds.core.model.Model;
+import org.neo4j.gds.core.model.ModelDataFile;
+import org.neo4j.gds.ml.models.randomforest.ImmutableRandomForestClassifierData;
+import org.neo4j.gds.ml.models.randomforest.RandomForestClassifierData;
+import org.neo4j.gds.model.catalog.TestTrainConfig;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DecisionTreeSerializerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldRoundTripDecisionTrees() {
+        var root = new TreeNode<Integer>(0, 3.5);
+        var left = new TreeNode<Integer>(1, -1.0);
+        left.setLeftChild(new TreeNode<>(0));
+        left.setRightChild(new TreeNode<>(1));
+        root.setLeftChild(left);
+        root.setRightChild(new TreeNode<>(2));
+
+        var data = ImmutableRandomForestClassifierData.of(
+            2,
+            3,
+            List.of(new DecisionTreePredictor<>(root), new DecisionTreePredictor<>(new TreeNode<>(1)))
+        );
+
+        var file = tempDir.resolve("forest" + ModelDataFile.FILE_EXTENSION);
+        ModelDataFile.write(file, Model.of("testAlgo", GraphSchema.empty(), data, TestTrainConfig.of("user", "forest"), Map::of));
+        var loaded = (RandomForestClassifierData) ModelDataFile.readData(file);
+
+        assertThat(loaded.featureDimension()).isEqualTo(2);
+        assertThat(loaded.numberOfClasses()).isEqualTo(3);
+        assertThat(loaded.decisionTrees()).hasSize(2);
+
+        var tree = loaded.decisionTrees().get(0);
+        assertThat(tree.predict(new double[]{1.0, -2.0})).isEqualTo(0);
+        assertThat(tree.predict(new double[]{1.0, 2.0})).isEqualTo(1);
+        assertThat(tree.predict(new double[]{4.0, -2.0})).isEqualTo(2);
+        assertThat(tree.root().render()).isEqualTo(root.render());
+        assertThat(loaded.decisionTrees().get(1).predict(new double[]{4.0, 2.0})).isEqualTo(1);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.models;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.api.schema.GraphSchema;
+import org.neo4j.gds.core.model.Model;
+import org.neo4j.gds.core.model.ModelDataFile;
+import org.neo4j.gds.ml.core.functions.Weights;
+import org.neo4j.gds.ml.core.tensor.Matrix;
+import org.neo4j.gds.ml.core.tensor.Scalar;
+import org.neo4j.gds.ml.core.tensor.Vector;
+import org.neo4j.gds.ml.models.linearregression.ImmutableLinearRegressionData;
+import org.neo4j.gds.ml.models.linearregression.LinearRegressionData;
+import org.neo4j.gds.ml.models.logisticregression.ImmutableLogisticRegressionData;
+import org.neo4j.gds.ml.models.logisticregression.LogisticRegressionData;
+import org.neo4j.gds.ml.models.mlp.MLPClassifierData;
+import org.neo4j.gds.model.catalog.TestTrainConfig;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BaseModelDataSerializerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldRoundTripLogisticRegressionData() {
+        var data = ImmutableLogisticRegressionData.builder()
+            .weights(new Weights<>(new Matrix(new double[]{1, 2, 3, 4, 5, 6}, 2, 3)))
+            .bias(new Weights<>(new Vector(0.5, -0.5)))
+            .numberOfClasses(3)
+            .build();
+
+        var loaded = (LogisticRegressionData) roundTrip(data);
+
+        assertThat(loaded.numberOfClasses()).isEqualTo(3);
+        assertThat(loaded.featureDimension()).isEqualTo(3);
+        assertThat(loaded.weights().data().rows()).isEqualTo(2);
+        assertThat(loaded.weights().data().data()).containsExactly(1, 2, 3, 4, 5, 6);
+        assertThat(loaded.bias().data().data()).containsExactly(0.5, -0.5);
+    }
+
+    @Test
+    void shouldRoundTripLinearRegressionData() {
+        var data = ImmutableLinearRegressionData.builder()
+            .weights(new Weights<>(new Matrix(new double[]{0.25, 42}, 1, 2)))
+            .bias(new Weights<>(new Scalar(1.5)))
+            .build();
+
+        var loaded = (LinearRegressionData) roundTrip(data);
+
+        assertThat(loaded.weights().data().data()).containsExactly(0.25, 42);
+        assertThat(loaded.bias().data().value()).isEqualTo(1.5);
+    }
+
+    @Test
+    void shouldRoundTripMLPClassifierData() {
+        var data = MLPClassifierData.create(3, 4, List.of(5, 2), new SplittableRandom(42));
+
+        var loaded = (MLPClassifierData) roundTrip(data);
+
+        assertThat(loaded.depth()).isEqualTo(data.depth());
+        assertThat(loaded.numberOfClasses()).isEqualTo(3);
+        assertThat(loaded.featureDimension()).isEqualTo(4);
+        assertThat(loaded.weights()).hasSize(3);
+        for (int i = 0; i < data.weights().size(); i++) {
+            assertThat(loaded.weights().get(i).data().rows()).isEqualTo(data.weights().get(i).data().rows());
+            assertThat(loaded.weights().get(i).data().data()).containsExactly(data.weights().get(i).data().data());
+            assertThat(loaded.biases().get(i).data().data()).containsExactly(data.biases().get(i).data().data());
+        }
+    }
+
+    @Test
+    void shouldRoundTripDataLargerThanTheReadBuffer() {
+        var random = new SplittableRandom(42);
+        var weights = random.doubles(300 * 101).toArray();
+        var data = ImmutableLogisticRegressionData.builder()
+            .weights(new Weights<>(new Matrix(weights, 300, 101)))
+            .bias(new Weights<>(new Vector(random.doubles(300).toArray())))
+            .numberOfClasses(300)
+            .build();
+
+        var loaded = (LogisticRegressionData) roundTrip(data);
+
+        assertThat(loaded.weights().data().data()).containsExactly(weights);
+        assertThat(loaded.bias().data().data()).containsExactly(data.bias().data().data());
+    }
+
+    private Object roundTrip(Object data) {
+        var model = Model.of("testAlgo", GraphSchema.empty(), data, TestTrainConfig.of("user", "model"), Map::of);
+        assertThat(ModelDataFile.canSerialize(model)).isTrue();
+
+        var file = tempDir.resolve("model" + ModelDataFile.FILE_EXTENSION);
+        ModelDataFile.write(file, model);
+        return ModelDataFile.readData(file);
+    }
+}
@@ -23,6 +23,9 @@ import org.junit.jupiter.api.Test;
 import org.neo4j.gds.api.DefaultValue;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.Relationships;
+import org.neo4j.gds.beta.generator.RandomGraphGenerator;
+import org.neo4j.gds.beta.generator.RelationshipDistribution;
+import org.neo4j.gds.config.RandomGraphGeneratorConfig;
 import org.neo4j.gds.core.Aggregation;
 import org.neo4j.gds.core.loading.construction.GraphFactory;
 import org.neo4j.gds.core.loading.construction.RelationshipsBuilder;
@@ -98,4 +101,69 @@ class RandomNegativeSamplerTest {
 
     }
 
+    @Test
+    void partitionedSamplingShouldNotDependOnConcurrency() {
+        // large enough to be split into several sampling partitions
+        var generatedGraph = RandomGraphGenerator.builder()
+            .nodeCount(500)
+            .averageDegree(5)
+            .relationshipDistribution(RelationshipDistribution.UNIFORM)
+            .seed(123L)
+            .aggregation(Aggregation.SINGLE)
+            .allowSelfLoops(RandomGraphGeneratorConfig.AllowSelfLoops.NO)
+            .build()
+            .generate();
+        int testSampleCount = 100;
+        int trainSampleCount = 300;
+
+        var sequentialSets = producePartitionedNegativeSamples(generatedGraph, testSampleCount, trainSampleCount, 1);
+        var concurrentSets = producePartitionedNegativeSamples(generatedGraph, testSampleCount, trainSampleCount, 4);
+
+        assertThat(sequentialSets[0].topology().elementCount()).isEqualTo(testSampleCount);
+        assertThat(sequentialSets[1].topology().elementCount()).isEqualTo(trainSampleCount);
+
+        for (int i = 0; i < 2; i++) {
+            var sequentialGraph = GraphFactory.create(generatedGraph, sequentialSets[i]);
+            var concurrentGraph = GraphFactory.create(generatedGraph, concurrentSets[i]);
+            assertThat(concurrentGraph.relationshipCount()).isEqualTo(sequentialGraph.relationshipCount());
+            sequentialGraph.forEachNode(nodeId -> {
+                sequentialGraph.forEachRelationship(nodeId, (source, target) -> {
+                    assertThat(concurrentGraph.exists(source, target)).isTrue();
+                    assertThat(generatedGraph.exists(source, target)).isFalse();
+                    return true;
+                });
+                return true;
+            });
+        }
+    }
+
+    private static Relationships[] producePartitionedNegativeSamples(
+        Graph graph,
+        int testSampleCount,
+        int trainSampleCount,
+        int concurrency
+    ) {
+        var sampler = new RandomNegativeSampler(
+            graph,
+            testSampleCount,
+            trainSampleCount,
+            graph,
+            graph,
+            Optional.of(41L),
+            concurrency,
+            true
+        );
+
+        RelationshipsBuilder testBuilder = new RelationshipsBuilderBuilder().nodes(graph).addPropertyConfig(
+            GraphFactory.PropertyConfig.of(Aggregation.SINGLE, DefaultValue.forDouble())
+        ).build();
+        RelationshipsBuilder trainBuilder = new RelationshipsBuilderBuilder().nodes(graph).addPropertyConfig(
+            GraphFactory.PropertyConfig.of(Aggregation.SINGLE, DefaultValue.forDouble())
+        ).build();
+
+        sampler.produceNegativeSamples(testBuilder, trainBuilder);
+
+        return new Relationships[]{testBuilder.build(), trainBuilder.build()};
+    }
+
 }
@@ -215,6 +215,51 @@ class UndirectedEdgeSplitterTest extends EdgeSplitterBaseTest {
         assertTrue(holdoutAreEqual);
     }
 
+    @Test
+    void partitionedSplitShouldNotDependOnConcurrency() {
+        var graph = RandomGraphGenerator.builder()
+            .nodeCount(1000)
+            .averageDegree(10)
+            .relationshipDistribution(RelationshipDistribution.POWER_LAW)
+            .seed(123L)
+            .aggregation(Aggregation.SINGLE)
+            .orientation(Orientation.UNDIRECTED)
+            .allowSelfLoops(RandomGraphGeneratorConfig.AllowSelfLoops.NO)
+            .build()
+            .generate();
+
+        var sequentialResult = new UndirectedEdgeSplitter(
+            Optional.of(12L),
+            graph,
+            graph,
+            1,
+            true
+        ).splitPositiveExamples(graph, 0.3);
+        var concurrentResult = new UndirectedEdgeSplitter(
+            Optional.of(12L),
+            graph,
+            graph,
+            4,
+            true
+        ).splitPositiveExamples(graph, 0.3);
+
+        long expectedSelectedCount = ((long) (graph.relationshipCount() * 0.3) + 1) / 2;
+        assertThat(sequentialResult.selectedRelCount()).isEqualTo(expectedSelectedCount);
+        assertThat(concurrentResult.selectedRelCount()).isEqualTo(expectedSelectedCount);
+        assertThat(concurrentResult.remainingRelCount()).isEqualTo(graph.relationshipCount() / 2 - expectedSelectedCount);
+
+        assertTrue(relationshipsAreEqual(
+            graph,
+            sequentialResult.remainingRels().build(),
+            concurrentResult.remainingRels().build()
+        ));
+        assertTrue(relationshipsAreEqual(
+            graph,
+            sequentialResult.selectedRels().build(),
+            concurrentResult.selectedRels().build()
+        ));
+    }
+
     @Test
     void shouldProduceNonDeterministicResult() {
         var graph = RandomGraphGenerator.builder()
@@ -27,6 +27,7 @@ import org.neo4j.gds.compat.TestLog;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.paged.ReadOnlyHugeLongArray;
 import org.neo4j.gds.core.utils.progress.EmptyTaskRegistryFactory;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.ml.core.subgraph.LocalIdMap;
 import org.neo4j.gds.ml.metrics.Metric;
@@ -64,8 +65,10 @@ class CrossValidationTest {
             metrics,
             3,
             Optional.empty(),
-            (trainSet, modelParameters, metricsHandler, messageLogLevel) -> 0L,
-            (evaluationSet, model, scoreConsumer) -> { scoreConsumer.consume(metrics.get(0), 0); }
+            4,
+            1,
+            (trainSet, modelParameters, metricsHandler, messageLogLevel, concurrency) -> 0L,
+            (evaluationSet, model, scoreConsumer, concurrency) -> { scoreConsumer.consume(metrics.get(0), 0); }
         );
 
         progressTracker.beginSubTask("test");
@@ -110,4 +113,48 @@ class CrossValidationTest {
             );
     }
 
+    @Test
+    void concurrentFoldsShouldYieldSameStatistics() {
+        List<Metric> metrics = List.of(new F1Macro(LocalIdMap.of(0)));
+
+        var sequentialStatistics = selectModel(metrics, 1);
+        var concurrentStatistics = selectModel(metrics, 3);
+
+        assertThat(concurrentStatistics.getValidationStats(metrics.get(0)))
+            .isEqualTo(sequentialStatistics.getValidationStats(metrics.get(0)));
+        assertThat(concurrentStatistics.getTrainStats(metrics.get(0)))
+            .isEqualTo(sequentialStatistics.getTrainStats(metrics.get(0)));
+        assertThat(concurrentStatistics.getBestTrialIdx()).isEqualTo(sequentialStatistics.getBestTrialIdx());
+    }
+
+    private static TrainingStatistics selectModel(List<Metric> metrics, int maxConcurrentTrainingJobs) {
+        var trainingStatistics = new TrainingStatistics(metrics);
+
+        var crossValidation = new CrossValidation<>(
+            ProgressTracker.NULL_TRACKER,
+            TerminationFlag.RUNNING_TRUE,
+            metrics,
+            3,
+            Optional.of(42L),
+            4,
+            maxConcurrentTrainingJobs,
+            (trainSet, modelParameters, metricsHandler, messageLogLevel, concurrency) -> trainSet.get(0),
+            // the score depends on the fold, so the aggregated statistics depend on the order of the folds
+            (evaluationSet, model, scoreConsumer, concurrency) -> scoreConsumer.consume(
+                metrics.get(0),
+                model * 10 + evaluationSet.size()
+            )
+        );
+
+        crossValidation.selectModel(
+            ReadOnlyHugeLongArray.of(0, 1, 2, 3, 4, 5, 6, 7, 8),
+            (LongToLongFunction) longParameter -> 0,
+            new TreeSet<>(List.of(0L)),
+            trainingStatistics,
+            List.<TrainerConfig>of(new TestTrainerConfig("a"), new TestTrainerConfig("b")).iterator()
+        );
+
+        return trainingStatistics;
+    }
+
 }
@@ -22,27 +22,69 @@ package org.neo4j.gds.ml.core;
 import org.apache.commons.lang3.mutable.MutableInt;
 import org.jetbrains.annotations.TestOnly;
 import org.neo4j.gds.ml.core.functions.SingleParentVariable;
+import org.neo4j.gds.ml.core.tensor.Matrix;
 import org.neo4j.gds.ml.core.tensor.Tensor;
+import org.neo4j.gds.ml.core.tensor.TensorArena;
+import org.neo4j.gds.ml.core.tensor.Vector;
 
+import java.util.ArrayDeque;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.stream.Collectors;
 
 /**
  * The computation context is used for forward and backward propagation over a computation graphs consiting of {@link org.neo4j.gds.ml.core.Variable}s.
+ * Variables allocate their results through the context, which draws them from a {@link TensorArena}.
+ * A context can be {@link #reset()} and reused for the next batch, which recycles all tensors it handed out.
  * This implementation is not thread-safe!
  */
 public class ComputationContext {
     private final Map<Variable<?>, Tensor<?>> data;
     private final Map<Variable<?>, Tensor<?>> gradients;
+    private final Map<Variable<?>, MutableInt> upstreamCounters;
+    private final Queue<BackPropTask> executionQueue;
+    private final TensorArena arena;
 
     public ComputationContext() {
         this.data = new HashMap<>();
         this.gradients = new HashMap<>();
+        this.upstreamCounters = new HashMap<>();
+        this.executionQueue = new ArrayDeque<>();
+        this.arena = new TensorArena();
+    }
+
+    /**
+     * Forgets all computed data and gradients and recycles the tensors allocated through this context.
+     * Tensors obtained from this context before the reset must not be used afterwards.
+     */
+    public void reset() {
+        data.clear();
+        gradients.clear();
+        arena.releaseAll();
+    }
+
+    /**
+     * Allocates a zeroed matrix which lives until this context is {@link #reset()}.
+     */
+    public Matrix matrix(int rows, int cols) {
+        return arena.matrix(rows, cols);
+    }
+
+    /**
+     * Allocates a zeroed vector which lives until this context is {@link #reset()}.
+     */
+    public Vector vector(int length) {
+        return arena.vector(length);
+    }
+
+    /**
+     * Allocates a zeroed tensor of the same type and dimensions as the given one which lives until this context is {@link #reset()}.
+     */
+    public <T extends Tensor<T>> T zerosLike(T tensor) {
+        return arena.zerosLike(tensor);
     }
 
     // Only one forward call is expected for the caching strategy
@@ -72,15 +114,15 @@ public class ComputationContext {
         assert function.requireGradient() : "Root variable must have requireGradient==true";
 
         gradients.clear();
-        Queue<BackPropTask> executionQueue = new LinkedBlockingQueue<>();
+        executionQueue.clear();
+        upstreamCounters.clear();
         var dummy = new PassThroughVariable<>(function);
         executionQueue.add(new BackPropTask(function, dummy));
-        Map<Variable<?>, MutableInt> upstreamCounters = new HashMap<>();
-        initUpstream(dummy, upstreamCounters);
-        backward(executionQueue, upstreamCounters);
+        initUpstream(dummy);
+        backward();
     }
 
-    private void backward(Queue<BackPropTask> executionQueue, Map<Variable<?>, MutableInt> upstreamCounters) {
+    private void backward() {
         while (!executionQueue.isEmpty()) {
             BackPropTask task = executionQueue.poll();
             var variable = task.variable;
@@ -98,12 +140,12 @@ public class ComputationContext {
         }
     }
 
-    private void initUpstream(Variable<?> function, Map<Variable<?>, MutableInt> upstreamCounters) {
+    private void initUpstream(Variable<?> function) {
         for (Variable<?> parent : function.parents()) {
             if (parent.requireGradient()) {
                 boolean firstToSeeParent = !upstreamCounters.containsKey(parent);
                 if (firstToSeeParent) {
-                    initUpstream(parent, upstreamCounters);
+                    initUpstream(parent);
                     upstreamCounters.put(parent, new MutableInt(0));
                 }
                 upstreamCounters.get(parent).increment();
@@ -190,7 +232,9 @@ public class ComputationContext {
         @Override
         public T gradientForParent(ComputationContext ctx) {
             // initialize gradient computation with `1`
-            return ctx.data(parent).map(v -> 1);
+            var gradient = ctx.zerosLike(ctx.data(parent));
+            gradient.mapInPlace(v -> 1);
+            return gradient;
         }
     }
 }
@@ -35,12 +35,22 @@ public class ConstantScale<T extends Tensor<T>> extends SingleParentVariable<T,
 
     @Override
     public T apply(ComputationContext ctx) {
-        return ctx.data(parent).scalarMultiply(constant);
+        return scale(ctx.data(parent), ctx);
     }
 
     @Override
     protected T gradientForParent(ComputationContext ctx) {
-        return ctx.gradient(this).scalarMultiply(constant);
+        return scale(ctx.gradient(this), ctx);
+    }
+
+    private T scale(T tensor, ComputationContext ctx) {
+        var result = ctx.zerosLike(tensor);
+        var values = tensor.data();
+        var resultValues = result.data();
+        for (int i = 0; i < resultValues.length; i++) {
+            resultValues[i] = values[i] * constant;
+        }
+        return result;
     }
 
     @Override
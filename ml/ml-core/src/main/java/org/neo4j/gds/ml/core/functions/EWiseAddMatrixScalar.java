@@ -47,7 +47,13 @@ public class EWiseAddMatrixScalar extends AbstractVariable<Matrix> {
         var matrix = ctx.data(matrixVariable);
         double scalarValue = ctx.data(scalarVariable).value();
 
-        return matrix.map(v -> v + scalarValue);
+        var result = ctx.zerosLike(matrix);
+        var values = matrix.data();
+        var resultValues = result.data();
+        for (int i = 0; i < resultValues.length; i++) {
+            resultValues[i] = values[i] + scalarValue;
+        }
+        return result;
     }
 
     @Override
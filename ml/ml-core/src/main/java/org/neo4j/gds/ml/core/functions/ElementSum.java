@@ -26,6 +26,7 @@ import org.neo4j.gds.ml.core.Variable;
 import org.neo4j.gds.ml.core.tensor.Scalar;
 import org.neo4j.gds.ml.core.tensor.Tensor;
 
+import java.util.Arrays;
 import java.util.List;
 
 public class ElementSum extends AbstractVariable<Scalar> {
@@ -46,6 +47,8 @@ public class ElementSum extends AbstractVariable<Scalar> {
     @Override
     public Tensor<?> gradient(Variable<?> parent, ComputationContext ctx) {
         double selfGradient = ctx.gradient(this).value();
-        return ctx.data(parent).map(ignore -> selfGradient);
+        var gradient = ctx.zerosLike(ctx.data(parent));
+        Arrays.fill(gradient.data(), selfGradient);
+        return gradient;
     }
 }
@@ -25,6 +25,8 @@ import org.neo4j.gds.ml.core.Variable;
 import org.neo4j.gds.ml.core.subgraph.BatchNeighbors;
 import org.neo4j.gds.ml.core.tensor.Matrix;
 
+import java.util.Arrays;
+
 
 public class ElementWiseMax extends SingleParentVariable<Matrix, Matrix> {
     public static final int INVALID_NEIGHBOR = -1;
@@ -48,7 +50,8 @@ public class ElementWiseMax extends SingleParentVariable<Matrix, Matrix> {
         var cols = parentData.cols();
         var batchIds = batchNeighbors.batchIds();
 
-        var max = Matrix.create(Double.NEGATIVE_INFINITY, rows, cols);
+        var max = ctx.matrix(rows, cols);
+        Arrays.fill(max.data(), Double.NEGATIVE_INFINITY);
 
         for (int batchIdx = 0; batchIdx < rows; batchIdx++) {
             // node-ids respond to rows in parentData
@@ -78,7 +81,7 @@ public class ElementWiseMax extends SingleParentVariable<Matrix, Matrix> {
 
     @Override
     public Matrix gradientForParent(ComputationContext ctx) {
-        var result = ctx.data(parent).createWithSameDimensions();
+        var result = ctx.zerosLike(ctx.data(parent));
 
         var cols = result.cols();
 
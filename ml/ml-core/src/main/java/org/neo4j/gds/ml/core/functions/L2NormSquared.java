@@ -52,6 +52,13 @@ public class L2NormSquared<T extends Tensor<T>> extends SingleParentVariable<T,
     @Override
     public T gradientForParent(ComputationContext ctx) {
         double selfGradient = ctx.gradient(this).value();
-        return ctx.data(parent).scalarMultiply(2 * selfGradient);
+        var parentData = ctx.data(parent);
+        var gradient = ctx.zerosLike(parentData);
+        var parentValues = parentData.data();
+        var gradientValues = gradient.data();
+        for (int i = 0; i < gradientValues.length; i++) {
+            gradientValues[i] = parentValues[i] * 2 * selfGradient;
+        }
+        return gradient;
     }
 }
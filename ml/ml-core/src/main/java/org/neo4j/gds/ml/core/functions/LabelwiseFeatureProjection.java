@@ -58,7 +58,9 @@ public class LabelwiseFeatureProjection extends AbstractVariable<Matrix> {
 
     @Override
     public Matrix apply(ComputationContext ctx) {
-        var result = new Matrix(nodeIds.length, projectedFeatureDimension);
+        var result = ctx.matrix(nodeIds.length, projectedFeatureDimension);
+        // every weight matrix projects into the same dimension, so the product buffer is shared across nodes
+        var productVector = ctx.matrix(projectedFeatureDimension, 1);
 
         // TODO rewrite this into one mxm per label (with a read-only lazy feature matrix per label)
         for (int batchIdx = 0; batchIdx < nodeIds.length; batchIdx++) {
@@ -68,7 +70,6 @@ public class LabelwiseFeatureProjection extends AbstractVariable<Matrix> {
             double[] nodeFeatures = features.get(nodeId);
 
             var wrappedNodeFeatureVector = new Matrix(nodeFeatures, 1, nodeFeatures.length);
-            var productVector = new Matrix(weights.dimension(0), 1);
             DoubleMatrixOperations.multTransB(
                 weights.data(),
                 wrappedNodeFeatureVector,
@@ -88,7 +89,8 @@ public class LabelwiseFeatureProjection extends AbstractVariable<Matrix> {
         var thisGradient = ctx.gradient(this);
         int rows = parent.dimension(Dimensions.ROWS_INDEX);
         int cols = parent.dimension(Dimensions.COLUMNS_INDEX);
-        double[] gradientData = new double[rows * cols];
+        var gradient = ctx.matrix(rows, cols);
+        double[] gradientData = gradient.data();
 
         IntStream.range(0, nodeIds.length).forEach(batchIdx -> {
             long nodeId = nodeIds[batchIdx];
@@ -108,6 +110,6 @@ public class LabelwiseFeatureProjection extends AbstractVariable<Matrix> {
                 }
             }
         });
-        return new Matrix(gradientData, rows, cols);
+        return gradient;
     }
 }
@@ -53,16 +53,20 @@ public class MatrixMultiplyWithTransposedSecondOperand extends AbstractVariable<
 
     @Override
     public Matrix apply(ComputationContext ctx) {
-        return ctx.data(A).multiplyTransB(ctx.data(B));
+        var a = ctx.data(A);
+        var b = ctx.data(B);
+        return a.multiplyTransB(b, ctx.matrix(a.rows(), b.rows()));
     }
 
     @Override
     public Matrix gradient(Variable<?> parent, ComputationContext ctx) {
         var gradient = ctx.gradient(this);
         if (parent == A) {
-            return gradient.multiply(ctx.data(B));
+            var b = ctx.data(B);
+            return gradient.multiply(b, ctx.matrix(gradient.rows(), b.cols()));
         } else {
-            return gradient.multiplyTransA(ctx.data(A));
+            var a = ctx.data(A);
+            return gradient.multiplyTransA(a, ctx.matrix(gradient.cols(), a.cols()));
         }
     }
 
@@ -50,7 +50,8 @@ public class MatrixVectorSum extends AbstractVariable<Matrix> {
 
     @Override
     public Matrix apply(ComputationContext ctx) {
-        return ctx.data(matrix).sumBroadcastColumnWise(ctx.data(vector));
+        var matrixData = ctx.data(matrix);
+        return matrixData.sumBroadcastColumnWise(ctx.data(vector), ctx.zerosLike(matrixData));
     }
 
     @Override
@@ -58,7 +59,8 @@ public class MatrixVectorSum extends AbstractVariable<Matrix> {
         if (parent == matrix) {
             return ctx.gradient(this);
         } else {
-            return ctx.gradient(this).sumPerColumn();
+            var selfGradient = ctx.gradient(this);
+            return selfGradient.sumPerColumn(ctx.vector(selfGradient.cols()));
         }
     }
 }
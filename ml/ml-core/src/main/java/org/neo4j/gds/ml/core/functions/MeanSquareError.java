@@ -75,7 +75,7 @@ public class MeanSquareError extends AbstractVariable<Scalar> {
         var otherParentData = parent == predictions ? ctx.data(targets) : ctx.data(predictions);
 
         var length = parentData.totalSize();
-        var parentGradient = parentData.createWithSameDimensions();
+        var parentGradient = ctx.zerosLike(ctx.data(parent));
         double scale = 2 * ctx.gradient(this).dataAt(0) / length;
         for (int i = 0; i < length; i++) {
             double error = parentData.dataAt(i) - otherParentData.dataAt(i);
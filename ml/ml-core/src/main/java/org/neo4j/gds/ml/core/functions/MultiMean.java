@@ -51,7 +51,7 @@ public class MultiMean extends SingleParentVariable<Matrix, Matrix> {
 
         int cols = parentData.cols();
 
-        var resultMeans = Matrix.create(0, batchSize, cols);
+        var resultMeans = ctx.matrix(batchSize, cols);
 
         for (int batchIdx = 0; batchIdx < batchSize; batchIdx++) {
             // node-ids respond to rows in parentData
@@ -86,7 +86,7 @@ public class MultiMean extends SingleParentVariable<Matrix, Matrix> {
     @Override
     public Matrix gradientForParent(ComputationContext ctx) {
         var multiMeanGradient = ctx.gradient(this);
-        var resultGradient = ctx.data(parent).createWithSameDimensions();
+        var resultGradient = ctx.zerosLike(ctx.data(parent));
 
         int cols = resultGradient.cols();
         var batchIds = this.subGraph.batchIds();
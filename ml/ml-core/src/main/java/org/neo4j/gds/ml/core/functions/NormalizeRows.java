@@ -37,7 +37,7 @@ public class NormalizeRows extends SingleParentVariable<Matrix, Matrix> {
         int rows = parentMatrix.rows();
         int cols = parentMatrix.cols();
 
-        var result = parentMatrix.createWithSameDimensions();
+        var result = ctx.zerosLike(parentMatrix);
         for (int row = 0; row < rows; row++) {
             double squaredSum = 0;
             for (int col = 0; col < cols; col++) {
@@ -58,7 +58,7 @@ public class NormalizeRows extends SingleParentVariable<Matrix, Matrix> {
         Matrix parentData = ctx.data(parent);
         Matrix normalizeRowsGradient = ctx.gradient(this);
 
-        Matrix parentGradient = parentData.createWithSameDimensions();
+        Matrix parentGradient = ctx.zerosLike(parentData);
         int rows = parentData.rows();
         int cols = parentData.cols();
 
@@ -75,19 +75,16 @@ public class NormalizeRows extends SingleParentVariable<Matrix, Matrix> {
                 continue;
             }
 
+            // gradient[col] = (grad[col] * l2^2 - x[col] * sum_{gradCol} grad[gradCol] * x[gradCol]) / l2^3
+            double weightedGradientSum = 0;
+            for (int gradCol = 0; gradCol < cols; gradCol++) {
+                weightedGradientSum += normalizeRowsGradient.dataAt(row, gradCol) * parentData.dataAt(row, gradCol);
+            }
+
             for (int col = 0; col < cols; col++) {
                 double parentCellValue = parentData.dataAt(row, col);
-                for (int gradCol = 0; gradCol < cols; gradCol++) {
-                    double partialGradient;
-                    if (col == gradCol) {
-                        partialGradient = normalizeRowsGradient.dataAt(row, col) * (l2Squared - parentCellValue * parentCellValue);
-                    } else {
-                        partialGradient = -normalizeRowsGradient.dataAt(row, gradCol) * (parentCellValue * parentData.dataAt(row, gradCol));
-                    }
-                    parentGradient.addDataAt(row, col, partialGradient);
-                }
-
-                parentGradient.setDataAt(row, col, parentGradient.dataAt(row, col) / l2Cubed);
+                double partialGradient = normalizeRowsGradient.dataAt(row, col) * l2Squared - parentCellValue * weightedGradientSum;
+                parentGradient.setDataAt(row, col, partialGradient / l2Cubed);
             }
         }
 
@@ -38,13 +38,27 @@ public class Relu<T extends Tensor<T>> extends SingleParentVariable<T, T> {
 
     @Override
     public T apply(ComputationContext ctx) {
-        return ctx.data(parent).map(value -> (value > 0) ? value : (alpha * value));
+        var parentData = ctx.data(parent);
+        var result = ctx.zerosLike(parentData);
+        var parentValues = parentData.data();
+        var resultValues = result.data();
+        for (int i = 0; i < resultValues.length; i++) {
+            var value = parentValues[i];
+            resultValues[i] = (value > 0) ? value : (alpha * value);
+        }
+        return result;
     }
 
     @Override
     public T gradientForParent(ComputationContext ctx) {
-        T gradient = ctx.data(parent).map(value -> value > 0 ? 1 : alpha);
-        gradient.elementwiseProductMutate(ctx.gradient(this));
+        var parentData = ctx.data(parent);
+        var parentValues = parentData.data();
+        var selfGradient = ctx.gradient(this).data();
+        T gradient = ctx.zerosLike(parentData);
+        var gradientValues = gradient.data();
+        for (int i = 0; i < gradientValues.length; i++) {
+            gradientValues[i] = (parentValues[i] > 0 ? 1 : alpha) * selfGradient[i];
+        }
         return gradient;
     }
 }
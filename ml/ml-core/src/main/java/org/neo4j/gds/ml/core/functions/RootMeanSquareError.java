@@ -75,7 +75,7 @@ public class RootMeanSquareError extends AbstractVariable<Scalar> {
             var numberOfExamples = ctx.data(targetsVar).length();
             var rootOfSumOfSquareErrorOverN = ctx.data(this);
 
-            var parentGradient = ctx.data(parent).createWithSameDimensions();
+            var parentGradient = ctx.zerosLike(ctx.data(parent));
             if (Double.compare(rootOfSumOfSquareErrorOverN.value(), 0) == 0) {
                 return parentGradient;
             }
@@ -36,14 +36,27 @@ public class Sigmoid<T extends Tensor<T>> extends SingleParentVariable<T, T> {
 
     @Override
     public T apply(ComputationContext ctx) {
-        return ctx.data(parent).map(Sigmoid::sigmoid);
+        var parentData = ctx.data(parent);
+        var result = ctx.zerosLike(parentData);
+        var parentValues = parentData.data();
+        var resultValues = result.data();
+        for (int i = 0; i < resultValues.length; i++) {
+            resultValues[i] = sigmoid(parentValues[i]);
+        }
+        return result;
     }
 
     @Override
     public T gradientForParent(ComputationContext ctx) {
-        T result = ctx.data(this).map(value -> value * (1 - value));
-        result.elementwiseProductMutate(ctx.gradient(this));
-
+        var selfData = ctx.data(this);
+        var selfValues = selfData.data();
+        var selfGradient = ctx.gradient(this).data();
+        T result = ctx.zerosLike(selfData);
+        var resultValues = result.data();
+        for (int i = 0; i < resultValues.length; i++) {
+            var value = selfValues[i];
+            resultValues[i] = value * (1 - value) * selfGradient[i];
+        }
         return result;
     }
 
@@ -39,7 +39,7 @@ public class Softmax extends SingleParentVariable<Matrix, Matrix> {
         int rows = data.rows();
         int cols = data.cols();
 
-        var result = data.createWithSameDimensions();
+        var result = ctx.zerosLike(data);
         boolean rescale = false;
         for (int row = 0; row < rows; row++) {
             double rowSum = 1e-15;
@@ -98,21 +98,22 @@ public class Softmax extends SingleParentVariable<Matrix, Matrix> {
         int rows = selfData.rows();
         int cols = selfData.cols();
 
-        var computedGradient = Matrix.create(0.0, rows, cols);
+        var computedGradient = ctx.zerosLike(selfData);
 
         // result[row,col] = sum_{col2} s[row, col2] * (delta(col, col2) - s[row, col]) * grad[row, col2]
+        //                 = s[row, col] * (grad[row, col] - sum_{col2} s[row, col2] * grad[row, col2])
         for (int row = 0; row < rows; row++) {
+            int rowOffset = row * cols;
+            double weightedGradientSum = 0;
             for (int col = 0; col < cols; col++) {
-                var indexToUpdate = row * cols + col;
-                var softmaxData = selfData.dataAt(indexToUpdate);
-                for (int softmaxCol = 0; softmaxCol < cols; softmaxCol++) {
-                    computedGradient.addDataAt(
-                        indexToUpdate,
-                        selfData.dataAt(row * cols + softmaxCol) *
-                        ((col == softmaxCol ? 1 : 0) - softmaxData) *
-                        selfGradient.dataAt(row * cols + softmaxCol)
-                    );
-                }
+                weightedGradientSum += selfData.dataAt(rowOffset + col) * selfGradient.dataAt(rowOffset + col);
+            }
+            for (int col = 0; col < cols; col++) {
+                var index = rowOffset + col;
+                computedGradient.setDataAt(
+                    index,
+                    selfData.dataAt(index) * (selfGradient.dataAt(index) - weightedGradientSum)
+                );
             }
         }
         return computedGradient;
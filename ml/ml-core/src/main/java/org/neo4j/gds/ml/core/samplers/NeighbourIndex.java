@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.core.samplers;
+
+import com.carrotsearch.hppc.sorting.IndirectSort;
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.api.RelationshipWithPropertyConsumer;
+import org.neo4j.gds.core.concurrency.RunWithConcurrency;
+import org.neo4j.gds.core.utils.AscendingLongComparator;
+import org.neo4j.gds.core.utils.mem.MemoryEstimation;
+import org.neo4j.gds.core.utils.mem.MemoryEstimations;
+import org.neo4j.gds.core.utils.mem.MemoryRange;
+import org.neo4j.gds.core.utils.paged.HugeDoubleArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.core.utils.partition.DegreePartition;
+import org.neo4j.gds.core.utils.partition.PartitionUtils;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * A compact copy of the adjacency of a graph, with the targets of every node sorted
+ * and, for weighted graphs, the prefix sums of the relationship weights next to them.
+ *
+ * Drawing a weighted random neighbour is a binary search over the prefix sums and
+ * checking whether two nodes are adjacent is a binary search over the sorted targets,
+ * so both take O(log(degree)) instead of a scan over the adjacency list.
+ */
+public final class NeighbourIndex {
+
+    public static final long NO_NEIGHBOUR = -1;
+
+    private final HugeLongArray offsets;
+    private final HugeLongArray targets;
+    private final @Nullable HugeDoubleArray cumulativeWeights;
+
+    public static MemoryEstimation memoryEstimation(boolean weighted) {
+        var builder = MemoryEstimations.builder(NeighbourIndex.class)
+            .perNode("offsets", nodeCount -> HugeLongArray.memoryEstimation(nodeCount + 1))
+            .perGraphDimension("targets", (dimensions, concurrency) ->
+                MemoryRange.of(HugeLongArray.memoryEstimation(dimensions.relCountUpperBound()))
+            );
+
+        if (weighted) {
+            builder.perGraphDimension("cumulative weights", (dimensions, concurrency) ->
+                MemoryRange.of(HugeDoubleArray.memoryEstimation(dimensions.relCountUpperBound()))
+            );
+        }
+
+        return builder.build();
+    }
+
+    public static NeighbourIndex create(
+        Graph graph,
+        int concurrency,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
+    ) {
+        var nodeCount = graph.nodeCount();
+        var offsets = HugeLongArray.newArray(nodeCount + 1);
+
+        long offset = 0;
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            offsets.set(nodeId, offset);
+            offset += graph.degree(nodeId);
+        }
+        offsets.set(nodeCount, offset);
+
+        var targets = HugeLongArray.newArray(offset);
+        var cumulativeWeights = graph.hasRelationshipProperty() ? HugeDoubleArray.newArray(offset) : null;
+
+        var tasks = PartitionUtils.degreePartition(
+            graph,
+            concurrency,
+            partition -> new FillTask(
+                graph.concurrentCopy(),
+                partition,
+                offsets,
+                targets,
+                cumulativeWeights,
+                progressTracker
+            ),
+            Optional.empty()
+        );
+
+        RunWithConcurrency.builder()
+            .concurrency(concurrency)
+            .tasks(tasks)
+            .executor(executorService)
+            .run();
+
+        return new NeighbourIndex(offsets, targets, cumulativeWeights);
+    }
+
+    private NeighbourIndex(
+        HugeLongArray offsets,
+        HugeLongArray targets,
+        @Nullable HugeDoubleArray cumulativeWeights
+    ) {
+        this.offsets = offsets;
+        this.targets = targets;
+        this.cumulativeWeights = cumulativeWeights;
+    }
+
+    public int degree(long nodeId) {
+        return Math.toIntExact(offsets.get(nodeId + 1) - offsets.get(nodeId));
+    }
+
+    /**
+     * Draws a neighbour of the given node with a probability proportional to the relationship weight,
+     * or uniformly if the graph is unweighted.
+     *
+     * @return the target node id or {@link #NO_NEIGHBOUR} if the node has no relationships
+     */
+    public long sample(long nodeId, SplittableRandom random) {
+        var start = offsets.get(nodeId);
+        var end = offsets.get(nodeId + 1);
+
+        if (start == end) {
+            return NO_NEIGHBOUR;
+        }
+
+        if (cumulativeWeights == null) {
+            return targets.get(start + random.nextLong(end - start));
+        }
+
+        var threshold = cumulativeWeights.get(end - 1) * random.nextDouble();
+
+        // find the first position whose cumulative weight reaches the threshold
+        var low = start;
+        var high = end - 1;
+        while (low < high) {
+            var mid = (low + high) >>> 1;
+            if (cumulativeWeights.get(mid) < threshold) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return targets.get(low);
+    }
+
+    public boolean contains(long sourceNodeId, long targetNodeId) {
+        var low = offsets.get(sourceNodeId);
+        var high = offsets.get(sourceNodeId + 1) - 1;
+
+        while (low <= high) {
+            var mid = (low + high) >>> 1;
+            var midTarget = targets.get(mid);
+            if (midTarget < targetNodeId) {
+                low = mid + 1;
+            } else if (midTarget > targetNodeId) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static final class FillTask implements Runnable, RelationshipWithPropertyConsumer {
+
+        private final Graph graph;
+        private final DegreePartition partition;
+        private final HugeLongArray offsets;
+        private final HugeLongArray targets;
+        private final @Nullable HugeDoubleArray cumulativeWeights;
+        private final ProgressTracker progressTracker;
+
+        private long position;
+        private long lastTarget;
+        private boolean sorted;
+
+        FillTask(
+            Graph graph,
+            DegreePartition partition,
+            HugeLongArray offsets,
+            HugeLongArray targets,
+            @Nullable HugeDoubleArray cumulativeWeights,
+            ProgressTracker progressTracker
+        ) {
+            this.graph = graph;
+            this.partition = partition;
+            this.offsets = offsets;
+            this.targets = targets;
+            this.cumulativeWeights = cumulativeWeights;
+            this.progressTracker = progressTracker;
+        }
+
+        @Override
+        public void run() {
+            partition.consume(nodeId -> {
+                var start = offsets.get(nodeId);
+
+                position = start;
+                lastTarget = Long.MIN_VALUE;
+                sorted = true;
+                graph.forEachRelationship(nodeId, 1.0D, this);
+
+                // adjacency lists are usually sorted already, but e.g. union graphs interleave several lists
+                if (!sorted) {
+                    sort(start, position);
+                }
+
+                if (cumulativeWeights != null) {
+                    var sum = 0D;
+                    for (long i = start; i < position; i++) {
+                        sum += cumulativeWeights.get(i);
+                        cumulativeWeights.set(i, sum);
+                    }
+                }
+            });
+
+            progressTracker.logProgress(partition.nodeCount());
+        }
+
+        @Override
+        public boolean accept(long sourceNodeId, long targetNodeId, double property) {
+            if (targetNodeId < lastTarget) {
+                sorted = false;
+            }
+            lastTarget = targetNodeId;
+
+            targets.set(position, targetNodeId);
+            if (cumulativeWeights != null) {
+                cumulativeWeights.set(position, property);
+            }
+            position++;
+            return true;
+        }
+
+        private void sort(long start, long end) {
+            var degree = Math.toIntExact(end - start);
+            var localTargets = new long[degree];
+            var localWeights = cumulativeWeights != null ? new double[degree] : null;
+
+            for (int i = 0; i < degree; i++) {
+                localTargets[i] = targets.get(start + i);
+                if (localWeights != null) {
+                    localWeights[i] = cumulativeWeights.get(start + i);
+                }
+            }
+
+            var order = IndirectSort.mergesort(0, degree, new AscendingLongComparator(localTargets));
+
+            for (int i = 0; i < degree; i++) {
+                targets.set(start + i, localTargets[order[i]]);
+                if (localWeights != null) {
+                    cumulativeWeights.set(start + i, localWeights[order[i]]);
+                }
+            }
+        }
+    }
+}
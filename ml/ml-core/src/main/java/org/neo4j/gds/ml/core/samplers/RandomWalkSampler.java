@@ -21,6 +21,7 @@ package org.neo4j.gds.ml.core.samplers;
 
 import org.apache.commons.lang3.mutable.MutableDouble;
 import org.apache.commons.lang3.mutable.MutableLong;
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
 
@@ -44,6 +45,7 @@ public class RandomWalkSampler {
     private final double normalizedSameDistanceProbability;
     private final double normalizedInOutProbability;
     private final CumulativeWeightSupplier cumulativeWeightSupplier;
+    private final @Nullable NeighbourIndex neighbourIndex;
 
     private final long randomSeed;
 
@@ -55,9 +57,57 @@ public class RandomWalkSampler {
         double normalizedInOutProbability,
         Graph graph,
         long randomSeed
+    ) {
+        this(
+            cumulativeWeightSupplier,
+            null,
+            walkLength,
+            normalizedReturnProbability,
+            normalizedSameDistanceProbability,
+            normalizedInOutProbability,
+            graph,
+            randomSeed
+        );
+    }
+
+    /**
+     * Creates a sampler that draws neighbours and checks adjacency through the given index
+     * instead of scanning the adjacency list of the graph.
+     */
+    public RandomWalkSampler(
+        NeighbourIndex neighbourIndex,
+        int walkLength,
+        double normalizedReturnProbability,
+        double normalizedSameDistanceProbability,
+        double normalizedInOutProbability,
+        Graph graph,
+        long randomSeed
+    ) {
+        this(
+            neighbourIndex::degree,
+            neighbourIndex,
+            walkLength,
+            normalizedReturnProbability,
+            normalizedSameDistanceProbability,
+            normalizedInOutProbability,
+            graph,
+            randomSeed
+        );
+    }
+
+    private RandomWalkSampler(
+        CumulativeWeightSupplier cumulativeWeightSupplier,
+        @Nullable NeighbourIndex neighbourIndex,
+        int walkLength,
+        double normalizedReturnProbability,
+        double normalizedSameDistanceProbability,
+        double normalizedInOutProbability,
+        Graph graph,
+        long randomSeed
     ) {
         this.randomSeed = randomSeed;
         this.cumulativeWeightSupplier = cumulativeWeightSupplier;
+        this.neighbourIndex = neighbourIndex;
         this.graph = graph;
         this.walkLength = walkLength;
         this.normalizedReturnProbability = normalizedReturnProbability;
@@ -157,6 +207,10 @@ public class RandomWalkSampler {
     }
 
     private long randomNeighbour(long node) {
+        if (neighbourIndex != null) {
+            return neighbourIndex.sample(node, random);
+        }
+
         var cumulativeWeight = cumulativeWeightSupplier.forNode(node);
         var randomWeight = cumulativeWeight * random.nextDouble();
 
@@ -179,6 +233,9 @@ public class RandomWalkSampler {
     }
 
     private boolean isNeighbour(long source, long target) {
+        if (neighbourIndex != null) {
+            return neighbourIndex.contains(source, target);
+        }
         return graph.exists(source, target);
     }
 
@@ -99,6 +99,11 @@ public class Matrix extends Tensor<Matrix> {
         return new Matrix(rows(), cols());
     }
 
+    @Override
+    protected Matrix createWithData(double[] data) {
+        return new Matrix(data, rows(), cols());
+    }
+
     @Override
     public Matrix copy() {
         return new Matrix(data.clone(), rows(), cols());
@@ -124,29 +129,49 @@ public class Matrix extends Tensor<Matrix> {
     }
 
     public Matrix multiply(Matrix other) {
-        DMatrixRMaj result = new DMatrixRMaj(this.rows, other.cols());
-        MatrixMatrixMult_DDRM.mult_reorder(this.toEjml(), other.toEjml(), result);
-        return Matrix.of(result);
+        return multiply(other, new Matrix(this.rows, other.cols()));
+    }
+
+    /**
+     * Writes {@code this * other} into the given result matrix, overwriting its previous content.
+     */
+    public Matrix multiply(Matrix other, Matrix result) {
+        MatrixMatrixMult_DDRM.mult_reorder(this.toEjml(), other.toEjml(), result.toEjml());
+        return result;
     }
 
     public Matrix multiplyTransB(Matrix other) {
-        DMatrixRMaj result = new DMatrixRMaj(this.rows, other.rows);
-        MatrixMatrixMult_DDRM.multTransB(this.toEjml(), other.toEjml(), result);
-        return Matrix.of(result);
+        return multiplyTransB(other, new Matrix(this.rows, other.rows));
+    }
+
+    /**
+     * Writes {@code this * other^T} into the given result matrix, overwriting its previous content.
+     */
+    public Matrix multiplyTransB(Matrix other, Matrix result) {
+        MatrixMatrixMult_DDRM.multTransB(this.toEjml(), other.toEjml(), result.toEjml());
+        return result;
     }
 
     public Matrix multiplyTransA(Matrix other) {
-        DMatrixRMaj prod = new DMatrixRMaj(this.cols(), other.cols());
-        MatrixMatrixMult_DDRM.multTransA_reorder(this.toEjml(), other.toEjml(), prod);
-        return Matrix.of(prod);
+        return multiplyTransA(other, new Matrix(this.cols(), other.cols()));
+    }
+
+    /**
+     * Writes {@code this^T * other} into the given result matrix, overwriting its previous content.
+     */
+    public Matrix multiplyTransA(Matrix other, Matrix result) {
+        MatrixMatrixMult_DDRM.multTransA_reorder(this.toEjml(), other.toEjml(), result.toEjml());
+        return result;
     }
 
     /**
      * C[a, b] = A[a, b] + v[b]
      */
     public Matrix sumBroadcastColumnWise(Vector vector) {
-        var result = this.createWithSameDimensions();
+        return sumBroadcastColumnWise(vector, this.createWithSameDimensions());
+    }
 
+    public Matrix sumBroadcastColumnWise(Vector vector, Matrix result) {
         for(int row = 0; row < rows; row++) {
             for (int col = 0; col < columns; col++) {
                 int matrixIndex = row * columns + col;
@@ -158,15 +183,21 @@ public class Matrix extends Tensor<Matrix> {
     }
 
     public Vector sumPerColumn() {
-        double[] result = new double[columns];
+        return sumPerColumn(new Vector(columns));
+    }
 
-        for (int col = 0; col < columns; col++) {
-            for (int row = 0; row < rows; row++) {
-                result[col] += data[row * columns + col];
+    /**
+     * Adds the sums of all columns to the given vector.
+     */
+    public Vector sumPerColumn(Vector result) {
+        for (int row = 0; row < rows; row++) {
+            int rowOffset = row * columns;
+            for (int col = 0; col < columns; col++) {
+                result.data[col] += data[rowOffset + col];
             }
         }
 
-        return new Vector(result);
+        return result;
     }
 
     public void setRow(int rowIdx, Matrix input, int inputRowIdx) {
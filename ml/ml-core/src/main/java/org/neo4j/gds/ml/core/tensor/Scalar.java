@@ -24,7 +24,11 @@ import org.neo4j.gds.ml.core.Dimensions;
 public class Scalar extends Tensor<Scalar> {
 
     public Scalar(double value) {
-        super(new double[] {value}, Dimensions.scalar());
+        this(new double[] {value});
+    }
+
+    private Scalar(double[] data) {
+        super(data, Dimensions.scalar());
     }
 
     @Override
@@ -32,6 +36,11 @@ public class Scalar extends Tensor<Scalar> {
         return new Scalar(0D);
     }
 
+    @Override
+    protected Scalar createWithData(double[] data) {
+        return new Scalar(data);
+    }
+
     @Override
     public Scalar copy() {
         return new Scalar(value());
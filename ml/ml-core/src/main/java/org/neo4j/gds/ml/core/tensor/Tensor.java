@@ -43,6 +43,11 @@ public abstract class Tensor<SELF extends Tensor<SELF>> {
 
     public abstract SELF createWithSameDimensions();
 
+    /**
+     * Creates a tensor with the same dimensions backed by the given data.
+     */
+    protected abstract SELF createWithData(double[] data);
+
     public abstract SELF copy();
 
     public abstract SELF add(SELF b);
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.core.tensor;
+
+import com.carrotsearch.hppc.IntObjectHashMap;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Hands out zeroed tensors backed by recycled arrays.
+ * Free arrays are grouped by their length, so computations repeated over batches of the same shape
+ * reuse the arrays of the previous batch once {@link #releaseAll()} has been called.
+ *
+ * Tensors handed out by the arena must not be used after {@link #releaseAll()}.
+ * This implementation is not thread-safe, every thread is expected to use its own arena.
+ */
+public final class TensorArena {
+
+    private final IntObjectHashMap<ArrayDeque<double[]>> freeArraysByLength;
+    private final List<double[]> usedArrays;
+
+    public TensorArena() {
+        this.freeArraysByLength = new IntObjectHashMap<>();
+        this.usedArrays = new ArrayList<>();
+    }
+
+    public Matrix matrix(int rows, int cols) {
+        return new Matrix(zeros(Math.multiplyExact(rows, cols)), rows, cols);
+    }
+
+    public Vector vector(int length) {
+        return new Vector(zeros(length));
+    }
+
+    public <T extends Tensor<T>> T zerosLike(T tensor) {
+        return tensor.createWithData(zeros(tensor.totalSize()));
+    }
+
+    /**
+     * Returns all arrays handed out since the last call to the pool of free arrays.
+     */
+    public void releaseAll() {
+        for (double[] array : usedArrays) {
+            var freeArrays = freeArraysByLength.get(array.length);
+            if (freeArrays == null) {
+                freeArrays = new ArrayDeque<>();
+                freeArraysByLength.put(array.length, freeArrays);
+            }
+            freeArrays.push(array);
+        }
+        usedArrays.clear();
+    }
+
+    private double[] zeros(int length) {
+        var freeArrays = freeArraysByLength.get(length);
+        double[] array;
+        if (freeArrays == null || freeArrays.isEmpty()) {
+            array = new double[length];
+        } else {
+            array = freeArrays.pop();
+            Arrays.fill(array, 0D);
+        }
+        usedArrays.add(array);
+        return array;
+    }
+}
@@ -45,6 +45,11 @@ public class Vector extends Tensor<Vector> {
         return create(0D, length());
     }
 
+    @Override
+    protected Vector createWithData(double[] data) {
+        return new Vector(data);
+    }
+
     @Override
     public Vector copy() {
         return new Vector(data.clone());
@@ -23,7 +23,10 @@ import org.junit.jupiter.api.Test;
 import org.neo4j.gds.ml.core.functions.Constant;
 import org.neo4j.gds.ml.core.functions.ConstantScale;
 import org.neo4j.gds.ml.core.functions.ElementSum;
+import org.neo4j.gds.ml.core.functions.MatrixMultiplyWithTransposedSecondOperand;
+import org.neo4j.gds.ml.core.functions.Sigmoid;
 import org.neo4j.gds.ml.core.functions.Weights;
+import org.neo4j.gds.ml.core.tensor.Matrix;
 import org.neo4j.gds.ml.core.tensor.Scalar;
 
 import java.util.List;
@@ -81,4 +84,25 @@ public class ComputationContextTest {
                 "\t data: Scalar: [12.0]" + System.lineSeparator() +
                 "\t gradient: Scalar: [1.0]" + System.lineSeparator());
     }
+
+    @Test
+    void shouldRecomputeAfterReset() {
+        var ctx = new ComputationContext();
+
+        var weights = new Weights<>(new Matrix(new double[]{1, 2, 3, 4}, 2, 2));
+        var features = Constant.matrix(new double[]{1, 1}, 1, 2);
+        var loss = new ElementSum(List.of(new Sigmoid<>(MatrixMultiplyWithTransposedSecondOperand.of(features, weights))));
+
+        var firstLoss = ctx.forward(loss).value();
+        ctx.backward(loss);
+        var firstGradient = ctx.gradient(weights).copy();
+
+        ctx.reset();
+        assertThat(ctx.computedVariables()).isEmpty();
+        assertThat(ctx.gradient(weights)).isNull();
+
+        assertThat(ctx.forward(loss).value()).isEqualTo(firstLoss);
+        ctx.backward(loss);
+        assertThat(ctx.gradient(weights)).isEqualTo(firstGradient);
+    }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.core.samplers;
+
+import com.carrotsearch.hppc.LongLongHashMap;
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.neo4j.gds.core.concurrency.Pools;
+import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
+import org.neo4j.gds.extension.GdlExtension;
+import org.neo4j.gds.extension.GdlGraph;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.TestGraph;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@GdlExtension
+class NeighbourIndexTest {
+
+    @Nested
+    class Unweighted {
+
+        @GdlGraph
+        private static final String GRAPH =
+            "(a)-->(b), " +
+            "(a)-->(c), " +
+            "(a)-->(d), " +
+            "(a)-->(e), " +
+            "(b)-->(c), " +
+            "(e)";
+
+        @Inject
+        private TestGraph graph;
+
+        @Test
+        void shouldSampleUniformly() {
+            var index = NeighbourIndex.create(graph, 4, Pools.DEFAULT, ProgressTracker.NULL_TRACKER);
+            var random = new SplittableRandom(42L);
+
+            var counts = new LongLongHashMap();
+            for (int i = 0; i < 10_000; i++) {
+                counts.addTo(index.sample(graph.toMappedNodeId("a"), random), 1);
+            }
+
+            assertThat(counts.size()).isEqualTo(4);
+            for (var target : new String[]{"b", "c", "d", "e"}) {
+                assertThat(counts.get(graph.toMappedNodeId(target))).isCloseTo(2500L, Offset.offset(150L));
+            }
+        }
+
+        @Test
+        void shouldReturnNoNeighbourForSinks() {
+            var index = NeighbourIndex.create(graph, 4, Pools.DEFAULT, ProgressTracker.NULL_TRACKER);
+
+            assertThat(index.degree(graph.toMappedNodeId("e"))).isEqualTo(0);
+            assertThat(index.sample(graph.toMappedNodeId("e"), new SplittableRandom(42L)))
+                .isEqualTo(NeighbourIndex.NO_NEIGHBOUR);
+        }
+
+        @Test
+        void shouldAnswerAdjacencyLikeTheGraph() {
+            var index = NeighbourIndex.create(graph, 4, Pools.DEFAULT, ProgressTracker.NULL_TRACKER);
+
+            graph.forEachNode(source -> {
+                graph.forEachNode(target -> {
+                    assertThat(index.contains(source, target))
+                        .as("%d -> %d", source, target)
+                        .isEqualTo(graph.exists(source, target));
+                    return true;
+                });
+                assertThat(index.degree(source)).isEqualTo(graph.degree(source));
+                return true;
+            });
+        }
+    }
+
+    @Nested
+    class Weighted {
+
+        @GdlGraph
+        private static final String GRAPH =
+            "(a)-[:R { weight: 1.0 }]->(b), " +
+            "(a)-[:R { weight: 0.0 }]->(c), " +
+            "(a)-[:R { weight: 3.0 }]->(d), " +
+            "(b)-[:R { weight: 2.0 }]->(a)";
+
+        @Inject
+        private TestGraph graph;
+
+        @Test
+        void shouldSampleProportionalToWeight() {
+            var index = NeighbourIndex.create(graph, 4, Pools.DEFAULT, ProgressTracker.NULL_TRACKER);
+            var random = new SplittableRandom(42L);
+
+            var counts = new LongLongHashMap();
+            for (int i = 0; i < 10_000; i++) {
+                counts.addTo(index.sample(graph.toMappedNodeId("a"), random), 1);
+            }
+
+            assertThat(counts.get(graph.toMappedNodeId("b"))).isCloseTo(2500L, Offset.offset(150L));
+            assertThat(counts.get(graph.toMappedNodeId("d"))).isCloseTo(7500L, Offset.offset(150L));
+            assertThat(counts.containsKey(graph.toMappedNodeId("c"))).isFalse();
+        }
+
+        @Test
+        void shouldAlwaysSampleTheOnlyNeighbour() {
+            var index = NeighbourIndex.create(graph, 4, Pools.DEFAULT, ProgressTracker.NULL_TRACKER);
+
+            assertThat(index.sample(graph.toMappedNodeId("b"), new SplittableRandom(42L)))
+                .isEqualTo(graph.toMappedNodeId("a"));
+            assertThat(index.contains(graph.toMappedNodeId("a"), graph.toMappedNodeId("c"))).isTrue();
+            assertThat(index.contains(graph.toMappedNodeId("c"), graph.toMappedNodeId("a"))).isFalse();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.core.tensor;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TensorArenaTest {
+
+    @Test
+    void shouldReuseReleasedArraysOfTheSameLength() {
+        var arena = new TensorArena();
+
+        var matrix = arena.matrix(2, 3);
+        matrix.setDataAt(1, 2, 42);
+        arena.releaseAll();
+
+        var reused = arena.zerosLike(new Matrix(3, 2));
+        assertThat(reused.data()).isSameAs(matrix.data());
+        assertThat(reused.rows()).isEqualTo(3);
+        assertThat(reused.data()).containsOnly(0);
+    }
+
+    @Test
+    void shouldNotHandOutArraysInUse() {
+        var arena = new TensorArena();
+
+        var first = arena.vector(4);
+        var second = arena.vector(4);
+        var other = arena.vector(5);
+
+        assertThat(second.data()).isNotSameAs(first.data());
+
+        arena.releaseAll();
+
+        var reusedFirst = arena.vector(4);
+        var reusedSecond = arena.vector(4);
+        var fresh = arena.vector(4);
+
+        assertThat(reusedFirst.data()).isIn(first.data(), second.data());
+        assertThat(reusedSecond.data()).isIn(first.data(), second.data()).isNotSameAs(reusedFirst.data());
+        assertThat(fresh.data()).isNotIn(first.data(), second.data(), other.data());
+    }
+}
@@ -22,7 +22,9 @@ package org.neo4j.gds.core.model;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.config.ToMapConvertible;
 import org.neo4j.gds.model.ModelConfig;
+import org.neo4j.logging.Log;
 
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.stream.Stream;
 
@@ -54,6 +56,25 @@ public interface ModelCatalog {
 
     Model<?, ?, ?> publish(String username, String modelName);
 
+    /**
+     * Writes the model data into the given directory and releases it from memory.
+     * The data is loaded again on the next access of the model.
+     */
+    Model<?, ?, ?> store(String username, String modelName, Path directory);
+
+    Model<?, ?, ?> load(String username, String modelName);
+
+    /**
+     * Removes the stored model data from disk. A model that is not loaded is dropped from the catalog.
+     */
+    Model<?, ?, ?> delete(String username, String modelName);
+
+    /**
+     * Restores the models stored below the given location into the catalog, without loading their data.
+     * Models that are already in the catalog are kept, stored models that cannot be restored are skipped.
+     */
+    void discoverStoredModels(Path storeLocation, Log log);
+
     boolean isEmpty();
 
     void removeAllLoadedModels();
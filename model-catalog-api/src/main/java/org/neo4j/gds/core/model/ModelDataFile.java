@@ -0,0 +1,312 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.model;
+
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.api.DefaultValue;
+import org.neo4j.gds.api.PropertyState;
+import org.neo4j.gds.api.nodeproperties.ValueType;
+import org.neo4j.gds.api.schema.GraphSchema;
+import org.neo4j.gds.api.schema.NodeSchema;
+import org.neo4j.gds.api.schema.PropertySchema;
+import org.neo4j.gds.api.schema.RelationshipPropertySchema;
+import org.neo4j.gds.api.schema.RelationshipSchema;
+import org.neo4j.gds.core.Aggregation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Stores a model in a single file, consisting of a header, the model metadata and the serialized model data.
+ * The metadata covers everything but the data, so that a model can be restored from the file alone,
+ * while the data can be read separately and on demand. Files are read through a buffer, so their size is not limited.
+ */
+public final class ModelDataFile {
+
+    public static final String FILE_EXTENSION = ".gdsmodel";
+
+    private static final int MAGIC = 0x4744534D;
+    private static final int VERSION = 1;
+
+    private static final List<ModelDataSerializer> DATA_SERIALIZERS = ServiceLoader
+        .load(ModelDataSerializer.class, ModelDataSerializer.class.getClassLoader())
+        .stream()
+        .map(ServiceLoader.Provider::get)
+        .collect(Collectors.toList());
+
+    private static final List<ModelMetadataSerializer> METADATA_SERIALIZERS = ServiceLoader
+        .load(ModelMetadataSerializer.class, ModelMetadataSerializer.class.getClassLoader())
+        .stream()
+        .map(ServiceLoader.Provider::get)
+        .collect(Collectors.toList());
+
+    private ModelDataFile() {}
+
+    public static boolean canSerialize(Model<?, ?, ?> model) {
+        return metadataSerializer(model.algoType()).isPresent()
+               && (!model.loaded() || dataSerializer(model.data()).isPresent());
+    }
+
+    public static void write(Path file, Model<?, ?, ?> model) {
+        var metadataSerializer = metadataSerializer(model.algoType())
+            .orElseThrow(() -> new IllegalArgumentException(formatWithLocale(
+                "Storing models of type `%s` is not supported.",
+                model.algoType()
+            )));
+        var modelData = model.data();
+        if (modelData == null) {
+            throw new IllegalArgumentException(formatWithLocale("The model `%s` is not loaded.", model.name()));
+        }
+        var dataSerializer = dataSerializer(modelData)
+            .orElseThrow(() -> new IllegalArgumentException(formatWithLocale(
+                "Storing model data of type `%s` is not supported.",
+                modelData.getClass().getSimpleName()
+            )));
+
+        try (
+            var channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            var output = new ModelDataOutput(channel)
+        ) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+
+            output.writeString(model.creator());
+            output.writeString(model.name());
+            output.writeString(model.algoType());
+            output.writeValue(model.sharedWith());
+            output.writeString(model.creationTime().toString());
+            output.writeValue(schemaToMap(model.graphSchema()));
+            output.writeValue(metadataSerializer.trainConfigToMap(model.trainConfig()));
+            output.writeValue(metadataSerializer.customInfoToMap(model.customInfo()));
+
+            output.writeString(dataSerializer.id());
+            dataSerializer.serialize(modelData, output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Restores a model from the given file without reading its data.
+     * The returned model is not loaded and refers to the file as its location.
+     */
+    public static Model<?, ?, ?> readMetadata(Path file) {
+        return read(file, input -> {
+            var metadata = readRawMetadata(input);
+            var metadataSerializer = metadataSerializer(metadata.algoType)
+                .orElseThrow(() -> new IllegalStateException(formatWithLocale(
+                    "No serializer for models of type `%s` is available to load the model file `%s`.",
+                    metadata.algoType,
+                    file
+                )));
+            return metadata.toModel(metadataSerializer, file);
+        });
+    }
+
+    public static Object readData(Path file) {
+        return read(file, input -> {
+            readRawMetadata(input);
+
+            var serializerId = input.readString();
+            var serializer = DATA_SERIALIZERS
+                .stream()
+                .filter(candidate -> candidate.id().equals(serializerId))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(formatWithLocale(
+                    "No serializer `%s` is available to load the model file `%s`.",
+                    serializerId,
+                    file
+                )));
+
+            return serializer.deserialize(input);
+        });
+    }
+
+    private static <T> T read(Path file, Function<ModelDataInput, T> reader) {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            var input = new ModelDataInput(channel);
+
+            if (input.readInt() != MAGIC) {
+                throw new IllegalStateException(formatWithLocale("The file `%s` is not a model file.", file));
+            }
+            int version = input.readInt();
+            if (version != VERSION) {
+                throw new IllegalStateException(formatWithLocale(
+                    "The model file `%s` has the unsupported version %d.",
+                    file,
+                    version
+                ));
+            }
+
+            return reader.apply(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Optional<ModelDataSerializer> dataSerializer(Object modelData) {
+        return DATA_SERIALIZERS.stream().filter(serializer -> serializer.canSerialize(modelData)).findFirst();
+    }
+
+    private static Optional<ModelMetadataSerializer> metadataSerializer(String algoType) {
+        return METADATA_SERIALIZERS.stream().filter(serializer -> serializer.algoType().equals(algoType)).findFirst();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RawMetadata readRawMetadata(ModelDataInput input) {
+        var metadata = new RawMetadata();
+        metadata.creator = input.readString();
+        metadata.name = input.readString();
+        metadata.algoType = input.readString();
+        metadata.sharedWith = (List<String>) input.readValue();
+        metadata.creationTime = input.readString();
+        metadata.graphSchema = (Map<String, Object>) input.readValue();
+        metadata.trainConfig = (Map<String, Object>) input.readValue();
+        metadata.customInfo = (Map<String, Object>) input.readValue();
+        return metadata;
+    }
+
+    /**
+     * The metadata as read from a file, before it is interpreted by a {@link ModelMetadataSerializer}.
+     */
+    private static final class RawMetadata {
+        String creator;
+        String name;
+        String algoType;
+        List<String> sharedWith;
+        String creationTime;
+        Map<String, Object> graphSchema;
+        Map<String, Object> trainConfig;
+        Map<String, Object> customInfo;
+
+        Model<?, ?, ?> toModel(ModelMetadataSerializer metadataSerializer, Path file) {
+            return ImmutableModel.builder()
+                .creator(creator)
+                .sharedWith(sharedWith)
+                .name(name)
+                .algoType(algoType)
+                .graphSchema(schemaFromMap(graphSchema))
+                .trainConfig(metadataSerializer.trainConfig(creator, trainConfig))
+                .creationTime(ZonedDateTime.parse(creationTime))
+                .customInfo(metadataSerializer.customInfo(customInfo))
+                .fileLocation(file)
+                .build();
+        }
+    }
+
+    private static Map<String, Object> schemaToMap(GraphSchema graphSchema) {
+        var nodes = new LinkedHashMap<String, Object>();
+        graphSchema.nodeSchema().properties().forEach((label, properties) -> nodes.put(
+            label.name,
+            propertiesToMap(properties)
+        ));
+
+        var relationshipSchema = graphSchema.relationshipSchema();
+        var relationships = new LinkedHashMap<String, Object>();
+        relationshipSchema.properties().forEach((type, properties) -> relationships.put(
+            type.name,
+            Map.of(
+                "orientation", relationshipSchema.orientation(type).name(),
+                "properties", propertiesToMap(properties)
+            )
+        ));
+
+        return Map.of(
+            "nodes", nodes,
+            "relationships", relationships,
+            "graphProperties", propertiesToMap(graphSchema.graphProperties())
+        );
+    }
+
+    private static Map<String, Object> propertiesToMap(Map<String, ? extends PropertySchema> properties) {
+        var result = new LinkedHashMap<String, Object>();
+        properties.forEach((key, propertySchema) -> {
+            var property = new LinkedHashMap<String, Object>();
+            property.put("valueType", propertySchema.valueType().name());
+            property.put("defaultValue", propertySchema.defaultValue().getObject());
+            property.put("isUserDefined", propertySchema.defaultValue().isUserDefined());
+            property.put("state", propertySchema.state().name());
+            if (propertySchema instanceof RelationshipPropertySchema) {
+                property.put("aggregation", ((RelationshipPropertySchema) propertySchema).aggregation().name());
+            }
+            result.put(key, property);
+        });
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static GraphSchema schemaFromMap(Map<String, Object> schemaMap) {
+        var nodeSchema = NodeSchema.builder();
+        ((Map<String, Map<String, Map<String, Object>>>) schemaMap.get("nodes")).forEach((label, properties) -> {
+            var nodeLabel = NodeLabel.of(label);
+            nodeSchema.addLabel(nodeLabel);
+            properties.forEach((key, property) -> nodeSchema.addProperty(nodeLabel, key, propertyFromMap(key, property)));
+        });
+
+        var relationshipSchema = RelationshipSchema.builder();
+        ((Map<String, Map<String, Object>>) schemaMap.get("relationships")).forEach((type, relationship) -> {
+            var relationshipType = RelationshipType.of(type);
+            var orientation = Orientation.valueOf((String) relationship.get("orientation"));
+            relationshipSchema.addRelationshipType(relationshipType, orientation);
+            ((Map<String, Map<String, Object>>) relationship.get("properties")).forEach((key, property) -> {
+                var propertySchema = propertyFromMap(key, property);
+                relationshipSchema.addProperty(relationshipType, orientation, key, RelationshipPropertySchema.of(
+                    key,
+                    propertySchema.valueType(),
+                    propertySchema.defaultValue(),
+                    propertySchema.state(),
+                    Aggregation.valueOf((String) property.get("aggregation"))
+                ));
+            });
+        });
+
+        var graphProperties = new LinkedHashMap<String, PropertySchema>();
+        ((Map<String, Map<String, Object>>) schemaMap.get("graphProperties")).forEach((key, property) -> graphProperties.put(
+            key,
+            propertyFromMap(key, property)
+        ));
+
+        return GraphSchema.of(nodeSchema.build(), relationshipSchema.build(), graphProperties);
+    }
+
+    private static PropertySchema propertyFromMap(String key, Map<String, Object> property) {
+        return PropertySchema.of(
+            key,
+            ValueType.valueOf((String) property.get("valueType")),
+            DefaultValue.of(property.get("defaultValue"), (Boolean) property.get("isUserDefined")),
+            PropertyState.valueOf((String) property.get("state"))
+        );
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.model;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+
+/**
+ * Buffered binary reader for model data written by {@link ModelDataOutput}.
+ * Arrays are bulk copied from the buffer, which is refilled from the channel as needed,
+ * so that files of any size can be read.
+ */
+public final class ModelDataInput {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+
+    ModelDataInput(ReadableByteChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ModelDataOutput.BYTE_ORDER);
+        this.buffer.limit(0);
+    }
+
+    public int readInt() {
+        ensureAvailable(Integer.BYTES);
+        return buffer.getInt();
+    }
+
+    public long readLong() {
+        ensureAvailable(Long.BYTES);
+        return buffer.getLong();
+    }
+
+    public double readDouble() {
+        ensureAvailable(Double.BYTES);
+        return buffer.getDouble();
+    }
+
+    public String readString() {
+        var bytes = new byte[readInt()];
+        int offset = 0;
+        while (offset < bytes.length) {
+            ensureAvailable(1);
+            int length = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.get(bytes, offset, length);
+            offset += length;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public int[] readInts() {
+        var values = new int[readInt()];
+        int offset = 0;
+        while (offset < values.length) {
+            int length = nextChunkLength(Integer.BYTES, values.length - offset);
+            buffer.asIntBuffer().get(values, offset, length);
+            buffer.position(buffer.position() + length * Integer.BYTES);
+            offset += length;
+        }
+        return values;
+    }
+
+    public double[] readDoubles() {
+        var values = new double[readInt()];
+        int offset = 0;
+        while (offset < values.length) {
+            int length = nextChunkLength(Double.BYTES, values.length - offset);
+            buffer.asDoubleBuffer().get(values, offset, length);
+            buffer.position(buffer.position() + length * Double.BYTES);
+            offset += length;
+        }
+        return values;
+    }
+
+    public long[] readLongs() {
+        var values = new long[readInt()];
+        int offset = 0;
+        while (offset < values.length) {
+            int length = nextChunkLength(Long.BYTES, values.length - offset);
+            buffer.asLongBuffer().get(values, offset, length);
+            buffer.position(buffer.position() + length * Long.BYTES);
+            offset += length;
+        }
+        return values;
+    }
+
+    public float[] readFloats() {
+        var values = new float[readInt()];
+        int offset = 0;
+        while (offset < values.length) {
+            int length = nextChunkLength(Float.BYTES, values.length - offset);
+            buffer.asFloatBuffer().get(values, offset, length);
+            buffer.position(buffer.position() + length * Float.BYTES);
+            offset += length;
+        }
+        return values;
+    }
+
+    /**
+     * Reads a value written by {@link ModelDataOutput#writeValue(Object)}.
+     * Lists and maps are returned in their written order.
+     */
+    public @Nullable Object readValue() {
+        int tag = readInt();
+        switch (tag) {
+            case ModelDataOutput.ValueTag.NULL:
+                return null;
+            case ModelDataOutput.ValueTag.BOOLEAN:
+                return readInt() != 0;
+            case ModelDataOutput.ValueTag.INT:
+                return readInt();
+            case ModelDataOutput.ValueTag.LONG:
+                return readLong();
+            case ModelDataOutput.ValueTag.FLOAT:
+                return (float) readDouble();
+            case ModelDataOutput.ValueTag.DOUBLE:
+                return readDouble();
+            case ModelDataOutput.ValueTag.STRING:
+                return readString();
+            case ModelDataOutput.ValueTag.INT_ARRAY:
+                return readInts();
+            case ModelDataOutput.ValueTag.LONG_ARRAY:
+                return readLongs();
+            case ModelDataOutput.ValueTag.FLOAT_ARRAY:
+                return readFloats();
+            case ModelDataOutput.ValueTag.DOUBLE_ARRAY:
+                return readDoubles();
+            case ModelDataOutput.ValueTag.LIST:
+                int size = readInt();
+                var list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue());
+                }
+                return list;
+            case ModelDataOutput.ValueTag.MAP:
+                return readMap();
+            default:
+                throw new IllegalStateException(formatWithLocale("Unknown value type `%d`.", tag));
+        }
+    }
+
+    private Map<String, Object> readMap() {
+        int size = readInt();
+        var map = new LinkedHashMap<String, Object>();
+        for (int i = 0; i < size; i++) {
+            var key = readString();
+            map.put(key, readValue());
+        }
+        return map;
+    }
+
+    /**
+     * Makes at least one element of the given size available and
+     * returns how many of the remaining elements are buffered.
+     */
+    private int nextChunkLength(int elementSize, int remainingElements) {
+        ensureAvailable(elementSize);
+        return Math.min(buffer.remaining() / elementSize, remainingElements);
+    }
+
+    private void ensureAvailable(int bytes) {
+        if (buffer.remaining() >= bytes) {
+            return;
+        }
+        buffer.compact();
+        try {
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) {
+                    throw new IllegalStateException("Unexpected end of the model file.");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            buffer.flip();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.model;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Buffered binary writer for model data.
+ * Arrays are written as their length followed by the raw elements, so that they can be bulk read.
+ */
+public final class ModelDataOutput implements Closeable {
+
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    static final class ValueTag {
+        static final int NULL = 0;
+        static final int BOOLEAN = 1;
+        static final int INT = 2;
+        static final int LONG = 3;
+        static final int FLOAT = 4;
+        static final int DOUBLE = 5;
+        static final int STRING = 6;
+        static final int INT_ARRAY = 7;
+        static final int LONG_ARRAY = 8;
+        static final int FLOAT_ARRAY = 9;
+        static final int DOUBLE_ARRAY = 10;
+        static final int LIST = 11;
+        static final int MAP = 12;
+
+        private ValueTag() {}
+    }
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+
+    ModelDataOutput(FileChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(BUFFER_SIZE).order(BYTE_ORDER);
+    }
+
+    public void writeInt(int value) throws IOException {
+        ensureRemaining(Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    public void writeLong(long value) throws IOException {
+        ensureRemaining(Long.BYTES);
+        buffer.putLong(value);
+    }
+
+    public void writeDouble(double value) throws IOException {
+        ensureRemaining(Double.BYTES);
+        buffer.putDouble(value);
+    }
+
+    public void writeString(String value) throws IOException {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeInt(bytes.length);
+        int offset = 0;
+        while (offset < bytes.length) {
+            ensureRemaining(1);
+            int length = Math.min(buffer.remaining(), bytes.length - offset);
+            buffer.put(bytes, offset, length);
+            offset += length;
+        }
+    }
+
+    public void writeInts(int[] values) throws IOException {
+        writeInt(values.length);
+        int offset = 0;
+        while (offset < values.length) {
+            ensureRemaining(Integer.BYTES);
+            var view = buffer.asIntBuffer();
+            int length = Math.min(view.remaining(), values.length - offset);
+            view.put(values, offset, length);
+            buffer.position(buffer.position() + length * Integer.BYTES);
+            offset += length;
+        }
+    }
+
+    public void writeDoubles(double[] values) throws IOException {
+        writeInt(values.length);
+        int offset = 0;
+        while (offset < values.length) {
+            ensureRemaining(Double.BYTES);
+            var view = buffer.asDoubleBuffer();
+            int length = Math.min(view.remaining(), values.length - offset);
+            view.put(values, offset, length);
+            buffer.position(buffer.position() + length * Double.BYTES);
+            offset += length;
+        }
+    }
+
+    public void writeLongs(long[] values) throws IOException {
+        writeInt(values.length);
+        int offset = 0;
+        while (offset < values.length) {
+            ensureRemaining(Long.BYTES);
+            var view = buffer.asLongBuffer();
+            int length = Math.min(view.remaining(), values.length - offset);
+            view.put(values, offset, length);
+            buffer.position(buffer.position() + length * Long.BYTES);
+            offset += length;
+        }
+    }
+
+    public void writeFloats(float[] values) throws IOException {
+        writeInt(values.length);
+        int offset = 0;
+        while (offset < values.length) {
+            ensureRemaining(Float.BYTES);
+            var view = buffer.asFloatBuffer();
+            int length = Math.min(view.remaining(), values.length - offset);
+            view.put(values, offset, length);
+            buffer.position(buffer.position() + length * Float.BYTES);
+            offset += length;
+        }
+    }
+
+    /**
+     * Writes a value as it appears in configuration and info maps, prefixed by its type.
+     * Values of types without a dedicated encoding are written as their string representation.
+     */
+    public void writeValue(@Nullable Object value) throws IOException {
+        if (value == null) {
+            writeInt(ValueTag.NULL);
+        } else if (value instanceof Boolean) {
+            writeInt(ValueTag.BOOLEAN);
+            writeInt((Boolean) value ? 1 : 0);
+        } else if (value instanceof Integer) {
+            writeInt(ValueTag.INT);
+            writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            writeInt(ValueTag.LONG);
+            writeLong((Long) value);
+        } else if (value instanceof Float) {
+            writeInt(ValueTag.FLOAT);
+            writeDouble((Float) value);
+        } else if (value instanceof Double) {
+            writeInt(ValueTag.DOUBLE);
+            writeDouble((Double) value);
+        } else if (value instanceof int[]) {
+            writeInt(ValueTag.INT_ARRAY);
+            writeInts((int[]) value);
+        } else if (value instanceof long[]) {
+            writeInt(ValueTag.LONG_ARRAY);
+            writeLongs((long[]) value);
+        } else if (value instanceof float[]) {
+            writeInt(ValueTag.FLOAT_ARRAY);
+            writeFloats((float[]) value);
+        } else if (value instanceof double[]) {
+            writeInt(ValueTag.DOUBLE_ARRAY);
+            writeDoubles((double[]) value);
+        } else if (value instanceof Optional) {
+            writeValue(((Optional<?>) value).orElse(null));
+        } else if (value instanceof Collection) {
+            var collection = (Collection<?>) value;
+            writeInt(ValueTag.LIST);
+            writeInt(collection.size());
+            for (Object element : collection) {
+                writeValue(element);
+            }
+        } else if (value instanceof Map) {
+            var map = (Map<?, ?>) value;
+            writeInt(ValueTag.MAP);
+            writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeString(entry.getKey().toString());
+                writeValue(entry.getValue());
+            }
+        } else {
+            writeInt(ValueTag.STRING);
+            writeString(value.toString());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        channel.force(false);
+    }
+
+    private void ensureRemaining(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.model;
+
+import org.neo4j.annotations.service.Service;
+
+import java.io.IOException;
+
+/**
+ * Writes and reads the data of trained models in a compact binary format.
+ * Implementations are discovered as services and selected by {@link #canSerialize(Object)}
+ * when storing and by {@link #id()} when loading a model.
+ */
+@Service
+public interface ModelDataSerializer {
+
+    /**
+     * Identifies the serializer in the header of a model file. Must not change once models are stored.
+     */
+    String id();
+
+    boolean canSerialize(Object modelData);
+
+    void serialize(Object modelData, ModelDataOutput output) throws IOException;
+
+    Object deserialize(ModelDataInput input);
+}
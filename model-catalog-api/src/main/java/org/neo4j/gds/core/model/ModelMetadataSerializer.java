@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.core.model;
+
+import org.neo4j.annotations.service.Service;
+import org.neo4j.gds.config.ToMapConvertible;
+import org.neo4j.gds.model.ModelConfig;
+
+import java.util.Map;
+
+/**
+ * Converts the train config and custom info of a model type from and to plain maps, so that they can be stored
+ * beside the model data and a stored model can be restored without having been trained in the running instance.
+ * Implementations are discovered as services and selected by {@link #algoType()}.
+ */
+@Service
+public interface ModelMetadataSerializer {
+
+    String algoType();
+
+    default Map<String, Object> trainConfigToMap(ModelConfig trainConfig) {
+        return trainConfig.toMap();
+    }
+
+    ModelConfig trainConfig(String username, Map<String, Object> trainConfigMap);
+
+    default Map<String, Object> customInfoToMap(ToMapConvertible customInfo) {
+        return customInfo.toMap();
+    }
+
+    ToMapConvertible customInfo(Map<String, Object> customInfoMap);
+}
@@ -22,6 +22,7 @@ package org.neo4j.gds.core.model;
 import org.neo4j.gds.config.ToMapConvertible;
 import org.neo4j.gds.model.ModelConfig;
 
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
@@ -53,6 +54,12 @@ public interface UserCatalog {
 
     Model<?, ?, ?> drop(String modelName, boolean failOnMissing);
 
+    Model<?, ?, ?> store(String modelName, Path directory);
+
+    Model<?, ?, ?> load(String modelName);
+
+    Model<?, ?, ?> delete(String modelName);
+
     void removeAllLoadedModels();
 
     void verifyModelCanBeStored(String modelName, String modelType);
@@ -23,7 +23,12 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.config.ToMapConvertible;
 import org.neo4j.gds.model.ModelConfig;
+import org.neo4j.logging.Log;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Locale;
@@ -121,6 +126,48 @@ public final class OpenModelCatalog implements ModelCatalog {
         );
     }
 
+    @Override
+    public Model<?, ?, ?> store(String username, String modelName, Path directory) {
+        return getUserCatalog(username).store(modelName, directory);
+    }
+
+    @Override
+    public Model<?, ?, ?> load(String username, String modelName) {
+        return getUserCatalog(username).load(modelName);
+    }
+
+    @Override
+    public Model<?, ?, ?> delete(String username, String modelName) {
+        return getUserCatalog(username).delete(modelName);
+    }
+
+    @Override
+    public void discoverStoredModels(Path storeLocation, Log log) {
+        if (!Files.isDirectory(storeLocation)) {
+            return;
+        }
+
+        // models are stored in one directory per user below the store location
+        try (var files = Files.walk(storeLocation, 2)) {
+            files
+                .filter(file -> storeLocation.relativize(file).getNameCount() == 2)
+                .filter(file -> file.getFileName().toString().endsWith(ModelDataFile.FILE_EXTENSION))
+                .filter(Files::isRegularFile)
+                .forEach(file -> {
+                    try {
+                        var model = ModelDataFile.readMetadata(file);
+                        userCatalogs
+                            .computeIfAbsent(model.creator(), user -> new OpenUserCatalog())
+                            .restore(model);
+                    } catch (RuntimeException e) {
+                        log.warn("Could not restore the stored model `%s`: %s", file, e.getMessage());
+                    }
+                });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Override
     public boolean isEmpty() {
         return userCatalogs
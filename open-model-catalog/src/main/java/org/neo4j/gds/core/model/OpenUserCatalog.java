@@ -19,9 +19,15 @@
  */
 package org.neo4j.gds.core.model;
 
+import org.jetbrains.annotations.Nullable;
+import org.neo4j.gds.config.BaseConfig;
 import org.neo4j.gds.config.ToMapConvertible;
 import org.neo4j.gds.model.ModelConfig;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Locale;
 import java.util.Map;
@@ -55,7 +61,12 @@ class OpenUserCatalog implements UserCatalog {
 
     @Override
     public Model<?, ?, ?> getUntyped(String modelName) {
-        return userModels.get(modelName);
+        var model = userModels.get(modelName);
+        if (model != null && !model.loaded() && model.stored()) {
+            // stored models are loaded lazily on their first use
+            return load(modelName);
+        }
+        return model;
     }
 
     @Override
@@ -71,7 +82,7 @@ class OpenUserCatalog implements UserCatalog {
 
     @Override
     public Model<?, ?, ?> list(String modelName) {
-        return getUntyped(modelName);
+        return userModels.get(modelName);
     }
 
     @Override
@@ -109,6 +120,76 @@ class OpenUserCatalog implements UserCatalog {
         }
     }
 
+    @Override
+    public synchronized Model<?, ?, ?> store(String modelName, Path directory) {
+        var model = getOrThrow(modelName);
+        if (!model.loaded()) {
+            return model;
+        }
+
+        var modelFile = model.fileLocation().orElseGet(() -> modelFile(directory, modelName));
+        if (!model.stored()) {
+            try {
+                Files.createDirectories(directory);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            ModelDataFile.write(modelFile, model);
+        }
+
+        var storedModel = withData(withFileLocation(model, Optional.of(modelFile)), null);
+        userModels.put(modelName, storedModel);
+        return storedModel;
+    }
+
+    @Override
+    public synchronized Model<?, ?, ?> load(String modelName) {
+        var model = getOrThrow(modelName);
+        if (model.loaded()) {
+            return model;
+        }
+
+        var data = ModelDataFile.readData(model.fileLocation().orElseThrow());
+        var loadedModel = withData(model, data);
+        userModels.put(modelName, loadedModel);
+        return loadedModel;
+    }
+
+    @Override
+    public synchronized Model<?, ?, ?> delete(String modelName) {
+        var model = getOrThrow(modelName);
+        var modelFile = model.fileLocation().orElseThrow(() -> new IllegalArgumentException(formatWithLocale(
+            "Model with name `%s` is not stored.",
+            modelName
+        )));
+
+        try {
+            Files.deleteIfExists(modelFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (model.loaded()) {
+            var deletedModel = withFileLocation(model, Optional.empty());
+            userModels.put(modelName, deletedModel);
+            return deletedModel;
+        }
+
+        userModels.remove(modelName);
+        return model;
+    }
+
+    /**
+     * Adds a model restored from its file, unless a model with the same name is in the catalog already.
+     */
+    synchronized void restore(Model<?, ?, ?> model) {
+        if (exists(model.name())) {
+            return;
+        }
+        verifyModelsLimit(model.algoType());
+        userModels.put(model.name(), model);
+    }
+
     @Override
     public void removeAllLoadedModels() {
         userModels.clear();
@@ -164,6 +245,44 @@ class OpenUserCatalog implements UserCatalog {
         return (Model<D, C, I>) model;
     }
 
+    private Model<?, ?, ?> getOrThrow(String modelName) {
+        var model = userModels.get(modelName);
+        if (model == null) {
+            throw new NoSuchElementException(prettySuggestions(
+                formatWithLocale("Model with name `%s` does not exist.", modelName),
+                modelName,
+                userModels.keySet()
+            ));
+        }
+        return model;
+    }
+
+    private static Path modelFile(Path directory, String modelName) {
+        var modelFile = directory.resolve(modelName + ModelDataFile.FILE_EXTENSION).normalize();
+        if (!directory.equals(modelFile.getParent())) {
+            throw new IllegalArgumentException(formatWithLocale(
+                "Illegal model name `%s`. It attempts to write into a forbidden directory.",
+                modelName
+            ));
+        }
+        return modelFile;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <D, C extends ModelConfig & BaseConfig, I extends ToMapConvertible> Model<D, C, I> withData(
+        Model<D, C, I> model,
+        @Nullable Object data
+    ) {
+        return ImmutableModel.<D, C, I>builder().from(model).data((D) data).build();
+    }
+
+    private static <D, C extends ModelConfig & BaseConfig, I extends ToMapConvertible> Model<D, C, I> withFileLocation(
+        Model<D, C, I> model,
+        Optional<Path> fileLocation
+    ) {
+        return ImmutableModel.<D, C, I>builder().from(model).fileLocation(fileLocation).build();
+    }
+
     private void verifyModelNameIsUnique(String model) {
         if (exists(model)) {
             throw new IllegalArgumentException(formatWithLocale(
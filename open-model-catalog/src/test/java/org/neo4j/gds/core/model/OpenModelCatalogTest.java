@@ -20,19 +20,26 @@
 package org.neo4j.gds.core.model;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.neo4j.gds.annotation.Configuration;
 import org.neo4j.gds.annotation.ValueClass;
 import org.neo4j.gds.api.schema.GraphSchema;
+import org.neo4j.gds.compat.Neo4jProxy;
+import org.neo4j.gds.compat.TestLog;
 import org.neo4j.gds.config.BaseConfig;
 import org.neo4j.gds.config.ToMapConvertible;
 import org.neo4j.gds.gdl.GdlFactory;
 import org.neo4j.gds.model.ModelConfig;
 import org.neo4j.gds.model.catalog.TestTrainConfig;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Locale;
 import java.util.Map;
 import java.util.NoSuchElementException;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -266,6 +273,86 @@ class OpenModelCatalogTest {
         assertEquals(0, modelCatalog.list(USERNAME).size());
     }
 
+    @Test
+    void shouldStoreAndLazilyLoadModel(@TempDir Path tempDir) {
+        modelCatalog.set(TEST_MODEL);
+
+        var storedModel = modelCatalog.store(USERNAME, "testModel", tempDir);
+        assertTrue(storedModel.stored());
+        assertFalse(storedModel.loaded());
+        assertThat(tempDir.resolve("testModel" + ModelDataFile.FILE_EXTENSION)).exists();
+        assertThat(modelCatalog.list(USERNAME)).allMatch(model -> !model.loaded());
+
+        var loadedModel = modelCatalog.get(USERNAME, "testModel", String.class, TestTrainConfig.class, ToMapConvertible.class);
+        assertEquals("modelData", loadedModel.data());
+        assertTrue(loadedModel.stored());
+    }
+
+    @Test
+    void shouldDeleteStoredModel(@TempDir Path tempDir) {
+        modelCatalog.set(TEST_MODEL);
+        modelCatalog.store(USERNAME, "testModel", tempDir);
+        modelCatalog.load(USERNAME, "testModel");
+
+        var deletedModel = modelCatalog.delete(USERNAME, "testModel");
+        assertFalse(deletedModel.stored());
+        assertTrue(modelCatalog.exists(USERNAME, "testModel"));
+        assertFalse(Files.exists(tempDir.resolve("testModel" + ModelDataFile.FILE_EXTENSION)));
+
+        modelCatalog.store(USERNAME, "testModel", tempDir);
+        modelCatalog.delete(USERNAME, "testModel");
+        assertFalse(modelCatalog.exists(USERNAME, "testModel"));
+    }
+
+    @Test
+    void shouldFailStoringUnsupportedModelData(@TempDir Path tempDir) {
+        modelCatalog.set(Model.of("testAlgo", GRAPH_SCHEMA, 1337L, TestTrainConfig.of(USERNAME, "testModel"), Map::of));
+
+        assertThatThrownBy(() -> modelCatalog.store(USERNAME, "testModel", tempDir))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Storing model data of type `Long` is not supported.");
+    }
+
+    @Test
+    void shouldDiscoverStoredModels(@TempDir Path tempDir) {
+        var graphSchema = GdlFactory
+            .of("(:A { p: 1.0 })-[:T { w: 42 }]->(:B { q: [1L, 2L] })")
+            .build()
+            .schema();
+        var trainConfig = TestTrainConfig.of(USERNAME, "testModel");
+        modelCatalog.set(Model.of("testAlgo", graphSchema, "modelData", trainConfig, () -> Map.of("info", 1337L)));
+        var storedModel = modelCatalog.store(USERNAME, "testModel", tempDir.resolve(USERNAME));
+
+        var restartedCatalog = new OpenModelCatalog();
+        restartedCatalog.discoverStoredModels(tempDir, Neo4jProxy.testLog());
+
+        var restoredModel = restartedCatalog.list(USERNAME).iterator().next();
+        assertThat(restoredModel.loaded()).isFalse();
+        assertThat(restoredModel.fileLocation()).isEqualTo(storedModel.fileLocation());
+        assertThat(restoredModel.creator()).isEqualTo(USERNAME);
+        assertThat(restoredModel.algoType()).isEqualTo("testAlgo");
+        assertThat(restoredModel.graphSchema()).isEqualTo(graphSchema);
+        assertThat(restoredModel.trainConfig().toMap()).isEqualTo(trainConfig.toMap());
+        assertThat(restoredModel.customInfo().toMap()).isEqualTo(Map.of("info", 1337L));
+        assertThat(restoredModel.creationTime()).isEqualTo(storedModel.creationTime());
+
+        var loadedModel = restartedCatalog.get(USERNAME, "testModel", String.class, TestTrainConfig.class, ToMapConvertible.class);
+        assertEquals("modelData", loadedModel.data());
+    }
+
+    @Test
+    void shouldSkipUnreadableStoredModels(@TempDir Path tempDir) throws IOException {
+        Files.createDirectories(tempDir.resolve(USERNAME));
+        Files.writeString(tempDir.resolve(USERNAME).resolve("broken" + ModelDataFile.FILE_EXTENSION), "not a model");
+
+        var log = Neo4jProxy.testLog();
+        var restartedCatalog = new OpenModelCatalog();
+        restartedCatalog.discoverStoredModels(tempDir, log);
+
+        assertTrue(restartedCatalog.isEmpty());
+        assertTrue(log.containsMessage(TestLog.WARN, "Could not restore the stored model"));
+    }
+
     @ValueClass
     @Configuration("ModelCatalogTestTrainConfigImpl")
     @SuppressWarnings("immutables:subtype")
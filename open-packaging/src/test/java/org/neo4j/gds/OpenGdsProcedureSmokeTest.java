@@ -92,6 +92,10 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         "gds.alpha.maxkcut.stream",
         "gds.alpha.maxkcut.stream.estimate",
 
+        "gds.alpha.model.delete",
+        "gds.alpha.model.load",
+        "gds.alpha.model.store",
+
         "gds.alpha.modularity.stats",
         "gds.alpha.modularity.stream",
 
@@ -522,7 +526,7 @@ class OpenGdsProcedureSmokeTest extends BaseProcTest {
         );
 
         // If you find yourself updating this count, please also update the count in SmokeTest.kt
-        int expectedCount = 371;
+        int expectedCount = 374;
         assertEquals(
             expectedCount,
             registeredProcedures.size(),
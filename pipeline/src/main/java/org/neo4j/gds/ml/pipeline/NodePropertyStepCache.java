@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.pipeline;
+
+import org.jetbrains.annotations.TestOnly;
+import org.neo4j.gds.NodeLabel;
+import org.neo4j.gds.RelationshipType;
+import org.neo4j.gds.annotation.ValueClass;
+import org.neo4j.configuration.Config;
+import org.neo4j.gds.api.CSRGraph;
+import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
+import org.neo4j.gds.api.schema.GraphSchema;
+import org.neo4j.gds.compat.GraphDatabaseApiProxy;
+import org.neo4j.gds.core.NodePropertyStepCacheSettings;
+import org.neo4j.gds.executor.ExecutionContext;
+import org.neo4j.gds.mem.MemoryUsage;
+
+import java.lang.reflect.Array;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Keeps the node properties computed by node property steps, so that re-running a pipeline on an unchanged graph
+ * can reuse them instead of executing the underlying algorithms again.
+ * <p>
+ * Results are stored per graph store and are only valid for the generation (modification time) the graph store had
+ * before the steps were executed. Any modification of the graph store outside the pipeline execution invalidates them.
+ * The total size of all cached properties is bounded by {@link NodePropertyStepCacheSettings#node_property_step_cache_max_size},
+ * evicting the least recently used results first. The cache is disabled unless that setting is configured.
+ */
+public final class NodePropertyStepCache {
+
+    private static final Map<GraphStore, GraphStoreEntries> entriesByGraphStore = new WeakHashMap<>();
+    private static long accessCounter = 0;
+
+    private NodePropertyStepCache() { }
+
+    /**
+     * The configured size limit of the cache, 0 if it is disabled or there is no database to read the setting from.
+     */
+    static long maxMemoryInBytes(ExecutionContext executionContext) {
+        var databaseService = executionContext.databaseService();
+        if (databaseService == null) {
+            return 0;
+        }
+        return GraphDatabaseApiProxy
+            .resolveDependency(databaseService, Config.class)
+            .get(NodePropertyStepCacheSettings.node_property_step_cache_max_size);
+    }
+
+    /**
+     * Drops all cached results of the graph store, unless they were computed on the given generation.
+     */
+    static synchronized void validate(GraphStore graphStore, ZonedDateTime generation) {
+        var entries = entriesByGraphStore.computeIfAbsent(graphStore, ignore -> new GraphStoreEntries(generation));
+        if (!entries.generation.equals(generation)) {
+            entries.byKey.clear();
+            entries.generation = generation;
+        }
+    }
+
+    /**
+     * Declares the graph store unchanged between both generations, given that the cached results are still valid for
+     * the previous one.
+     */
+    static synchronized void advanceGeneration(GraphStore graphStore, ZonedDateTime previous, ZonedDateTime next) {
+        var entries = entriesByGraphStore.get(graphStore);
+        if (entries != null && entries.generation.equals(previous)) {
+            entries.generation = next;
+        }
+    }
+
+    static synchronized void invalidate(GraphStore graphStore) {
+        entriesByGraphStore.remove(graphStore);
+    }
+
+    static synchronized Optional<CachedNodeProperty> get(GraphStore graphStore, StepKey key) {
+        var entries = entriesByGraphStore.get(graphStore);
+        if (entries == null) {
+            return Optional.empty();
+        }
+
+        var entry = entries.byKey.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+
+        entry.lastAccess = ++accessCounter;
+        return Optional.of(entry.property);
+    }
+
+    static synchronized void put(
+        GraphStore graphStore,
+        StepKey key,
+        Set<NodeLabel> nodeLabels,
+        NodePropertyValues values,
+        long maxMemory
+    ) {
+        var entries = entriesByGraphStore.get(graphStore);
+        long sizeInBytes = sizeInBytes(values);
+
+        if (entries == null || entries.byKey.containsKey(key) || sizeInBytes > maxMemory) {
+            return;
+        }
+
+        while (usedMemory() + sizeInBytes > maxMemory && evictLeastRecentlyUsed()) {
+            // keep evicting until the new result fits
+        }
+
+        var entry = new Entry(ImmutableCachedNodeProperty.of(nodeLabels, values), sizeInBytes);
+        entry.lastAccess = ++accessCounter;
+        entries.byKey.put(key, entry);
+    }
+
+    /**
+     * Sums up the cached results of all graph stores which have not been garbage collected yet.
+     */
+    static synchronized long usedMemory() {
+        return entriesByGraphStore
+            .values()
+            .stream()
+            .flatMap(entries -> entries.byKey.values().stream())
+            .mapToLong(entry -> entry.sizeInBytes)
+            .sum();
+    }
+
+    @TestOnly
+    public static synchronized void removeAll() {
+        entriesByGraphStore.clear();
+    }
+
+    private static boolean evictLeastRecentlyUsed() {
+        GraphStoreEntries evictFrom = null;
+        StepKey evictKey = null;
+        long oldestAccess = Long.MAX_VALUE;
+
+        for (var entries : entriesByGraphStore.values()) {
+            for (var keyAndEntry : entries.byKey.entrySet()) {
+                if (keyAndEntry.getValue().lastAccess < oldestAccess) {
+                    oldestAccess = keyAndEntry.getValue().lastAccess;
+                    evictFrom = entries;
+                    evictKey = keyAndEntry.getKey();
+                }
+            }
+        }
+
+        if (evictFrom == null) {
+            return false;
+        }
+
+        evictFrom.byKey.remove(evictKey);
+        return true;
+    }
+
+    static long sizeInBytes(NodePropertyValues values) {
+        long nodeCount = values.size();
+
+        switch (values.valueType()) {
+            case LONG:
+                return MemoryUsage.sizeOfLongArray(nodeCount);
+            case DOUBLE:
+                return MemoryUsage.sizeOfDoubleArray(nodeCount);
+            case LONG_ARRAY:
+                return nodeCount * MemoryUsage.sizeOfLongArray(arrayLength(values, nodeCount));
+            case FLOAT_ARRAY:
+                return nodeCount * MemoryUsage.sizeOfFloatArray(arrayLength(values, nodeCount));
+            case DOUBLE_ARRAY:
+                return nodeCount * MemoryUsage.sizeOfDoubleArray(arrayLength(values, nodeCount));
+            default:
+                return MemoryUsage.sizeOfObjectArray(nodeCount);
+        }
+    }
+
+    private static int arrayLength(NodePropertyValues values, long nodeCount) {
+        for (long nodeId = 0; nodeId < nodeCount; nodeId++) {
+            var value = values.getObject(nodeId);
+            if (value != null) {
+                return Array.getLength(value);
+            }
+        }
+        return 0;
+    }
+
+    @ValueClass
+    interface StepKey {
+        String procName();
+
+        Map<String, Object> config();
+
+        Set<NodeLabel> nodeLabels();
+
+        Set<RelationshipType> relationshipTypes();
+
+        /**
+         * Keys of the steps executed before, as their results may be input to this step.
+         */
+        List<StepKey> precedingSteps();
+    }
+
+    /**
+     * The contents of a graph store, compared by identity. Two equal states share all their data structures,
+     * so results computed on one of them are valid for the other.
+     */
+    static final class GraphStoreState {
+        private final GraphSchema schema;
+        private final Map<String, Object> contents;
+
+        private GraphStoreState(GraphSchema schema, Map<String, Object> contents) {
+            this.schema = schema;
+            this.contents = contents;
+        }
+
+        static GraphStoreState of(GraphStore graphStore) {
+            var contents = new HashMap<String, Object>();
+            contents.put("nodes", graphStore.nodes());
+            graphStore.nodePropertyKeys().forEach(propertyKey -> contents.put(
+                "node property " + propertyKey,
+                graphStore.nodeProperty(propertyKey).values()
+            ));
+            graphStore.graphPropertyKeys().forEach(propertyKey -> contents.put(
+                "graph property " + propertyKey,
+                graphStore.graphPropertyValues(propertyKey)
+            ));
+            for (var relationshipType : graphStore.relationshipTypes()) {
+                var graph = graphStore.getGraph(relationshipType);
+                contents.put(
+                    "relationships " + relationshipType.name,
+                    graph instanceof CSRGraph
+                        ? ((CSRGraph) graph).relationshipTopologies().get(relationshipType).adjacencyList()
+                        : graph
+                );
+                graphStore.relationshipPropertyKeys(relationshipType).forEach(propertyKey -> contents.put(
+                    "relationship property " + relationshipType.name + " " + propertyKey,
+                    graphStore.relationshipPropertyValues(relationshipType, propertyKey).values()
+                ));
+            }
+            return new GraphStoreState(graphStore.schema(), contents);
+        }
+
+        boolean isSameAs(GraphStoreState other) {
+            return schema.equals(other.schema)
+                   && contents.keySet().equals(other.contents.keySet())
+                   && contents.entrySet().stream().allMatch(entry -> other.contents.get(entry.getKey()) == entry.getValue());
+        }
+    }
+
+    @ValueClass
+    interface CachedNodeProperty {
+        Set<NodeLabel> nodeLabels();
+
+        NodePropertyValues values();
+    }
+
+    private static final class GraphStoreEntries {
+        private final Map<StepKey, Entry> byKey;
+        private ZonedDateTime generation;
+
+        GraphStoreEntries(ZonedDateTime generation) {
+            this.byKey = new HashMap<>();
+            this.generation = generation;
+        }
+    }
+
+    private static final class Entry {
+        private final CachedNodeProperty property;
+        private final long sizeInBytes;
+        private long lastAccess;
+
+        Entry(CachedNodeProperty property, long sizeInBytes) {
+            this.property = property;
+            this.sizeInBytes = sizeInBytes;
+        }
+    }
+}
@@ -19,6 +19,7 @@
  */
 package org.neo4j.gds.ml.pipeline;
 
+import org.jetbrains.annotations.Nullable;
 import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.GraphStore;
@@ -33,8 +34,12 @@ import org.neo4j.gds.core.utils.progress.tasks.Task;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
 import org.neo4j.gds.executor.ExecutionContext;
 
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -51,6 +56,12 @@ public class NodePropertyStepExecutor<PIPELINE_CONFIG extends AlgoBaseConfig & G
     private final Set<RelationshipType> availableRelationshipTypesForNodeProperties;
     private final ProgressTracker progressTracker;
 
+    // the state of the graph store before the pipeline modified it, for reusing cached node property step results
+    private final long cacheMaxMemoryInBytes;
+    private final ZonedDateTime graphStoreGeneration;
+    private final Set<RelationshipType> relationshipTypesBeforeExecution;
+    private final @Nullable NodePropertyStepCache.GraphStoreState graphStoreStateBeforeExecution;
+
     NodePropertyStepExecutor(
         ExecutionContext executionContext,
         PIPELINE_CONFIG config,
@@ -59,6 +70,28 @@ public class NodePropertyStepExecutor<PIPELINE_CONFIG extends AlgoBaseConfig & G
         Collection<RelationshipType> relationshipTypes,
         Set<RelationshipType> availableRelationshipTypesForNodeProperties,
         ProgressTracker progressTracker
+    ) {
+        this(
+            executionContext,
+            config,
+            graphStore,
+            nodeLabels,
+            relationshipTypes,
+            availableRelationshipTypesForNodeProperties,
+            progressTracker,
+            NodePropertyStepCache.maxMemoryInBytes(executionContext)
+        );
+    }
+
+    NodePropertyStepExecutor(
+        ExecutionContext executionContext,
+        PIPELINE_CONFIG config,
+        GraphStore graphStore,
+        Collection<NodeLabel> nodeLabels,
+        Collection<RelationshipType> relationshipTypes,
+        Set<RelationshipType> availableRelationshipTypesForNodeProperties,
+        ProgressTracker progressTracker,
+        long cacheMaxMemoryInBytes
     ) {
         this.executionContext = executionContext;
         this.config = config;
@@ -67,6 +100,12 @@ public class NodePropertyStepExecutor<PIPELINE_CONFIG extends AlgoBaseConfig & G
         this.relTypes = relationshipTypes;
         this.availableRelationshipTypesForNodeProperties = availableRelationshipTypesForNodeProperties;
         this.progressTracker = progressTracker;
+        this.cacheMaxMemoryInBytes = cacheMaxMemoryInBytes;
+        this.graphStoreGeneration = graphStore.modificationTime();
+        this.relationshipTypesBeforeExecution = new HashSet<>(graphStore.relationshipTypes());
+        this.graphStoreStateBeforeExecution = isCacheEnabled()
+            ? NodePropertyStepCache.GraphStoreState.of(graphStore)
+            : null;
     }
 
     public static MemoryEstimation estimateNodePropertySteps(
@@ -114,18 +153,87 @@ public class NodePropertyStepExecutor<PIPELINE_CONFIG extends AlgoBaseConfig & G
 
     public void executeNodePropertySteps(List<ExecutableNodePropertyStep> steps) {
         progressTracker.beginSubTask("Execute node property steps");
+
+        if (isCacheEnabled()) {
+            NodePropertyStepCache.validate(graphStore, graphStoreGeneration);
+        }
+        var precedingSteps = new ArrayList<NodePropertyStepCache.StepKey>();
+        boolean cacheable = isCacheEnabled();
+
         for (ExecutableNodePropertyStep step : steps) {
             progressTracker.beginSubTask();
             var featureInputNodeLabels = step.featureInputNodeLabels(graphStore, nodeLabels);
             var featureInputRelationshipTypes = step.featureInputRelationshipTypes(graphStore, relTypes, availableRelationshipTypesForNodeProperties);
-            step.execute(executionContext, config.graphName(), featureInputNodeLabels, featureInputRelationshipTypes);
+
+            // relationships created by the pipeline, such as dataset splits, may differ between executions
+            // and so do the results of all steps depending on them
+            cacheable = cacheable && relationshipTypesBeforeExecution.containsAll(featureInputRelationshipTypes);
+            var stepKey = ImmutableStepKey.of(
+                step.procName(),
+                step.config(),
+                featureInputNodeLabels,
+                featureInputRelationshipTypes,
+                precedingSteps
+            );
+
+            var cachedProperty = cacheable
+                ? NodePropertyStepCache.get(graphStore, stepKey)
+                : Optional.<NodePropertyStepCache.CachedNodeProperty>empty();
+
+            if (cachedProperty.isPresent()) {
+                graphStore.addNodeProperty(
+                    cachedProperty.get().nodeLabels(),
+                    step.mutateNodeProperty(),
+                    cachedProperty.get().values()
+                );
+                progressTracker.logInfo(formatWithLocale("Reused cached result of step `%s`", step.procName()));
+            } else {
+                step.execute(executionContext, config.graphName(), featureInputNodeLabels, featureInputRelationshipTypes);
+                if (cacheable) {
+                    cacheResult(stepKey, step.mutateNodeProperty());
+                }
+            }
+
+            precedingSteps.add(stepKey);
             progressTracker.endSubTask();
         }
         progressTracker.endSubTask("Execute node property steps");
     }
 
+    private void cacheResult(NodePropertyStepCache.StepKey stepKey, String propertyKey) {
+        var nodeLabelsWithProperty = graphStore
+            .nodeLabels()
+            .stream()
+            .filter(label -> graphStore.hasNodeProperty(label, propertyKey))
+            .collect(Collectors.toSet());
+
+        NodePropertyStepCache.put(
+            graphStore,
+            stepKey,
+            nodeLabelsWithProperty,
+            graphStore.nodeProperty(propertyKey).values(),
+            cacheMaxMemoryInBytes
+        );
+    }
+
     public void cleanupIntermediateProperties(List<ExecutableNodePropertyStep> steps) {
         steps.stream().map(ExecutableNodePropertyStep::mutateNodeProperty).forEach(graphStore::removeNodeProperty);
+
+        if (graphStoreStateBeforeExecution == null) {
+            return;
+        }
+
+        // cached results remain valid only if the graph store is back to the state before the pipeline was executed,
+        // which is not the case if anyone else modified it in the meantime
+        if (graphStoreStateBeforeExecution.isSameAs(NodePropertyStepCache.GraphStoreState.of(graphStore))) {
+            NodePropertyStepCache.advanceGeneration(graphStore, graphStoreGeneration, graphStore.modificationTime());
+        } else {
+            NodePropertyStepCache.invalidate(graphStore);
+        }
+    }
+
+    private boolean isCacheEnabled() {
+        return cacheMaxMemoryInBytes > 0;
     }
 
     public static <CONFIG extends AlgoBaseConfig & GraphNameConfig> NodePropertyStepExecutor<CONFIG> of(
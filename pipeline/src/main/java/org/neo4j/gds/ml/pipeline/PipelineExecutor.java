@@ -107,8 +107,8 @@ public abstract class PipelineExecutor<
             progressTracker.endSubTask();
             return result;
         } finally {
-            nodePropertyStepExecutor.cleanupIntermediateProperties(pipeline.nodePropertySteps());
             additionalGraphStoreCleanup(dataSplitGraphFilters);
+            nodePropertyStepExecutor.cleanupIntermediateProperties(pipeline.nodePropertySteps());
         }
     }
 
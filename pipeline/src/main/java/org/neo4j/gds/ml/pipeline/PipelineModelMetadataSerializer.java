@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.pipeline;
+
+import org.neo4j.gds.config.ToMapConvertible;
+import org.neo4j.gds.core.model.ModelMetadataSerializer;
+import org.neo4j.gds.ml.models.TrainerConfig;
+import org.neo4j.gds.ml.models.TrainingMethod;
+import org.neo4j.gds.ml.pipeline.nodePipeline.NodeFeatureStep;
+import org.neo4j.gds.ml.pipeline.nodePipeline.NodePropertyPredictPipeline;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Base for the metadata serializers of pipeline models.
+ * The predict pipeline is stored in the same shape as it is listed in the model catalog,
+ * so that its node property steps are validated again when the model is restored.
+ */
+public abstract class PipelineModelMetadataSerializer implements ModelMetadataSerializer {
+
+    protected static final String BEST_PARAMETERS_KEY = "bestParameters";
+    protected static final String METRICS_KEY = "metrics";
+    protected static final String PIPELINE_KEY = "pipeline";
+
+    private static final String METHOD_KEY = "method";
+    private static final String PARAMETERS_KEY = "parameters";
+    private static final String NODE_PROPERTY_STEPS_KEY = "nodePropertySteps";
+    private static final String FEATURE_PROPERTIES_KEY = "featureProperties";
+
+    protected static Map<String, Object> trainerConfigToMap(TrainerConfig trainerConfig) {
+        // the method is stored by its constant name, as some methods share their display name
+        return Map.of(
+            METHOD_KEY, trainerConfig.method().name(),
+            PARAMETERS_KEY, trainerConfig.toMap()
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    protected static TrainerConfig trainerConfig(Object trainerConfigMap) {
+        var map = (Map<String, Object>) trainerConfigMap;
+        return TrainingMethod
+            .valueOf((String) map.get(METHOD_KEY))
+            .createConfig((Map<String, Object>) map.get(PARAMETERS_KEY));
+    }
+
+    protected static List<Map<String, Object>> nodePropertyStepsToMap(List<ExecutableNodePropertyStep> steps) {
+        return ToMapConvertible.toMap(steps);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected static List<NodePropertyStep> nodePropertySteps(Object stepMaps) {
+        return ((List<Map<String, Object>>) stepMaps)
+            .stream()
+            .map(step -> NodePropertyStepFactory.createNodePropertyStep(
+                (String) step.get("name"),
+                (Map<String, Object>) step.get("config")
+            ))
+            .collect(Collectors.toList());
+    }
+
+    protected static Map<String, Object> nodePropertyPredictPipelineToMap(NodePropertyPredictPipeline pipeline) {
+        return Map.of(
+            NODE_PROPERTY_STEPS_KEY, nodePropertyStepsToMap(pipeline.nodePropertySteps()),
+            FEATURE_PROPERTIES_KEY, pipeline.featureProperties()
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    protected static NodePropertyPredictPipeline nodePropertyPredictPipeline(Object pipelineMap) {
+        var map = (Map<String, Object>) pipelineMap;
+        return NodePropertyPredictPipeline.from(
+            nodePropertySteps(map.get(NODE_PROPERTY_STEPS_KEY)).stream(),
+            ((List<String>) map.get(FEATURE_PROPERTIES_KEY)).stream().map(NodeFeatureStep::of)
+        );
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.pipeline.linkPipeline;
+
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
+import org.neo4j.gds.ml.models.Features;
+
+/**
+ * Link features which are computed on access from the node properties of the link's end nodes.
+ * Only the end nodes of each link are kept, which trades computing the features again on every access for not
+ * materializing a feature vector per link.
+ */
+final class LazyLinkFeatures implements Features {
+    private final LinkFeatureExtractor extractor;
+    private final HugeLongArray sourceNodes;
+    private final HugeLongArray targetNodes;
+
+    LazyLinkFeatures(LinkFeatureExtractor extractor, HugeLongArray sourceNodes, HugeLongArray targetNodes) {
+        this.extractor = extractor;
+        this.sourceNodes = sourceNodes;
+        this.targetNodes = targetNodes;
+    }
+
+    @Override
+    public long size() {
+        return sourceNodes.size();
+    }
+
+    @Override
+    public double[] get(long id) {
+        return extractor.extractFeatures(sourceNodes.get(id), targetNodes.get(id));
+    }
+
+    @Override
+    public int featureDimension() {
+        return extractor.featureDimension();
+    }
+}
@@ -19,9 +19,11 @@
  */
 package org.neo4j.gds.ml.pipeline.linkPipeline;
 
+import org.apache.commons.lang3.mutable.MutableLong;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.core.concurrency.RunWithConcurrency;
 import org.neo4j.gds.core.utils.TerminationFlag;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.partition.DegreePartition;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
@@ -74,6 +76,65 @@ public final class LinkFeatureExtractor {
             graph.relationshipCount()
         );
 
+        forEachLink(
+            graph,
+            concurrency,
+            progressTracker,
+            terminationFlag,
+            (relationshipIndex, sourceNodeId, targetNodeId) -> linkFeatures.set(
+                relationshipIndex,
+                extractor.extractFeatures(sourceNodeId, targetNodeId)
+            )
+        );
+
+        return FeaturesFactory.wrap(linkFeatures);
+    }
+
+    /**
+     * Only collects the end nodes of the links, deferring the feature computation to accessing the returned features.
+     */
+    public static Features extractLazyFeatures(
+        Graph graph,
+        List<LinkFeatureStep> linkFeatureSteps,
+        int concurrency,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag
+    ) {
+        var extractor = of(graph, linkFeatureSteps);
+
+        var sourceNodes = HugeLongArray.newArray(graph.relationshipCount());
+        var targetNodes = HugeLongArray.newArray(graph.relationshipCount());
+
+        forEachLink(
+            graph,
+            concurrency,
+            progressTracker,
+            terminationFlag,
+            (relationshipIndex, sourceNodeId, targetNodeId) -> {
+                sourceNodes.set(relationshipIndex, sourceNodeId);
+                targetNodes.set(relationshipIndex, targetNodeId);
+            }
+        );
+
+        return new LazyLinkFeatures(extractor, sourceNodes, targetNodes);
+    }
+
+    @FunctionalInterface
+    private interface LinkConsumer {
+        void accept(long relationshipIndex, long sourceNodeId, long targetNodeId);
+    }
+
+    /**
+     * Visits all links of the graph in parallel batches.
+     * The index of a link is its position when iterating the relationships of all nodes in order.
+     */
+    private static void forEachLink(
+        Graph graph,
+        int concurrency,
+        ProgressTracker progressTracker,
+        TerminationFlag terminationFlag,
+        LinkConsumer linkConsumer
+    ) {
         var partitions = PartitionUtils.degreePartition(
             graph,
             concurrency,
@@ -81,27 +142,27 @@ public final class LinkFeatureExtractor {
             Optional.of(GradientDescentConfig.DEFAULT_BATCH_SIZE)
         );
 
-        var linkFeatureWriters = new ArrayList<BatchLinkFeatureExtractor>();
+        var tasks = new ArrayList<Runnable>();
         var relationshipOffset = 0L;
         for (DegreePartition partition : partitions) {
-            linkFeatureWriters.add(new BatchLinkFeatureExtractor(
-                extractor,
-                partition,
-                graph.concurrentCopy(),
-                relationshipOffset,
-                linkFeatures,
-                progressTracker
-            ));
+            var concurrentGraph = graph.concurrentCopy();
+            var currentRelationshipOffset = new MutableLong(relationshipOffset);
+            tasks.add(() -> {
+                partition.consume(nodeId -> concurrentGraph.forEachRelationship(nodeId, (sourceNodeId, targetNodeId) -> {
+                    linkConsumer.accept(currentRelationshipOffset.getAndIncrement(), sourceNodeId, targetNodeId);
+                    return true;
+                }));
+
+                progressTracker.logSteps(partition.totalDegree());
+            });
             relationshipOffset += partition.totalDegree();
         }
 
         RunWithConcurrency.builder()
             .concurrency(concurrency)
-            .tasks(linkFeatureWriters)
+            .tasks(tasks)
             .terminationFlag(terminationFlag)
             .run();
-
-        return FeaturesFactory.wrap(linkFeatures);
     }
 
     public int featureDimension() {
@@ -110,12 +171,20 @@ public final class LinkFeatureExtractor {
 
     public double[] extractFeatures(long source, long target) {
         var featuresForLink = new double[featureDimension];
+        extractFeatures(source, target, featuresForLink);
+        return featuresForLink;
+    }
+
+    /**
+     * Writes the features of the given link into {@code featuresForLink}, which must have at least {@link #featureDimension()} entries.
+     * Allows callers to reuse feature buffers across links.
+     */
+    public void extractFeatures(long source, long target, double[] featuresForLink) {
         int featureOffset = 0;
         for (LinkFeatureAppender featureProducer : linkFeatureAppenders) {
             featureProducer.appendFeatures(source, target, featuresForLink, featureOffset);
             featureOffset += featureProducer.dimension();
         }
-        return featuresForLink;
     }
 
     public boolean isSymmetric() {
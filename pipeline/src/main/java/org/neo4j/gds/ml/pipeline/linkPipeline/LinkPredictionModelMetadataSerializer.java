@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.pipeline.linkPipeline;
+
+import org.neo4j.annotations.service.ServiceProvider;
+import org.neo4j.gds.config.ToMapConvertible;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.ml.pipeline.ExecutableNodePropertyStep;
+import org.neo4j.gds.ml.pipeline.PipelineModelMetadataSerializer;
+import org.neo4j.gds.ml.pipeline.linkPipeline.linkfunctions.LinkFeatureStepConfigurationImpl;
+import org.neo4j.gds.ml.pipeline.linkPipeline.train.LinkPredictionTrainConfig;
+import org.neo4j.gds.model.ModelConfig;
+
+import java.util.List;
+import java.util.Map;
+
+@ServiceProvider
+public final class LinkPredictionModelMetadataSerializer extends PipelineModelMetadataSerializer {
+
+    private static final String NODE_PROPERTY_STEPS_KEY = "nodePropertySteps";
+    private static final String FEATURE_STEPS_KEY = "featureSteps";
+
+    @Override
+    public String algoType() {
+        return LinkPredictionTrainingPipeline.MODEL_TYPE;
+    }
+
+    @Override
+    public ModelConfig trainConfig(String username, Map<String, Object> trainConfigMap) {
+        return LinkPredictionTrainConfig.of(username, CypherMapWrapper.create(trainConfigMap));
+    }
+
+    @Override
+    public Map<String, Object> customInfoToMap(ToMapConvertible customInfo) {
+        var modelInfo = (LinkPredictionModelInfo) customInfo;
+        return Map.of(
+            BEST_PARAMETERS_KEY, trainerConfigToMap(modelInfo.bestParameters()),
+            METRICS_KEY, modelInfo.metrics(),
+            PIPELINE_KEY, Map.of(
+                NODE_PROPERTY_STEPS_KEY, nodePropertyStepsToMap(modelInfo.pipeline().nodePropertySteps()),
+                FEATURE_STEPS_KEY, ToMapConvertible.toMap(modelInfo.pipeline().featureSteps())
+            )
+        );
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ToMapConvertible customInfo(Map<String, Object> customInfoMap) {
+        var pipelineMap = (Map<String, Object>) customInfoMap.get(PIPELINE_KEY);
+        var pipeline = LinkPredictionPredictPipeline.from(
+            nodePropertySteps(pipelineMap.get(NODE_PROPERTY_STEPS_KEY))
+                .stream()
+                .map(ExecutableNodePropertyStep.class::cast),
+            ((List<Map<String, Object>>) pipelineMap.get(FEATURE_STEPS_KEY))
+                .stream()
+                .map(step -> LinkFeatureStepFactory.create(
+                    (String) step.get("name"),
+                    new LinkFeatureStepConfigurationImpl(CypherMapWrapper.create((Map<String, Object>) step.get("config")))
+                ))
+        );
+
+        return ImmutableLinkPredictionModelInfo.of(
+            trainerConfig(customInfoMap.get(BEST_PARAMETERS_KEY)),
+            (Map<String, Object>) customInfoMap.get(METRICS_KEY),
+            pipeline
+        );
+    }
+}
@@ -28,6 +28,7 @@ import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
 import org.neo4j.gds.core.utils.mem.MemoryRange;
 import org.neo4j.gds.core.utils.paged.HugeIntArray;
+import org.neo4j.gds.core.utils.paged.HugeLongArray;
 import org.neo4j.gds.core.utils.paged.HugeObjectArray;
 import org.neo4j.gds.core.utils.partition.DegreePartition;
 import org.neo4j.gds.core.utils.partition.PartitionUtils;
@@ -55,14 +56,24 @@ final class LinkFeaturesAndLabelsExtractor {
     static MemoryEstimation estimate(
         MemoryRange fudgedLinkFeatureDim,
         ToLongFunction<Map<RelationshipType, Long>> relSetSizeExtractor,
-        String setDesc
+        String setDesc,
+        boolean lazyFeatures
     ) {
-        return MemoryEstimations
-            .builder()
-            .rangePerGraphDimension(setDesc + " relationship features", (graphDim, threads) -> fudgedLinkFeatureDim
+        var builder = MemoryEstimations.builder();
+
+        if (lazyFeatures) {
+            // only the source and target node of each relationship are kept
+            builder.perGraphDimension(setDesc + " relationship end nodes", (graphDim, threads) -> MemoryRange.of(
+                2 * HugeLongArray.memoryEstimation(relSetSizeExtractor.applyAsLong(graphDim.relationshipCounts()))
+            ));
+        } else {
+            builder.rangePerGraphDimension(setDesc + " relationship features", (graphDim, threads) -> fudgedLinkFeatureDim
                 .apply(MemoryUsage::sizeOfDoubleArray)
                 .times(relSetSizeExtractor.applyAsLong(graphDim.relationshipCounts()))
-                .add(MemoryUsage.sizeOfInstance(HugeObjectArray.class)))
+                .add(MemoryUsage.sizeOfInstance(HugeObjectArray.class)));
+        }
+
+        return builder
             .perGraphDimension(
                 setDesc + "relationship targets",
                 (graphDim, threads) -> MemoryRange.of(
@@ -75,17 +86,14 @@ final class LinkFeaturesAndLabelsExtractor {
         Graph graph,
         List<LinkFeatureStep> featureSteps,
         int concurrency,
+        boolean lazyFeatures,
         ProgressTracker progressTracker,
         TerminationFlag terminationFlag
     ) {
         progressTracker.setSteps(graph.relationshipCount() * 2);
-        var features = LinkFeatureExtractor.extractFeatures(
-            graph,
-            featureSteps,
-            concurrency,
-            progressTracker,
-            terminationFlag
-        );
+        var features = lazyFeatures
+            ? LinkFeatureExtractor.extractLazyFeatures(graph, featureSteps, concurrency, progressTracker, terminationFlag)
+            : LinkFeatureExtractor.extractFeatures(graph, featureSteps, concurrency, progressTracker, terminationFlag);
 
         var labels = extractLabels(graph, features.size(), concurrency, progressTracker, terminationFlag);
 
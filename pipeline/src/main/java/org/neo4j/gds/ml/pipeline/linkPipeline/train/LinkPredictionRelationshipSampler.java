@@ -25,7 +25,6 @@ import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.IdMap;
-import org.neo4j.gds.config.ConcurrencyConfig;
 import org.neo4j.gds.config.ElementTypeValidator;
 import org.neo4j.gds.core.utils.mem.MemoryEstimation;
 import org.neo4j.gds.core.utils.mem.MemoryEstimations;
@@ -123,7 +122,9 @@ public class LinkPredictionRelationshipSampler {
             trainSplitResult.selectedRelCount(),
             sourceNodes,
             targetNodes,
-            trainConfig.randomSeed()
+            trainConfig.randomSeed(),
+            trainConfig.concurrency(),
+            trainConfig.partitionedSplitting()
         );
         negativeSampler.produceNegativeSamples(testSplitResult.selectedRels(), trainSplitResult.selectedRels());
 
@@ -156,7 +157,8 @@ public class LinkPredictionRelationshipSampler {
             trainConfig.randomSeed(),
             sourceNodes,
             targetNodes,
-            ConcurrencyConfig.DEFAULT_CONCURRENCY
+            trainConfig.concurrency(),
+            trainConfig.partitionedSplitting()
         );
 
         var splitResult = splitter.splitPositiveExamples(
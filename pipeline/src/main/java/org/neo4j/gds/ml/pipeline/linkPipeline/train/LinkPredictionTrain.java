@@ -126,6 +126,7 @@ public final class LinkPredictionTrain {
             trainGraph,
             pipeline.featureSteps(),
             config.concurrency(),
+            config.lazyLinkFeatures(),
             progressTracker,
             terminationFlag
         );
@@ -143,7 +144,8 @@ public final class LinkPredictionTrain {
             trainRelationshipIds,
             trainingStatistics.bestParameters(),
             LogLevel.INFO,
-            ModelSpecificMetricsHandler.of(config.metrics(), trainingStatistics::addTestScore)
+            ModelSpecificMetricsHandler.of(config.metrics(), trainingStatistics::addTestScore),
+            config.concurrency()
         );
         progressTracker.endSubTask("Train best model");
 
@@ -154,7 +156,8 @@ public final class LinkPredictionTrain {
             classifier,
             trainRelationshipIds,
             trainingStatistics::addOuterTrainScore,
-            progressTracker
+            progressTracker,
+            config.concurrency()
         );
         progressTracker.endSubTask("Compute train metrics");
 
@@ -188,19 +191,23 @@ public final class LinkPredictionTrain {
             config.metrics(),
             pipeline.splitConfig().validationFolds(),
             config.randomSeed(),
-            (trainSet, modelParameters, metricsHandler, messageLogLevel) -> trainModel(
+            config.concurrency(),
+            config.maxConcurrentTrainingJobs(),
+            (trainSet, modelParameters, metricsHandler, messageLogLevel, concurrency) -> trainModel(
                 trainData,
                 trainSet,
                 modelParameters,
                 messageLogLevel,
-                metricsHandler
+                metricsHandler,
+                concurrency
             ),
-            (evaluationSet, classifier, scoreConsumer) -> computeTrainMetric(
+            (evaluationSet, classifier, scoreConsumer, concurrency) -> computeTrainMetric(
                 trainData,
                 classifier,
                 evaluationSet,
                 scoreConsumer,
-                ProgressTracker.NULL_TRACKER
+                ProgressTracker.NULL_TRACKER,
+                concurrency
             )
         );
 
@@ -219,7 +226,8 @@ public final class LinkPredictionTrain {
         ReadOnlyHugeLongArray trainSet,
         TrainerConfig trainerConfig,
         LogLevel messageLogLevel,
-        ModelSpecificMetricsHandler metricsHandler
+        ModelSpecificMetricsHandler metricsHandler,
+        int concurrency
     ) {
         return ClassifierTrainerFactory.create(
             trainerConfig,
@@ -227,7 +235,7 @@ public final class LinkPredictionTrain {
             terminationFlag,
             progressTracker,
             messageLogLevel,
-            config.concurrency(),
+            concurrency,
             config.randomSeed(),
             true,
             metricsHandler
@@ -240,6 +248,7 @@ public final class LinkPredictionTrain {
             validationGraph,
             pipeline.featureSteps(),
             config.concurrency(),
+            config.lazyLinkFeatures(),
             progressTracker,
             terminationFlag
         );
@@ -269,14 +278,15 @@ public final class LinkPredictionTrain {
         Classifier classifier,
         ReadOnlyHugeLongArray evaluationSet,
         MetricConsumer metricConsumer,
-        ProgressTracker progressTracker
+        ProgressTracker progressTracker,
+        int concurrency
     ) {
         var signedProbabilities = SignedProbabilities.computeFromLabeledData(
             trainData.features(),
             trainData.labels(),
             classifier,
             BatchQueue.fromArray(evaluationSet),
-            config.concurrency(),
+            concurrency,
             terminationFlag,
             progressTracker
         );
@@ -311,15 +321,17 @@ public final class LinkPredictionTrain {
                 LinkFeaturesAndLabelsExtractor.estimate(
                     fudgedLinkFeatureDim,
                     relCounts -> relCounts.get(splitConfig.trainRelationshipType()),
-                    "Train"
+                    "Train",
+                    trainConfig.lazyLinkFeatures()
                 ),
                 LinkFeaturesAndLabelsExtractor.estimate(
                     fudgedLinkFeatureDim,
                     relCounts -> relCounts.get(splitConfig.testRelationshipType()),
-                    "Test"
+                    "Test",
+                    trainConfig.lazyLinkFeatures()
                 )
             ))
-            .add(estimateTrainingAndEvaluation(pipeline, fudgedLinkFeatureDim, numberOfMetrics))
+            .add(estimateTrainingAndEvaluation(pipeline, trainConfig, fudgedLinkFeatureDim, numberOfMetrics))
             // we do not consider the training of the best model on the outer train set as the memory estimation is at most the maximum of the model training during the model selection
             // this assumes the training is independent of the relationship set size
             .add("Outer train stats map", TrainingStatistics.memoryEstimationStatsMap(numberOfMetrics, 1, 1))
@@ -334,6 +346,7 @@ public final class LinkPredictionTrain {
 
     private static MemoryEstimation estimateTrainingAndEvaluation(
         LinkPredictionTrainingPipeline pipeline,
+        LinkPredictionTrainConfig trainConfig,
         MemoryRange linkFeatureDimension,
         int numberOfMetrics
     ) {
@@ -364,7 +377,11 @@ public final class LinkPredictionTrain {
                     dim -> dim.relationshipCounts().get(splitConfig.trainRelationshipType())
                 )
             )
-            .add(maxEstimationOverModelCandidates)
+            .add(CrossValidation.estimateConcurrentFolds(
+                maxEstimationOverModelCandidates,
+                splitConfig.validationFolds(),
+                trainConfig.maxConcurrentTrainingJobs()
+            ))
             .add(
                 "Inner train stats map",
                 TrainingStatistics.memoryEstimationStatsMap(numberOfMetrics, pipeline.numberOfModelSelectionTrials(), 1)
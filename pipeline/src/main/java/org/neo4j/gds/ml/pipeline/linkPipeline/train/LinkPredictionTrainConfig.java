@@ -32,6 +32,7 @@ import org.neo4j.gds.config.RandomSeedConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.ml.metrics.LinkMetric;
 import org.neo4j.gds.ml.metrics.Metric;
+import org.neo4j.gds.ml.pipeline.ConcurrentTrainingJobsConfig;
 import org.neo4j.gds.model.ModelConfig;
 
 import java.util.Collection;
@@ -44,7 +45,7 @@ import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface LinkPredictionTrainConfig extends AlgoBaseConfig, GraphNameConfig, ModelConfig, RandomSeedConfig {
+public interface LinkPredictionTrainConfig extends AlgoBaseConfig, GraphNameConfig, ModelConfig, RandomSeedConfig, ConcurrentTrainingJobsConfig {
 
     @Value.Default
     @Configuration.DoubleRange(min = 0, minInclusive = false)
@@ -52,6 +53,20 @@ public interface LinkPredictionTrainConfig extends AlgoBaseConfig, GraphNameConf
         return 1.0;
     }
 
+    /**
+     * Whether link features are computed on access instead of being materialized for all train and test relationships.
+     */
+    default boolean lazyLinkFeatures() {
+        return false;
+    }
+
+    /**
+     * Whether node partitions are sampled in parallel when splitting the relationships, each with its own random stream derived from the seed.
+     */
+    default boolean partitionedSplitting() {
+        return false;
+    }
+
     String pipeline();
 
     String targetRelationshipType();
@@ -28,12 +28,13 @@ import org.neo4j.gds.config.ElementTypeValidator;
 import org.neo4j.gds.config.GraphNameConfig;
 import org.neo4j.gds.config.RandomSeedConfig;
 import org.neo4j.gds.config.TargetNodePropertyConfig;
+import org.neo4j.gds.ml.pipeline.ConcurrentTrainingJobsConfig;
 import org.neo4j.gds.model.ModelConfig;
 
 import java.util.Collection;
 import java.util.List;
 
-public interface NodePropertyPipelineBaseTrainConfig extends AlgoBaseConfig, GraphNameConfig, ModelConfig, RandomSeedConfig, TargetNodePropertyConfig {
+public interface NodePropertyPipelineBaseTrainConfig extends AlgoBaseConfig, GraphNameConfig, ModelConfig, RandomSeedConfig, TargetNodePropertyConfig, ConcurrentTrainingJobsConfig {
 
     String pipeline();
 
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.pipeline.nodePipeline.classification.train;
+
+import org.neo4j.annotations.service.ServiceProvider;
+import org.neo4j.gds.config.ToMapConvertible;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.ml.pipeline.PipelineModelMetadataSerializer;
+import org.neo4j.gds.ml.pipeline.nodePipeline.classification.NodeClassificationTrainingPipeline;
+import org.neo4j.gds.model.ModelConfig;
+
+import java.util.List;
+import java.util.Map;
+
+@ServiceProvider
+public final class NodeClassificationModelMetadataSerializer extends PipelineModelMetadataSerializer {
+
+    private static final String CLASSES_KEY = "classes";
+
+    @Override
+    public String algoType() {
+        return NodeClassificationTrainingPipeline.MODEL_TYPE;
+    }
+
+    @Override
+    public ModelConfig trainConfig(String username, Map<String, Object> trainConfigMap) {
+        return NodeClassificationPipelineTrainConfig.of(username, CypherMapWrapper.create(trainConfigMap));
+    }
+
+    @Override
+    public Map<String, Object> customInfoToMap(ToMapConvertible customInfo) {
+        var modelInfo = (NodeClassificationPipelineModelInfo) customInfo;
+        return Map.of(
+            BEST_PARAMETERS_KEY, trainerConfigToMap(modelInfo.bestParameters()),
+            METRICS_KEY, modelInfo.metrics(),
+            PIPELINE_KEY, nodePropertyPredictPipelineToMap(modelInfo.pipeline()),
+            CLASSES_KEY, modelInfo.classes()
+        );
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ToMapConvertible customInfo(Map<String, Object> customInfoMap) {
+        return ImmutableNodeClassificationPipelineModelInfo.of(
+            trainerConfig(customInfoMap.get(BEST_PARAMETERS_KEY)),
+            (Map<String, Object>) customInfoMap.get(METRICS_KEY),
+            nodePropertyPredictPipeline(customInfoMap.get(PIPELINE_KEY)),
+            (List<Long>) customInfoMap.get(CLASSES_KEY)
+        );
+    }
+}
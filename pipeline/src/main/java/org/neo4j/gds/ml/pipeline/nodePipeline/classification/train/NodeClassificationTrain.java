@@ -127,12 +127,16 @@ public final class NodeClassificationTrain implements PipelineTrainer<NodeClassi
         NodePropertyPredictionSplitConfig splitConfig = pipeline.splitConfig();
         var testFraction = splitConfig.testFraction();
 
-        var modelSelection = modelTrainAndEvaluateMemoryUsage(
-            pipeline,
-            fudgedClassCount,
-            fudgedFeatureCount,
-            splitConfig::foldTrainSetSize,
-            splitConfig::foldTestSetSize
+        var modelSelection = CrossValidation.estimateConcurrentFolds(
+            modelTrainAndEvaluateMemoryUsage(
+                pipeline,
+                fudgedClassCount,
+                fudgedFeatureCount,
+                splitConfig::foldTrainSetSize,
+                splitConfig::foldTestSetSize
+            ),
+            splitConfig.validationFolds(),
+            config.maxConcurrentTrainingJobs()
         );
         var bestModelEvaluation = delegateEstimation(
             modelTrainAndEvaluateMemoryUsage(
@@ -352,19 +356,23 @@ public final class NodeClassificationTrain implements PipelineTrainer<NodeClassi
             metrics,
             pipeline.splitConfig().validationFolds(),
             trainConfig.randomSeed(),
-            (trainSet, config, metricsHandler, messageLogLevel) -> trainModel(
+            trainConfig.concurrency(),
+            trainConfig.maxConcurrentTrainingJobs(),
+            (trainSet, config, metricsHandler, messageLogLevel, concurrency) -> trainModel(
                 trainSet,
                 config,
                 features,
                 messageLogLevel,
-                metricsHandler
+                metricsHandler,
+                concurrency
             ),
-            (evaluationSet, classifier, scoreConsumer) -> registerMetricScores(
+            (evaluationSet, classifier, scoreConsumer, concurrency) -> registerMetricScores(
                 evaluationSet,
                 classifier,
                 features,
                 scoreConsumer,
-                ProgressTracker.NULL_TRACKER
+                ProgressTracker.NULL_TRACKER,
+                concurrency
             )
         );
 
@@ -393,14 +401,15 @@ public final class NodeClassificationTrain implements PipelineTrainer<NodeClassi
         Classifier classifier,
         Features features,
         MetricConsumer scoreConsumer,
-        ProgressTracker customProgressTracker
+        ProgressTracker customProgressTracker,
+        int concurrency
     ) {
         var trainMetricComputer = ClassificationMetricComputer.forEvaluationSet(
             features,
             targets,
             evaluationSet,
             classifier,
-            trainConfig.concurrency(),
+            concurrency,
             terminationFlag,
             customProgressTracker
         );
@@ -420,20 +429,21 @@ public final class NodeClassificationTrain implements PipelineTrainer<NodeClassi
             bestCandidate.trainerConfig(),
             features,
             LogLevel.INFO,
-            ModelSpecificMetricsHandler.of(metrics, trainingStatistics::addTestScore)
+            ModelSpecificMetricsHandler.of(metrics, trainingStatistics::addTestScore),
+            trainConfig.concurrency()
         );
         progressTracker.endSubTask("Train best model");
 
         progressTracker.beginSubTask("Evaluate on train data");
         progressTracker.setSteps(outerSplit.trainSet().size());
-        registerMetricScores(outerSplit.trainSet(), bestClassifier, features, trainingStatistics::addOuterTrainScore, progressTracker);
+        registerMetricScores(outerSplit.trainSet(), bestClassifier, features, trainingStatistics::addOuterTrainScore, progressTracker, trainConfig.concurrency());
         var outerTrainMetrics = trainingStatistics.winningModelOuterTrainMetrics();
         progressTracker.logInfo(formatWithLocale("Final model metrics on full train set: %s", outerTrainMetrics));
         progressTracker.endSubTask("Evaluate on train data");
 
         progressTracker.beginSubTask("Evaluate on test data");
         progressTracker.setSteps(outerSplit.testSet().size());
-        registerMetricScores(outerSplit.testSet(), bestClassifier, features, trainingStatistics::addTestScore, progressTracker);
+        registerMetricScores(outerSplit.testSet(), bestClassifier, features, trainingStatistics::addTestScore, progressTracker, trainConfig.concurrency());
         var testMetrics = trainingStatistics.winningModelTestMetrics();
         progressTracker.logInfo(formatWithLocale("Final model metrics on test set: %s", testMetrics));
         progressTracker.endSubTask("Evaluate on test data");
@@ -446,7 +456,8 @@ public final class NodeClassificationTrain implements PipelineTrainer<NodeClassi
             bestParameters,
             features,
             LogLevel.INFO,
-            ModelSpecificMetricsHandler.NOOP
+            ModelSpecificMetricsHandler.NOOP,
+            trainConfig.concurrency()
         );
         progressTracker.endSubTask("Retrain best model");
 
@@ -458,7 +469,8 @@ public final class NodeClassificationTrain implements PipelineTrainer<NodeClassi
         TrainerConfig trainerConfig,
         Features features,
         LogLevel messageLogLevel,
-        ModelSpecificMetricsHandler metricsHandler
+        ModelSpecificMetricsHandler metricsHandler,
+        int concurrency
     ) {
         ClassifierTrainer trainer = ClassifierTrainerFactory.create(
             trainerConfig,
@@ -466,7 +478,7 @@ public final class NodeClassificationTrain implements PipelineTrainer<NodeClassi
             terminationFlag,
             progressTracker,
             messageLogLevel,
-            trainConfig.concurrency(),
+            concurrency,
             trainConfig.randomSeed(),
             false,
             metricsHandler
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.pipeline.nodePipeline.regression;
+
+import org.neo4j.annotations.service.ServiceProvider;
+import org.neo4j.gds.config.ToMapConvertible;
+import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.ml.metrics.Metric;
+import org.neo4j.gds.ml.metrics.ModelCandidateStats;
+import org.neo4j.gds.ml.metrics.ModelStats;
+import org.neo4j.gds.ml.metrics.regression.RegressionMetrics;
+import org.neo4j.gds.ml.pipeline.PipelineModelMetadataSerializer;
+import org.neo4j.gds.model.ModelConfig;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+@ServiceProvider
+public final class NodeRegressionModelMetadataSerializer extends PipelineModelMetadataSerializer {
+
+    private static final String TEST_METRICS_KEY = "testMetrics";
+    private static final String OUTER_TRAIN_METRICS_KEY = "outerTrainMetrics";
+    private static final String TRAINING_STATS_KEY = "trainingStats";
+    private static final String VALIDATION_STATS_KEY = "validationStats";
+
+    @Override
+    public String algoType() {
+        return NodeRegressionTrainingPipeline.MODEL_TYPE;
+    }
+
+    @Override
+    public ModelConfig trainConfig(String username, Map<String, Object> trainConfigMap) {
+        return NodeRegressionPipelineTrainConfig.of(username, CypherMapWrapper.create(trainConfigMap));
+    }
+
+    /**
+     * The model info only renders the metrics of the best candidate, which is why they are stored individually.
+     */
+    @Override
+    public Map<String, Object> customInfoToMap(ToMapConvertible customInfo) {
+        var modelInfo = (NodeRegressionPipelineModelInfo) customInfo;
+        var bestCandidate = modelInfo.bestCandidate();
+        return Map.of(
+            TEST_METRICS_KEY, metricsToMap(modelInfo.testMetrics(), value -> value),
+            OUTER_TRAIN_METRICS_KEY, metricsToMap(modelInfo.outerTrainMetrics(), value -> value),
+            BEST_PARAMETERS_KEY, trainerConfigToMap(bestCandidate.trainerConfig()),
+            TRAINING_STATS_KEY, metricsToMap(bestCandidate.trainingStats(), ModelStats::toMap),
+            VALIDATION_STATS_KEY, metricsToMap(bestCandidate.validationStats(), ModelStats::toMap),
+            PIPELINE_KEY, nodePropertyPredictPipelineToMap(modelInfo.pipeline())
+        );
+    }
+
+    @Override
+    public ToMapConvertible customInfo(Map<String, Object> customInfoMap) {
+        var bestCandidate = ModelCandidateStats.of(
+            trainerConfig(customInfoMap.get(BEST_PARAMETERS_KEY)),
+            metrics(customInfoMap.get(TRAINING_STATS_KEY), NodeRegressionModelMetadataSerializer::modelStats),
+            metrics(customInfoMap.get(VALIDATION_STATS_KEY), NodeRegressionModelMetadataSerializer::modelStats)
+        );
+
+        return NodeRegressionPipelineModelInfo.of(
+            metrics(customInfoMap.get(TEST_METRICS_KEY), Double.class::cast),
+            metrics(customInfoMap.get(OUTER_TRAIN_METRICS_KEY), Double.class::cast),
+            bestCandidate,
+            nodePropertyPredictPipeline(customInfoMap.get(PIPELINE_KEY))
+        );
+    }
+
+    private static <V> Map<String, Object> metricsToMap(Map<Metric, V> metrics, Function<V, Object> valueToMap) {
+        var result = new HashMap<String, Object>();
+        metrics.forEach((metric, value) -> result.put(metric.name(), valueToMap.apply(value)));
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Map<Metric, V> metrics(Object metricsMap, Function<Object, V> valueFromMap) {
+        var result = new HashMap<Metric, V>();
+        ((Map<String, Object>) metricsMap).forEach((metric, value) -> result.put(
+            RegressionMetrics.valueOf(metric),
+            valueFromMap.apply(value)
+        ));
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ModelStats modelStats(Object statsMap) {
+        var stats = (Map<String, Object>) statsMap;
+        return ModelStats.of((Double) stats.get("avg"), (Double) stats.get("min"), (Double) stats.get("max"));
+    }
+}
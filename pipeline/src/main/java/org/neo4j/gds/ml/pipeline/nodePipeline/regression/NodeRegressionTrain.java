@@ -177,17 +177,21 @@ public final class NodeRegressionTrain implements PipelineTrainer<NodeRegression
             metrics,
             pipeline.splitConfig().validationFolds(),
             trainConfig.randomSeed(),
-            (trainSet, config, metricsHandler, messageLogLevel) -> trainModel(
+            trainConfig.concurrency(),
+            trainConfig.maxConcurrentTrainingJobs(),
+            (trainSet, config, metricsHandler, messageLogLevel, concurrency) -> trainModel(
                 trainSet,
                 config,
                 features,
-                messageLogLevel
+                messageLogLevel,
+                concurrency
             ),
-            (evaluationSet, regressor, scoreConsumer) -> registerMetricScores(
+            (evaluationSet, regressor, scoreConsumer, concurrency) -> registerMetricScores(
                 evaluationSet,
                 regressor,
                 features,
-                scoreConsumer
+                scoreConsumer,
+                concurrency
             )
 
         );
@@ -211,12 +215,13 @@ public final class NodeRegressionTrain implements PipelineTrainer<NodeRegression
         ReadOnlyHugeLongArray evaluationSet,
         Regressor regressor,
         Features features,
-        MetricConsumer scoreConsumer
+        MetricConsumer scoreConsumer,
+        int concurrency
     ) {
         var localPredictions = HugeDoubleArray.newArray(evaluationSet.size());
         ParallelUtil.parallelForEachNode(
             evaluationSet.size(),
-            trainConfig.concurrency(),
+            concurrency,
             idx -> localPredictions.set(idx, regressor.predict(features.get(evaluationSet.get(idx))))
         );
 
@@ -225,7 +230,7 @@ public final class NodeRegressionTrain implements PipelineTrainer<NodeRegression
         HugeDoubleArray localTargets = HugeDoubleArray.newArray(evaluationSet.size());
         ParallelUtil.parallelForEachNode(
             evaluationSet.size(),
-            trainConfig.concurrency(),
+            concurrency,
             idx -> localTargets.set(idx, targets.get(evaluationSet.get(idx)))
         );
 
@@ -238,16 +243,22 @@ public final class NodeRegressionTrain implements PipelineTrainer<NodeRegression
         TrainingStatistics trainingStatistics
     ) {
         progressTracker.beginSubTask("Train best model");
-        var bestRegressor = trainModel(outerSplit.trainSet(), trainingStatistics.bestParameters(), features, LogLevel.INFO);
+        var bestRegressor = trainModel(
+            outerSplit.trainSet(),
+            trainingStatistics.bestParameters(),
+            features,
+            LogLevel.INFO,
+            trainConfig.concurrency()
+        );
         progressTracker.endSubTask("Train best model");
 
         progressTracker.beginSubTask("Evaluate on test data");
 
-        registerMetricScores(outerSplit.trainSet(), bestRegressor, features, trainingStatistics::addOuterTrainScore);
+        registerMetricScores(outerSplit.trainSet(), bestRegressor, features, trainingStatistics::addOuterTrainScore, trainConfig.concurrency());
         var outerTrainMetrics = trainingStatistics.winningModelOuterTrainMetrics();
         progressTracker.logInfo(formatWithLocale("Final model metrics on full train set: %s", outerTrainMetrics));
 
-        registerMetricScores(outerSplit.testSet(), bestRegressor, features, trainingStatistics::addTestScore);
+        registerMetricScores(outerSplit.testSet(), bestRegressor, features, trainingStatistics::addTestScore, trainConfig.concurrency());
         var testMetrics = trainingStatistics.winningModelTestMetrics();
         progressTracker.logInfo(formatWithLocale("Final model metrics on test set: %s", testMetrics));
 
@@ -256,7 +267,7 @@ public final class NodeRegressionTrain implements PipelineTrainer<NodeRegression
 
     private Regressor retrainBestModel(ReadOnlyHugeLongArray trainSet, Features features, TrainerConfig bestParameters) {
         progressTracker.beginSubTask("Retrain best model");
-        var retrainedRegressor = trainModel(trainSet, bestParameters, features, LogLevel.INFO);
+        var retrainedRegressor = trainModel(trainSet, bestParameters, features, LogLevel.INFO, trainConfig.concurrency());
         progressTracker.endSubTask("Retrain best model");
 
         return retrainedRegressor;
@@ -266,14 +277,15 @@ public final class NodeRegressionTrain implements PipelineTrainer<NodeRegression
         ReadOnlyHugeLongArray trainSet,
         TrainerConfig trainerConfig,
         Features features,
-        LogLevel messageLogLevel
+        LogLevel messageLogLevel,
+        int concurrency
     ) {
         var trainer = RegressionTrainerFactory.create(
             trainerConfig,
             terminationFlag,
             progressTracker,
             messageLogLevel,
-            trainConfig.concurrency(),
+            concurrency,
             trainConfig.randomSeed()
         );
 
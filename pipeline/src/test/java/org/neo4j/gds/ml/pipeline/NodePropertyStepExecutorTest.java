@@ -19,10 +19,12 @@
  */
 package org.neo4j.gds.ml.pipeline;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.neo4j.gds.InspectableTestProgressTracker;
 import org.neo4j.gds.NodeLabel;
 import org.neo4j.gds.Orientation;
+import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.assertj.Extractors;
 import org.neo4j.gds.compat.TestLog;
@@ -45,9 +47,11 @@ import org.neo4j.gds.ml.pipeline.ExecutableNodePropertyStepTestUtil.NodeIdProper
 import org.neo4j.gds.ml.pipeline.ExecutableNodePropertyStepTestUtil.SumNodePropertyStep;
 import org.neo4j.gds.test.SumNodePropertyStepConfigImpl;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -57,6 +61,8 @@ import static org.neo4j.gds.TestSupport.graphStoreFromGDL;
 @GdlExtension
 class NodePropertyStepExecutorTest {
 
+    private static final long CACHE_SIZE = 1_000_000L;
+
     @GdlGraph(orientation = Orientation.UNDIRECTED)
     private static final String MY_TEST_GRAPH =
         "CREATE" +
@@ -72,6 +78,11 @@ class NodePropertyStepExecutorTest {
     @Inject
     IdFunction idFunction;
 
+    @AfterEach
+    void tearDown() {
+        NodePropertyStepCache.removeAll();
+    }
+
     @Test
     void executeSeveralSteps() {
         var graphStore = GdlFactory.of("(a {age: 12})-->(b {age: 42})").build();
@@ -102,6 +113,97 @@ class NodePropertyStepExecutorTest {
         assertThat(graphStore.nodePropertyKeys()).containsExactly("age");
     }
 
+    @Test
+    void reuseCachedResultsOnUnchangedGraph() {
+        var graphStore = GdlFactory.of("(a {age: 12})-->(b {age: 42})").build();
+        var executions = new AtomicInteger();
+        var steps = countingSteps(graphStore, executions);
+
+        for (int run = 0; run < 3; run++) {
+            var executor = cachingExecutor(graphStore, CACHE_SIZE);
+
+            executor.executeNodePropertySteps(steps);
+            assertThat(graphStore.nodePropertyKeys()).containsExactlyInAnyOrder("age", "prop1");
+            assertThat(graphStore.nodeProperty("prop1").values().longValue(1)).isEqualTo(1L);
+            executor.cleanupIntermediateProperties(steps);
+        }
+
+        assertThat(executions).hasValue(1);
+
+        graphStore.removeNodeProperty("age");
+
+        cachingExecutor(graphStore, CACHE_SIZE).executeNodePropertySteps(steps);
+
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void doNotCacheResultsByDefault() {
+        var graphStore = GdlFactory.of("(a {age: 12})-->(b {age: 42})").build();
+        var executions = new AtomicInteger();
+        var steps = countingSteps(graphStore, executions);
+
+        for (int run = 0; run < 2; run++) {
+            var executor = cachingExecutor(graphStore, NodePropertyStepCache.maxMemoryInBytes(ExecutionContext.EMPTY));
+            executor.executeNodePropertySteps(steps);
+            executor.cleanupIntermediateProperties(steps);
+        }
+
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void invalidateCachedResultsOnConcurrentWrites() {
+        var graphStore = GdlFactory.of("(a {age: 12})-->(b {age: 42})").build();
+        var executions = new AtomicInteger();
+        var steps = countingSteps(graphStore, executions);
+
+        var executor = cachingExecutor(graphStore, CACHE_SIZE);
+        executor.executeNodePropertySteps(steps);
+        // another procedure replaces a property while the pipeline is running
+        var age = graphStore.nodeProperty("age");
+        graphStore.removeNodeProperty("age");
+        graphStore.addNodeProperty(graphStore.nodeLabels(), "age", age.values());
+        executor.cleanupIntermediateProperties(steps);
+
+        cachingExecutor(graphStore, CACHE_SIZE).executeNodePropertySteps(steps);
+
+        assertThat(executions).hasValue(2);
+    }
+
+    private static List<ExecutableNodePropertyStep> countingSteps(GraphStore graphStore, AtomicInteger executions) {
+        return List.of(
+            new NodeIdPropertyStep(graphStore, "prop1") {
+                @Override
+                public void execute(
+                    ExecutionContext executionContext,
+                    String graphName,
+                    Collection<NodeLabel> nodeLabels,
+                    Collection<RelationshipType> relTypes
+                ) {
+                    executions.incrementAndGet();
+                    super.execute(executionContext, graphName, nodeLabels, relTypes);
+                }
+            }
+        );
+    }
+
+    private static NodePropertyStepExecutor<NodePropertyStepExecutorTestConfig> cachingExecutor(
+        GraphStore graphStore,
+        long cacheSize
+    ) {
+        return new NodePropertyStepExecutor<>(
+            ExecutionContext.EMPTY,
+            new NodePropertyStepExecutorTestConfig(),
+            graphStore,
+            graphStore.nodeLabels(),
+            graphStore.relationshipTypes(),
+            Set.of(),
+            ProgressTracker.NULL_TRACKER,
+            cacheSize
+        );
+    }
+
     @Test
     void executeWithContext() {
         var executor = new NodePropertyStepExecutor<>(
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.ml.pipeline;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.ElementProjection;
+import org.neo4j.gds.api.schema.GraphSchema;
+import org.neo4j.gds.core.model.Model;
+import org.neo4j.gds.core.model.ModelDataFile;
+import org.neo4j.gds.gdl.GdlFactory;
+import org.neo4j.gds.ml.core.functions.Weights;
+import org.neo4j.gds.ml.core.tensor.Matrix;
+import org.neo4j.gds.ml.core.tensor.Scalar;
+import org.neo4j.gds.ml.core.tensor.Vector;
+import org.neo4j.gds.ml.metrics.ModelCandidateStats;
+import org.neo4j.gds.ml.metrics.ModelStats;
+import org.neo4j.gds.ml.metrics.classification.ClassificationMetricSpecification;
+import org.neo4j.gds.ml.metrics.regression.RegressionMetrics;
+import org.neo4j.gds.ml.models.linearregression.ImmutableLinearRegressionData;
+import org.neo4j.gds.ml.models.linearregression.LinearRegressionTrainConfig;
+import org.neo4j.gds.ml.models.logisticregression.ImmutableLogisticRegressionData;
+import org.neo4j.gds.ml.models.randomforest.RandomForestClassifierTrainerConfigImpl;
+import org.neo4j.gds.ml.pipeline.linkPipeline.LinkPredictionModelInfo;
+import org.neo4j.gds.ml.pipeline.linkPipeline.LinkPredictionPredictPipeline;
+import org.neo4j.gds.ml.pipeline.linkPipeline.LinkPredictionTrainingPipeline;
+import org.neo4j.gds.ml.pipeline.linkPipeline.linkfunctions.HadamardFeatureStep;
+import org.neo4j.gds.ml.pipeline.linkPipeline.train.LinkPredictionTrainConfigImpl;
+import org.neo4j.gds.ml.pipeline.nodePipeline.NodeFeatureStep;
+import org.neo4j.gds.ml.pipeline.nodePipeline.NodePropertyPredictPipeline;
+import org.neo4j.gds.ml.pipeline.nodePipeline.classification.NodeClassificationTrainingPipeline;
+import org.neo4j.gds.ml.pipeline.nodePipeline.classification.train.NodeClassificationPipelineModelInfo;
+import org.neo4j.gds.ml.pipeline.nodePipeline.classification.train.NodeClassificationPipelineTrainConfigImpl;
+import org.neo4j.gds.ml.pipeline.nodePipeline.regression.NodeRegressionPipelineModelInfo;
+import org.neo4j.gds.ml.pipeline.nodePipeline.regression.NodeRegressionPipelineTrainConfigImpl;
+import org.neo4j.gds.ml.pipeline.nodePipeline.regression.NodeRegressionTrainingPipeline;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PipelineModelMetadataSerializerTest {
+
+    private static final GraphSchema GRAPH_SCHEMA = GdlFactory
+        .of("({age: 23, height: 42})-[:REL]->({age: 22, height: 99})")
+        .build()
+        .schema();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldRestoreNodeClassificationModel() {
+        var config = NodeClassificationPipelineTrainConfigImpl.builder()
+            .pipeline("pipe")
+            .graphName("graph")
+            .modelUser("user")
+            .modelName("model")
+            .randomSeed(42L)
+            .targetProperty("t")
+            .metrics(List.of(ClassificationMetricSpecification.Parser.parse("F1(class=1)")))
+            .build();
+        var modelInfo = NodeClassificationPipelineModelInfo.of(
+            Map.of(),
+            Map.of(),
+            ModelCandidateStats.of(
+                RandomForestClassifierTrainerConfigImpl.builder().numberOfDecisionTrees(5).build(),
+                Map.of(),
+                Map.of()
+            ),
+            nodePropertyPredictPipeline(),
+            List.of(0L, 1L)
+        );
+        var data = ImmutableLogisticRegressionData.builder()
+            .weights(new Weights<>(new Matrix(new double[]{1, 2, 3, 4, 5, 6}, 2, 3)))
+            .bias(new Weights<>(new Vector(0.5, -0.5)))
+            .numberOfClasses(2)
+            .build();
+
+        var restoredModel = roundTrip(Model.of(NodeClassificationTrainingPipeline.MODEL_TYPE, GRAPH_SCHEMA, data, config, modelInfo));
+
+        assertThat(restoredModel.trainConfig().toMap()).isEqualTo(config.toMap());
+        var restoredInfo = (NodeClassificationPipelineModelInfo) restoredModel.customInfo();
+        assertThat(restoredInfo.toMap()).isEqualTo(modelInfo.toMap());
+        assertThat(restoredInfo.bestParameters().method()).isEqualTo(modelInfo.bestParameters().method());
+        assertThat(restoredInfo.pipeline().featureProperties()).containsExactly("age", "height", "pr");
+    }
+
+    @Test
+    void shouldRestoreNodeRegressionModel() {
+        var config = NodeRegressionPipelineTrainConfigImpl.builder()
+            .pipeline("pipe")
+            .graphName("graph")
+            .modelUser("user")
+            .modelName("model")
+            .targetProperty("t")
+            .metrics(List.of(RegressionMetrics.MEAN_ABSOLUTE_ERROR))
+            .build();
+        var metric = RegressionMetrics.MEAN_ABSOLUTE_ERROR;
+        var modelInfo = NodeRegressionPipelineModelInfo.of(
+            Map.of(metric, 0.8),
+            Map.of(metric, 0.6),
+            ModelCandidateStats.of(
+                LinearRegressionTrainConfig.DEFAULT,
+                Map.of(metric, ModelStats.of(0.9, 0.8, 1.0)),
+                Map.of(metric, ModelStats.of(0.65, 0.5, 0.8))
+            ),
+            nodePropertyPredictPipeline()
+        );
+        var data = ImmutableLinearRegressionData.builder()
+            .weights(new Weights<>(new Matrix(new double[]{0.25, 42, 1}, 1, 3)))
+            .bias(new Weights<>(new Scalar(1.5)))
+            .build();
+
+        var restoredModel = roundTrip(Model.of(NodeRegressionTrainingPipeline.MODEL_TYPE, GRAPH_SCHEMA, data, config, modelInfo));
+
+        assertThat(restoredModel.trainConfig().toMap()).isEqualTo(config.toMap());
+        var restoredInfo = (NodeRegressionPipelineModelInfo) restoredModel.customInfo();
+        assertThat(restoredInfo.toMap()).isEqualTo(modelInfo.toMap());
+        assertThat(restoredInfo.testMetrics()).isEqualTo(modelInfo.testMetrics());
+        assertThat(restoredInfo.outerTrainMetrics()).isEqualTo(modelInfo.outerTrainMetrics());
+        assertThat(restoredInfo.bestCandidate().trainingStats()).isEqualTo(modelInfo.bestCandidate().trainingStats());
+        assertThat(restoredInfo.bestCandidate().validationStats()).isEqualTo(modelInfo.bestCandidate().validationStats());
+    }
+
+    @Test
+    void shouldRestoreLinkPredictionModel() {
+        var config = LinkPredictionTrainConfigImpl.builder()
+            .pipeline("pipe")
+            .graphName("graph")
+            .modelUser("user")
+            .modelName("model")
+            .sourceNodeLabel(ElementProjection.PROJECT_ALL)
+            .targetNodeLabel(ElementProjection.PROJECT_ALL)
+            .targetRelationshipType("REL")
+            .build();
+        var pipeline = LinkPredictionPredictPipeline.from(
+            Stream.of(NodePropertyStepFactory.createNodePropertyStep("testProc", Map.of("mutateProperty", "pr"))),
+            Stream.of(new HadamardFeatureStep(List.of("age", "pr")))
+        );
+        var modelInfo = LinkPredictionModelInfo.of(
+            Map.of(),
+            Map.of(),
+            ModelCandidateStats.of(
+                RandomForestClassifierTrainerConfigImpl.builder().numberOfDecisionTrees(5).build(),
+                Map.of(),
+                Map.of()
+            ),
+            pipeline
+        );
+        var data = ImmutableLogisticRegressionData.builder()
+            .weights(new Weights<>(new Matrix(new double[]{1, 2}, 1, 2)))
+            .bias(new Weights<>(new Vector(0.5)))
+            .numberOfClasses(2)
+            .build();
+
+        var restoredModel = roundTrip(Model.of(LinkPredictionTrainingPipeline.MODEL_TYPE, GRAPH_SCHEMA, data, config, modelInfo));
+
+        assertThat(restoredModel.trainConfig().toMap()).isEqualTo(config.toMap());
+        var restoredInfo = (LinkPredictionModelInfo) restoredModel.customInfo();
+        assertThat(restoredInfo.toMap()).isEqualTo(modelInfo.toMap());
+        assertThat(restoredInfo.pipeline().featureSteps()).hasSize(1).allMatch(HadamardFeatureStep.class::isInstance);
+    }
+
+    private static NodePropertyPredictPipeline nodePropertyPredictPipeline() {
+        return NodePropertyPredictPipeline.from(
+            Stream.of(NodePropertyStepFactory.createNodePropertyStep("testProc", Map.of("mutateProperty", "pr"))),
+            Stream.of(NodeFeatureStep.of("age"), NodeFeatureStep.of("height"), NodeFeatureStep.of("pr"))
+        );
+    }
+
+    private Model<?, ?, ?> roundTrip(Model<?, ?, ?> model) {
+        assertThat(ModelDataFile.canSerialize(model)).isTrue();
+
+        var file = tempDir.resolve("model" + ModelDataFile.FILE_EXTENSION);
+        ModelDataFile.write(file, model);
+
+        var restoredModel = ModelDataFile.readMetadata(file);
+        assertThat(restoredModel.loaded()).isFalse();
+        assertThat(restoredModel.name()).isEqualTo(model.name());
+        assertThat(restoredModel.algoType()).isEqualTo(model.algoType());
+        assertThat(restoredModel.graphSchema()).isEqualTo(model.graphSchema());
+        return restoredModel;
+    }
+}
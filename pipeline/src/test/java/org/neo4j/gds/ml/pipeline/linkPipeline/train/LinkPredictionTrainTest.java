@@ -340,6 +340,50 @@ class LinkPredictionTrainTest {
             .isEqualTo(modelDataRepeated);
     }
 
+    @Test
+    void lazyLinkFeaturesTrainTheSameModel() {
+        LinkPredictionTrainConfig trainConfig = trainingConfig("model");
+        LinkPredictionTrainConfig lazyTrainConfig = LinkPredictionTrainConfigImpl.Builder.from(trainConfig)
+            .lazyLinkFeatures(true)
+            .build();
+
+        var result = runLinkPrediction(trainConfig);
+        var lazyResult = runLinkPrediction(lazyTrainConfig);
+
+        assertThat(lazyResult.classifier().data())
+            .usingRecursiveComparison()
+            .withEqualsForType(LocalIdMap::equals, LocalIdMap.class)
+            .isEqualTo(result.classifier().data());
+        assertThat(lazyResult.trainingStatistics().winningModelTestMetrics())
+            .isEqualTo(result.trainingStatistics().winningModelTestMetrics());
+    }
+
+    @Test
+    void estimateWithLazyLinkFeatures() {
+        var trainConfig = LinkPredictionTrainConfigImpl.builder()
+            .modelUser("DUMMY")
+            .modelName("DUMMY")
+            .graphName("DUMMY")
+            .pipeline("DUMMY")
+            .targetRelationshipType("REL")
+            .sourceNodeLabel("N")
+            .targetNodeLabel("N")
+            .build();
+        var lazyTrainConfig = LinkPredictionTrainConfigImpl.Builder.from(trainConfig)
+            .lazyLinkFeatures(true)
+            .build();
+
+        var pipeline = new LinkPredictionTrainingPipeline();
+        pipeline.addTrainerConfig(LogisticRegressionTrainConfig.DEFAULT);
+
+        var graphDim = graphDimensionsWithSplits(GraphDimensions.of(10, 1000), pipeline.splitConfig(), trainConfig);
+        var eagerRange = LinkPredictionTrain.estimate(pipeline, trainConfig).estimate(graphDim, 4).memoryUsage();
+        var lazyRange = LinkPredictionTrain.estimate(pipeline, lazyTrainConfig).estimate(graphDim, 4).memoryUsage();
+
+        assertThat(lazyRange.max).isLessThan(eagerRange.max);
+        assertThat(lazyRange.min).isLessThan(eagerRange.min);
+    }
+
     @ParameterizedTest
     @CsvSource(value = {
         "  10,   10, 2_640, 69_280",
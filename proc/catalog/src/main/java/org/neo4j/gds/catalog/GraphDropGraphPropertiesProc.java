@@ -23,6 +23,7 @@ import org.neo4j.gds.ProcPreconditions;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.config.GraphRemoveGraphPropertiesConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
 import org.neo4j.procedure.Description;
 import org.neo4j.procedure.Name;
 import org.neo4j.procedure.Procedure;
@@ -56,12 +57,14 @@ public class GraphDropGraphPropertiesProc extends CatalogProc {
         GraphStore graphStore = graphStoreFromCatalog(graphName, config).graphStore();
         config.validate(graphStore);
 
-        // removing
+        // removing, the pin keeps the catalog from spilling the graph in the meantime
         long propertiesRemoved = graphStore.graphPropertyValues(graphProperty).size();
-        runWithExceptionLogging(
-            "Graph property removal failed",
-            () -> graphStore.removeGraphProperty(graphProperty)
-        );
+        try (var ignored = GraphStoreCatalog.pin(graphStore)) {
+            runWithExceptionLogging(
+                "Graph property removal failed",
+                () -> graphStore.removeGraphProperty(graphProperty)
+            );
+        }
 
         // result
         return Stream.of(new Result(graphName, graphProperty, propertiesRemoved));
@@ -24,6 +24,7 @@ import org.jetbrains.annotations.NotNull;
 import org.neo4j.gds.ProcPreconditions;
 import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
 import org.neo4j.gds.core.utils.progress.JobId;
 import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.Tasks;
@@ -101,11 +102,14 @@ public class GraphDropNodePropertiesProc extends CatalogProc {
 
         deprecationWarning.ifPresent(progressTracker::logWarning);
 
-        // removing
-        long propertiesRemoved = runWithExceptionLogging(
-            "Node property removal failed",
-            () -> dropNodeProperties(graphStore, config, progressTracker)
-        );
+        // removing, the pin keeps the catalog from spilling the graph in the meantime
+        long propertiesRemoved;
+        try (var ignored = GraphStoreCatalog.pin(graphStore)) {
+            propertiesRemoved = runWithExceptionLogging(
+                "Node property removal failed",
+                () -> dropNodeProperties(graphStore, config, progressTracker)
+            );
+        }
         // result
         return Stream.of(new Result(graphName, config.nodeProperties(), propertiesRemoved));
     }
@@ -81,8 +81,8 @@ public class GraphDropProc extends CatalogProc {
         if (failIfMissing) {
             var missingGraphs = graphNames.stream().flatMap(name -> {
                 try {
-                    // get the graph to check if it exists
-                    GraphStoreCatalog.get(request, name);
+                    // spilled graphs are not reloaded to check if they exist
+                    GraphStoreCatalog.verifyExists(request, name);
                     return Stream.empty();
                 } catch (NoSuchElementException missing) {
                     return Stream.of(new MissingGraph(name, missing));
@@ -98,12 +98,7 @@ public class GraphDropProc extends CatalogProc {
             GraphStoreCatalog.remove(
                 request,
                 name,
-                graphStoreWithConfig -> result.add(
-                    GraphInfo.withoutMemoryUsage(
-                        graphStoreWithConfig.config(),
-                        graphStoreWithConfig.graphStore()
-                    )
-                ),
+                removedGraph -> result.add(GraphInfo.withoutMemoryUsage(removedGraph)),
                 failIfMissing
             );
         }
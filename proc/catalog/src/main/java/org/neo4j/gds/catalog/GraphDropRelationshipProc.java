@@ -23,6 +23,7 @@ import org.neo4j.gds.ProcPreconditions;
 import org.neo4j.gds.RelationshipType;
 import org.neo4j.gds.config.DeleteRelationshipsConfig;
 import org.neo4j.gds.core.loading.DeletionResult;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
 import org.neo4j.gds.core.loading.GraphStoreWithConfig;
 import org.neo4j.gds.core.utils.progress.JobId;
 import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
@@ -84,9 +85,13 @@ public class GraphDropRelationshipProc extends CatalogProc {
         deprecationWarning.ifPresent(progressTracker::logWarning);
 
         progressTracker.beginSubTask();
-        DeletionResult deletionResult = graphStoreWithConfig
-            .graphStore()
-            .deleteRelationships(RelationshipType.of(relationshipType));
+        DeletionResult deletionResult;
+        // keeps the catalog from spilling the graph while it is modified
+        try (var ignored = GraphStoreCatalog.pin(graphStoreWithConfig.graphStore())) {
+            deletionResult = graphStoreWithConfig
+                .graphStore()
+                .deleteRelationships(RelationshipType.of(relationshipType));
+        }
         progressTracker.endSubTask();
 
         return Stream.of(new Result(
@@ -20,12 +20,14 @@
 package org.neo4j.gds.catalog;
 
 import org.neo4j.gds.api.GraphStore;
+import org.neo4j.gds.api.schema.GraphSchema;
 import org.neo4j.gds.config.GraphProjectConfig;
 import org.neo4j.gds.config.GraphProjectFromCypherConfig;
 import org.neo4j.gds.config.GraphProjectFromGraphConfig;
 import org.neo4j.gds.config.GraphProjectFromStoreConfig;
 import org.neo4j.gds.config.GraphSampleProcConfig;
 import org.neo4j.gds.config.RandomGraphGeneratorConfig;
+import org.neo4j.gds.core.loading.GraphStoreCatalogEntry;
 import org.neo4j.gds.mem.MemoryUsage;
 import org.neo4j.gds.projection.CypherAggregation;
 
@@ -103,26 +105,78 @@ public class GraphInfo {
         );
     }
 
+    /**
+     * Spilled graphs report the size they had when they were spilled.
+     */
+    static GraphInfo withMemoryUsage(GraphStoreCatalogEntry entry) {
+        long sizeInBytes = entry
+            .residentGraphStore()
+            .map(MemoryUsage::sizeOf)
+            .orElseGet(() -> entry.spilledSizeInBytes().orElse(-1L));
+        var memoryUsage = sizeInBytes < 0 ? "" : MemoryUsage.humanReadable(sizeInBytes);
+
+        return create(entry, memoryUsage, sizeInBytes);
+    }
+
+    static GraphInfo withoutMemoryUsage(GraphStoreCatalogEntry entry) {
+        return create(entry, "", -1L);
+    }
+
     private static GraphInfo create(
         GraphProjectConfig graphProjectConfig,
         GraphStore graphStore,
         String memoryUsage,
         long sizeInBytes
+    ) {
+        return create(
+            graphProjectConfig,
+            graphStore.databaseId().databaseName(),
+            graphStore.nodeCount(),
+            graphStore.relationshipCount(),
+            graphStore.modificationTime(),
+            graphStore.schema(),
+            memoryUsage,
+            sizeInBytes
+        );
+    }
+
+    private static GraphInfo create(GraphStoreCatalogEntry entry, String memoryUsage, long sizeInBytes) {
+        return create(
+            entry.config(),
+            entry.databaseId().databaseName(),
+            entry.nodeCount(),
+            entry.relationshipCount(),
+            entry.modificationTime(),
+            entry.schema(),
+            memoryUsage,
+            sizeInBytes
+        );
+    }
+
+    private static GraphInfo create(
+        GraphProjectConfig graphProjectConfig,
+        String databaseName,
+        long nodeCount,
+        long relationshipCount,
+        ZonedDateTime modificationTime,
+        GraphSchema schema,
+        String memoryUsage,
+        long sizeInBytes
     ) {
         var configVisitor = new Visitor();
         graphProjectConfig.accept(configVisitor);
 
         return new GraphInfo(
             graphProjectConfig.graphName(),
-            graphStore.databaseId().databaseName(),
+            databaseName,
             configVisitor.configuration,
             memoryUsage,
             sizeInBytes,
-            graphStore.nodeCount(),
-            graphStore.relationshipCount(),
+            nodeCount,
+            relationshipCount,
             graphProjectConfig.creationTime(),
-            graphStore.modificationTime(),
-            graphStore.schema().toMap()
+            modificationTime,
+            schema.toMap()
         );
     }
 
@@ -20,9 +20,8 @@
 package org.neo4j.gds.catalog;
 
 import org.jetbrains.annotations.Nullable;
-import org.neo4j.gds.api.GraphStore;
-import org.neo4j.gds.config.GraphProjectConfig;
 import org.neo4j.gds.core.loading.GraphStoreCatalog;
+import org.neo4j.gds.core.loading.GraphStoreCatalogEntry;
 
 import java.util.Map;
 import java.util.Optional;
@@ -52,28 +51,34 @@ public class GraphInfoWithHistogram extends GraphInfo {
     }
 
     static GraphInfoWithHistogram of(
-        GraphProjectConfig graphProjectConfig,
-        GraphStore graphStore,
+        GraphStoreCatalogEntry entry,
         boolean computeHistogram,
         boolean computeGraphSize
     ) {
+        var graphProjectConfig = entry.config();
         var graphInfo = computeGraphSize
-            ? GraphInfo.withMemoryUsage(graphProjectConfig, graphStore)
-            : GraphInfo.withoutMemoryUsage(graphProjectConfig, graphStore);
+            ? GraphInfo.withMemoryUsage(entry)
+            : GraphInfo.withoutMemoryUsage(entry);
 
         Optional<Map<String, Object>> maybeDegreeDistribution = GraphStoreCatalog.getDegreeDistribution(
             graphProjectConfig.username(),
-            graphStore.databaseId(),
+            entry.databaseId(),
             graphProjectConfig.graphName()
         );
 
         var degreeDistribution = maybeDegreeDistribution.orElseGet(() -> {
             if (computeHistogram) {
+                // only a spilled graph without a cached degree distribution needs to be reloaded
+                var graphStore = entry.residentGraphStore().orElseGet(() -> GraphStoreCatalog.get(
+                    entry.userName(),
+                    entry.databaseId(),
+                    graphProjectConfig.graphName()
+                ).graphStore());
                 var newHistogram = GraphInfoHelper.degreeDistribution(graphStore.getUnion());
                 // Cache the computed degree distribution in the Catalog
                 GraphStoreCatalog.setDegreeDistribution(
                     graphProjectConfig.username(),
-                    graphStore.databaseId(),
+                    entry.databaseId(),
                     graphProjectConfig.graphName(),
                     newHistogram
                 );
@@ -20,14 +20,11 @@
 package org.neo4j.gds.catalog;
 
 import org.neo4j.gds.ProcPreconditions;
-import org.neo4j.gds.api.GraphStore;
-import org.neo4j.gds.config.GraphProjectConfig;
 import org.neo4j.gds.core.loading.GraphStoreCatalog;
 import org.neo4j.procedure.Description;
 import org.neo4j.procedure.Name;
 import org.neo4j.procedure.Procedure;
 
-import java.util.Map;
 import java.util.stream.Stream;
 
 import static org.neo4j.procedure.Mode.READ;
@@ -42,20 +39,19 @@ public class GraphListProc extends CatalogProc {
     public Stream<GraphInfoWithHistogram> list(@Name(value = "graphName", defaultValue = NO_VALUE) String graphName) {
         ProcPreconditions.check();
 
+        // listing does not reload spilled graphs
         var graphEntries = isGdsAdmin()
-            ? GraphStoreCatalog.getAllGraphStores().map(graphStore -> Map.entry(graphStore.config(), graphStore.graphStore()))
-            : GraphStoreCatalog.getGraphStores(username()).entrySet().stream();
+            ? GraphStoreCatalog.listAllGraphs()
+            : GraphStoreCatalog.listGraphs(username());
 
         if (graphName != null && !graphName.equals(NO_VALUE)) {
             validateGraphName(graphName);
 
             // we should only list the provided graph
-            graphEntries = graphEntries.filter(e -> e.getKey().graphName().equals(graphName));
+            graphEntries = graphEntries.filter(e -> e.config().graphName().equals(graphName));
         }
 
         return graphEntries.map(e -> {
-            GraphProjectConfig graphProjectConfig = e.getKey();
-            GraphStore graphStore = e.getValue();
             boolean computeDegreeDistribution = callContext
                 .outputFields()
                 .anyMatch(s -> s.equalsIgnoreCase("degreeDistribution"));
@@ -65,8 +61,7 @@ public class GraphListProc extends CatalogProc {
                 .anyMatch(s -> s.equalsIgnoreCase("memoryUsage") || s.equalsIgnoreCase("sizeInBytes"));
 
             return GraphInfoWithHistogram.of(
-                graphProjectConfig,
-                graphStore,
+                e,
                 computeDegreeDistribution,
                 computeGraphSize
             );
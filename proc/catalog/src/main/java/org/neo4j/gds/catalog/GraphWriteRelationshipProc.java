@@ -26,6 +26,7 @@ import org.neo4j.gds.api.GraphStore;
 import org.neo4j.gds.api.nodeproperties.ValueType;
 import org.neo4j.gds.config.GraphWriteRelationshipConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.ProgressTimer;
 import org.neo4j.gds.core.utils.TerminationFlag;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
@@ -118,7 +119,7 @@ public class GraphWriteRelationshipProc extends CatalogProc {
         try (var ignored = ProgressTimer.start(builder::withWriteMillis)) {
             long relationshipsWritten = runWithExceptionLogging(
                 "Writing relationships failed",
-                () -> writeRelationshipType(graphStore, config.relationshipProperty(), relationshipType, progressTracker)
+                () -> writeRelationshipType(graphStore, config, relationshipType, progressTracker)
             );
             builder.withRelationshipsWritten(relationshipsWritten);
         }
@@ -129,17 +130,20 @@ public class GraphWriteRelationshipProc extends CatalogProc {
 
     private long writeRelationshipType(
         GraphStore graphStore,
-        Optional<String> relationshipProperty,
+        GraphWriteRelationshipConfig config,
         RelationshipType relationshipType,
         ProgressTracker progressTracker
     ) {
+        var relationshipProperty = config.relationshipProperty();
         var graph = graphStore.getGraph(relationshipType, relationshipProperty);
 
         var builder = relationshipExporterBuilder
             .withIdMappingOperator(graph::toOriginalNodeId)
             .withGraph(graph)
             .withTerminationFlag(TerminationFlag.wrap(transaction))
-            .withProgressTracker(progressTracker);
+            .withProgressTracker(progressTracker)
+            .parallel(Pools.DEFAULT, config.writeConcurrency())
+            .withPipelinedWrites(config.pipelinedWriteSettings());
 
         if (relationshipProperty.isPresent()) {
             var propertyKey = relationshipProperty.get();
@@ -28,7 +28,7 @@ import java.util.Optional;
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface GraphWriteNodePropertiesConfig extends GraphExportNodePropertiesConfig, WriteConfig {
+public interface GraphWriteNodePropertiesConfig extends GraphExportNodePropertiesConfig, PipelinedNodePropertyWriteConfig {
 
     static GraphWriteNodePropertiesConfig of(
         String graphName,
@@ -36,7 +36,7 @@ import static org.neo4j.gds.utils.StringJoining.join;
 @ValueClass
 @Configuration
 @SuppressWarnings("immutables:subtype")
-public interface GraphWriteRelationshipConfig extends AlgoBaseConfig, WriteConfig {
+public interface GraphWriteRelationshipConfig extends AlgoBaseConfig, PipelinedWriteConfig {
 
     @Configuration.Parameter
     String relationshipType();
@@ -19,8 +19,15 @@
  */
 package org.neo4j.gds.model.catalog;
 
+import org.neo4j.configuration.Config;
 import org.neo4j.gds.BaseProc;
+import org.neo4j.gds.compat.GraphDatabaseApiProxy;
 import org.neo4j.gds.core.CypherMapWrapper;
+import org.neo4j.gds.core.ModelStoreSettings;
+
+import java.nio.file.Path;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 abstract class ModelCatalogProc extends BaseProc {
 
@@ -30,4 +37,15 @@ abstract class ModelCatalogProc extends BaseProc {
         CypherMapWrapper.failOnBlank("modelName", modelName);
     }
 
+    Path modelStoreLocation() {
+        var neo4jConfig = GraphDatabaseApiProxy.resolveDependency(databaseService, Config.class);
+        var storeLocation = neo4jConfig.get(ModelStoreSettings.model_store_location_setting);
+        if (storeLocation == null) {
+            throw new IllegalStateException(formatWithLocale(
+                "The configuration option '%s' must be set.",
+                ModelStoreSettings.model_store_location_setting.name()
+            ));
+        }
+        return storeLocation.resolve(username()).normalize();
+    }
 }
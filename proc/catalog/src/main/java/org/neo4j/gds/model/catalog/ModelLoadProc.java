@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.model.catalog;
+
+import org.neo4j.gds.core.utils.ProgressTimer;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.stream.Stream;
+
+import static org.neo4j.procedure.Mode.READ;
+
+public class ModelLoadProc extends ModelCatalogProc {
+
+    private static final String DESCRIPTION = "Loads the data of a stored model into memory.";
+
+    @Procedure(name = "gds.alpha.model.load", mode = READ)
+    @Description(DESCRIPTION)
+    public Stream<ModelLoadResult> load(@Name(value = "modelName") String modelName) {
+        validateModelName(modelName);
+
+        var timer = ProgressTimer.start();
+        modelCatalog().load(username(), modelName);
+        timer.stop();
+
+        return Stream.of(new ModelLoadResult(modelName, timer.getDuration()));
+    }
+
+    @SuppressWarnings("unused")
+    public static class ModelLoadResult {
+        public final String modelName;
+        public final long loadMillis;
+
+        ModelLoadResult(String modelName, long loadMillis) {
+            this.modelName = modelName;
+            this.loadMillis = loadMillis;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.model.catalog;
+
+import org.neo4j.gds.core.model.ModelDataFile;
+import org.neo4j.gds.core.utils.ProgressTimer;
+import org.neo4j.procedure.Description;
+import org.neo4j.procedure.Name;
+import org.neo4j.procedure.Procedure;
+
+import java.util.stream.Stream;
+
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
+import static org.neo4j.procedure.Mode.READ;
+
+public class ModelStoreProc extends ModelCatalogProc {
+
+    private static final String DESCRIPTION = "Stores the data of a model on disk and frees up the memory it occupies.";
+
+    @Procedure(name = "gds.alpha.model.store", mode = READ)
+    @Description(DESCRIPTION)
+    public Stream<ModelStoreResult> store(
+        @Name(value = "modelName") String modelName,
+        @Name(value = "failIfUnsupportedType", defaultValue = "true") boolean failIfUnsupportedType
+    ) {
+        validateModelName(modelName);
+
+        var model = modelCatalog().getUntypedOrThrow(username(), modelName);
+        if (!ModelDataFile.canSerialize(model)) {
+            if (failIfUnsupportedType) {
+                throw new IllegalArgumentException(formatWithLocale(
+                    "Storing models of type `%s` is not supported.",
+                    model.algoType()
+                ));
+            }
+            return Stream.empty();
+        }
+
+        var storeLocation = modelStoreLocation();
+        var timer = ProgressTimer.start();
+        modelCatalog().store(username(), modelName, storeLocation);
+        timer.stop();
+
+        return Stream.of(new ModelStoreResult(modelName, timer.getDuration()));
+    }
+
+    @SuppressWarnings("unused")
+    public static class ModelStoreResult {
+        public final String modelName;
+        public final long storeMillis;
+
+        ModelStoreResult(String modelName, long storeMillis) {
+            this.modelName = modelName;
+            this.storeMillis = storeMillis;
+        }
+    }
+}
@@ -173,6 +173,33 @@ class GraphWriteNodePropertiesProcTest extends BaseProcTest {
         ));
     }
 
+    @Test
+    void writeLoadedNodePropertiesPipelined() {
+        assertCypherResult(
+            "CALL gds.graph.nodeProperties.write($graph, ['newNodeProp1', 'newNodeProp2'], ['*'], {" +
+            "  pipelinedWrites: true, writeBatchSize: 2, writeQueueCapacity: 1, writerConcurrency: 2, writeConcurrency: 2" +
+            "}) YIELD propertiesWritten",
+            Map.of("graph", TEST_GRAPH_SAME_PROPERTIES),
+            List.of(Map.of("propertiesWritten", 12L))
+        );
+
+        String validationQuery =
+            "MATCH (n) " +
+            "RETURN " +
+            "  n.newNodeProp1 AS newProp1, " +
+            "  n.newNodeProp2 AS newProp2 " +
+            "ORDER BY newProp1 ASC, newProp2 ASC";
+
+        assertCypherResult(validationQuery, asList(
+            map("newProp1", 0L, "newProp2", 42L),
+            map("newProp1", 1L, "newProp2", 43L),
+            map("newProp1", 2L, "newProp2", 44L),
+            map("newProp1", 3L, "newProp2", 45L),
+            map("newProp1", 4L, "newProp2", 46L),
+            map("newProp1", 5L, "newProp2", 47L)
+        ));
+    }
+
     @Test
     void writeLoadedNodePropertiesForLabel() {
         assertCypherResult(
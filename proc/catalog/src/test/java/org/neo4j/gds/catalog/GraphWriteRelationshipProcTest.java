@@ -166,6 +166,22 @@ class GraphWriteRelationshipProcTest extends BaseProcTest {
         ));
     }
 
+    @Test
+    void writeRelationshipAndPropertyPipelined() {
+        assertCypherResult(
+            "CALL gds.graph.relationship.write($graph, 'NEW_REL2', 'newRelProp2', {" +
+            "  pipelinedWrites: true, writeBatchSize: 1, writeQueueCapacity: 1, writeConcurrency: 2" +
+            "}) YIELD relationshipsWritten, propertiesWritten",
+            Map.of("graph", TEST_GRAPH_NAME),
+            singletonList(map("relationshipsWritten", 2L, "propertiesWritten", 2L))
+        );
+
+        assertCypherResult(
+            "MATCH (n)-[r:NEW_REL2]->(m) RETURN count(r) AS count, toFloat(sum(r.newRelProp2)) AS sum",
+            singletonList(map("count", 2L, "sum", 7.0))
+        );
+    }
+
     @Test
     void shouldFailOnNonExistingRelationshipType() {
         assertError(
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.model.catalog;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.core.ModelStoreSettings;
+import org.neo4j.gds.core.model.Model;
+import org.neo4j.gds.core.model.ModelCatalog;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jModelCatalogExtension;
+import org.neo4j.io.fs.DefaultFileSystemAbstraction;
+import org.neo4j.test.TestDatabaseManagementServiceBuilder;
+import org.neo4j.test.extension.ExtensionCallback;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.core.Is.isA;
+import static org.neo4j.gds.compat.MapUtil.map;
+
+@Neo4jModelCatalogExtension
+class ModelDeleteProcTest extends ModelProcBaseTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Inject
+    private ModelCatalog modelCatalog;
+
+    @Override
+    @ExtensionCallback
+    protected void configuration(TestDatabaseManagementServiceBuilder builder) {
+        super.configuration(builder);
+        builder.setFileSystem(new DefaultFileSystemAbstraction());
+        builder.setConfig(ModelStoreSettings.model_store_location_setting, tempDir);
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        registerProcedures(ModelStoreProc.class, ModelLoadProc.class, ModelDeleteProc.class);
+    }
+
+    @Test
+    void deletesStoredModel() {
+        var modelName = "testModel";
+        storeModel(modelName);
+        var modelFile = modelCatalog.list(getUsername()).iterator().next().fileLocation().orElseThrow();
+
+        assertCypherResult(
+            "CALL gds.alpha.model.delete($modelName)",
+            Map.of("modelName", modelName),
+            singletonList(map("modelName", modelName, "deleteMillis", isA(Long.class)))
+        );
+
+        assertThat(modelFile).doesNotExist();
+        assertThat(modelCatalog.exists(getUsername(), modelName)).isFalse();
+    }
+
+    @Test
+    void keepsLoadedModelWhenDeleting() {
+        var modelName = "testModel";
+        storeModel(modelName);
+        runQuery("CALL gds.alpha.model.load($modelName)", Map.of("modelName", modelName));
+
+        runQuery("CALL gds.alpha.model.delete($modelName)", Map.of("modelName", modelName));
+
+        var model = modelCatalog.list(getUsername()).iterator().next();
+        assertThat(model.loaded()).isTrue();
+        assertThat(model.stored()).isFalse();
+    }
+
+    @Test
+    void failOnDeletingModelThatIsNotStored() {
+        var modelName = "testModel";
+        modelCatalog.set(Model.of(
+            "testAlgo",
+            GRAPH_SCHEMA,
+            "testData",
+            TestTrainConfig.of(getUsername(), modelName),
+            Map::of
+        ));
+
+        assertError(
+            "CALL gds.alpha.model.delete($modelName)",
+            Map.of("modelName", modelName),
+            "Model with name `testModel` is not stored."
+        );
+    }
+
+    private void storeModel(String modelName) {
+        modelCatalog.set(Model.of(
+            "testAlgo",
+            GRAPH_SCHEMA,
+            "testData",
+            TestTrainConfig.of(getUsername(), modelName),
+            Map::of
+        ));
+        runQuery("CALL gds.alpha.model.store($modelName)", Map.of("modelName", modelName));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.model.catalog;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.neo4j.gds.core.ModelStoreSettings;
+import org.neo4j.gds.core.model.Model;
+import org.neo4j.gds.core.model.ModelCatalog;
+import org.neo4j.gds.core.model.ModelDataFile;
+import org.neo4j.gds.extension.Inject;
+import org.neo4j.gds.extension.Neo4jModelCatalogExtension;
+import org.neo4j.io.fs.DefaultFileSystemAbstraction;
+import org.neo4j.test.TestDatabaseManagementServiceBuilder;
+import org.neo4j.test.extension.ExtensionCallback;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.core.Is.isA;
+import static org.neo4j.gds.compat.MapUtil.map;
+
+@Neo4jModelCatalogExtension
+class ModelStoreProcTest extends ModelProcBaseTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Inject
+    private ModelCatalog modelCatalog;
+
+    @Override
+    @ExtensionCallback
+    protected void configuration(TestDatabaseManagementServiceBuilder builder) {
+        super.configuration(builder);
+        builder.setFileSystem(new DefaultFileSystemAbstraction());
+        builder.setConfig(ModelStoreSettings.model_store_location_setting, tempDir);
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        registerProcedures(ModelStoreProc.class);
+    }
+
+    @Test
+    void storesModel() {
+        var modelName = "testModel";
+        modelCatalog.set(Model.of(
+            "testAlgo",
+            GRAPH_SCHEMA,
+            "testData",
+            TestTrainConfig.of(getUsername(), modelName),
+            Map::of
+        ));
+
+        assertCypherResult(
+            "CALL gds.alpha.model.store($modelName)",
+            Map.of("modelName", modelName),
+            singletonList(map("modelName", modelName, "storeMillis", isA(Long.class)))
+        );
+
+        // listing does not load the data of stored models back into memory
+        var storedModel = modelCatalog.list(getUsername()).iterator().next();
+        assertThat(storedModel.stored()).isTrue();
+        assertThat(storedModel.loaded()).isFalse();
+        assertThat(storedModel.fileLocation())
+            .hasValue(tempDir.resolve(getUsername()).resolve(modelName + ModelDataFile.FILE_EXTENSION));
+        assertThat(storedModel.fileLocation().orElseThrow()).exists();
+    }
+
+    @Test
+    void failOnStoringUnsupportedModelType() {
+        var modelName = "testModel";
+        modelCatalog.set(Model.of(
+            "unsupportedAlgo",
+            GRAPH_SCHEMA,
+            "testData",
+            TestTrainConfig.of(getUsername(), modelName),
+            Map::of
+        ));
+
+        assertError(
+            "CALL gds.alpha.model.store($modelName)",
+            Map.of("modelName", modelName),
+            "Storing models of type `unsupportedAlgo` is not supported."
+        );
+    }
+
+    @Test
+    void skipStoringUnsupportedModelType() {
+        var modelName = "testModel";
+        modelCatalog.set(Model.of(
+            "unsupportedAlgo",
+            GRAPH_SCHEMA,
+            "testData",
+            TestTrainConfig.of(getUsername(), modelName),
+            Map::of
+        ));
+
+        assertCypherResult("CALL gds.alpha.model.store($modelName, false)", Map.of("modelName", modelName), List.of());
+        assertThat(modelCatalog.list(getUsername())).allMatch(model -> model.loaded() && !model.stored());
+    }
+
+    @Test
+    void failOnStoringNonExistingModel() {
+        assertError(
+            "CALL gds.alpha.model.store('foo')",
+            "Model with name `foo` does not exist."
+        );
+    }
+}
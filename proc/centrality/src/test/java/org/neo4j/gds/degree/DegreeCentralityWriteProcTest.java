@@ -27,6 +27,7 @@ import org.neo4j.gds.core.CypherMapWrapper;
 import org.neo4j.gds.test.config.WritePropertyConfigProcTest;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -34,6 +35,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.lessThan;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 
 class DegreeCentralityWriteProcTest extends DegreeCentralityProcTest<DegreeCentralityWriteConfig> {
 
@@ -83,4 +85,34 @@ class DegreeCentralityWriteProcTest extends DegreeCentralityProcTest<DegreeCentr
             assertEquals(10L, row.getNumber("nodePropertiesWritten"));
         });
     }
+
+    @Test
+    void testPipelinedWrite() {
+        runQuery(GdsCypher.call(GRAPH_NAME)
+            .algo("degree")
+            .writeMode()
+            .addParameter("writeProperty", DEFAULT_RESULT_PROPERTY)
+            .yields());
+
+        String pipelinedWriteQuery = GdsCypher.call(GRAPH_NAME)
+            .algo("degree")
+            .writeMode()
+            .addParameter("writeProperty", "pipelinedDegree")
+            .addParameter("pipelinedWrites", true)
+            .addParameter("writeBatchSize", 3)
+            .addParameter("writeQueueCapacity", 1)
+            .addParameter("writerConcurrency", 2)
+            .addParameter("writeConcurrency", 2)
+            .yields("nodePropertiesWritten");
+
+        assertCypherResult(pipelinedWriteQuery, List.of(Map.of("nodePropertiesWritten", 10L)));
+
+        assertCypherResult(
+            formatWithLocale(
+                "MATCH (n) WHERE n.pipelinedDegree = n.%s RETURN count(n) AS matching",
+                DEFAULT_RESULT_PROPERTY
+            ),
+            List.of(Map.of("matching", 10L))
+        );
+    }
 }
@@ -21,6 +21,8 @@ package org.neo4j.gds;
 
 import org.neo4j.gds.api.Graph;
 import org.neo4j.gds.config.AlgoBaseConfig;
+import org.neo4j.gds.config.PipelinedWriteConfig;
+import org.neo4j.gds.config.WriteConfig;
 import org.neo4j.gds.config.WritePropertyConfig;
 import org.neo4j.gds.core.concurrency.Pools;
 import org.neo4j.gds.core.utils.ProgressTimer;
@@ -28,11 +30,13 @@ import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.progress.tasks.TaskProgressTracker;
 import org.neo4j.gds.core.write.NodePropertyExporter;
 import org.neo4j.gds.core.write.NodePropertyExporterBuilder;
+import org.neo4j.gds.core.write.PipelinedWriteSettings;
 import org.neo4j.gds.executor.ComputationResult;
 import org.neo4j.gds.executor.ComputationResultConsumer;
 import org.neo4j.gds.executor.ExecutionContext;
 import org.neo4j.gds.result.AbstractResultBuilder;
 
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.neo4j.gds.LoggingUtil.runWithExceptionLogging;
@@ -129,6 +133,14 @@ public class WriteNodePropertiesComputationResultConsumer<ALGO extends Algorithm
             .withTerminationFlag(computationResult.algorithm().terminationFlag)
             .withProgressTracker(progressTracker)
             .parallel(Pools.DEFAULT, computationResult.config().writeConcurrency())
+            .withPipelinedWrites(pipelinedWriteSettings(computationResult.config()))
             .build();
     }
+
+    private static Optional<PipelinedWriteSettings> pipelinedWriteSettings(WriteConfig config) {
+        if (config instanceof PipelinedWriteConfig) {
+            return ((PipelinedWriteConfig) config).pipelinedWriteSettings();
+        }
+        return Optional.empty();
+    }
 }
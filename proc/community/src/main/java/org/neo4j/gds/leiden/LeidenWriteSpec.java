@@ -90,6 +90,7 @@ public class LeidenWriteSpec implements AlgorithmSpec<Leiden, LeidenResult, Leid
                         executionContext
                     ))
                     .parallel(Pools.DEFAULT, writeConcurrency)
+                    .withPipelinedWrites(config.pipelinedWriteSettings())
                     .build();
 
                 var properties = LeidenCompanion.leidenNodeProperties(
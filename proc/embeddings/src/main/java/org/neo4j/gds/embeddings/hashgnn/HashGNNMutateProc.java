@@ -66,6 +66,9 @@ public class HashGNNMutateProc extends MutatePropertyProc<HashGNN, HashGNN.HashG
 
     @Override
     protected NodePropertyValues nodeProperties(ComputationResult<HashGNN, HashGNN.HashGNNResult, HashGNNMutateConfig> computationResult) {
+        if (computationResult.config().packBinaryEmbeddings()) {
+            return HashGNNProcCompanion.getPackedNodeProperties(computationResult);
+        }
         return HashGNNProcCompanion.getNodeProperties(computationResult);
     }
 
@@ -19,7 +19,6 @@
  */
 package org.neo4j.gds.embeddings.hashgnn;
 
-import org.neo4j.gds.api.properties.nodes.DoubleArrayNodePropertyValues;
 import org.neo4j.gds.api.properties.nodes.NodePropertyValues;
 import org.neo4j.gds.executor.ComputationResult;
 
@@ -30,19 +29,10 @@ final class HashGNNProcCompanion {
     private HashGNNProcCompanion() {}
 
     static <CONFIG extends HashGNNConfig> NodePropertyValues getNodeProperties(ComputationResult<HashGNN, HashGNN.HashGNNResult, CONFIG> computationResult) {
-        var nodeCount = computationResult.graph().nodeCount();
-        var embeddings = computationResult.result().embeddings();
-
-        return new DoubleArrayNodePropertyValues() {
-            @Override
-            public double[] doubleArrayValue(long nodeId) {
-                return embeddings.get(nodeId);
-            }
+        return computationResult.result().embeddings();
+    }
 
-            @Override
-            public long size() {
-                return nodeCount;
-            }
-        };
+    static NodePropertyValues getPackedNodeProperties(ComputationResult<HashGNN, HashGNN.HashGNNResult, HashGNNMutateConfig> computationResult) {
+        return computationResult.result().packedEmbeddings().orElseThrow();
     }
 }
@@ -76,10 +76,11 @@ public class HashGNNStreamProc extends StreamProc<HashGNN, HashGNN.HashGNNResult
                 return Stream.empty();
             }
 
+            var embeddings = result.embeddings();
             return LongStream.range(0, graph.nodeCount())
                 .mapToObj(i -> new HashGNNStreamProc.StreamResult(
                     graph.toOriginalNodeId(i),
-                    result.embeddings().get(i)
+                    embeddings.doubleArrayValue(i)
                 ));
         });
     }
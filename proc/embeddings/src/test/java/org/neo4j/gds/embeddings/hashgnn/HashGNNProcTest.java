@@ -88,7 +88,7 @@ abstract class HashGNNProcTest<CONFIG extends HashGNNConfig> extends BaseProcTes
     public void assertResultEquals(HashGNN.HashGNNResult result1, HashGNN.HashGNNResult result2) {
         assertThat(result1.embeddings().size()).isEqualTo(result2.embeddings().size());
         for (int i = 0; i < result1.embeddings().size(); i++) {
-            assertThat(result1.embeddings().get(i)).containsExactly(result2.embeddings().get(i));
+            assertThat(result1.embeddings().doubleArrayValue(i)).containsExactly(result2.embeddings().doubleArrayValue(i));
         }
     }
 
@@ -32,14 +32,17 @@ import org.neo4j.gds.core.utils.partition.PartitionUtils;
 import org.neo4j.gds.core.utils.progress.tasks.ProgressTracker;
 import org.neo4j.gds.core.utils.queue.BoundedLongLongPriorityQueue;
 import org.neo4j.gds.mem.MemoryUsage;
+import org.neo4j.gds.ml.core.tensor.Matrix;
 import org.neo4j.gds.ml.linkmodels.ExhaustiveLinkPredictionResult;
 import org.neo4j.gds.ml.models.Classifier;
 import org.neo4j.gds.ml.pipeline.linkPipeline.LinkFeatureExtractor;
 
 import java.util.Optional;
-import java.util.stream.LongStream;
 
 public class ExhaustiveLinkPrediction extends LinkPrediction {
+    // number of node pairs whose link features are materialised and scored per classifier call
+    static final int PAIR_BATCH_SIZE = 1024;
+
     private final int topN;
     private final double threshold;
     private final TerminationFlag terminationFlag;
@@ -71,20 +74,35 @@ public class ExhaustiveLinkPrediction extends LinkPrediction {
     }
 
     public static MemoryEstimation estimate(LinkPredictionPredictPipelineBaseConfig config, int linkFeatureDimension) {
+        var priorityQueueEstimation = BoundedLongLongPriorityQueue.memoryEstimation(config.topN().orElseThrow());
         return MemoryEstimations.builder(ExhaustiveLinkPrediction.class.getSimpleName())
-            .add("Priority queue", BoundedLongLongPriorityQueue.memoryEstimation(config.topN().orElseThrow()))
-            .perGraphDimension("Predict links operation", (dim, threads) -> MemoryRange.of(
-                MemoryUsage.sizeOfDoubleArray(linkFeatureDimension) + MemoryUsage.sizeOfLongHashSet(dim.averageDegree())
-            ).times(threads))
+            .add("Priority queue", priorityQueueEstimation)
+            .perThread("Thread-local priority queue", priorityQueueEstimation)
+            .perGraphDimension("Predict links operation", (dim, threads) -> {
+                int pairBatchSize = pairBatchSize(dim.nodeCount());
+                var featureBuffer = pairBatchSize * MemoryUsage.sizeOfDoubleArray(linkFeatureDimension)
+                                    + MemoryUsage.sizeOfObjectArray(pairBatchSize);
+                var pairBuffers = 2 * MemoryUsage.sizeOfLongArray(pairBatchSize)
+                                  + MemoryUsage.sizeOfDoubleArray(pairBatchSize);
+                // the classifier copies the batch into a feature matrix and produces a binary probability matrix
+                var classifierMatrices = Matrix.sizeInBytes(pairBatchSize, linkFeatureDimension)
+                                         + Matrix.sizeInBytes(pairBatchSize, 2);
+                return MemoryRange.of(
+                    featureBuffer + pairBuffers + classifierMatrices + MemoryUsage.sizeOfLongHashSet(dim.averageDegree())
+                ).times(threads);
+            })
             .build();
     }
 
+    private static int pairBatchSize(long nodeCount) {
+        return (int) Math.max(1, Math.min(PAIR_BATCH_SIZE, nodeCount));
+    }
+
     @Override
     ExhaustiveLinkPredictionResult predictLinks(LinkPredictionSimilarityComputer linkPredictionSimilarityComputer) {
         progressTracker.setSteps(graph.nodeCount());
 
-        var predictionQueue = BoundedLongLongPriorityQueue.max(topN);
-
+        int pairBatchSize = pairBatchSize(graph.nodeCount());
         var tasks = PartitionUtils.rangePartition(
             concurrency,
             graph.nodeCount(),
@@ -93,7 +111,7 @@ public class ExhaustiveLinkPrediction extends LinkPrediction {
                 sourceNodeFilter::test,
                 targetNodeFilter::test,
                 linkPredictionSimilarityComputer,
-                predictionQueue,
+                pairBatchSize,
                 partition,
                 progressTracker
             ),
@@ -106,7 +124,13 @@ public class ExhaustiveLinkPrediction extends LinkPrediction {
             .tasks(tasks)
             .run();
 
-        long linksConsidered = tasks.stream().mapToLong(LinkPredictionScoreByIdsConsumer::linksConsidered).sum();
+        var predictionQueue = BoundedLongLongPriorityQueue.max(topN);
+        long linksConsidered = 0;
+        for (var task : tasks) {
+            task.predictionQueue().foreach(predictionQueue::offer);
+            linksConsidered += task.linksConsidered();
+        }
+
         return new ExhaustiveLinkPredictionResult(predictionQueue, linksConsidered);
     }
 
@@ -121,6 +145,15 @@ public class ExhaustiveLinkPrediction extends LinkPrediction {
         private final BoundedLongLongPriorityQueue predictionQueue;
         private final ProgressTracker progressTracker;
         private final Partition partition;
+        private final LongHashSet largerNeighbors;
+
+        // candidate pairs which are scored together once the batch is full
+        private final long[] sourceIds;
+        private final long[] targetIds;
+        private final double[][] featureBuffer;
+        private final double[] probabilities;
+        private int pairCount;
+
         private long linksConsidered;
 
         LinkPredictionScoreByIdsConsumer(
@@ -128,7 +161,7 @@ public class ExhaustiveLinkPrediction extends LinkPrediction {
             LongPredicate sourceNodeFilter,
             LongPredicate targetNodeFilter,
             LinkPredictionSimilarityComputer linkPredictionSimilarityComputer,
-            BoundedLongLongPriorityQueue predictionQueue,
+            int pairBatchSize,
             Partition partition,
             ProgressTracker progressTracker
         ) {
@@ -136,9 +169,15 @@ public class ExhaustiveLinkPrediction extends LinkPrediction {
             this.sourceNodeFilter = sourceNodeFilter;
             this.targetNodeFilter = targetNodeFilter;
             this.linkPredictionSimilarityComputer = linkPredictionSimilarityComputer;
-            this.predictionQueue = predictionQueue;
+            this.predictionQueue = BoundedLongLongPriorityQueue.max(topN);
             this.progressTracker = progressTracker;
             this.partition = partition;
+            this.largerNeighbors = new LongHashSet();
+            this.sourceIds = new long[pairBatchSize];
+            this.targetIds = new long[pairBatchSize];
+            this.featureBuffer = new double[pairBatchSize][linkPredictionSimilarityComputer.featureDimension()];
+            this.probabilities = new double[pairBatchSize];
+            this.pairCount = 0;
             this.linksConsidered = 0;
         }
 
@@ -151,38 +190,54 @@ public class ExhaustiveLinkPrediction extends LinkPrediction {
                     predictLinksFromNode(sourceId, sourceNodeFilter);
                 }
             });
+            scoreBatch();
 
             progressTracker.logSteps(partition.nodeCount());
         }
 
-        private LongHashSet largerValidNeighbors(long sourceId, LongPredicate targetNodeFilter) {
-            var neighbors = new LongHashSet();
+        private void collectLargerValidNeighbors(long sourceId, LongPredicate targetNodeFilter) {
+            largerNeighbors.clear();
             graph.forEachRelationship(
                 sourceId, (src, trg) -> {
-                    if (src < trg && targetNodeFilter.apply(trg)) neighbors.add(trg);
+                    if (src < trg && targetNodeFilter.apply(trg)) largerNeighbors.add(trg);
                     return true;
                 }
             );
-            return neighbors;
         }
 
         private void predictLinksFromNode(long sourceId, LongPredicate nodeFilter) {
-            var largerNeighbors = largerValidNeighbors(sourceId, nodeFilter);
+            collectLargerValidNeighbors(sourceId, nodeFilter);
             // since graph is undirected, only process pairs where sourceId < targetId
-            var smallestTarget = sourceId + 1;
-            LongStream.range(smallestTarget, graph.nodeCount()).forEach(targetId -> {
-                    if (largerNeighbors.contains(targetId)) return;
-                    if (nodeFilter.apply(targetId)) {
-                        var probability = linkPredictionSimilarityComputer.similarity(sourceId, targetId);
-                        linksConsidered++;
-                        if (probability < threshold) return;
-
-                        synchronized (predictionQueue) {
-                            predictionQueue.offer(sourceId, targetId, probability);
-                        }
-                    }
+            for (long targetId = sourceId + 1; targetId < graph.nodeCount(); targetId++) {
+                if (largerNeighbors.contains(targetId) || !nodeFilter.apply(targetId)) {
+                    continue;
                 }
-            );
+                sourceIds[pairCount] = sourceId;
+                targetIds[pairCount] = targetId;
+                if (++pairCount == sourceIds.length) {
+                    scoreBatch();
+                }
+            }
+        }
+
+        private void scoreBatch() {
+            if (pairCount == 0) {
+                return;
+            }
+
+            linkPredictionSimilarityComputer.similarities(sourceIds, targetIds, pairCount, featureBuffer, probabilities);
+            linksConsidered += pairCount;
+
+            for (int i = 0; i < pairCount; i++) {
+                if (probabilities[i] >= threshold) {
+                    predictionQueue.offer(sourceIds[i], targetIds[i], probabilities[i]);
+                }
+            }
+            pairCount = 0;
+        }
+
+        BoundedLongLongPriorityQueue predictionQueue() {
+            return predictionQueue;
         }
 
         long linksConsidered() {
@@ -20,13 +20,17 @@
 package org.neo4j.gds.ml.linkmodels.pipeline.predict;
 
 import org.neo4j.gds.api.Graph;
+import org.neo4j.gds.ml.core.batch.RangeBatch;
 import org.neo4j.gds.ml.models.Classifier;
+import org.neo4j.gds.ml.models.FeaturesFactory;
 import org.neo4j.gds.ml.pipeline.linkPipeline.LinkFeatureExtractor;
 import org.neo4j.gds.ml.splitting.EdgeSplitter;
 import org.neo4j.gds.similarity.knn.NeighborFilter;
 import org.neo4j.gds.similarity.knn.NeighborFilterFactory;
 import org.neo4j.gds.similarity.knn.metrics.SimilarityComputer;
 
+import java.util.Arrays;
+
 class LinkPredictionSimilarityComputer implements SimilarityComputer {
     private static final int POSITIVE_CLASS_INDEX = (int) EdgeSplitter.POSITIVE;
     private final LinkFeatureExtractor linkFeatureExtractor;
@@ -46,6 +50,35 @@ class LinkPredictionSimilarityComputer implements SimilarityComputer {
         return classifier.predictProbabilities(features)[POSITIVE_CLASS_INDEX];
     }
 
+    /**
+     * Scores the first {@code pairCount} node pairs with a single classifier call.
+     * The rows of {@code featureBuffer} are overwritten with the link features of the pairs.
+     */
+    void similarities(
+        long[] sourceIds,
+        long[] targetIds,
+        int pairCount,
+        double[][] featureBuffer,
+        double[] similarities
+    ) {
+        for (int i = 0; i < pairCount; i++) {
+            linkFeatureExtractor.extractFeatures(sourceIds[i], targetIds[i], featureBuffer[i]);
+        }
+
+        var probabilities = classifier.predictProbabilities(
+            new RangeBatch(0, pairCount, pairCount),
+            FeaturesFactory.wrap(Arrays.asList(featureBuffer))
+        );
+
+        for (int i = 0; i < pairCount; i++) {
+            similarities[i] = probabilities.dataAt(i, POSITIVE_CLASS_INDEX);
+        }
+    }
+
+    int featureDimension() {
+        return linkFeatureExtractor.featureDimension();
+    }
+
     @Override
     public boolean isSymmetric() {
         return linkFeatureExtractor.isSymmetric();
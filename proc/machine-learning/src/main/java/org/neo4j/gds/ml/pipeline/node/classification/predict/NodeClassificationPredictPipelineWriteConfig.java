@@ -21,6 +21,7 @@ package org.neo4j.gds.ml.pipeline.node.classification.predict;
 
 import org.immutables.value.Value;
 import org.neo4j.gds.annotation.Configuration;
+import org.neo4j.gds.config.PipelinedNodePropertyWriteConfig;
 import org.neo4j.gds.config.WritePropertyConfig;
 import org.neo4j.gds.core.CypherMapWrapper;
 
@@ -31,7 +32,7 @@ import static org.neo4j.gds.utils.StringFormatting.formatWithLocale;
 @Configuration
 @SuppressWarnings("immutables:subtype")
 public interface NodeClassificationPredictPipelineWriteConfig
-    extends NodeClassificationPredictPipelineBaseConfig, WritePropertyConfig
+    extends NodeClassificationPredictPipelineBaseConfig, WritePropertyConfig, PipelinedNodePropertyWriteConfig
 {
     @Override
     @Value.Derived
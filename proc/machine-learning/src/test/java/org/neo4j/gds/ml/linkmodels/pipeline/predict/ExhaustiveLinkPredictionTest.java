@@ -256,8 +256,8 @@ class ExhaustiveLinkPredictionTest {
 
     @ParameterizedTest
     @CsvSource(value = {
-        "1, 3_636",
-        "10, 3_852"
+        "1, 665_204",
+        "10, 666_284"
     })
     void estimateWithDifferentTopN(int topN, long expectedEstimation) {
         var config = LinkPredictionPredictPipelineBaseConfigImpl.builder()
@@ -276,8 +276,8 @@ class ExhaustiveLinkPredictionTest {
 
     @ParameterizedTest
     @CsvSource(value = {
-        "10, 972",
-        "1000, 32_652"
+        "10, 90_284",
+        "1000, 6_426_284"
     })
     void estimateWithDifferentLinkFeatureDimension(int linkFeatureDimension, long expectedEstimation) {
         var config = LinkPredictionPredictPipelineBaseConfigImpl.builder()
@@ -195,7 +195,7 @@ class LinkPredictionPipelineMutateProcTest extends LinkPredictionPipelineProcTes
             "YIELD requiredMemory",
             Map.of("topN", 3),
             List.of(
-                Map.of("requiredMemory", "548 Bytes")
+                Map.of("requiredMemory", "3588 Bytes")
             )
         );
     }
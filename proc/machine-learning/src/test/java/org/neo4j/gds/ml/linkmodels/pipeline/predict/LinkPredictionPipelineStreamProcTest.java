@@ -59,8 +59,8 @@ class LinkPredictionPipelineStreamProcTest extends LinkPredictionPipelineProcTes
             Map.of("nodeLabel", nodeLabel, "topN", 3, "concurrency", concurrency),
             List.of(
                 Map.of("node1", 0L + labelOffset, "node2", 4L + labelOffset, "probability", .49750002083312506),
-                Map.of("node1", 1L + labelOffset, "node2", 4L + labelOffset, "probability", .11815697780926959),
-                Map.of("node1", 0L + labelOffset, "node2", 1L + labelOffset, "probability", .11506673204554985)
+                Map.of("node1", 1L + labelOffset, "node2", 4L + labelOffset, "probability", .11815697780926955),
+                Map.of("node1", 0L + labelOffset, "node2", 1L + labelOffset, "probability", .1150667320455498)
             )
         );
     }
@@ -146,7 +146,7 @@ class LinkPredictionPipelineStreamProcTest extends LinkPredictionPipelineProcTes
             "YIELD requiredMemory",
             Map.of("nodeCount", 42L, "relationshipCount", 28L, "sourceNodeLabel", "N", "targetNodeLabel", "N", "topN", 3),
             List.of(
-                Map.of("requiredMemory", "289 KiB")
+                Map.of("requiredMemory", "308 KiB")
             )
         );
     }
@@ -451,7 +451,7 @@ class LinkPredictionPredictPipelineExecutorTest {
             graphStore.nodeCount(),
             graphStore.relationshipCount(),
             config.concurrency(),
-            MemoryRange.of(433)
+            MemoryRange.of(1433)
         );
     }
 
@@ -480,7 +480,7 @@ class LinkPredictionPredictPipelineExecutorTest {
             graphStore.nodeCount(),
             graphStore.relationshipCount(),
             config.concurrency(),
-            MemoryRange.of(489)
+            MemoryRange.of(1345)
         );
     }
 
@@ -87,6 +87,47 @@ class LinkPredictionSimilarityComputerTest {
             0.7098853299317623, Offset.offset(1e-9));
     }
 
+    @Test
+    void batchedSimilaritiesMatchPairwiseSimilarity() {
+        var linkFeatureSteps = List.<LinkFeatureStep>of(
+            new CosineFeatureStep(List.of("prop2")),
+            new HadamardFeatureStep(List.of("prop1"))
+        );
+        var linkFeatureExtractor = LinkFeatureExtractor.of(graph, linkFeatureSteps);
+        var modelData = ImmutableLogisticRegressionData.of(
+            2,
+            new Weights<>(new Matrix(
+                new double[]{-1, -0.0001},
+                1,
+                2
+            )),
+            Weights.ofVector(0.0)
+        );
+        var lpSimComputer = new LinkPredictionSimilarityComputer(
+            linkFeatureExtractor,
+            LogisticRegressionClassifier.from(modelData)
+        );
+
+        long a = graph.toMappedNodeId("a");
+        long b = graph.toMappedNodeId("b");
+        long c = graph.toMappedNodeId("c");
+        var sourceIds = new long[]{a, a, b, -1};
+        var targetIds = new long[]{b, c, c, -1};
+        var featureBuffer = new double[4][lpSimComputer.featureDimension()];
+        var similarities = new double[4];
+
+        // only the first three pairs are valid
+        lpSimComputer.similarities(sourceIds, targetIds, 3, featureBuffer, similarities);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(similarities[i]).isEqualTo(
+                lpSimComputer.similarity(sourceIds[i], targetIds[i]),
+                Offset.offset(1e-9)
+            );
+        }
+        assertThat(similarities[3]).isEqualTo(0D);
+    }
+
     @Test
     void filterExistingRelationships() {
         var nodeFilter = LPNodeFilter.of(graph, graph);
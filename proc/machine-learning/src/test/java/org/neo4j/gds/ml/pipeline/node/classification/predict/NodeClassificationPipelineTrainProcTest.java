@@ -260,7 +260,7 @@ class NodeClassificationPipelineTrainProcTest extends BaseProcTest {
                     "configuration", Matchers.allOf(
                         Matchers.hasEntry("pipeline", PIPELINE_NAME),
                         Matchers.hasEntry("modelName", MODEL_NAME),
-                        aMapWithSize(11)
+                        aMapWithSize(12)
                     ),
                     "modelSelectionStats", modelSelectionStatsCheck
                 )
@@ -27,6 +27,7 @@ import org.neo4j.gds.compat.ProxyFactory;
 import org.neo4j.gds.compat.ProxyUtil;
 import org.neo4j.gds.compat.SettingProxyFactory;
 import org.neo4j.gds.core.Settings;
+import org.neo4j.gds.core.loading.GraphStoreCatalog;
 import org.neo4j.gds.core.utils.mem.GcListenerExtension;
 import org.neo4j.gds.utils.GdsFeatureToggles;
 import org.neo4j.graphdb.GraphDatabaseService;
@@ -96,6 +97,7 @@ public class SysInfoProc {
         buildInfo(buildInfo, values);
         cpuInfo(runtime, values);
         memoryInfo(values);
+        catalogInfo(values);
         systemResources(values);
         vmInfo(values);
         containerInfo(values);
@@ -218,6 +220,21 @@ public class SysInfoProc {
         }
     }
 
+    private static void catalogInfo(Stream.Builder<DebugValue> builder) {
+        GraphStoreCatalog.cacheMetrics().ifPresent(metrics -> builder
+            .add(value("catalogMemoryBudgetInBytes", metrics.budgetInBytes()))
+            .add(value("catalogMemoryBudget", safeHumanReadable(metrics.budgetInBytes())))
+            .add(value("catalogResidentInBytes", metrics.residentBytes()))
+            .add(value("catalogResident", safeHumanReadable(metrics.residentBytes())))
+            .add(value("catalogResidentGraphs", metrics.residentGraphs()))
+            .add(value("catalogSpilledGraphs", metrics.spilledGraphs()))
+            .add(value("catalogHits", metrics.hits()))
+            .add(value("catalogMisses", metrics.misses()))
+            .add(value("catalogEvictions", metrics.evictions()))
+            .add(value("catalogEvictionFailures", metrics.evictionFailures()))
+            .add(value("catalogReloadTimeMillis", metrics.reloadTimeMillis())));
+    }
+
     private static void onHeapInfo(String name, MemoryUsage memUsage, Stream.Builder<DebugValue> builder) {
         var maxHeapInBytes = memUsage.getMax();
         var totalHeapInBytes = memUsage.getCommitted();
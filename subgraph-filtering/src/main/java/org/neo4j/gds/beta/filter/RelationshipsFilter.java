@@ -61,6 +61,31 @@ public final class RelationshipsFilter {
         Map<RelationshipType, RelationshipPropertyStore> propertyStores();
     }
 
+    /**
+     * Maps nodes between the input graph store and the filtered graph.
+     * Input nodes that are not part of the filtered graph map to {@link IdMap#NOT_FOUND},
+     * their incoming relationships are dropped.
+     */
+    public interface NodeMapping {
+        long toInputNode(long outputNode);
+
+        long toOutputNode(long inputNode);
+
+        static NodeMapping of(IdMap inputNodes, IdMap outputNodes) {
+            return new NodeMapping() {
+                @Override
+                public long toInputNode(long outputNode) {
+                    return inputNodes.toMappedNodeId(outputNodes.toOriginalNodeId(outputNode));
+                }
+
+                @Override
+                public long toOutputNode(long inputNode) {
+                    return outputNodes.toMappedNodeId(inputNodes.toOriginalNodeId(inputNode));
+                }
+            };
+        }
+    }
+
     public static FilteredRelationships filterRelationships(
         GraphStore graphStore,
         Expression expression,
@@ -70,6 +95,28 @@ public final class RelationshipsFilter {
         Map<String, Object> parameterMap,
         ExecutorService executorService,
         ProgressTracker progressTracker
+    ) {
+        return filterRelationships(
+            graphStore,
+            expression,
+            NodeMapping.of(inputNodes, outputNodes),
+            outputNodes,
+            concurrency,
+            parameterMap,
+            executorService,
+            progressTracker
+        );
+    }
+
+    public static FilteredRelationships filterRelationships(
+        GraphStore graphStore,
+        Expression expression,
+        NodeMapping nodeMapping,
+        IdMap outputNodes,
+        int concurrency,
+        Map<String, Object> parameterMap,
+        ExecutorService executorService,
+        ProgressTracker progressTracker
     ) {
         Map<RelationshipType, Relationships.Topology> topologies = new HashMap<>();
         Map<RelationshipType, RelationshipPropertyStore> relPropertyStores = new HashMap<>();
@@ -82,7 +129,7 @@ public final class RelationshipsFilter {
             var outputRelationships = filterRelationshipType(
                 graphStore,
                 expression,
-                inputNodes,
+                nodeMapping,
                 outputNodes,
                 relType,
                 concurrency,
@@ -138,7 +185,7 @@ public final class RelationshipsFilter {
     static FilteredRelationship filterRelationshipType(
         GraphStore graphStore,
         Expression relationshipExpr,
-        IdMap inputNodes,
+        NodeMapping nodeMapping,
         IdMap outputNodes,
         RelationshipType relType,
         int concurrency,
@@ -171,8 +218,7 @@ public final class RelationshipsFilter {
                 partition,
                 relationshipExpr,
                 compositeIterator.concurrentCopy(),
-                inputNodes,
-                outputNodes,
+                nodeMapping,
                 relationshipsBuilder,
                 relType,
                 parameterMap,
@@ -212,8 +258,7 @@ public final class RelationshipsFilter {
         private final EvaluationContext.RelationshipEvaluationContext evaluationContext;
         private final ProgressTracker progressTracker;
         private final CompositeRelationshipIterator relationshipIterator;
-        private final IdMap inputNodes;
-        private final IdMap outputNodes;
+        private final NodeMapping nodeMapping;
         private final RelationshipsBuilder relationshipsBuilder;
         private final RelationshipType relType;
 
@@ -221,8 +266,7 @@ public final class RelationshipsFilter {
             Partition partition,
             Expression expression,
             CompositeRelationshipIterator relationshipIterator,
-            IdMap inputNodes,
-            IdMap outputNodes,
+            NodeMapping nodeMapping,
             RelationshipsBuilder relationshipsBuilder,
             RelationshipType relType,
             Map<String, Object> parameterMap,
@@ -232,8 +276,7 @@ public final class RelationshipsFilter {
             this.partition = partition;
             this.expression = expression;
             this.relationshipIterator = relationshipIterator;
-            this.inputNodes = inputNodes;
-            this.outputNodes = outputNodes;
+            this.nodeMapping = nodeMapping;
             this.relationshipsBuilder = relationshipsBuilder;
             this.relType = relType;
             this.evaluationContext = new EvaluationContext.RelationshipEvaluationContext(propertyIndices, parameterMap);
@@ -243,24 +286,22 @@ public final class RelationshipsFilter {
         @Override
         public void run() {
             partition.consume(outputSource -> {
-                var neoSource = outputNodes.toOriginalNodeId(outputSource);
-                var inputSource = inputNodes.toMappedNodeId(neoSource);
+                var inputSource = nodeMapping.toInputNode(outputSource);
 
                 relationshipIterator.forEachRelationship(inputSource, (source, target, properties) -> {
-                    var neoTarget = inputNodes.toOriginalNodeId(target);
-                    var mappedTarget = outputNodes.toMappedNodeId(neoTarget);
+                    var outputTarget = nodeMapping.toOutputNode(target);
 
-                    if (mappedTarget != NOT_FOUND) {
+                    if (outputTarget != NOT_FOUND) {
                         evaluationContext.init(relType.name, properties);
 
                         if (expression.evaluate(evaluationContext) == Expression.TRUE) {
                             // TODO branching should happen somewhere else
                             if (properties.length == 0) {
-                                relationshipsBuilder.add(neoSource, neoTarget);
+                                relationshipsBuilder.addFromInternal(outputSource, outputTarget);
                             } else if (properties.length == 1) {
-                                relationshipsBuilder.add(neoSource, neoTarget, properties[0]);
+                                relationshipsBuilder.addFromInternal(outputSource, outputTarget, properties[0]);
                             } else {
-                                relationshipsBuilder.add(neoSource, neoTarget, properties);
+                                relationshipsBuilder.addFromInternal(outputSource, outputTarget, properties);
                             }
                         }
                     }
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) "Neo4j"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Neo4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.neo4j.gds.model.catalog;
+
+import org.neo4j.annotations.service.ServiceProvider;
+import org.neo4j.gds.core.model.ModelDataInput;
+import org.neo4j.gds.core.model.ModelDataOutput;
+import org.neo4j.gds.core.model.ModelDataSerializer;
+
+import java.io.IOException;
+
+@ServiceProvider
+public class TestModelDataSerializer implements ModelDataSerializer {
+
+    @Override
+    public String id() {
+        return "test.string";
+    }
+
+    @Override
+    public boolean canSerialize(Object modelData) {
+        return modelData instanceof String;
+    }
+
+    @Override
+    public void serialize(Object modelData, ModelDataOutput output) throws IOException {
+        output.writeString((String) modelData);
+    }
+
+    @Override
+    public Object deserialize(ModelDataInput input) {
+        return input.readString();
+    }
+}